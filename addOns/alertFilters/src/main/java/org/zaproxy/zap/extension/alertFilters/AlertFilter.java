@@ -24,6 +24,7 @@ import java.util.Base64;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -55,6 +56,12 @@ public class AlertFilter extends Enableable {
     private boolean isEvidenceRegex;
     private Set<String> methods;
 
+    // The compiled regular expressions, kept while the corresponding value does not change.
+    private volatile Pattern parameterPattern;
+    private volatile Pattern urlPattern;
+    private volatile Pattern attackPattern;
+    private volatile Pattern evidencePattern;
+
     private static final Logger LOGGER = LogManager.getLogger(AlertFilter.class);
 
     public AlertFilter() {
@@ -404,18 +411,29 @@ public class AlertFilter extends Enableable {
                 return false;
             }
         }
-        if (!matchesStringOrRegex("URL", getUrl(), isUrlRegex(), alert.getUri())) {
+        if (!matchesStringOrRegex(
+                "URL", getUrl(), isUrlRegex() ? getUrlPattern() : null, alert.getUri())) {
             return false;
         }
         if (!matchesStringOrRegex(
-                "Parameter", getParameter(), isParameterRegex(), alert.getParam())) {
+                "Parameter",
+                getParameter(),
+                isParameterRegex() ? getParameterPattern() : null,
+                alert.getParam())) {
             return false;
         }
-        if (!matchesStringOrRegex("Attack", getAttack(), isAttackRegex(), alert.getAttack())) {
+        if (!matchesStringOrRegex(
+                "Attack",
+                getAttack(),
+                isAttackRegex() ? getAttackPattern() : null,
+                alert.getAttack())) {
             return false;
         }
         if (!matchesStringOrRegex(
-                "Evidence", getEvidence(), isEvidenceRegex(), alert.getEvidence())) {
+                "Evidence",
+                getEvidence(),
+                isEvidenceRegex() ? getEvidencePattern() : null,
+                alert.getEvidence())) {
             return false;
         }
         if (!methods.isEmpty() && !methods.contains(alert.getMethod().toUpperCase(Locale.ROOT))) {
@@ -424,11 +442,41 @@ public class AlertFilter extends Enableable {
         return true;
     }
 
+    private Pattern getParameterPattern() {
+        parameterPattern = compile(parameter, parameterPattern);
+        return parameterPattern;
+    }
+
+    private Pattern getUrlPattern() {
+        urlPattern = compile(url, urlPattern);
+        return urlPattern;
+    }
+
+    private Pattern getAttackPattern() {
+        attackPattern = compile(attack, attackPattern);
+        return attackPattern;
+    }
+
+    private Pattern getEvidencePattern() {
+        evidencePattern = compile(evidence, evidencePattern);
+        return evidencePattern;
+    }
+
+    private static Pattern compile(String regex, Pattern previous) {
+        if (regex == null || regex.isEmpty()) {
+            return null;
+        }
+        if (previous != null && previous.pattern().equals(regex)) {
+            return previous;
+        }
+        return Pattern.compile(regex);
+    }
+
     private static boolean matchesStringOrRegex(
-            String paramName, String paramValue, boolean isRegex, String targetValue) {
+            String paramName, String paramValue, Pattern pattern, String targetValue) {
         if (paramValue != null && paramValue.length() > 0) {
-            if (isRegex) {
-                if (!targetValue.matches(paramValue)) {
+            if (pattern != null) {
+                if (!pattern.matcher(targetValue).matches()) {
                     LOGGER.debug(
                             "Filter didn't match {} regex: {} : {}",
                             paramName,
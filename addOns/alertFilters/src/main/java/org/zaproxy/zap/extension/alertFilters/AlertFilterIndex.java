@@ -0,0 +1,103 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.alertFilters;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.parosproxy.paros.core.scanner.Alert;
+
+/**
+ * An index of {@link AlertFilter AlertFilters} by rule ID, to get the filters that might apply to
+ * an alert without going through all of them.
+ *
+ * <p>The index is immutable, it should be created again when the filters change.
+ */
+class AlertFilterIndex {
+
+    static final AlertFilterIndex EMPTY = new AlertFilterIndex(List.of());
+
+    private final Map<String, List<IndexedFilter>> filters;
+
+    private AlertFilterIndex(Collection<AlertFilter> alertFilters) {
+        filters = new HashMap<>();
+        int position = 0;
+        for (AlertFilter filter : alertFilters) {
+            filters.computeIfAbsent(filter.getRuleId(), k -> new ArrayList<>(1))
+                    .add(new IndexedFilter(position, filter));
+            position++;
+        }
+    }
+
+    /**
+     * Creates an index of the given filters.
+     *
+     * @param alertFilters the filters to index.
+     * @return the index, never {@code null}.
+     */
+    static AlertFilterIndex create(Collection<AlertFilter> alertFilters) {
+        if (alertFilters == null || alertFilters.isEmpty()) {
+            return EMPTY;
+        }
+        return new AlertFilterIndex(alertFilters);
+    }
+
+    /**
+     * Gets the filters whose rule ID is the scan rule ID or the alert reference of the given alert,
+     * in the order they were indexed.
+     *
+     * <p>The filters still need to be checked with {@link AlertFilter#appliesToAlert(Alert,
+     * boolean)}.
+     *
+     * @param alert the alert.
+     * @return the filters that might apply to the alert, never {@code null}.
+     */
+    List<AlertFilter> getCandidates(Alert alert) {
+        if (filters.isEmpty()) {
+            return List.of();
+        }
+
+        List<IndexedFilter> byScanRule =
+                filters.getOrDefault(String.valueOf(alert.getPluginId()), List.of());
+        List<IndexedFilter> byAlertRef =
+                alert.getAlertRef() == null
+                                || alert.getAlertRef().equals(String.valueOf(alert.getPluginId()))
+                        ? List.of()
+                        : filters.getOrDefault(alert.getAlertRef(), List.of());
+
+        List<AlertFilter> candidates = new ArrayList<>(byScanRule.size() + byAlertRef.size());
+        int i = 0;
+        int j = 0;
+        while (i < byScanRule.size() || j < byAlertRef.size()) {
+            if (j == byAlertRef.size()
+                    || (i < byScanRule.size()
+                            && byScanRule.get(i).position < byAlertRef.get(j).position)) {
+                candidates.add(byScanRule.get(i++).filter);
+            } else {
+                candidates.add(byAlertRef.get(j++).filter);
+            }
+        }
+        return candidates;
+    }
+
+    private record IndexedFilter(int position, AlertFilter filter) {}
+}
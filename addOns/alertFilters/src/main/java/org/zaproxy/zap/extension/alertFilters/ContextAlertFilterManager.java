@@ -36,6 +36,9 @@ public class ContextAlertFilterManager {
     /** The model. */
     private List<AlertFilter> alertFilters;
 
+    /** The index of the alertFilters, {@code null} if not yet created since the last change. */
+    private volatile AlertFilterIndex alertFilterIndex;
+
     public ContextAlertFilterManager(int contextId) {
         this.contextId = contextId;
         this.alertFilters = new ArrayList<>();
@@ -68,6 +71,20 @@ public class ContextAlertFilterManager {
         return Collections.unmodifiableList(alertFilters);
     }
 
+    /**
+     * Gets the index of the alertFilters, created when first needed after each change.
+     *
+     * @return the index, never {@code null}
+     */
+    AlertFilterIndex getAlertFilterIndex() {
+        AlertFilterIndex index = alertFilterIndex;
+        if (index == null) {
+            index = AlertFilterIndex.create(alertFilters);
+            alertFilterIndex = index;
+        }
+        return index;
+    }
+
     /**
      * Sets a new list of alertFilters for this context. An internal copy of the provided list is
      * stored.
@@ -77,6 +94,7 @@ public class ContextAlertFilterManager {
      */
     public void setAlertFilters(List<AlertFilter> alertFilters) {
         this.alertFilters = new ArrayList<>(alertFilters);
+        alertFilterIndex = null;
     }
 
     /**
@@ -86,6 +104,7 @@ public class ContextAlertFilterManager {
      */
     public void addAlertFilter(AlertFilter alertFilter) {
         alertFilters.add(alertFilter);
+        alertFilterIndex = null;
     }
 
     /**
@@ -94,11 +113,14 @@ public class ContextAlertFilterManager {
      * @param alertFilter the alertFilter being removed
      */
     public boolean removeAlertFilter(AlertFilter alertFilter) {
-        return alertFilters.remove(alertFilter);
+        boolean removed = alertFilters.remove(alertFilter);
+        alertFilterIndex = null;
+        return removed;
     }
 
     /** Removes all the alertFilters. */
     public void removeAllAlertFilters() {
         this.alertFilters.clear();
+        alertFilterIndex = null;
     }
 }
@@ -26,6 +26,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import org.apache.commons.configuration.Configuration;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -84,6 +87,14 @@ public class ExtensionAlertFilters extends ExtensionAdaptor
 
     private static final int TYPE_ALERT_FILTER = 500; // RecordContext
 
+    private static final String STATS_ALERTS_FILTERED = "stats.alertFilter.alerts";
+    private static final String STATS_ALERTS_MATCHED = "stats.alertFilter.alerts.matched";
+    private static final String STATS_FILTER_TIME = "stats.alertFilter.time";
+
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong pendingFilterNanos = new AtomicLong();
+
     /** The alertFilter panels, mapped to each context. */
     private Map<Integer, ContextAlertFilterPanel> alertFilterPanelsMap = new HashMap<>();
 
@@ -406,33 +417,56 @@ public class ExtensionAlertFilters extends ExtensionAdaptor
     }
 
     private void handleAlert(Alert alert) {
+        long start = System.nanoTime();
+        AlertFilter filter = findFilter(alert);
+        recordFilterTime(System.nanoTime() - start);
+
+        Stats.incCounter(STATS_ALERTS_FILTERED);
+        if (filter != null) {
+            Stats.incCounter(STATS_ALERTS_MATCHED);
+            updateAlert(alert, filter);
+        }
+    }
+
+    private AlertFilter findFilter(Alert alert) {
         String uri = alert.getUri();
         LOGGER.debug("Alert: {} URL: {}", alert.getAlertId(), uri);
-        // Loop through global rules and apply as necessary
-        for (AlertFilter filter : this.globalAlertFilterParam.getGlobalAlertFilters()) {
+        // Loop through global rules for the alert and apply as necessary
+        for (AlertFilter filter :
+                this.globalAlertFilterParam.getAlertFilterIndex().getCandidates(alert)) {
             if (filter.appliesToAlert(alert, true)) {
-                updateAlert(alert, filter);
-                return;
+                return filter;
             }
         }
 
-        // Loop through context rules and apply as necessary..
+        // Loop through context rules for the alert and apply as necessary..
         for (ContextAlertFilterManager mgr : this.contextManagers.values()) {
+            List<AlertFilter> filters = mgr.getAlertFilterIndex().getCandidates(alert);
+            if (filters.isEmpty()) {
+                continue;
+            }
             Context context = Model.getSingleton().getSession().getContext(mgr.getContextId());
             if (context.isInContext(uri)) {
-                LOGGER.debug(
-                        "Is in context {} got {} filters",
-                        context.getId(),
-                        mgr.getAlertFilters().size());
+                LOGGER.debug("Is in context {} got {} filters", context.getId(), filters.size());
                 // Its in this context
-                for (AlertFilter filter : mgr.getAlertFilters()) {
+                for (AlertFilter filter : filters) {
                     if (filter.appliesToAlert(alert, true)) {
-                        updateAlert(alert, filter);
-                        return;
+                        return filter;
                     }
                 }
             }
         }
+        return null;
+    }
+
+    private void recordFilterTime(long nanos) {
+        // Accumulate the time until a whole millisecond, most alerts take just a fraction of it.
+        long total = pendingFilterNanos.addAndGet(nanos);
+        if (total >= NANOS_PER_MILLI) {
+            long millis = total / NANOS_PER_MILLI;
+            pendingFilterNanos.addAndGet(-millis * NANOS_PER_MILLI);
+            Stats.incCounter(STATS_FILTER_TIME, millis);
+        }
     }
 
     private void updateAlert(Alert alert, AlertFilter filter) {
@@ -520,16 +554,15 @@ public class ExtensionAlertFilters extends ExtensionAdaptor
     }
 
     public int applyAlertFilter(AlertFilter af, boolean testOnly) {
-        int count = 0;
-        for (Alert alert : getExtAlert().getAllAlerts()) {
-            if (af.appliesToAlert(alert, false)) {
-                if (!testOnly) {
-                    updateAlert(alert, af);
-                }
-                count++;
-            }
+        // The matching is done in parallel, the alerts are still updated one at a time.
+        List<Alert> alerts =
+                getExtAlert().getAllAlerts().parallelStream()
+                        .filter(alert -> af.appliesToAlert(alert, false))
+                        .collect(Collectors.toList());
+        if (!testOnly) {
+            alerts.forEach(alert -> updateAlert(alert, af));
         }
-        return count;
+        return alerts.size();
     }
 
     public Set<AlertFilter> getGlobalAlertFilters() {
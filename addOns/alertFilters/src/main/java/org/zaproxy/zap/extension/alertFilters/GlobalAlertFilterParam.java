@@ -63,6 +63,8 @@ public class GlobalAlertFilterParam extends VersionedAbstractParam {
 
     private Set<AlertFilter> alertFilters = null;
 
+    private volatile AlertFilterIndex alertFilterIndex;
+
     private boolean confirmRemoveFilter = true;
 
     public GlobalAlertFilterParam() {}
@@ -71,6 +73,20 @@ public class GlobalAlertFilterParam extends VersionedAbstractParam {
         return alertFilters;
     }
 
+    /**
+     * Gets the index of the global alert filters, created when first needed after each change.
+     *
+     * @return the index, never {@code null}.
+     */
+    AlertFilterIndex getAlertFilterIndex() {
+        AlertFilterIndex index = alertFilterIndex;
+        if (index == null) {
+            index = AlertFilterIndex.create(alertFilters);
+            alertFilterIndex = index;
+        }
+        return index;
+    }
+
     public void deleteGlobalAlertFilters() {
         alertFilters.clear();
         this.saveGlobalAlertFilters();
@@ -82,6 +98,7 @@ public class GlobalAlertFilterParam extends VersionedAbstractParam {
     }
 
     private void saveGlobalAlertFilters() {
+        alertFilterIndex = null;
         ((HierarchicalConfiguration) getConfig()).clearTree(ALL_ALERT_FILTERS_KEY);
 
         int i = 0;
@@ -156,6 +173,7 @@ public class GlobalAlertFilterParam extends VersionedAbstractParam {
                     ((HierarchicalConfiguration) getConfig())
                             .configurationsAt(ALL_ALERT_FILTERS_KEY);
             this.alertFilters = new HashSet<>();
+            alertFilterIndex = null;
             for (HierarchicalConfiguration sub : fields) {
                 Set<String> methods = new HashSet<>();
                 for (HierarchicalConfiguration method : sub.configurationsAt(FILTER_METHOD_KEY)) {
@@ -0,0 +1,107 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.alertFilters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.core.scanner.Alert;
+
+/** Unit test for {@link AlertFilterIndex}. */
+class AlertFilterIndexUnitTest {
+
+    private static final int SCAN_RULE_ID = 420;
+    private static final String ALERT_REF = SCAN_RULE_ID + "-2";
+
+    private Alert alert;
+
+    @BeforeEach
+    void before() {
+        alert = Alert.builder().setPluginId(SCAN_RULE_ID).setAlertRef(ALERT_REF).build();
+    }
+
+    @Test
+    void shouldReturnEmptyIndexForNoFilters() {
+        // Given / When
+        AlertFilterIndex index = AlertFilterIndex.create(List.of());
+        // Then
+        assertThat(index, is(sameInstance(AlertFilterIndex.EMPTY)));
+        assertThat(index.getCandidates(alert), is(empty()));
+    }
+
+    @Test
+    void shouldGetFiltersByScanRuleId() {
+        // Given
+        AlertFilter filter = filter(String.valueOf(SCAN_RULE_ID));
+        AlertFilterIndex index = AlertFilterIndex.create(List.of(filter(ALERT_REF + "0"), filter));
+        // When
+        List<AlertFilter> candidates = index.getCandidates(alert);
+        // Then
+        assertThat(candidates, contains(filter));
+    }
+
+    @Test
+    void shouldGetFiltersByAlertRef() {
+        // Given
+        AlertFilter filter = filter(ALERT_REF);
+        AlertFilterIndex index = AlertFilterIndex.create(List.of(filter, filter("1")));
+        // When
+        List<AlertFilter> candidates = index.getCandidates(alert);
+        // Then
+        assertThat(candidates, contains(filter));
+    }
+
+    @Test
+    void shouldGetFiltersOfScanRuleIdAndAlertRefInIndexedOrder() {
+        // Given
+        AlertFilter filter1 = filter(ALERT_REF);
+        AlertFilter filter2 = filter(String.valueOf(SCAN_RULE_ID));
+        AlertFilter filter3 = filter(ALERT_REF);
+        AlertFilter filter4 = filter(String.valueOf(SCAN_RULE_ID));
+        AlertFilterIndex index =
+                AlertFilterIndex.create(List.of(filter1, filter("1"), filter2, filter3, filter4));
+        // When
+        List<AlertFilter> candidates = index.getCandidates(alert);
+        // Then
+        assertThat(candidates, contains(filter1, filter2, filter3, filter4));
+    }
+
+    @Test
+    void shouldNotGetFiltersTwiceIfAlertRefIsScanRuleId() {
+        // Given
+        alert.setAlertRef(String.valueOf(SCAN_RULE_ID));
+        AlertFilter filter = filter(String.valueOf(SCAN_RULE_ID));
+        AlertFilterIndex index = AlertFilterIndex.create(List.of(filter));
+        // When
+        List<AlertFilter> candidates = index.getCandidates(alert);
+        // Then
+        assertThat(candidates, contains(filter));
+    }
+
+    private static AlertFilter filter(String ruleId) {
+        return new AlertFilter(-1, ruleId, Alert.RISK_LOW, null, false, null, true);
+    }
+}
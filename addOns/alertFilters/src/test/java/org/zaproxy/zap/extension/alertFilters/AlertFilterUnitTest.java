@@ -195,6 +195,20 @@ class AlertFilterUnitTest {
         assertFalse(af.appliesToAlert(alert));
     }
 
+    @Test
+    void shouldUseChangedUriRegexAfterMatching() {
+        // Given
+        AlertFilter af = new AlertFilter(-1, alert);
+        af.setEnabled(true);
+        af.setUrl("https://www.example.*");
+        af.setUrlRegex(true);
+        af.appliesToAlert(alert);
+        // When
+        af.setUrl("https://www.other.*");
+        // Then
+        assertFalse(af.appliesToAlert(alert));
+    }
+
     @Test
     void missingParameterFilterMatches() {
         // Given
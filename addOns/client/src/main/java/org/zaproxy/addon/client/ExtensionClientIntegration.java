@@ -37,6 +37,7 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.swing.ImageIcon;
 import javax.swing.SwingUtilities;
 import org.apache.commons.httpclient.URIException;
@@ -99,6 +100,7 @@ import org.zaproxy.addon.client.ui.PopupMenuClientOpenInBrowser;
 import org.zaproxy.addon.client.ui.PopupMenuClientShowInSites;
 import org.zaproxy.addon.client.ui.PopupMenuExportClientMap;
 import org.zaproxy.addon.commonlib.ExtensionCommonlib;
+import org.zaproxy.addon.database.BufferedEntityWriter;
 import org.zaproxy.addon.network.ExtensionNetwork;
 import org.zaproxy.addon.pscan.ExtensionPassiveScan2;
 import org.zaproxy.addon.pscan.PassiveScanRuleProvider;
@@ -143,6 +145,10 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
                     ExtensionSelenium.class);
     private static final String STATS_EXPORT_CLIENTMAP = PREFIX + ".export.clientmap";
 
+    private static final int HISTORY_WRITE_BATCH_SIZE = 500;
+    private static final long HISTORY_WRITE_MAX_DELAY_MS = 1000;
+    private static final int HISTORY_LOAD_PAGE_SIZE = 5000;
+
     private ClientMap clientTree;
     private ClientMapPanel clientMapPanel;
     private ClientDetailsPanel clientDetailsPanel;
@@ -162,6 +168,7 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
     private Event lastAjaxSpiderStartEvent;
     private static ImageIcon icon;
     private TableJdo tableJdo;
+    private BufferedEntityWriter<ReportedObject> historyWriter;
 
     private ClientSpiderDialog spiderDialog;
     private ZapMenuItem menuItemCustomScan;
@@ -437,7 +444,8 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
     private void loadClientHistory() {
         if (clientHistoryTableModel != null) {
             clientHistoryTableModel.clear();
-            clientHistoryTableModel.addReportedObjects(ClientHistoryDao.loadAll());
+            ClientHistoryDao.loadAll(
+                    HISTORY_LOAD_PAGE_SIZE, clientHistoryTableModel::addReportedObjects);
         }
     }
 
@@ -535,6 +543,9 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
     @Override
     public void destroy() {
         this.spiderScanController.stopAllScans();
+        if (historyWriter != null) {
+            historyWriter.close();
+        }
         if (tableJdo != null) {
             tableJdo.unload();
         }
@@ -547,8 +558,20 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
 
     @Override
     public void databaseOpen(Database db) throws DatabaseException, DatabaseUnsupportedException {
+        if (historyWriter != null) {
+            historyWriter.close();
+        }
+        if (tableJdo != null) {
+            tableJdo.unload();
+        }
         try {
-            tableJdo = new TableJdo(db);
+            historyWriter =
+                    new BufferedEntityWriter<>(
+                            ClientHistoryDao::persistAll,
+                            HISTORY_WRITE_BATCH_SIZE,
+                            HISTORY_WRITE_MAX_DELAY_MS,
+                            TimeUnit.MILLISECONDS);
+            tableJdo = new TableJdo(db, historyWriter::flush);
         } catch (Exception e) {
             LOGGER.warn(e.getMessage(), e);
         }
@@ -589,11 +612,19 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
 
     private ClientHistoryPanel getClientHistoryPanel() {
         if (clientHistoryPanel == null) {
-            clientHistoryPanel = new ClientHistoryPanel(clientHistoryTableModel);
+            clientHistoryPanel =
+                    new ClientHistoryPanel(clientHistoryTableModel, this::deletePersistedHistory);
         }
         return clientHistoryPanel;
     }
 
+    private void deletePersistedHistory() {
+        if (historyWriter != null) {
+            historyWriter.flush();
+        }
+        ClientHistoryDao.deleteAll();
+    }
+
     private ClientSpiderPanel getClientSpiderPanel() {
         if (clientSpiderPanel == null) {
             clientSpiderPanel =
@@ -616,7 +647,9 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
         }
 
         this.clientHistoryTableModel.addReportedObject(obj);
-        ClientHistoryDao.persist(obj);
+        if (historyWriter != null) {
+            historyWriter.add(obj);
+        }
         incPscanCount();
         this.passiveScanController
                 .getEnabledScanRules()
@@ -864,6 +897,10 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
             spiderScanController.stopAllScans();
             spiderScanController.reset();
 
+            if (historyWriter != null) {
+                historyWriter.flush();
+            }
+
             if (api != null) {
                 api.clear();
             }
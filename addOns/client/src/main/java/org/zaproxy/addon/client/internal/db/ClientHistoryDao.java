@@ -22,6 +22,7 @@ package org.zaproxy.addon.client.internal.db;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 import javax.jdo.PersistenceManager;
 import javax.jdo.PersistenceManagerFactory;
 import javax.jdo.Query;
@@ -42,18 +43,31 @@ public class ClientHistoryDao {
     private ClientHistoryDao() {}
 
     public static void persist(ReportedObject obj) {
+        persistAll(List.of(obj));
+    }
+
+    /**
+     * Persists the given objects in a single transaction.
+     *
+     * @param objects the objects to persist.
+     */
+    public static void persistAll(List<ReportedObject> objects) {
         PersistenceManagerFactory pmf = TableJdo.getPmf();
-        if (pmf == null) {
+        if (pmf == null || objects.isEmpty()) {
             return;
         }
+        List<ClientHistoryEntry> entries = new ArrayList<>(objects.size());
+        for (ReportedObject obj : objects) {
+            entries.add(toEntry(obj));
+        }
         PersistenceManager pm = pmf.getPersistenceManager();
         Transaction tx = pm.currentTransaction();
         try {
             tx.begin();
-            pm.makePersistent(toEntry(obj));
+            pm.makePersistentAll(entries);
             tx.commit();
         } catch (Exception e) {
-            LOGGER.warn("Failed to persist client history entry:", e);
+            LOGGER.warn("Failed to persist {} client history entries:", entries.size(), e);
         } finally {
             if (tx.isActive()) {
                 tx.rollback();
@@ -62,24 +76,44 @@ public class ClientHistoryDao {
         }
     }
 
-    public static List<ReportedObject> loadAll() {
+    /**
+     * Loads all the persisted objects, in pages of the given size, in the order they were
+     * persisted.
+     *
+     * @param pageSize the maximum number of objects of each page.
+     * @param consumer the consumer of the pages, called once per page.
+     */
+    public static void loadAll(int pageSize, Consumer<List<ReportedObject>> consumer) {
         PersistenceManagerFactory pmf = TableJdo.getPmf();
         if (pmf == null) {
-            return List.of();
+            return;
         }
         PersistenceManager pm = pmf.getPersistenceManager();
         try {
-            Query<ClientHistoryEntry> query = pm.newQuery(ClientHistoryEntry.class);
-            query.setOrdering("id ASC");
-            List<ClientHistoryEntry> entries = query.executeList();
-            List<ReportedObject> result = new ArrayList<>(entries.size());
-            for (ClientHistoryEntry entry : entries) {
-                result.add(toReportedObject(entry));
-            }
-            return result;
+            long lastId = -1;
+            List<ClientHistoryEntry> entries;
+            do {
+                Query<ClientHistoryEntry> query = pm.newQuery(ClientHistoryEntry.class);
+                query.setFilter("id > :lastId");
+                query.setOrdering("id ASC");
+                query.setRange(0, pageSize);
+                entries = query.setParameters(lastId).executeList();
+                if (entries.isEmpty()) {
+                    break;
+                }
+
+                List<ReportedObject> page = new ArrayList<>(entries.size());
+                for (ClientHistoryEntry entry : entries) {
+                    page.add(toReportedObject(entry));
+                }
+                lastId = entries.get(entries.size() - 1).getId();
+                query.closeAll();
+                pm.evictAll();
+
+                consumer.accept(page);
+            } while (entries.size() == pageSize);
         } catch (Exception e) {
             LOGGER.error("An error occurred while loading client history:", e);
-            return List.of();
         } finally {
             pm.close();
         }
@@ -36,9 +36,22 @@ public class TableJdo implements DatabaseListener {
     private static PersistenceManagerFactory pmf;
 
     private final Database db;
+    private final Runnable closingHandler;
 
     public TableJdo(Database db) throws DatabaseException {
+        this(db, () -> {});
+    }
+
+    /**
+     * Constructs a {@code TableJdo} for the given database.
+     *
+     * @param db the database.
+     * @param closingHandler called before the database is closed, while still usable.
+     * @throws DatabaseException if an error occurred while opening the table.
+     */
+    public TableJdo(Database db, Runnable closingHandler) throws DatabaseException {
         this.db = db;
+        this.closingHandler = closingHandler;
 
         db.addDatabaseListener(this);
         databaseOpen(db.getDatabaseServer());
@@ -72,6 +85,7 @@ public class TableJdo implements DatabaseListener {
 
     @Override
     public void closing(DatabaseServer db) {
+        closingHandler.run();
         closePmf();
     }
 
@@ -37,7 +37,6 @@ import org.parosproxy.paros.view.View;
 import org.zaproxy.addon.client.ClientHistoryTableModel;
 import org.zaproxy.addon.client.ExtensionClientIntegration;
 import org.zaproxy.addon.client.internal.ReportedObject;
-import org.zaproxy.addon.client.internal.db.ClientHistoryDao;
 import org.zaproxy.zap.utils.DisplayUtils;
 import org.zaproxy.zap.utils.FontUtils;
 import org.zaproxy.zap.view.ZapTable;
@@ -49,12 +48,15 @@ public class ClientHistoryPanel extends AbstractPanel {
     public static final String CLIENT_HISTORY_NAME = "tableClientHistory";
 
     private ClientHistoryTableModel clientHistoryTableModel;
+    private Runnable persistedHistoryCleaner;
     private ZapTable historyTable;
 
-    public ClientHistoryPanel(ClientHistoryTableModel clientHistoryTableModel) {
+    public ClientHistoryPanel(
+            ClientHistoryTableModel clientHistoryTableModel, Runnable persistedHistoryCleaner) {
         setName(Constant.messages.getString(ExtensionClientIntegration.PREFIX + ".history.title"));
         setIcon(ExtensionClientIntegration.getIcon("calendar-browser.png"));
         this.clientHistoryTableModel = clientHistoryTableModel;
+        this.persistedHistoryCleaner = persistedHistoryCleaner;
 
         setLayout(new BorderLayout(0, 0));
 
@@ -81,7 +83,7 @@ public class ClientHistoryPanel extends AbstractPanel {
         clearButton.addActionListener(
                 e -> {
                     clientHistoryTableModel.clear();
-                    ClientHistoryDao.deleteAll();
+                    persistedHistoryCleaner.run();
                 });
         toolBar.add(clearButton);
 
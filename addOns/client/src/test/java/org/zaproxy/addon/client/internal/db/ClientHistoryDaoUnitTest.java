@@ -22,14 +22,24 @@ package org.zaproxy.addon.client.internal.db;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import javax.jdo.PersistenceManager;
+import javax.jdo.PersistenceManagerFactory;
+import javax.jdo.Query;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.zaproxy.addon.client.internal.ReportedElement;
@@ -242,16 +252,73 @@ class ClientHistoryDaoUnitTest {
     }
 
     @Test
-    void shouldReturnEmptyListWhenLoadingWithNullPmf() {
+    void shouldNotThrowWhenPersistingAllWithNullPmf() {
         // Given
         try (MockedStatic<TableJdo> tableJdo = mockStatic(TableJdo.class)) {
             tableJdo.when(TableJdo::getPmf).thenReturn(null);
 
+            ReportedObject reportedObject =
+                    new ReportedEvent(
+                            TIMESTAMP,
+                            TYPE,
+                            TAG_NAME,
+                            ELEMENT_ID,
+                            NODE_NAME,
+                            URL,
+                            XPATH,
+                            HREF,
+                            TEXT,
+                            1);
+
+            // When / Then
+            assertDoesNotThrow(() -> ClientHistoryDao.persistAll(List.of(reportedObject)));
+        }
+    }
+
+    @Test
+    void shouldNotLoadPagesWhenLoadingWithNullPmf() {
+        // Given
+        try (MockedStatic<TableJdo> tableJdo = mockStatic(TableJdo.class)) {
+            tableJdo.when(TableJdo::getPmf).thenReturn(null);
+            List<List<ReportedObject>> pages = new ArrayList<>();
+
             // When
-            List<ReportedObject> result = ClientHistoryDao.loadAll();
+            ClientHistoryDao.loadAll(10, pages::add);
 
             // Then
-            assertThat(result, is(empty()));
+            assertThat(pages, is(empty()));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldLoadInPages() {
+        // Given
+        try (MockedStatic<TableJdo> tableJdo = mockStatic(TableJdo.class)) {
+            PersistenceManagerFactory pmf = mock(PersistenceManagerFactory.class);
+            PersistenceManager pm = mock(PersistenceManager.class);
+            Query<ClientHistoryEntry> query = mock(Query.class);
+            given(pmf.getPersistenceManager()).willReturn(pm);
+            given(pm.newQuery(ClientHistoryEntry.class)).willReturn(query);
+            given(query.setParameters(any())).willReturn(query);
+            given(query.executeList())
+                    .willReturn(
+                            List.of(createEntryWithId(1L), createEntryWithId(2L)),
+                            List.of(createEntryWithId(3L)));
+            tableJdo.when(TableJdo::getPmf).thenReturn(pmf);
+            List<List<ReportedObject>> pages = new ArrayList<>();
+
+            // When
+            ClientHistoryDao.loadAll(2, pages::add);
+
+            // Then
+            assertThat(pages, hasSize(2));
+            assertThat(pages.get(0), hasSize(2));
+            assertThat(pages.get(1), hasSize(1));
+            verify(query).setParameters(-1L);
+            verify(query).setParameters(2L);
+            verify(query, times(2)).setRange(0, 2);
+            verify(pm).close();
         }
     }
 
@@ -266,6 +333,12 @@ class ClientHistoryDaoUnitTest {
         }
     }
 
+    private static ClientHistoryEntry createEntryWithId(long id) {
+        ClientHistoryEntry entry = createEntry(OBJECT_TYPE_ELEMENT);
+        entry.setId(id);
+        return entry;
+    }
+
     private static ClientHistoryEntry createEntry(int objectType) {
         ClientHistoryEntry entry = new ClientHistoryEntry();
         entry.setTimestamp(Instant.ofEpochMilli(TIMESTAMP.getTime()));
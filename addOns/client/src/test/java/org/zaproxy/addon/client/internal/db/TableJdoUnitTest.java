@@ -29,6 +29,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
@@ -39,6 +40,7 @@ import org.flywaydb.core.Flyway;
 import org.flywaydb.core.api.configuration.FluentConfiguration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import org.parosproxy.paros.db.Database;
 import org.parosproxy.paros.db.DatabaseServer;
@@ -109,6 +111,29 @@ class TableJdoUnitTest {
         }
     }
 
+    @Test
+    void shouldRunClosingHandlerBeforeClosingPmf() throws Exception {
+        // Given
+        try (MockedStatic<Flyway> flywayStatic = mockStatic(Flyway.class);
+                MockedStatic<JDOHelper> jdoStatic = mockStatic(JDOHelper.class)) {
+            PersistenceManagerFactory pmf = mock(PersistenceManagerFactory.class);
+            setupStaticMocks(flywayStatic, jdoStatic, pmf);
+            Runnable closingHandler = mock(Runnable.class);
+            Database db = mock(Database.class);
+            DatabaseServer dbServer = mockDatabaseServer();
+            given(db.getDatabaseServer()).willReturn(dbServer);
+            TableJdo tableJdo = new TableJdo(db, closingHandler);
+
+            // When
+            tableJdo.closing(mock(DatabaseServer.class));
+
+            // Then
+            InOrder inOrder = inOrder(closingHandler, pmf);
+            inOrder.verify(closingHandler).run();
+            inOrder.verify(pmf).close();
+        }
+    }
+
     @Test
     void shouldNotThrowWhenClosingWithNullPmf() throws Exception {
         // Given
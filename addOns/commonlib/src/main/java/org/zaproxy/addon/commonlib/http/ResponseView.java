@@ -0,0 +1,255 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.http;
+
+import java.net.HttpCookie;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import net.htmlparser.jericho.Element;
+import net.htmlparser.jericho.HTMLElementName;
+import net.htmlparser.jericho.Source;
+import net.htmlparser.jericho.StartTagType;
+import net.htmlparser.jericho.Tag;
+import org.parosproxy.paros.network.HttpHeaderField;
+import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpResponseHeader;
+import org.zaproxy.addon.commonlib.ResourceIdentificationUtils;
+import org.zaproxy.zap.extension.pscan.PassiveScanData;
+
+/**
+ * A view of the response of a message, whose derived data (for example, decoded body, parsed HTML)
+ * is lazily computed and memoized.
+ *
+ * <p>The view is shared by all the passive scan rules that scan the same message, when obtained
+ * with {@link #of(PassiveScanData, HttpMessage)}, to avoid decoding and parsing the response more
+ * than once. The data is not expected to change while the view is in use, nor is the view thread
+ * safe.
+ *
+ * @since 1.44.0
+ * @see SharedPassiveScanData
+ */
+public class ResponseView {
+
+    /** The classification of the content of the response. */
+    public enum ContentType {
+        HTML,
+        JAVASCRIPT,
+        CSS,
+        JSON,
+        XML,
+        TEXT,
+        OTHER
+    }
+
+    private final HttpMessage message;
+
+    private String body;
+    private String bodyLowerCase;
+    private Map<String, List<String>> headers;
+    private List<HttpCookie> cookies;
+    private Source source;
+    private List<Element> scriptElements;
+    private List<Tag> comments;
+    private ContentType contentType;
+
+    /**
+     * Constructs a {@code ResponseView} for the given message.
+     *
+     * @param message the message.
+     * @throws IllegalArgumentException if the given message is {@code null}.
+     */
+    public ResponseView(HttpMessage message) {
+        if (message == null) {
+            throw new IllegalArgumentException("The parameter message must not be null.");
+        }
+        this.message = message;
+    }
+
+    /**
+     * Gets the view of the given message, shared through the given passive scan data if possible.
+     *
+     * @param helper the passive scan data, might be {@code null}.
+     * @param message the message.
+     * @return the view of the message, never {@code null}.
+     */
+    public static ResponseView of(PassiveScanData helper, HttpMessage message) {
+        if (helper instanceof SharedPassiveScanData) {
+            ResponseView view = ((SharedPassiveScanData) helper).getResponseView();
+            if (view.getMessage() == message) {
+                return view;
+            }
+        }
+        return new ResponseView(message);
+    }
+
+    /**
+     * Gets the message.
+     *
+     * @return the message, never {@code null}.
+     */
+    public HttpMessage getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the decoded response body.
+     *
+     * @return the body, never {@code null}.
+     */
+    public String getBody() {
+        if (body == null) {
+            body = message.getResponseBody().toString();
+        }
+        return body;
+    }
+
+    /**
+     * Gets the decoded response body, in lower case.
+     *
+     * @return the body in lower case, never {@code null}.
+     */
+    public String getBodyLowerCase() {
+        if (bodyLowerCase == null) {
+            bodyLowerCase = getBody().toLowerCase(Locale.ROOT);
+        }
+        return bodyLowerCase;
+    }
+
+    /**
+     * Gets the response headers, keyed by lower case name.
+     *
+     * @return an unmodifiable map with the headers, never {@code null}.
+     */
+    public Map<String, List<String>> getHeaders() {
+        if (headers == null) {
+            Map<String, List<String>> map = new TreeMap<>();
+            for (HttpHeaderField field : message.getResponseHeader().getHeaders()) {
+                map.computeIfAbsent(
+                                field.getName().toLowerCase(Locale.ROOT), k -> new ArrayList<>())
+                        .add(field.getValue());
+            }
+            map.replaceAll((k, v) -> Collections.unmodifiableList(v));
+            headers = Collections.unmodifiableMap(map);
+        }
+        return headers;
+    }
+
+    /**
+     * Gets the values of the response header with the given name.
+     *
+     * @param name the name of the header, case insensitive.
+     * @return an unmodifiable list with the values, never {@code null}.
+     */
+    public List<String> getHeaderValues(String name) {
+        return getHeaders().getOrDefault(name.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    /**
+     * Gets the cookies set by the response.
+     *
+     * @return an unmodifiable list with the cookies, never {@code null}.
+     */
+    public List<HttpCookie> getCookies() {
+        if (cookies == null) {
+            cookies =
+                    Collections.unmodifiableList(
+                            message.getResponseHeader()
+                                    .getHttpCookies(message.getRequestHeader().getHostName()));
+        }
+        return cookies;
+    }
+
+    /**
+     * Gets the parsed response body.
+     *
+     * @return the source, never {@code null}.
+     */
+    public Source getSource() {
+        if (source == null) {
+            source = new Source(getBody());
+        }
+        return source;
+    }
+
+    /**
+     * Gets the {@code script} elements of the response body.
+     *
+     * @return an unmodifiable list with the elements, never {@code null}.
+     */
+    public List<Element> getScriptElements() {
+        if (scriptElements == null) {
+            scriptElements =
+                    Collections.unmodifiableList(
+                            getSource().getAllElements(HTMLElementName.SCRIPT));
+        }
+        return scriptElements;
+    }
+
+    /**
+     * Gets the HTML comments of the response body.
+     *
+     * @return an unmodifiable list with the comments, never {@code null}.
+     */
+    public List<Tag> getComments() {
+        if (comments == null) {
+            comments = Collections.unmodifiableList(getSource().getAllTags(StartTagType.COMMENT));
+        }
+        return comments;
+    }
+
+    /**
+     * Gets the classification of the content of the response.
+     *
+     * @return the content type, never {@code null}.
+     */
+    public ContentType getContentType() {
+        if (contentType == null) {
+            contentType = classify();
+        }
+        return contentType;
+    }
+
+    private ContentType classify() {
+        HttpResponseHeader header = message.getResponseHeader();
+        if (header.isHtml()) {
+            return ContentType.HTML;
+        }
+        if (ResourceIdentificationUtils.isJavaScript(message)) {
+            return ContentType.JAVASCRIPT;
+        }
+        if (ResourceIdentificationUtils.isCss(message)) {
+            return ContentType.CSS;
+        }
+        if (header.isJson()) {
+            return ContentType.JSON;
+        }
+        if (header.isXml()) {
+            return ContentType.XML;
+        }
+        if (header.isText()) {
+            return ContentType.TEXT;
+        }
+        return ContentType.OTHER;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.http;
+
+import org.parosproxy.paros.network.HttpMessage;
+import org.zaproxy.zap.extension.pscan.PassiveScanData;
+
+/**
+ * A {@link PassiveScanData} that also provides a {@link ResponseView}, shared by all the passive
+ * scan rules that scan the message.
+ *
+ * @since 1.44.0
+ * @see ResponseView#of(PassiveScanData, HttpMessage)
+ */
+public class SharedPassiveScanData extends PassiveScanData {
+
+    private final ResponseView responseView;
+
+    /**
+     * Constructs a {@code SharedPassiveScanData} for the given message.
+     *
+     * @param msg the message being scanned.
+     */
+    public SharedPassiveScanData(HttpMessage msg) {
+        super(msg);
+        this.responseView = new ResponseView(msg);
+    }
+
+    /**
+     * Gets the view of the response of the message.
+     *
+     * @return the view, never {@code null}.
+     */
+    public ResponseView getResponseView() {
+        return responseView;
+    }
+}
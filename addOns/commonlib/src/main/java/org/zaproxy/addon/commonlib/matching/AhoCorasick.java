@@ -0,0 +1,273 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.matching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable Aho-Corasick automaton, that finds all the occurrences of a set of literals in a
+ * single pass over a text.
+ *
+ * <p>Instances are thread safe.
+ *
+ * @since 1.44.0
+ */
+public final class AhoCorasick {
+
+    private static final int ROOT = 0;
+    private static final int DENSE_RANGE = 128;
+    private static final int[] NO_OUTPUTS = {};
+
+    private final String[] literals;
+    private final boolean ignoreCase;
+
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[][] outputs;
+    private final int[] rootTransitions;
+
+    /**
+     * Constructs an {@code AhoCorasick} for the given literals.
+     *
+     * <p>The index of each literal in the list is the one reported when it is found.
+     *
+     * @param literals the literals to search for, must not be {@code null} nor contain {@code null}
+     *     or empty literals.
+     * @param ignoreCase {@code true} if the search should be case insensitive, {@code false}
+     *     otherwise.
+     * @throws IllegalArgumentException if any of the literals is {@code null} or empty.
+     */
+    public AhoCorasick(List<String> literals, boolean ignoreCase) {
+        this.literals = literals.toArray(new String[0]);
+        this.ignoreCase = ignoreCase;
+
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        trie.add(new HashMap<>());
+        nodeOutputs.add(new ArrayList<>());
+
+        for (int i = 0; i < this.literals.length; i++) {
+            String literal = this.literals[i];
+            if (literal == null || literal.isEmpty()) {
+                throw new IllegalArgumentException(
+                        "The literals must not be null nor empty, index: " + i);
+            }
+            int state = ROOT;
+            for (int j = 0; j < literal.length(); j++) {
+                char c = fold(literal.charAt(j));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new HashMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            nodeOutputs.get(state).add(i);
+        }
+
+        int size = trie.size();
+        keys = new char[size][];
+        targets = new int[size][];
+        for (int i = 0; i < size; i++) {
+            Map<Character, Integer> transitions = trie.get(i);
+            char[] nodeKeys = new char[transitions.size()];
+            int k = 0;
+            for (Character c : transitions.keySet()) {
+                nodeKeys[k++] = c;
+            }
+            Arrays.sort(nodeKeys);
+            int[] nodeTargets = new int[nodeKeys.length];
+            for (k = 0; k < nodeKeys.length; k++) {
+                nodeTargets[k] = transitions.get(nodeKeys[k]);
+            }
+            keys[i] = nodeKeys;
+            targets[i] = nodeTargets;
+        }
+
+        rootTransitions = new int[DENSE_RANGE];
+        for (int c = 0; c < DENSE_RANGE; c++) {
+            rootTransitions[c] = child(ROOT, (char) c);
+        }
+
+        fail = new int[size];
+        outputs = new int[size][];
+        outputs[ROOT] = toArray(nodeOutputs.get(ROOT));
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            outputs[child] = toArray(nodeOutputs.get(child));
+            queue[tail++] = child;
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            for (int k = 0; k < keys[state].length; k++) {
+                char c = keys[state][k];
+                int child = targets[state][k];
+                int f = fail[state];
+                while (f != ROOT && child(f, c) == -1) {
+                    f = fail[f];
+                }
+                int failTarget = child(f, c);
+                fail[child] = failTarget == -1 || failTarget == child ? ROOT : failTarget;
+                outputs[child] = merge(nodeOutputs.get(child), outputs[fail[child]]);
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of literals.
+     *
+     * @return the number of literals.
+     */
+    public int getLiteralCount() {
+        return literals.length;
+    }
+
+    /**
+     * Gets the literal with the given index.
+     *
+     * @param index the index of the literal.
+     * @return the literal.
+     */
+    public String getLiteral(int index) {
+        return literals[index];
+    }
+
+    /**
+     * Tells whether or not the search is case insensitive.
+     *
+     * @return {@code true} if the search is case insensitive, {@code false} otherwise.
+     */
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    /**
+     * Searches the given text, notifying the handler of each occurrence of the literals, in the
+     * order they end in the text.
+     *
+     * @param text the text to search.
+     * @param handler the handler notified of the occurrences.
+     */
+    public void search(CharSequence text, MatchHandler handler) {
+        int state = ROOT;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            state = next(state, fold(text.charAt(i)));
+            for (int literal : outputs[state]) {
+                int end = i + 1;
+                if (!handler.onMatch(literal, end - literals[literal].length(), end)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds which literals occur in the given texts.
+     *
+     * @param texts the texts to search.
+     * @return a set with the indexes of the literals found, never {@code null}.
+     */
+    public BitSet findLiterals(CharSequence... texts) {
+        BitSet found = new BitSet(literals.length);
+        for (CharSequence text : texts) {
+            if (text == null) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0, length = text.length(); i < length; i++) {
+                state = next(state, fold(text.charAt(i)));
+                for (int literal : outputs[state]) {
+                    found.set(literal);
+                }
+            }
+        }
+        return found;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            if (state == ROOT) {
+                if (c < DENSE_RANGE) {
+                    int target = rootTransitions[c];
+                    return target == -1 ? ROOT : target;
+                }
+                int target = child(ROOT, c);
+                return target == -1 ? ROOT : target;
+            }
+            int target = child(state, c);
+            if (target != -1) {
+                return target;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int child(int state, char c) {
+        int idx = Arrays.binarySearch(keys[state], c);
+        return idx < 0 ? -1 : targets[state][idx];
+    }
+
+    private char fold(char c) {
+        return ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        if (values.isEmpty()) {
+            return NO_OUTPUTS;
+        }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] merge(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(toArray(own), own.size() + inherited.length);
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+
+    /** A handler of the occurrences of the literals. */
+    @FunctionalInterface
+    public interface MatchHandler {
+
+        /**
+         * Called when a literal is found.
+         *
+         * @param literal the index of the literal.
+         * @param start the start index of the occurrence, inclusive.
+         * @param end the end index of the occurrence, exclusive.
+         * @return {@code true} to continue the search, {@code false} to stop it.
+         */
+        boolean onMatch(int literal, int start, int end);
+    }
+}
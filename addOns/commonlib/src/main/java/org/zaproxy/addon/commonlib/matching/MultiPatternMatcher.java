@@ -0,0 +1,494 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.matching;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A set of regular expressions compiled to be searched in a single pass.
+ *
+ * <p>A literal that every match of a pattern must contain is extracted (or provided) for each
+ * pattern, all the literals are searched at once with an {@link AhoCorasick} automaton and only the
+ * patterns whose literal was found (or that have no literal) are then confirmed with the original
+ * regular expression.
+ *
+ * <p>Instances are immutable and thread safe.
+ *
+ * @param <T> the type of the values associated with the patterns.
+ * @since 1.44.0
+ */
+public final class MultiPatternMatcher<T> {
+
+    private static final Pattern COMMENTS_FLAG = Pattern.compile("\\(\\?[a-zA-Z-]*x");
+
+    private final List<Entry<T>> entries;
+    private final AhoCorasick literals;
+    private final int[] literalEntries;
+    private final BitSet unfiltered;
+
+    private MultiPatternMatcher(List<Entry<T>> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+
+        List<String> literalList = new ArrayList<>();
+        List<Integer> literalEntryList = new ArrayList<>();
+        unfiltered = new BitSet(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            String literal = entries.get(i).getLiteral();
+            if (literal == null) {
+                unfiltered.set(i);
+            } else {
+                literalList.add(literal);
+                literalEntryList.add(i);
+            }
+        }
+        literals = new AhoCorasick(literalList, true);
+        literalEntries = literalEntryList.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @param <T> the type of the values associated with the patterns.
+     * @return the builder, never {@code null}.
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Gets all the entries, in the order they were added.
+     *
+     * @return an unmodifiable list with the entries, never {@code null}.
+     */
+    public List<Entry<T>> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Gets the entries that might match any of the given texts, in the order they were added.
+     *
+     * <p>The patterns of the returned entries still need to be confirmed against the texts, for
+     * example, with {@link Entry#matcher(CharSequence)}, the entries not returned are guaranteed
+     * not to match.
+     *
+     * @param texts the texts to search.
+     * @return the candidate entries, never {@code null}.
+     */
+    public List<Entry<T>> getCandidates(CharSequence... texts) {
+        BitSet candidates = (BitSet) unfiltered.clone();
+        BitSet found = literals.findLiterals(texts);
+        for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+            candidates.set(literalEntries[i]);
+        }
+
+        List<Entry<T>> result = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            result.add(entries.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the first entry, in the order they were added, whose pattern is found in the given
+     * text.
+     *
+     * @param text the text to search.
+     * @return the matcher of the first entry found, positioned at the match, or {@code null} if
+     *     none was found.
+     */
+    public EntryMatcher<T> findFirst(CharSequence text) {
+        for (Entry<T> entry : getCandidates(text)) {
+            Matcher matcher = entry.matcher(text);
+            if (matcher.find()) {
+                return new EntryMatcher<>(entry, matcher);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Extracts a literal that all the matches of the given regular expression must contain.
+     *
+     * <p>The extraction is conservative, the longest sequence of literal characters outside of
+     * groups and not affected by quantifiers is returned, and expressions with alternations at the
+     * top level or in comments mode are not handled.
+     *
+     * @param regex the regular expression.
+     * @return the literal, or {@code null} if none could be extracted.
+     */
+    public static String extractLiteral(String regex) {
+        if (COMMENTS_FLAG.matcher(regex).find()) {
+            return null;
+        }
+
+        String longest = "";
+        StringBuilder current = new StringBuilder();
+        int length = regex.length();
+        int i = 0;
+        while (i < length) {
+            char c = regex.charAt(i);
+            String atom = null;
+            int end;
+            switch (c) {
+                case '\\':
+                    if (regex.startsWith("\\Q", i)) {
+                        int quoteEnd = regex.indexOf("\\E", i + 2);
+                        atom = regex.substring(i + 2, quoteEnd == -1 ? length : quoteEnd);
+                        end = quoteEnd == -1 ? length : quoteEnd + 2;
+                    } else {
+                        end = skipEscape(regex, i);
+                        if (end != -1 && !Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                            atom = String.valueOf(regex.charAt(i + 1));
+                        }
+                    }
+                    break;
+                case '[':
+                    end = skipClass(regex, i);
+                    break;
+                case '(':
+                    end = skipGroup(regex, i);
+                    break;
+                case '.':
+                case '^':
+                case '$':
+                    end = i + 1;
+                    break;
+                case '|':
+                case ')':
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    return null;
+                default:
+                    atom = String.valueOf(c);
+                    end = i + 1;
+            }
+            if (end == -1) {
+                return null;
+            }
+
+            i = skipQuantifier(regex, end);
+            if (i != end && atom != null) {
+                if (atom.isEmpty()) {
+                    return null;
+                }
+                // Only the last character is quantified.
+                current.append(atom, 0, atom.length() - 1);
+                atom = null;
+            }
+
+            if (atom != null) {
+                current.append(atom);
+            } else {
+                if (current.length() > longest.length()) {
+                    longest = current.toString();
+                }
+                current.setLength(0);
+            }
+        }
+        if (current.length() > longest.length()) {
+            longest = current.toString();
+        }
+        return longest.isEmpty() ? null : longest;
+    }
+
+    private static int skipEscape(String regex, int start) {
+        if (start + 1 >= regex.length()) {
+            return -1;
+        }
+        char c = regex.charAt(start + 1);
+        int next = start + 2;
+        switch (c) {
+            case 'x':
+                return regex.startsWith("{", next) ? skipPast(regex, next, '}') : next + 2;
+            case 'u':
+                return next + 4;
+            case 'c':
+                return next + 1;
+            case 'p':
+            case 'P':
+            case 'N':
+                return regex.startsWith("{", next) ? skipPast(regex, next, '}') : next + 1;
+            case 'k':
+                return skipPast(regex, next, '>');
+            case 'b':
+                return regex.startsWith("{g}", next) ? next + 3 : next;
+            default:
+                if (Character.isDigit(c)) {
+                    while (next < regex.length() && Character.isDigit(regex.charAt(next))) {
+                        next++;
+                    }
+                }
+                return next;
+        }
+    }
+
+    private static int skipPast(String regex, int start, char c) {
+        int idx = regex.indexOf(c, start);
+        return idx == -1 ? -1 : idx + 1;
+    }
+
+    private static int skipQuoted(String regex, int start) {
+        int idx = regex.indexOf("\\E", start + 2);
+        return idx == -1 ? -1 : idx + 2;
+    }
+
+    private static int skipClass(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i = regex.startsWith("\\Q", i) ? skipQuoted(regex, i) : i + 2;
+                if (i == -1) {
+                    return -1;
+                }
+            } else if (c == '[') {
+                depth++;
+                i++;
+                // A closing bracket at the start of the class is a literal.
+                if (i < regex.length() && regex.charAt(i) == '^') {
+                    i++;
+                }
+                if (i < regex.length() && regex.charAt(i) == ']') {
+                    i++;
+                }
+            } else if (c == ']') {
+                depth--;
+                i++;
+                if (depth == 0) {
+                    return i;
+                }
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i = regex.startsWith("\\Q", i) ? skipQuoted(regex, i) : i + 2;
+            } else if (c == '[') {
+                i = skipClass(regex, i);
+            } else {
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                }
+                i++;
+            }
+            if (i == -1) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipQuantifier(String regex, int start) {
+        if (start >= regex.length()) {
+            return start;
+        }
+        int end;
+        char c = regex.charAt(start);
+        if (c == '*' || c == '+' || c == '?') {
+            end = start + 1;
+        } else if (c == '{') {
+            end = skipPast(regex, start, '}');
+            if (end == -1) {
+                return start;
+            }
+        } else {
+            return start;
+        }
+        if (end < regex.length() && (regex.charAt(end) == '?' || regex.charAt(end) == '+')) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * A builder of {@link MultiPatternMatcher}.
+     *
+     * @param <T> the type of the values associated with the patterns.
+     */
+    public static final class Builder<T> {
+
+        private final List<Entry<T>> entries = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Adds the given pattern, extracting its literal automatically.
+         *
+         * @param pattern the pattern.
+         * @param value the value associated with the pattern.
+         * @return this builder, for chaining.
+         */
+        public Builder<T> add(Pattern pattern, T value) {
+            String literal = null;
+            if ((pattern.flags() & (Pattern.LITERAL | Pattern.COMMENTS | Pattern.CANON_EQ)) == 0) {
+                literal = extractLiteral(pattern.pattern());
+            } else if ((pattern.flags() & Pattern.LITERAL) != 0 && !pattern.pattern().isEmpty()) {
+                literal = pattern.pattern();
+            }
+            return add(pattern, literal, value);
+        }
+
+        /**
+         * Adds the given pattern, with the given literal.
+         *
+         * @param pattern the pattern.
+         * @param literal a literal that all the matches of the pattern contain, case insensitive,
+         *     or {@code null} if none.
+         * @param value the value associated with the pattern.
+         * @return this builder, for chaining.
+         */
+        public Builder<T> add(Pattern pattern, String literal, T value) {
+            entries.add(
+                    new Entry<>(
+                            pattern, literal == null || literal.isEmpty() ? null : literal, value));
+            return this;
+        }
+
+        /**
+         * Adds a literal, matched as is.
+         *
+         * @param literal the literal.
+         * @param value the value associated with the literal.
+         * @return this builder, for chaining.
+         */
+        public Builder<T> addLiteral(String literal, T value) {
+            return add(Pattern.compile(literal, Pattern.LITERAL), literal, value);
+        }
+
+        /**
+         * Builds the {@code MultiPatternMatcher}.
+         *
+         * @return the matcher, never {@code null}.
+         */
+        public MultiPatternMatcher<T> build() {
+            return new MultiPatternMatcher<>(new ArrayList<>(entries));
+        }
+    }
+
+    /**
+     * An entry of the {@code MultiPatternMatcher}.
+     *
+     * @param <T> the type of the value.
+     */
+    public static final class Entry<T> {
+
+        private final Pattern pattern;
+        private final String literal;
+        private final T value;
+
+        private Entry(Pattern pattern, String literal, T value) {
+            this.pattern = pattern;
+            this.literal = literal;
+            this.value = value;
+        }
+
+        /**
+         * Gets the pattern.
+         *
+         * @return the pattern, never {@code null}.
+         */
+        public Pattern getPattern() {
+            return pattern;
+        }
+
+        /**
+         * Gets the literal used to prefilter the pattern.
+         *
+         * @return the literal, or {@code null} if the pattern is not prefiltered.
+         */
+        public String getLiteral() {
+            return literal;
+        }
+
+        /**
+         * Gets the value associated with the pattern.
+         *
+         * @return the value.
+         */
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * Creates a matcher of the pattern for the given text.
+         *
+         * @param text the text.
+         * @return the matcher, never {@code null}.
+         */
+        public Matcher matcher(CharSequence text) {
+            return pattern.matcher(text);
+        }
+    }
+
+    /**
+     * An entry and its matcher, positioned at a match.
+     *
+     * @param <T> the type of the value of the entry.
+     */
+    public static final class EntryMatcher<T> {
+
+        private final Entry<T> entry;
+        private final Matcher matcher;
+
+        private EntryMatcher(Entry<T> entry, Matcher matcher) {
+            this.entry = entry;
+            this.matcher = matcher;
+        }
+
+        /**
+         * Gets the entry.
+         *
+         * @return the entry, never {@code null}.
+         */
+        public Entry<T> getEntry() {
+            return entry;
+        }
+
+        /**
+         * Gets the matcher, positioned at the match.
+         *
+         * @return the matcher, never {@code null}.
+         */
+        public Matcher getMatcher() {
+            return matcher;
+        }
+    }
+}
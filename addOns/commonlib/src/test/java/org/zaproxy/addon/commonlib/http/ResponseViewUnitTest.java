@@ -0,0 +1,162 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.network.HttpMessage;
+import org.zaproxy.addon.commonlib.http.ResponseView.ContentType;
+import org.zaproxy.zap.extension.pscan.PassiveScanData;
+import org.zaproxy.zap.testutils.TestUtils;
+
+/** Unit test for {@link ResponseView}. */
+class ResponseViewUnitTest extends TestUtils {
+
+    @Test
+    void shouldNotCreateWithNullMessage() {
+        // Given
+        HttpMessage msg = null;
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> new ResponseView(msg));
+    }
+
+    @Test
+    void shouldProvideAndMemoizeBody() throws Exception {
+        // Given
+        HttpMessage msg = createMessage("text/html", "<HTML>Body</HTML>");
+        ResponseView view = new ResponseView(msg);
+        // When
+        String body = view.getBody();
+        String bodyLowerCase = view.getBodyLowerCase();
+        // Then
+        assertThat(body, is(equalTo("<HTML>Body</HTML>")));
+        assertThat(bodyLowerCase, is(equalTo("<html>body</html>")));
+        assertThat(view.getBody(), is(sameInstance(body)));
+        assertThat(view.getBodyLowerCase(), is(sameInstance(bodyLowerCase)));
+    }
+
+    @Test
+    void shouldProvideHeadersByLowerCaseName() throws Exception {
+        // Given
+        HttpMessage msg = createMessage("text/html", "");
+        msg.getResponseHeader().addHeader("X-Custom", "A");
+        msg.getResponseHeader().addHeader("x-custom", "B");
+        ResponseView view = new ResponseView(msg);
+        // When / Then
+        assertThat(view.getHeaderValues("X-CUSTOM"), contains("A", "B"));
+        assertThat(view.getHeaderValues("X-Missing"), is(empty()));
+        assertThat(view.getHeaders().containsKey("content-type"), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldProvideCookies() throws Exception {
+        // Given
+        HttpMessage msg = createMessage("text/html", "");
+        msg.getResponseHeader().addHeader("Set-Cookie", "a=1; HttpOnly");
+        ResponseView view = new ResponseView(msg);
+        // When / Then
+        assertThat(view.getCookies(), hasSize(1));
+        assertThat(view.getCookies().get(0).getName(), is(equalTo("a")));
+    }
+
+    @Test
+    void shouldProvideParsedElements() throws Exception {
+        // Given
+        HttpMessage msg =
+                createMessage(
+                        "text/html",
+                        "<html><!-- Comment --><script>var a;</script>"
+                                + "<script src=\"a.js\"></script></html>");
+        ResponseView view = new ResponseView(msg);
+        // When / Then
+        assertThat(view.getScriptElements(), hasSize(2));
+        assertThat(view.getComments(), hasSize(1));
+        assertThat(view.getSource(), is(sameInstance(view.getSource())));
+    }
+
+    @Test
+    void shouldClassifyContentType() throws Exception {
+        assertThat(contentTypeOf("text/html"), is(equalTo(ContentType.HTML)));
+        assertThat(contentTypeOf("application/javascript"), is(equalTo(ContentType.JAVASCRIPT)));
+        assertThat(contentTypeOf("text/css"), is(equalTo(ContentType.CSS)));
+        assertThat(contentTypeOf("application/json"), is(equalTo(ContentType.JSON)));
+        assertThat(contentTypeOf("application/xml"), is(equalTo(ContentType.XML)));
+        assertThat(contentTypeOf("text/plain"), is(equalTo(ContentType.TEXT)));
+        assertThat(contentTypeOf("image/png"), is(equalTo(ContentType.OTHER)));
+    }
+
+    @Test
+    void shouldShareViewThroughSharedPassiveScanData() throws Exception {
+        // Given
+        HttpMessage msg = createMessage("text/html", "Body");
+        PassiveScanData helper = new SharedPassiveScanData(msg);
+        // When
+        ResponseView view = ResponseView.of(helper, msg);
+        // Then
+        assertThat(view, is(sameInstance(ResponseView.of(helper, msg))));
+    }
+
+    @Test
+    void shouldNotShareViewOfOtherMessage() throws Exception {
+        // Given
+        HttpMessage msg = createMessage("text/html", "Body");
+        PassiveScanData helper = new SharedPassiveScanData(msg);
+        HttpMessage otherMsg = createMessage("text/html", "Body");
+        // When
+        ResponseView view = ResponseView.of(helper, otherMsg);
+        // Then
+        assertThat(view.getMessage(), is(sameInstance(otherMsg)));
+        assertThat(view, is(not(sameInstance(ResponseView.of(helper, msg)))));
+    }
+
+    @Test
+    void shouldCreateViewForOtherPassiveScanData() throws Exception {
+        // Given
+        HttpMessage msg = createMessage("text/html", "Body");
+        PassiveScanData helper = mock(PassiveScanData.class);
+        // When
+        ResponseView view = ResponseView.of(helper, msg);
+        // Then
+        assertThat(view.getMessage(), is(sameInstance(msg)));
+        assertThat(view, is(not(sameInstance(ResponseView.of(helper, msg)))));
+    }
+
+    private static ContentType contentTypeOf(String contentType) throws Exception {
+        return new ResponseView(createMessage(contentType, "")).getContentType();
+    }
+
+    private static HttpMessage createMessage(String contentType, String body) throws Exception {
+        HttpMessage msg = new HttpMessage();
+        msg.getRequestHeader().setMessage("GET https://www.example.com/ HTTP/1.1");
+        msg.setResponseHeader("HTTP/1.1 200 OK\r\nContent-Type: " + contentType + "\r\n\r\n");
+        msg.setResponseBody(body);
+        return msg;
+    }
+}
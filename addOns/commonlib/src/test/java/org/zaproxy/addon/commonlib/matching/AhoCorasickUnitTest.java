@@ -0,0 +1,124 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.matching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link AhoCorasick}. */
+class AhoCorasickUnitTest {
+
+    @Test
+    void shouldNotAllowEmptyLiterals() {
+        // Given
+        List<String> literals = List.of("a", "");
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> new AhoCorasick(literals, false));
+    }
+
+    @Test
+    void shouldFindAllOccurrencesIncludingOverlapping() {
+        // Given
+        AhoCorasick ac = new AhoCorasick(List.of("he", "she", "his", "hers"), false);
+        List<String> found = new ArrayList<>();
+        // When
+        ac.search(
+                "ushers",
+                (literal, start, end) -> {
+                    found.add(ac.getLiteral(literal) + "@" + start + "-" + end);
+                    return true;
+                });
+        // Then
+        assertThat(found, contains("she@1-4", "he@2-4", "hers@2-6"));
+    }
+
+    @Test
+    void shouldStopSearchWhenHandlerReturnsFalse() {
+        // Given
+        AhoCorasick ac = new AhoCorasick(List.of("a"), false);
+        List<Integer> found = new ArrayList<>();
+        // When
+        ac.search(
+                "aaa",
+                (literal, start, end) -> {
+                    found.add(start);
+                    return false;
+                });
+        // Then
+        assertThat(found, contains(0));
+    }
+
+    @Test
+    void shouldFindLiteralsCaseSensitively() {
+        // Given
+        AhoCorasick ac = new AhoCorasick(List.of("TODO", "fixme"), false);
+        // When
+        BitSet found = ac.findLiterals("todo FIXME fixme");
+        // Then
+        assertThat(found.get(0), is(equalTo(false)));
+        assertThat(found.get(1), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldFindLiteralsIgnoringCase() {
+        // Given
+        AhoCorasick ac = new AhoCorasick(List.of("TODO", "fixme", "Ünïcode"), true);
+        // When
+        BitSet found = ac.findLiterals("a todo", null, "FixMe ÜNÏCODE");
+        // Then
+        assertThat(found.cardinality(), is(equalTo(3)));
+    }
+
+    @Test
+    void shouldNotFindLiteralsNotPresent() {
+        // Given
+        AhoCorasick ac = new AhoCorasick(List.of("abc", "bcd"), true);
+        // When
+        BitSet found = ac.findLiterals("abdbc acd");
+        // Then
+        assertThat(found.isEmpty(), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldHandleNoLiterals() {
+        // Given
+        AhoCorasick ac = new AhoCorasick(List.of(), false);
+        List<Integer> found = new ArrayList<>();
+        // When
+        ac.search(
+                "text",
+                (literal, start, end) -> {
+                    found.add(literal);
+                    return true;
+                });
+        // Then
+        assertThat(found, is(empty()));
+        assertThat(ac.getLiteralCount(), is(equalTo(0)));
+    }
+}
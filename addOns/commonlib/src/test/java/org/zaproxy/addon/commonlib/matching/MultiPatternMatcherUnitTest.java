@@ -0,0 +1,158 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.commonlib.matching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.zaproxy.addon.commonlib.matching.MultiPatternMatcher.EntryMatcher;
+
+/** Unit test for {@link MultiPatternMatcher}. */
+class MultiPatternMatcherUnitTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "'\\$LM\\$[a-f0-9]{16}', $LM$",
+        "'\\$2a\\$05\\$[a-z0-9]{53}', $2a$05$",
+        "'\\bTODO\\b', TODO",
+        "'^abc', abc",
+        "'abc?', ab",
+        "'a\\.b*', a.",
+        "'\\Qa.b*\\E', a.b*",
+        "'\\Qabc\\E+', ab",
+        "'abc(def)?', abc",
+        "'abc[0-9]', abc",
+        "'(?i)abc', abc",
+        "'\\d+abc', abc",
+        "'.abc', abc",
+        "'(?:(\\d+)\\/)?dexie(?:\\.min)?\\.js', dexie",
+        "'ab(c|d)efg', efg",
+        "'a[]b]cd', cd",
+        "'\\x41bc', bc",
+        "'\\1abc', abc",
+        "'\\p{L}abc', abc"
+    })
+    void shouldExtractLiteral(String regex, String literal) {
+        assertThat(MultiPatternMatcher.extractLiteral(regex), is(equalTo(literal)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'\\b[0-9a-f]{32}\\b'",
+        "'(?<!jsessionid=)\\b[0-9a-f]{32}\\b'",
+        "'(?x)a b c'",
+        "'abc|def'",
+        "'a?'",
+        "'(abc)'",
+        "'[abc]+'"
+    })
+    void shouldNotExtractLiteral(String regex) {
+        assertThat(MultiPatternMatcher.extractLiteral(regex), is(nullValue()));
+    }
+
+    @Test
+    void shouldNotExtractLiteralFromClassesWithAlternation() {
+        assertThat(MultiPatternMatcher.extractLiteral("ab[|]c"), is(equalTo("ab")));
+    }
+
+    @Test
+    void shouldReturnCandidatesInOrderAdded() {
+        // Given
+        MultiPatternMatcher<String> matcher =
+                MultiPatternMatcher.<String>builder()
+                        .add(Pattern.compile("\\bFIXME\\b"), "fixme")
+                        .add(Pattern.compile("[0-9]{3}"), "digits")
+                        .add(Pattern.compile("\\bTODO\\b"), "todo")
+                        .add(Pattern.compile("\\bXXX\\b"), "xxx")
+                        .build();
+        // When
+        List<String> candidates =
+                matcher.getCandidates("a todo", "and a fixme").stream()
+                        .map(MultiPatternMatcher.Entry::getValue)
+                        .collect(Collectors.toList());
+        // Then
+        assertThat(candidates, contains("fixme", "digits", "todo"));
+    }
+
+    @Test
+    void shouldFindFirstMatchingEntry() {
+        // Given
+        MultiPatternMatcher<String> matcher =
+                MultiPatternMatcher.<String>builder()
+                        .add(Pattern.compile("\\bBUG\\b", Pattern.CASE_INSENSITIVE), "bug")
+                        .add(Pattern.compile("\\bTODO\\b", Pattern.CASE_INSENSITIVE), "todo")
+                        .build();
+        // When
+        EntryMatcher<String> found = matcher.findFirst("debugging, todo: fix it");
+        // Then
+        assertThat(found.getEntry().getValue(), is(equalTo("todo")));
+        assertThat(found.getMatcher().group(), is(equalTo("todo")));
+    }
+
+    @Test
+    void shouldConfirmCandidatesWithPattern() {
+        // Given
+        MultiPatternMatcher<String> matcher =
+                MultiPatternMatcher.<String>builder()
+                        .add(Pattern.compile("\\bTODO\\b"), "todo")
+                        .build();
+        // When
+        EntryMatcher<String> found = matcher.findFirst("todo, TODOS");
+        // Then
+        assertThat(found, is(nullValue()));
+    }
+
+    @Test
+    void shouldMatchLiterals() {
+        // Given
+        MultiPatternMatcher<String> matcher =
+                MultiPatternMatcher.<String>builder()
+                        .addLiteral("Error (", "a")
+                        .addLiteral("Exception.", "b")
+                        .build();
+        // When
+        EntryMatcher<String> found = matcher.findFirst("An exception. An Error (123)");
+        // Then
+        assertThat(found.getEntry().getValue(), is(equalTo("a")));
+    }
+
+    @Test
+    void shouldUseProvidedLiteral() {
+        // Given
+        MultiPatternMatcher<String> matcher =
+                MultiPatternMatcher.<String>builder()
+                        .add(Pattern.compile("(?i)x-powered-by: (.+)"), "powered-by", "a")
+                        .build();
+        // When
+        EntryMatcher<String> found = matcher.findFirst("X-Powered-By: PHP");
+        // Then
+        assertThat(found.getMatcher().group(1), is(equalTo("PHP")));
+        assertThat(matcher.getEntries().get(0).getLiteral(), is(equalTo("powered-by")));
+    }
+}
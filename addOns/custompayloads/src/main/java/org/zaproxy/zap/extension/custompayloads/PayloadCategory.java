@@ -28,6 +28,7 @@ public final class PayloadCategory {
     private final String name;
     private final List<CustomPayload> defaultPayloads;
     private List<CustomPayload> payloads;
+    private volatile int payloadsVersion;
 
     public PayloadCategory(String name, List<String> defaultPayloads) {
         this(name, defaultPayloads, List.of());
@@ -61,8 +62,21 @@ public final class PayloadCategory {
         return payloads;
     }
 
+    /**
+     * Gets the version of the payloads, changed each time the payloads are changed.
+     *
+     * <p>Allows to cache data created from the payloads until they change.
+     *
+     * @return the version of the payloads.
+     * @since 0.17.0
+     */
+    public int getPayloadsVersion() {
+        return payloadsVersion;
+    }
+
     void setPayloads(List<CustomPayload> payloads) {
         this.payloads = payloads;
+        payloadsVersion++;
     }
 
     List<CustomPayload> getDefaultPayloads() {
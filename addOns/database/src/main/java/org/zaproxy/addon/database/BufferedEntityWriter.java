@@ -0,0 +1,140 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.database;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A writer that persists entities in batches.
+ *
+ * <p>The entities added are kept in memory and persisted together once the maximum number of
+ * entities is reached or the maximum delay elapses, whichever happens first. Closing the writer
+ * persists the remaining entities.
+ *
+ * @param <T> the type of the entities.
+ * @since 0.10.0
+ * @see Database#createBufferedWriter(int, long, TimeUnit)
+ */
+public class BufferedEntityWriter<T> implements Closeable {
+
+    private static final Logger LOGGER = LogManager.getLogger(BufferedEntityWriter.class);
+
+    private final Consumer<List<T>> persister;
+    private final int maxEntities;
+    private final ScheduledExecutorService executor;
+    private final Object flushLock;
+
+    private List<T> pending;
+    private boolean flushRequested;
+
+    /**
+     * Constructs a {@code BufferedEntityWriter} with the given persister and flush policy.
+     *
+     * @param persister the function that persists each batch of entities.
+     * @param maxEntities the number of entities that triggers the persistence of the batch.
+     * @param maxDelay the maximum time the entities are kept before being persisted.
+     * @param unit the unit of the delay.
+     * @throws IllegalArgumentException if the number of entities or the delay are not greater than
+     *     zero.
+     */
+    public BufferedEntityWriter(
+            Consumer<List<T>> persister, int maxEntities, long maxDelay, TimeUnit unit) {
+        if (maxEntities <= 0) {
+            throw new IllegalArgumentException("Parameter maxEntities must be greater than zero.");
+        }
+        if (maxDelay <= 0) {
+            throw new IllegalArgumentException("Parameter maxDelay must be greater than zero.");
+        }
+        this.persister = persister;
+        this.maxEntities = maxEntities;
+        this.flushLock = new Object();
+        this.pending = new ArrayList<>();
+        this.executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, "ZAP-Database-Writer");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        executor.scheduleWithFixedDelay(this::flush, maxDelay, maxDelay, unit);
+    }
+
+    /**
+     * Adds the given entity to be persisted.
+     *
+     * @param entity the entity to persist, {@code null} is ignored.
+     */
+    public void add(T entity) {
+        if (entity == null) {
+            return;
+        }
+
+        synchronized (this) {
+            pending.add(entity);
+            if (flushRequested || pending.size() < maxEntities) {
+                return;
+            }
+            flushRequested = true;
+        }
+
+        try {
+            executor.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            flush();
+        }
+    }
+
+    /** Persists the entities added, if any. */
+    public void flush() {
+        synchronized (flushLock) {
+            List<T> entities;
+            synchronized (this) {
+                flushRequested = false;
+                if (pending.isEmpty()) {
+                    return;
+                }
+                entities = pending;
+                pending = new ArrayList<>();
+            }
+
+            try {
+                persister.accept(entities);
+            } catch (Exception e) {
+                LOGGER.error("Failed to persist {} entities:", entities.size(), e);
+            }
+        }
+    }
+
+    /** Stops the periodic persistence and persists the remaining entities. */
+    @Override
+    public void close() {
+        executor.shutdown();
+        flush();
+    }
+}
@@ -20,9 +20,12 @@
 package org.zaproxy.addon.database;
 
 import java.io.Closeable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import javax.jdo.Constants;
 import javax.jdo.JDOHelper;
 import javax.jdo.PersistenceManager;
@@ -36,10 +39,54 @@ import org.flywaydb.core.Flyway;
 
 public abstract class Database implements Closeable {
 
+    /**
+     * The default maximum number of connections in the pool.
+     *
+     * @since 0.10.0
+     */
+    public static final int DEFAULT_MAX_POOL_SIZE = 2;
+
+    /**
+     * The default maximum number of prepared statements cached per connection.
+     *
+     * @since 0.10.0
+     */
+    public static final int DEFAULT_MAX_CACHED_STATEMENTS = 32;
+
     private final PersistenceManagerFactory pmf;
     private final ClassLoader classLoader;
 
     protected Database(String persistenceUnitName, ClassLoader classLoader) {
+        this(
+                persistenceUnitName,
+                classLoader,
+                DEFAULT_MAX_POOL_SIZE,
+                DEFAULT_MAX_CACHED_STATEMENTS);
+    }
+
+    /**
+     * Constructs a {@code Database} with the given connection pool configuration.
+     *
+     * @param persistenceUnitName the name of the persistence unit.
+     * @param classLoader the class loader of the persistence unit.
+     * @param maxPoolSize the maximum number of connections in the pool, must be greater than zero.
+     * @param maxCachedStatements the maximum number of prepared statements cached per connection,
+     *     zero to not cache.
+     * @throws IllegalArgumentException if any of the pool values is not valid.
+     * @since 0.10.0
+     */
+    protected Database(
+            String persistenceUnitName,
+            ClassLoader classLoader,
+            int maxPoolSize,
+            int maxCachedStatements) {
+        if (maxPoolSize <= 0) {
+            throw new IllegalArgumentException("Parameter maxPoolSize must be greater than zero.");
+        }
+        if (maxCachedStatements < 0) {
+            throw new IllegalArgumentException(
+                    "Parameter maxCachedStatements must not be negative.");
+        }
         Properties jdoProperties = new Properties();
         jdoProperties.setProperty(
                 Constants.PROPERTY_PERSISTENCE_MANAGER_FACTORY_CLASS,
@@ -55,7 +102,9 @@ public abstract class Database implements Closeable {
 
         // Optimizations based on
         // https://www.datanucleus.org/products/accessplatform_6_0/jdo/persistence.html#performance_tuning
-        jdoProperties.put(RDBMSPropertyNames.PROPERTY_CONNECTION_POOL_MAX_POOL_SIZE, 2);
+        jdoProperties.put(RDBMSPropertyNames.PROPERTY_CONNECTION_POOL_MAX_POOL_SIZE, maxPoolSize);
+        jdoProperties.put(
+                RDBMSPropertyNames.PROPERTY_CONNECTION_POOL_MAX_STATEMENTS, maxCachedStatements);
         jdoProperties.put(RDBMSPropertyNames.PROPERTY_RDBMS_CHECK_EXISTS_TABLES_VIEWS, false);
         jdoProperties.put(RDBMSPropertyNames.PROPERTY_RDBMS_INIT_COLUMN_INFO, "NONE");
         jdoProperties.put(PropertyNames.PROPERTY_SCHEMA_AUTOCREATE_ALL, false);
@@ -108,6 +157,55 @@ public abstract class Database implements Closeable {
         }
     }
 
+    /**
+     * Persists the given entities in a single transaction.
+     *
+     * <p>Either all or none of the entities are persisted. The {@code null} entities are ignored.
+     *
+     * @param entities the entities to persist.
+     * @since 0.10.0
+     */
+    public void persistAll(Collection<?> entities) {
+        if (entities == null) {
+            return;
+        }
+        List<?> nonNullEntities = entities.stream().filter(Objects::nonNull).toList();
+        if (nonNullEntities.isEmpty()) {
+            return;
+        }
+        PersistenceManager pm = pmf.getPersistenceManager();
+        Transaction tx = pm.currentTransaction();
+        try {
+            tx.begin();
+            pm.makePersistentAll(nonNullEntities);
+            tx.commit();
+        } finally {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            pm.close();
+        }
+    }
+
+    /**
+     * Creates a writer that persists the entities added in batches, with {@link
+     * #persistAll(Collection)}.
+     *
+     * <p>The writer should be closed once no longer needed, to persist the remaining entities.
+     *
+     * @param maxEntities the number of entities that triggers the persistence of the batch.
+     * @param maxDelay the maximum time the entities are kept before being persisted.
+     * @param unit the unit of the delay.
+     * @return the writer.
+     * @throws IllegalArgumentException if the number of entities or the delay are not greater than
+     *     zero.
+     * @since 0.10.0
+     */
+    public BufferedEntityWriter<Object> createBufferedWriter(
+            int maxEntities, long maxDelay, TimeUnit unit) {
+        return new BufferedEntityWriter<>(this::persistAll, maxEntities, maxDelay, unit);
+    }
+
     public Object runQuery(String sql, Class<?> clazz, boolean unique) {
         PersistenceManager pm = pmf.getPersistenceManager();
 
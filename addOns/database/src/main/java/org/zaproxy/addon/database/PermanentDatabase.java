@@ -37,6 +37,26 @@ public class PermanentDatabase extends Database {
         migrate();
     }
 
+    /**
+     * Constructs a {@code PermanentDatabase} with the given connection pool configuration.
+     *
+     * @param persistenceUnitName the name of the persistence unit.
+     * @param classLoader the class loader of the persistence unit.
+     * @param maxPoolSize the maximum number of connections in the pool, must be greater than zero.
+     * @param maxCachedStatements the maximum number of prepared statements cached per connection,
+     *     zero to not cache.
+     * @throws IllegalArgumentException if any of the pool values is not valid.
+     * @since 0.10.0
+     */
+    public PermanentDatabase(
+            String persistenceUnitName,
+            ClassLoader classLoader,
+            int maxPoolSize,
+            int maxCachedStatements) {
+        super(persistenceUnitName, classLoader, maxPoolSize, maxCachedStatements);
+        migrate();
+    }
+
     @Override
     protected String getDbType() {
         return PERMANENT_DB_TYPE;
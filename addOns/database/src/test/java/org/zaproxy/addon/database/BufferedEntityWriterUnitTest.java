@@ -0,0 +1,172 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.database;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link BufferedEntityWriter}. */
+class BufferedEntityWriterUnitTest {
+
+    private List<List<Object>> batches;
+    private BufferedEntityWriter<Object> writer;
+
+    @BeforeEach
+    void setUp() {
+        batches = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    @Test
+    void shouldNotAllowNonPositiveMaxEntities() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new BufferedEntityWriter<>(batches::add, 0, 1, TimeUnit.MINUTES));
+    }
+
+    @Test
+    void shouldNotAllowNonPositiveMaxDelay() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new BufferedEntityWriter<>(batches::add, 1, 0, TimeUnit.MINUTES));
+    }
+
+    @Test
+    void shouldNotPersistUntilFlushed() {
+        // Given
+        writer = createWriter(10, TimeUnit.MINUTES.toMillis(10));
+        // When
+        writer.add("A");
+        // Then
+        assertThat(batches, is(empty()));
+    }
+
+    @Test
+    void shouldPersistAllEntitiesInOneBatchWhenFlushed() {
+        // Given
+        writer = createWriter(10, TimeUnit.MINUTES.toMillis(10));
+        writer.add("A");
+        writer.add(null);
+        writer.add("B");
+        // When
+        writer.flush();
+        // Then
+        assertThat(batches, hasSize(1));
+        assertThat(batches.get(0), contains("A", "B"));
+    }
+
+    @Test
+    void shouldPersistOnceMaxEntitiesReached() throws Exception {
+        // Given
+        writer = createWriter(2, TimeUnit.MINUTES.toMillis(10));
+        writer.add("A");
+        // When
+        writer.add("B");
+        // Then
+        waitForBatches();
+        assertThat(batches, hasSize(1));
+        assertThat(batches.get(0), contains("A", "B"));
+    }
+
+    @Test
+    void shouldPersistOnceMaxDelayElapsed() throws Exception {
+        // Given
+        writer = createWriter(10, 50);
+        // When
+        writer.add("A");
+        // Then
+        waitForBatches();
+        assertThat(batches, hasSize(1));
+        assertThat(batches.get(0), contains("A"));
+    }
+
+    @Test
+    void shouldPersistRemainingEntitiesOnClose() {
+        // Given
+        writer = createWriter(10, TimeUnit.MINUTES.toMillis(10));
+        writer.add("A");
+        // When
+        writer.close();
+        // Then
+        assertThat(batches, hasSize(1));
+        assertThat(batches.get(0), contains("A"));
+    }
+
+    @Test
+    void shouldPersistSynchronouslyAfterClose() {
+        // Given
+        writer = createWriter(1, TimeUnit.MINUTES.toMillis(10));
+        writer.close();
+        // When
+        writer.add("A");
+        // Then
+        assertThat(batches, hasSize(1));
+    }
+
+    @Test
+    void shouldKeepPersistingAfterError() {
+        // Given
+        writer =
+                new BufferedEntityWriter<>(
+                        entities -> {
+                            batches.add(entities);
+                            throw new RuntimeException("Failed");
+                        },
+                        10,
+                        10,
+                        TimeUnit.MINUTES);
+        writer.add("A");
+        writer.flush();
+        // When
+        writer.add("B");
+        writer.flush();
+        // Then
+        assertThat(batches, hasSize(2));
+        assertThat(batches.get(1), contains("B"));
+    }
+
+    private BufferedEntityWriter<Object> createWriter(int maxEntities, long maxDelayMs) {
+        return new BufferedEntityWriter<>(
+                batches::add, maxEntities, maxDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void waitForBatches() throws InterruptedException {
+        for (int i = 0; i < 200 && batches.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+    }
+}
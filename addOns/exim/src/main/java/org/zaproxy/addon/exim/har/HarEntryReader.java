@@ -0,0 +1,134 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.exim.har;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import de.sstoehr.harreader.model.HarEntry;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A reader of the entries of a HAR log, reads one entry at a time instead of the whole log.
+ *
+ * <p>The properties of the log before the entries are skipped, the ones after are not read.
+ */
+class HarEntryReader implements Closeable {
+
+    private static final String LOG_FIELD = "log";
+    private static final String ENTRIES_FIELD = "entries";
+
+    private final JsonParser parser;
+    private boolean finished;
+
+    /**
+     * Constructs a {@code HarEntryReader} with the given parser, positioning it at the start of the
+     * entries.
+     *
+     * <p>The parser must have a codec, used to read the entries.
+     *
+     * @param parser the parser of the HAR log.
+     * @throws IOException if an error occurred while reading or if the data is not a HAR log.
+     */
+    HarEntryReader(JsonParser parser) throws IOException {
+        this.parser = parser;
+
+        validateNextToken(JsonToken.START_OBJECT, null);
+        validateNextToken(JsonToken.FIELD_NAME, LOG_FIELD);
+        validateNextToken(JsonToken.START_OBJECT, LOG_FIELD);
+
+        while (!isNextToken(JsonToken.FIELD_NAME, ENTRIES_FIELD)) {
+            parser.skipChildren();
+        }
+
+        validateNextToken(JsonToken.START_ARRAY, ENTRIES_FIELD);
+        parser.nextToken();
+    }
+
+    /**
+     * Reads the next entry.
+     *
+     * @return the entry, or {@code null} if there are no more entries.
+     * @throws IOException if an error occurred while reading the entry.
+     */
+    HarEntry next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        HarEntry entry = parser.readValueAs(HarEntry.class);
+        finished = entry == null;
+        return entry;
+    }
+
+    /**
+     * Skips the remaining entries, counting them without reading them.
+     *
+     * @return the number of entries skipped.
+     * @throws IOException if an error occurred while reading the entries.
+     */
+    int skipEntries() throws IOException {
+        int count = 0;
+        JsonToken token = finished ? JsonToken.END_ARRAY : parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+        while (token != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException("Unexpected end of HAR entries.");
+            }
+            parser.skipChildren();
+            count++;
+            token = parser.nextToken();
+        }
+        finished = true;
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private boolean isNextToken(JsonToken wantedToken, String wantedName) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new IOException("Failed to find entries property in HAR log.");
+        }
+        if (token != wantedToken) {
+            return false;
+        }
+
+        return wantedName.equals(parser.currentName());
+    }
+
+    private void validateNextToken(JsonToken expectedToken, String expectedName)
+            throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != expectedToken) {
+            throw new IOException("Unexpected token " + token + ", expected: " + expectedToken);
+        }
+
+        String name = parser.currentName();
+        if (!Objects.equals(name, expectedName)) {
+            throw new IOException("Unexpected name " + name + ", expected: " + expectedName);
+        }
+    }
+}
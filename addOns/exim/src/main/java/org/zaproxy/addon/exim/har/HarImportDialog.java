@@ -19,10 +19,8 @@
  */
 package org.zaproxy.addon.exim.har;
 
-import de.sstoehr.harreader.HarReader;
-import de.sstoehr.harreader.HarReaderException;
-import de.sstoehr.harreader.model.HarLog;
 import java.io.File;
+import java.io.IOException;
 import javax.swing.JFileChooser;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import org.apache.logging.log4j.LogManager;
@@ -85,15 +83,13 @@ public class HarImportDialog extends StandardFieldsDialog {
         int maxMessages = getIntValue(MAX_MESSAGES_PARAM);
         new Thread(
                         () -> {
-                            int tasks = 0;
-                            HarLog log = null;
+                            int tasks;
                             try {
-                                log = new HarReader().readFromFile(file).log();
-                                tasks = log.entries().size();
+                                tasks = HarImporter.countEntries(file);
                                 if (maxMessages > 0) {
                                     tasks = Math.min(tasks, maxMessages);
                                 }
-                            } catch (HarReaderException e) {
+                            } catch (IOException e) {
                                 LOGGER.warn(
                                         "Failed to read HAR file: {}\n{}",
                                         file.getAbsolutePath(),
@@ -108,7 +104,7 @@ public class HarImportDialog extends StandardFieldsDialog {
                             ExtensionExim.getProgressPanel().addProgressPane(currentImportPane);
                             HarImporter harImporter =
                                     new HarImporter(
-                                            log,
+                                            file,
                                             new ProgressPaneListener(currentImportPane),
                                             sendRequests,
                                             maxMessages);
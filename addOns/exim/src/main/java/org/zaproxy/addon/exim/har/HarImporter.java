@@ -19,16 +19,21 @@
  */
 package org.zaproxy.addon.exim.har;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.sstoehr.harreader.HarReader;
-import de.sstoehr.harreader.HarReaderException;
-import de.sstoehr.harreader.model.Har;
+import de.sstoehr.harreader.HarReaderMode;
+import de.sstoehr.harreader.jackson.DefaultMapperFactory;
 import de.sstoehr.harreader.model.HarEntry;
 import de.sstoehr.harreader.model.HarEntry.HarEntryBuilder;
 import de.sstoehr.harreader.model.HarLog;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import org.apache.commons.httpclient.URI;
@@ -75,6 +80,16 @@ public class HarImporter {
 
     private static final String STATS_HAR = ExtensionExim.STATS_PREFIX + "import.har.%s";
 
+    /** The mapper to read the HAR entries, same as used by {@link HarReader}. */
+    private static final ObjectMapper HAR_MAPPER =
+            new DefaultMapperFactory().instance(HarReaderMode.STRICT);
+
+    /** The maximum number of entries processed before adding the messages to the Sites tree. */
+    private static final int BATCH_SIZE = 100;
+
+    /** The maximum time, in milliseconds, before adding the messages to the Sites tree. */
+    private static final long BATCH_MAX_DELAY = 1000;
+
     enum DataSource {
         FILE("file"),
         STRING("string");
@@ -101,6 +116,14 @@ public class HarImporter {
             incCounter(STATS_HAR + ".errors");
         }
 
+        void importTime(long elapsed) {
+            Stats.incCounter((STATS_HAR + ".time").formatted(type), elapsed);
+        }
+
+        void importRate(long messagesPerSecond) {
+            Stats.setHighwaterMark((STATS_HAR + ".rate").formatted(type), messagesPerSecond);
+        }
+
         private void incCounter(String key) {
             Stats.incCounter(key.formatted(type));
         }
@@ -115,6 +138,10 @@ public class HarImporter {
     private SendContext sendContext;
     private boolean success;
 
+    private final List<ImportedMessage> pendingMessages = new ArrayList<>();
+    private int pendingEntries;
+    private long lastBatchTime;
+
     public HarImporter(String data) {
         this(data, false, 0);
     }
@@ -123,7 +150,7 @@ public class HarImporter {
         this.dataSource = DataSource.STRING;
         this.sendRequests = sendRequests;
         this.maxMessages = maxMessages;
-        importData(reader -> reader.readFromString(data));
+        importData(mapper -> mapper.createParser(data));
     }
 
     public HarImporter(File file) {
@@ -140,22 +167,32 @@ public class HarImporter {
         this.progressListener = listener;
         this.sendRequests = sendRequests;
         this.maxMessages = maxMessages;
-        importData(reader -> reader.readFromFile(file));
+        importData(mapper -> mapper.createParser(file));
     }
 
     private void importData(HarProvider provider) {
-        try {
-            HarLog log = provider.from(new HarReader()).log();
-            importHarLog(log);
-        } catch (HarReaderException e) {
-            LOGGER.warn("Failed to read HAR data: {}", e.getMessage());
-            dataSource.error();
-            success = false;
+        try (HarEntryReader entryReader = new HarEntryReader(provider.from(HAR_MAPPER))) {
+            importEntries(entryReader::next);
+        } catch (IOException e) {
+            readFailed(e);
         } finally {
             completed();
         }
     }
 
+    /**
+     * Counts the entries of the given HAR file, without reading them into memory.
+     *
+     * @param file the HAR file.
+     * @return the number of entries.
+     * @throws IOException if an error occurred while reading the file or if it is not a HAR file.
+     */
+    static int countEntries(File file) throws IOException {
+        try (HarEntryReader entryReader = new HarEntryReader(HAR_MAPPER.createParser(file))) {
+            return entryReader.skipEntries();
+        }
+    }
+
     public HarImporter(HarLog harLog, ProgressPaneListener listener) {
         this(harLog, listener, false, 0);
     }
@@ -171,11 +208,27 @@ public class HarImporter {
     }
 
     private void importHarLog(HarLog log) {
-        processMessages(log);
+        Iterator<HarEntry> entries =
+                log != null ? log.entries().iterator() : Collections.emptyIterator();
+        try {
+            importEntries(() -> entries.hasNext() ? entries.next() : null);
+        } catch (IOException e) {
+            readFailed(e);
+        }
+    }
+
+    private void importEntries(EntrySource entries) throws IOException {
+        processMessages(entries);
         dataSource.successful();
         success = true;
     }
 
+    private void readFailed(IOException e) {
+        LOGGER.warn("Failed to read HAR data: {}", e.getMessage());
+        dataSource.error();
+        success = false;
+    }
+
     private SendContext getSendContext() {
         if (sendContext == null) {
             sendContext = SendContext.create();
@@ -183,28 +236,71 @@ public class HarImporter {
         return sendContext;
     }
 
-    private void processMessages(HarLog log) {
-        if (log == null) {
-            return;
-        }
-
-        List<HarEntry> entries = preProcessHarEntries(log, sendRequests);
+    private void processMessages(EntrySource entries) throws IOException {
+        long startTime = System.currentTimeMillis();
+        lastBatchTime = startTime;
         int count = 0;
         int imported = 0;
-        for (HarEntry entry : entries) {
-            if (maxMessages > 0 && imported >= maxMessages) {
-                break;
-            }
-            HttpMessage msg = sendRequests ? getSendContext().send(entry) : getHttpMessage(entry);
-            if (msg == null) {
-                updateProgress(
-                        ++count, Constant.messages.getString("exim.progress.invalidmessage"));
-                continue;
+        String currentTask = null;
+        try {
+            HarEntry entry;
+            while ((maxMessages <= 0 || imported < maxMessages)
+                    && (entry = entries.next()) != null) {
+                entry = preProcessHarEntry(entry, sendRequests);
+                if (entry == null) {
+                    continue;
+                }
+                HttpMessage msg =
+                        sendRequests ? getSendContext().send(entry) : getHttpMessage(entry);
+                count++;
+                if (msg == null) {
+                    currentTask = Constant.messages.getString("exim.progress.invalidmessage");
+                } else {
+                    persistMessage(msg);
+                    currentTask = msg.getRequestHeader().getURI().toString();
+                    imported++;
+                }
+
+                pendingEntries++;
+                if (pendingEntries >= BATCH_SIZE
+                        || System.currentTimeMillis() - lastBatchTime >= BATCH_MAX_DELAY) {
+                    processBatch(count, currentTask);
+                }
             }
-            persistMessage(msg);
-            updateProgress(++count, msg.getRequestHeader().getURI().toString());
-            imported++;
+        } finally {
+            processBatch(count, currentTask);
         }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        long rate = elapsed > 0 ? imported * 1000L / elapsed : imported;
+        dataSource.importTime(elapsed);
+        dataSource.importRate(rate);
+        LOGGER.debug(
+                "Imported {} messages from {} HAR entries in {} ms ({} messages/s).",
+                imported,
+                count,
+                elapsed,
+                rate);
+    }
+
+    /**
+     * Adds the pending messages to the Sites tree, in the EDT, and updates the progress.
+     *
+     * @param count the number of entries processed.
+     * @param currentTask the description of the last entry processed.
+     */
+    private void processBatch(int count, String currentTask) {
+        if (!pendingMessages.isEmpty()) {
+            List<ImportedMessage> messages = new ArrayList<>(pendingMessages);
+            pendingMessages.clear();
+            ThreadUtils.invokeAndWaitHandled(
+                    () -> messages.forEach(e -> addMessage(e.historyRef(), e.message())));
+        }
+        if (pendingEntries > 0) {
+            updateProgress(count, currentTask);
+        }
+        pendingEntries = 0;
+        lastBatchTime = System.currentTimeMillis();
     }
 
     private static HttpRequestConfig createRequestConfig(AtomicBoolean requestValid) {
@@ -269,12 +365,19 @@ public class HarImporter {
 
     private static List<HarEntry> preProcessHarEntries(HarLog log, boolean sendRequests) {
         return log.entries().stream()
-                .filter(HarImporter::entryIsNotLocalPrivate)
-                .map(HarImporter::correctHttpVersions)
-                .filter(entry -> entryHasUsableHttpVersion(entry, sendRequests))
+                .map(entry -> preProcessHarEntry(entry, sendRequests))
+                .filter(Objects::nonNull)
                 .toList();
     }
 
+    private static HarEntry preProcessHarEntry(HarEntry entry, boolean sendRequests) {
+        if (!entryIsNotLocalPrivate(entry)) {
+            return null;
+        }
+        HarEntry correctedEntry = correctHttpVersions(entry);
+        return entryHasUsableHttpVersion(correctedEntry, sendRequests) ? correctedEntry : null;
+    }
+
     private static boolean entryHasUsableHttpVersion(HarEntry entry, boolean sendRequests) {
         if (!containsIgnoreCase(ACCEPTED_VERSIONS, entry.request().httpVersion())
                 || (!sendRequests
@@ -399,7 +502,7 @@ public class HarImporter {
         }
 
         if (getExtensionHistory() != null) {
-            ThreadUtils.invokeAndWaitHandled(() -> addMessage(historyRef, message));
+            pendingMessages.add(new ImportedMessage(historyRef, message));
         }
     }
 
@@ -437,6 +540,12 @@ public class HarImporter {
     }
 
     private interface HarProvider {
-        Har from(HarReader data) throws HarReaderException;
+        JsonParser from(ObjectMapper mapper) throws IOException;
     }
+
+    private interface EntrySource {
+        HarEntry next() throws IOException;
+    }
+
+    private record ImportedMessage(HistoryReference historyRef, HttpMessage message) {}
 }
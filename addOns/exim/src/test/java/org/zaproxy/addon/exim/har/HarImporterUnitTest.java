@@ -26,13 +26,17 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -46,6 +50,7 @@ import de.sstoehr.harreader.model.HarLog;
 import de.sstoehr.harreader.model.HarLog.HarLogBuilder;
 import fi.iki.elonen.NanoHTTPD;
 import java.io.File;
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -275,6 +280,73 @@ class HarImporterUnitTest extends TestUtils {
         verify(statsListener).counterInc("stats.exim.import.har.file.message");
     }
 
+    @Test
+    void shouldImportAllEntriesOfFileInBatches(@TempDir Path dir) throws Exception {
+        // Given
+        Path file = dir.resolve("entries.har");
+        Files.write(file, HarUtils.toJsonAsBytes(createHarLog(250)));
+        ProgressPaneListener listener = mock(ProgressPaneListener.class);
+        clearInvocations(extHistory);
+        // When
+        HarImporter importer = new HarImporter(file.toFile(), listener);
+        // Then
+        assertThat(importer.isSuccess(), equalTo(true));
+        verify(extHistory, times(250)).addHistory(any());
+        verify(listener, atLeast(3)).setTasksDone(anyInt());
+        verify(listener).setTasksDone(250);
+        verify(listener).completed();
+        verify(statsListener, times(250)).counterInc("stats.exim.import.har.file.message");
+    }
+
+    @Test
+    void shouldRecordImportThroughputStats(@TempDir Path dir) throws Exception {
+        // Given
+        Path file = dir.resolve("entries.har");
+        Files.write(file, HarUtils.toJsonAsBytes(createHarLog(3)));
+        // When
+        new HarImporter(file.toFile());
+        // Then
+        verify(statsListener).counterInc(eq("stats.exim.import.har.file.time"), anyLong());
+        verify(statsListener).highwaterMarkSet(eq("stats.exim.import.har.file.rate"), anyLong());
+    }
+
+    @Test
+    void shouldImportEntriesBeforeMalformedData(@TempDir Path dir) throws Exception {
+        // Given
+        Path file = dir.resolve("truncated.har");
+        String har = new String(HarUtils.toJsonAsBytes(createHarLog(2)), StandardCharsets.UTF_8);
+        Files.writeString(file, har.substring(0, har.lastIndexOf("\"request\"")));
+        ProgressPaneListener listener = mock(ProgressPaneListener.class);
+        // When
+        HarImporter importer = new HarImporter(file.toFile(), listener);
+        // Then
+        assertThat(importer.isSuccess(), equalTo(false));
+        verify(listener).setTasksDone(1);
+        verify(listener).completed();
+        verify(statsListener).counterInc("stats.exim.import.har.file.message");
+        verify(statsListener).counterInc("stats.exim.import.har.file.errors");
+    }
+
+    @Test
+    void shouldCountEntriesOfFile(@TempDir Path dir) throws Exception {
+        // Given
+        Path file = dir.resolve("entries.har");
+        Files.write(file, HarUtils.toJsonAsBytes(createHarLog(3)));
+        // When
+        int count = HarImporter.countEntries(file.toFile());
+        // Then
+        assertThat(count, is(equalTo(3)));
+    }
+
+    @Test
+    void shouldThrowWhenCountingEntriesOfNonHarFile(@TempDir Path dir) throws Exception {
+        // Given
+        Path file = dir.resolve("file.har");
+        Files.writeString(file, "{\"log\": {\"entries\": {}}}");
+        // When / Then
+        assertThrows(IOException.class, () -> HarImporter.countEntries(file.toFile()));
+    }
+
     @Test
     void shouldImportHarFromString() throws Exception {
         // Given / When
@@ -574,6 +646,20 @@ class HarImporterUnitTest extends TestUtils {
                 .log();
     }
 
+    private static HarLog createHarLog(int count) throws HttpMalformedHeaderException {
+        List<HarEntry> harEntries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            harEntries.add(
+                    HarUtils.createHarEntry(
+                            new HttpMessage(
+                                    "GET http://example.com/" + i + " HTTP/1.1",
+                                    EMPTY_BODY,
+                                    "HTTP/1.1 200 OK",
+                                    EMPTY_BODY)));
+        }
+        return HarUtils.createZapHarLog().entries(harEntries).build();
+    }
+
     private static HarLog createHarLog(HttpMessage message) {
         HarLogBuilder harLog = HarUtils.createZapHarLog();
         List<HarEntry> harEntries = new ArrayList<>();
@@ -90,6 +90,9 @@ public abstract class AbstractFuzzer<M extends Message> implements Fuzzer<M> {
     private final int maxErrorsAllowed;
     private final AtomicInteger errorCount;
 
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ThreadLocal<TaskExecution> taskExecution;
+
     private State state;
 
     private PausableExecutorService fuzzerTaskExecutor;
@@ -129,6 +132,14 @@ public abstract class AbstractFuzzer<M extends Message> implements Fuzzer<M> {
         checkMaxErrorsAllowed = (maxErrorsAllowed >= 0);
         errorCount = new AtomicInteger();
 
+        if (fuzzerOptions.isAdaptiveConcurrency()) {
+            concurrencyLimiter = new AdaptiveConcurrencyLimiter(1, fuzzerOptions.getThreadCount());
+            taskExecution = new ThreadLocal<>();
+        } else {
+            concurrencyLimiter = null;
+            taskExecution = null;
+        }
+
         state = State.NOT_STARTED;
         tasksTotalCount = multipleMessageLocationsReplacer.getNumberOfReplacements();
     }
@@ -420,9 +431,15 @@ public abstract class AbstractFuzzer<M extends Message> implements Fuzzer<M> {
         throw new UnsupportedOperationException("Fuzzer display name must no be changed.");
     }
 
-    protected void preTaskExecution(long taskId) {}
+    protected void preTaskExecution(long taskId) {
+        if (taskExecution != null) {
+            taskExecution.set(new TaskExecution(taskId));
+        }
+    }
 
     protected void postTaskExecution(long taskId, boolean normalTermination) {
+        releaseConcurrencySlot(taskId, normalTermination);
+
         long done = tasksDoneCount.incrementAndGet();
         Stats.incCounter(ExtensionFuzz.MESSAGES_SENT_STATS);
         notifyListenersFuzzerProgress(done, tasksTotalCount);
@@ -444,6 +461,13 @@ public abstract class AbstractFuzzer<M extends Message> implements Fuzzer<M> {
             String source,
             String reason,
             Collection<MessageLocationReplacement<?>> replacements) {
+        if (taskExecution != null) {
+            TaskExecution execution = taskExecution.get();
+            if (execution != null && execution.taskId == taskId) {
+                execution.error = true;
+            }
+        }
+
         int total = errorCount.incrementAndGet();
         boolean maxErrorsReached = isMaxErrorsReached();
         handleError(taskId, source, reason, total, maxErrorsReached, replacements);
@@ -452,6 +476,22 @@ public abstract class AbstractFuzzer<M extends Message> implements Fuzzer<M> {
         }
     }
 
+    private void releaseConcurrencySlot(long taskId, boolean normalTermination) {
+        if (concurrencyLimiter == null) {
+            return;
+        }
+
+        TaskExecution execution = taskExecution.get();
+        taskExecution.remove();
+        if (execution == null || execution.taskId != taskId) {
+            // Task not executed, e.g. failed to craft the message.
+            concurrencyLimiter.release();
+            return;
+        }
+        concurrencyLimiter.release(
+                System.nanoTime() - execution.startTime, execution.error || !normalTermination);
+    }
+
     protected boolean isMaxErrorsReached() {
         if (checkMaxErrorsAllowed) {
             return getErrorCount() >= maxErrorsAllowed;
@@ -570,11 +610,17 @@ public abstract class AbstractFuzzer<M extends Message> implements Fuzzer<M> {
 
         private void submitTasks() {
             while (multipleMessageLocationsReplacer.hasNext() && !isStopped()) {
-                while ((totalTasksSubmitted - tasksDoneCount.get()) > maxNumberOfLiveTasks
-                        && !isStopped()) {
-                    try {
-                        sleep(25);
-                    } catch (InterruptedException ignore) {
+                if (concurrencyLimiter != null) {
+                    if (!waitConcurrencySlot()) {
+                        return;
+                    }
+                } else {
+                    while ((totalTasksSubmitted - tasksDoneCount.get()) > maxNumberOfLiveTasks
+                            && !isStopped()) {
+                        try {
+                            sleep(25);
+                        } catch (InterruptedException ignore) {
+                        }
                     }
                 }
 
@@ -618,6 +664,26 @@ public abstract class AbstractFuzzer<M extends Message> implements Fuzzer<M> {
             }
         }
 
+        /**
+         * Waits for a slot to submit a task, allowed by the concurrency limiter.
+         *
+         * @return {@code true} if a slot was acquired, {@code false} if stopped or interrupted
+         *     while waiting, in which case no more tasks should be submitted.
+         */
+        private boolean waitConcurrencySlot() {
+            try {
+                while (!concurrencyLimiter.tryAcquire(25, TimeUnit.MILLISECONDS)) {
+                    if (isStopped()) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
         protected List<Object> getCurrentPayloads() {
             List<Object> payloads =
                     new ArrayList<>(multipleMessageLocationsReplacer.currentReplacements().size());
@@ -629,6 +695,19 @@ public abstract class AbstractFuzzer<M extends Message> implements Fuzzer<M> {
         }
     }
 
+    /** The state of the task being executed by a thread, used to adapt the concurrency. */
+    private static class TaskExecution {
+
+        private final long taskId;
+        private final long startTime;
+        private boolean error;
+
+        TaskExecution(long taskId) {
+            this.taskId = taskId;
+            this.startTime = System.nanoTime();
+        }
+    }
+
     protected static class FuzzerThreadFactory implements ThreadFactory {
 
         private final AtomicInteger threadNumber;
@@ -0,0 +1,191 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.fuzz;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of fuzzer tasks in flight, adapting the limit to the latency and errors of the
+ * tasks (additive increase, multiplicative decrease).
+ *
+ * <p>After each window of completed tasks (as many as the current limit) the limit is increased by
+ * one, unless any of the tasks failed or the average latency of the window exceeded twice the
+ * baseline latency, in which case the limit is decreased to three quarters. The baseline is the
+ * lowest average latency seen, slowly raised towards the latest averages to follow lasting changes
+ * of the target.
+ */
+class AdaptiveConcurrencyLimiter {
+
+    private static final double DECREASE_FACTOR = 0.75;
+
+    private static final int LATENCY_TOLERANCE = 2;
+
+    private static final int BASELINE_ADJUSTMENT_DIVISOR = 16;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final ReentrantLock lock;
+    private final Condition taskReleased;
+
+    private int limit;
+    private int inFlight;
+
+    private int windowTasks;
+    private int windowErrors;
+    private long windowLatency;
+    private long baselineLatency;
+
+    /**
+     * Constructs an {@code AdaptiveConcurrencyLimiter} with the given limits.
+     *
+     * <p>The initial limit is half of the maximum.
+     *
+     * @param minLimit the minimum number of tasks in flight, must be greater than zero.
+     * @param maxLimit the maximum number of tasks in flight, must not be lower than {@code
+     *     minLimit}.
+     * @throws IllegalArgumentException if any of the limits is not valid.
+     */
+    AdaptiveConcurrencyLimiter(int minLimit, int maxLimit) {
+        if (minLimit <= 0) {
+            throw new IllegalArgumentException("Parameter minLimit must be greater than zero.");
+        }
+        if (maxLimit < minLimit) {
+            throw new IllegalArgumentException(
+                    "Parameter maxLimit must not be lower than minLimit.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.lock = new ReentrantLock();
+        this.taskReleased = lock.newCondition();
+        this.limit = Math.max(minLimit, maxLimit / 2);
+        this.baselineLatency = Long.MAX_VALUE;
+    }
+
+    /**
+     * Acquires a slot for a task, waiting up to the given time if the limit was reached.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit the unit of the timeout.
+     * @return {@code true} if the slot was acquired, {@code false} if the time elapsed.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (inFlight >= limit) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = taskReleased.awaitNanos(nanos);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Releases the slot of a task that was not executed, without affecting the limit. */
+    void release() {
+        lock.lock();
+        try {
+            if (inFlight > 0) {
+                inFlight--;
+            }
+            taskReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the slot of a completed task, adjusting the limit at the end of each window.
+     *
+     * @param latency the time the task took, in nanoseconds.
+     * @param error {@code true} if the task failed, {@code false} otherwise.
+     */
+    void release(long latency, boolean error) {
+        lock.lock();
+        try {
+            if (inFlight > 0) {
+                inFlight--;
+            }
+
+            windowTasks++;
+            if (error) {
+                windowErrors++;
+            } else {
+                windowLatency += latency;
+            }
+
+            if (windowTasks >= limit) {
+                adjustLimit();
+            }
+            taskReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjustLimit() {
+        if (windowErrors > 0) {
+            decreaseLimit();
+        } else {
+            long averageLatency = windowLatency / windowTasks;
+            if (averageLatency < baselineLatency) {
+                baselineLatency = averageLatency;
+            } else {
+                baselineLatency += (averageLatency - baselineLatency) / BASELINE_ADJUSTMENT_DIVISOR;
+            }
+
+            if (averageLatency > baselineLatency * LATENCY_TOLERANCE) {
+                decreaseLimit();
+            } else if (limit < maxLimit) {
+                limit++;
+            }
+        }
+
+        windowTasks = 0;
+        windowErrors = 0;
+        windowLatency = 0;
+    }
+
+    private void decreaseLimit() {
+        limit = Math.max(minLimit, (int) (limit * DECREASE_FACTOR));
+    }
+
+    /**
+     * Gets the current limit of tasks in flight.
+     *
+     * @return the current limit.
+     */
+    int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -668,7 +668,8 @@ public class ExtensionFuzz extends ExtensionAdaptor {
                 fuzzOptions.getDefaultMaxErrorsAllowed(),
                 fuzzOptions.getDefaultFuzzDelayInMs(),
                 TimeUnit.MILLISECONDS,
-                fuzzOptions.getDefaultPayloadReplacementStrategy());
+                fuzzOptions.getDefaultPayloadReplacementStrategy(),
+                fuzzOptions.isDefaultAdaptiveConcurrency());
     }
 
     protected <M extends Message, F extends Fuzzer<M>> void showFuzzerDialog(
@@ -38,6 +38,8 @@ public class FuzzOptions extends VersionedAbstractParam {
 
     public static final boolean DEFAULT_PROMPT_TO_CLEAR_FINISHED_SCANS = true;
 
+    public static final boolean DEFAULT_ADAPTIVE_CONCURRENCY = false;
+
     /**
      * The version of the configurations. Used to keep track of configurations changes between
      * releases, if updates are needed.
@@ -68,6 +70,8 @@ public class FuzzOptions extends VersionedAbstractParam {
     private static final String DEFAULT_THREADS_PER_FUZZER_KEY =
             BASE_KEY + ".defaultThreadsPerFuzzer";
     private static final String DEFAULT_FUZZ_DELAY_IN_MS_KEY = BASE_KEY + ".defaultFuzzDelayInMs";
+    private static final String DEFAULT_ADAPTIVE_CONCURRENCY_KEY =
+            BASE_KEY + ".defaultAdaptiveConcurrency";
 
     private boolean customCategory;
     private String defaultCategoryName;
@@ -80,6 +84,7 @@ public class FuzzOptions extends VersionedAbstractParam {
     private MessageLocationsReplacementStrategy defaultPayloadReplacementStrategy;
     private int defaultThreadsPerFuzzer;
     private int defaultFuzzDelayInMs;
+    private boolean defaultAdaptiveConcurrency;
 
     @Override
     protected int getCurrentVersion() {
@@ -114,6 +119,8 @@ public class FuzzOptions extends VersionedAbstractParam {
         defaultThreadsPerFuzzer =
                 getInt(DEFAULT_THREADS_PER_FUZZER_KEY, Constants.getDefaultThreadCount());
         defaultFuzzDelayInMs = getInt(DEFAULT_FUZZ_DELAY_IN_MS_KEY, DEFAULT_FUZZ_DELAY_IN_MS);
+        defaultAdaptiveConcurrency =
+                getBoolean(DEFAULT_ADAPTIVE_CONCURRENCY_KEY, DEFAULT_ADAPTIVE_CONCURRENCY);
     }
 
     @Override
@@ -321,4 +328,19 @@ public class FuzzOptions extends VersionedAbstractParam {
         getConfig()
                 .setProperty(DEFAULT_FUZZ_DELAY_IN_MS_KEY, Integer.valueOf(defaultFuzzDelayInMs));
     }
+
+    public boolean isDefaultAdaptiveConcurrency() {
+        return defaultAdaptiveConcurrency;
+    }
+
+    public void setDefaultAdaptiveConcurrency(boolean adaptiveConcurrency) {
+        if (defaultAdaptiveConcurrency == adaptiveConcurrency) {
+            return;
+        }
+        defaultAdaptiveConcurrency = adaptiveConcurrency;
+        getConfig()
+                .setProperty(
+                        DEFAULT_ADAPTIVE_CONCURRENCY_KEY,
+                        Boolean.valueOf(defaultAdaptiveConcurrency));
+    }
 }
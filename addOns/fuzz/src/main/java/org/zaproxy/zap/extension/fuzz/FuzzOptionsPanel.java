@@ -34,6 +34,7 @@ import javax.swing.ButtonGroup;
 import javax.swing.DefaultComboBoxModel;
 import javax.swing.GroupLayout;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JFileChooser;
 import javax.swing.JLabel;
@@ -71,6 +72,7 @@ public class FuzzOptionsPanel extends AbstractParamPanel {
     private final JRadioButton pitchforkPayloadReplacementStrategyRadioButton;
     private final ZapNumberSpinner defaultThreadsPerFuzzerSpinner;
     private final ZapNumberSpinner defaultFuzzDelayInMsSpinner;
+    private final JCheckBox defaultAdaptiveConcurrencyCheckBox;
 
     private Path customFuzzerLastSelectedDirectory;
 
@@ -134,6 +136,11 @@ public class FuzzOptionsPanel extends AbstractParamPanel {
                 new JLabel(resourceBundle.getString("fuzz.options.label.delayInMs"));
         defaultFuzzDelayLabel.setLabelFor(defaultFuzzDelayInMsSpinner);
 
+        defaultAdaptiveConcurrencyCheckBox = new JCheckBox();
+        JLabel defaultAdaptiveConcurrencyLabel =
+                new JLabel(resourceBundle.getString("fuzz.options.label.adaptiveConcurrency"));
+        defaultAdaptiveConcurrencyLabel.setLabelFor(defaultAdaptiveConcurrencyCheckBox);
+
         ButtonGroup replacementStrategyButtonGroup = new ButtonGroup();
         clusterBombPayloadReplacementStrategyRadioButton =
                 new JRadioButton(
@@ -170,7 +177,9 @@ public class FuzzOptionsPanel extends AbstractParamPanel {
                                                         .addComponent(maxErrorsAllowedLabel)
                                                         .addComponent(
                                                                 defaultFuzzThreadsPerFuzzerLabel)
-                                                        .addComponent(defaultFuzzDelayLabel))
+                                                        .addComponent(defaultFuzzDelayLabel)
+                                                        .addComponent(
+                                                                defaultAdaptiveConcurrencyLabel))
                                         .addGroup(
                                                 layout.createParallelGroup()
                                                         .addComponent(defaultCategoryComboBox)
@@ -181,7 +190,9 @@ public class FuzzOptionsPanel extends AbstractParamPanel {
                                                         .addComponent(maxErrorsAllowedNumberSpinner)
                                                         .addComponent(
                                                                 defaultThreadsPerFuzzerSpinner)
-                                                        .addComponent(defaultFuzzDelayInMsSpinner)))
+                                                        .addComponent(defaultFuzzDelayInMsSpinner)
+                                                        .addComponent(
+                                                                defaultAdaptiveConcurrencyCheckBox)))
                         .addGroup(
                                 layout.createParallelGroup()
                                         .addComponent(payloadReplacementStrategyLabel)
@@ -234,6 +245,10 @@ public class FuzzOptionsPanel extends AbstractParamPanel {
                                 layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
                                         .addComponent(defaultFuzzDelayLabel)
                                         .addComponent(defaultFuzzDelayInMsSpinner))
+                        .addGroup(
+                                layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                                        .addComponent(defaultAdaptiveConcurrencyLabel)
+                                        .addComponent(defaultAdaptiveConcurrencyCheckBox))
                         .addGroup(
                                 layout.createSequentialGroup()
                                         .addComponent(payloadReplacementStrategyLabel)
@@ -399,6 +414,7 @@ public class FuzzOptionsPanel extends AbstractParamPanel {
         maxErrorsAllowedNumberSpinner.setValue(options.getDefaultMaxErrorsAllowed());
         defaultThreadsPerFuzzerSpinner.setValue(options.getDefaultThreadsPerFuzzer());
         defaultFuzzDelayInMsSpinner.setValue(options.getDefaultFuzzDelayInMs());
+        defaultAdaptiveConcurrencyCheckBox.setSelected(options.isDefaultAdaptiveConcurrency());
         if (options.getDefaultPayloadReplacementStrategy()
                 == MessageLocationsReplacementStrategy.CLUSTER_BOMB) {
             clusterBombPayloadReplacementStrategyRadioButton.setSelected(true);
@@ -429,6 +445,7 @@ public class FuzzOptionsPanel extends AbstractParamPanel {
         options.setDefaultMaxErrorsAllowed(maxErrorsAllowedNumberSpinner.getValue().intValue());
         options.setDefaultThreadsPerFuzzer(defaultThreadsPerFuzzerSpinner.getValue());
         options.setDefaultFuzzDelayInMs(defaultFuzzDelayInMsSpinner.getValue());
+        options.setDefaultAdaptiveConcurrency(defaultAdaptiveConcurrencyCheckBox.isSelected());
         if (clusterBombPayloadReplacementStrategyRadioButton.isSelected()) {
             options.setDefaultPayloadReplacementStrategy(
                     MessageLocationsReplacementStrategy.CLUSTER_BOMB);
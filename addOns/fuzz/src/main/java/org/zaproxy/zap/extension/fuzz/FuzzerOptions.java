@@ -30,6 +30,7 @@ public class FuzzerOptions {
     private final long sendMessageDelay;
     private final TimeUnit sendMessageDelayUnit;
     private final MessageLocationsReplacementStrategy payloadsReplacementStrategy;
+    private final boolean adaptiveConcurrency;
 
     public FuzzerOptions(
             int threadCount,
@@ -38,12 +39,43 @@ public class FuzzerOptions {
             long sendMessageDelay,
             TimeUnit sendMessageDelayUnit,
             MessageLocationsReplacementStrategy payloadsReplacementStrategy) {
+        this(
+                threadCount,
+                retriesOnIOError,
+                maxErrorsAllowed,
+                sendMessageDelay,
+                sendMessageDelayUnit,
+                payloadsReplacementStrategy,
+                false);
+    }
+
+    /**
+     * Constructs a {@code FuzzerOptions} with the given options.
+     *
+     * @param threadCount the number of threads, also the maximum number of messages in flight.
+     * @param retriesOnIOError the number of retries on I/O errors.
+     * @param maxErrorsAllowed the maximum number of errors allowed, negative for no limit.
+     * @param sendMessageDelay the delay between messages.
+     * @param sendMessageDelayUnit the unit of the delay.
+     * @param payloadsReplacementStrategy the strategy to replace the payloads.
+     * @param adaptiveConcurrency {@code true} if the number of messages in flight should be adapted
+     *     to the response times and errors of the target, {@code false} to always use all threads.
+     */
+    public FuzzerOptions(
+            int threadCount,
+            int retriesOnIOError,
+            int maxErrorsAllowed,
+            long sendMessageDelay,
+            TimeUnit sendMessageDelayUnit,
+            MessageLocationsReplacementStrategy payloadsReplacementStrategy,
+            boolean adaptiveConcurrency) {
         this.threadCount = threadCount;
         this.retriesOnIOError = retriesOnIOError;
         this.maxErrorsAllowed = maxErrorsAllowed;
         this.sendMessageDelay = sendMessageDelay;
         this.sendMessageDelayUnit = sendMessageDelayUnit;
         this.payloadsReplacementStrategy = payloadsReplacementStrategy;
+        this.adaptiveConcurrency = adaptiveConcurrency;
     }
 
     protected FuzzerOptions(FuzzerOptions other) {
@@ -53,6 +85,7 @@ public class FuzzerOptions {
         this.sendMessageDelay = other.sendMessageDelay;
         this.sendMessageDelayUnit = other.sendMessageDelayUnit;
         this.payloadsReplacementStrategy = other.payloadsReplacementStrategy;
+        this.adaptiveConcurrency = other.adaptiveConcurrency;
     }
 
     public int getThreadCount() {
@@ -78,4 +111,14 @@ public class FuzzerOptions {
     public MessageLocationsReplacementStrategy getPayloadsReplacementStrategy() {
         return payloadsReplacementStrategy;
     }
+
+    /**
+     * Tells whether or not the number of messages in flight should be adapted to the response times
+     * and errors of the target.
+     *
+     * @return {@code true} if the concurrency should be adapted, {@code false} otherwise.
+     */
+    public boolean isAdaptiveConcurrency() {
+        return adaptiveConcurrency;
+    }
 }
@@ -20,8 +20,10 @@
 package org.zaproxy.zap.extension.fuzz.httpfuzzer.ui;
 
 import java.awt.EventQueue;
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,7 +45,7 @@ import org.zaproxy.zap.extension.search.SearchMatch;
 import org.zaproxy.zap.extension.search.SearchResult;
 import org.zaproxy.zap.view.table.AbstractCustomColumnHistoryReferencesTableModel;
 import org.zaproxy.zap.view.table.AbstractHistoryReferencesTableEntry;
-import org.zaproxy.zap.view.table.DefaultHistoryReferencesTableEntry;
+import org.zaproxy.zap.view.table.AlertRiskTableCellItem;
 
 @SuppressWarnings("serial")
 public class HttpFuzzerResultsTableModel
@@ -100,17 +102,19 @@ public class HttpFuzzerResultsTableModel
                                     HistoryReference.TYPE_FUZZER_TEMPORARY,
                                     result.getHttpMessage());
 
+            final FuzzResultTableEntry entry =
+                    new FuzzResultTableEntry(
+                            href,
+                            result.getTaskId(),
+                            result.getType(),
+                            result.getCustomStates(),
+                            result.getPayloads());
+
             EventQueue.invokeLater(
                     () -> {
                         final int row = results.size();
-                        idsToRows.put(Integer.valueOf(href.getHistoryId()), Integer.valueOf(row));
-                        results.add(
-                                new FuzzResultTableEntry(
-                                        href,
-                                        result.getTaskId(),
-                                        result.getType(),
-                                        result.getCustomStates(),
-                                        result.getPayloads()));
+                        idsToRows.put(entry.getHistoryId(), Integer.valueOf(row));
+                        results.add(entry);
                         fireTableRowsInserted(row, row);
                     });
         } catch (HttpMalformedHeaderException | DatabaseException e) {
@@ -239,24 +243,164 @@ public class HttpFuzzerResultsTableModel
         return headers;
     }
 
-    static class FuzzResultTableEntry extends DefaultHistoryReferencesTableEntry {
-
+    /**
+     * A table entry that keeps only a summary of the fuzz result in memory.
+     *
+     * <p>The message is persisted in the session and the {@code HistoryReference} is read from it
+     * only when needed (for example, to show the selected message), to keep large fuzzes from
+     * retaining all the messages and their references in memory. The reference read is softly
+     * cached, so that it's not read again while there's memory available.
+     */
+    static class FuzzResultTableEntry extends AbstractHistoryReferencesTableEntry {
+
+        private final int historyId;
         private final long taskId;
         private final String type;
         private final Map<String, Object> customStates;
         private final List<Object> payloads;
 
+        private final String method;
+        private final String uri;
+        private final int statusCode;
+        private final String reason;
+        private final long timeSent;
+        private final int rtt;
+        private final int requestHeaderSize;
+        private final int requestBodySize;
+        private final int responseHeaderSize;
+        private final int responseBodySize;
+        private final AlertRiskTableCellItem highestAlert;
+
+        private SoftReference<HistoryReference> historyReferenceCache;
+
         public FuzzResultTableEntry(
                 HistoryReference historyReference,
                 long taskId,
                 String type,
                 Map<String, Object> customStates,
                 List<Object> payloads) {
-            super(historyReference, COLUMNS);
+            super(null);
+            this.historyId = historyReference.getHistoryId();
             this.taskId = taskId;
             this.type = type;
-            this.customStates = customStates;
+            this.customStates = customStates.isEmpty() ? Collections.emptyMap() : customStates;
             this.payloads = payloads;
+
+            this.method = historyReference.getMethod();
+            this.uri = historyReference.getURI().toString();
+            this.statusCode = historyReference.getStatusCode();
+            this.reason = historyReference.getReason();
+            this.timeSent = historyReference.getTimeSentMillis();
+            this.rtt = historyReference.getRtt();
+            this.requestHeaderSize = historyReference.getRequestHeaderLength();
+            this.requestBodySize = historyReference.getRequestBodyLength();
+            this.responseHeaderSize = historyReference.getResponseHeaderLength();
+            this.responseBodySize = historyReference.getResponseBodyLength();
+            this.highestAlert =
+                    AlertRiskTableCellItem.getItemForRisk(historyReference.getHighestAlert());
+            this.historyReferenceCache = new SoftReference<>(historyReference);
+        }
+
+        /**
+         * Gets the {@code HistoryReference} of the result, reading it from the session if no longer
+         * cached.
+         *
+         * @return the {@code HistoryReference}, or {@code null} if it was not possible to read it.
+         */
+        @Override
+        public HistoryReference getHistoryReference() {
+            HistoryReference historyReference = historyReferenceCache.get();
+            if (historyReference != null) {
+                return historyReference;
+            }
+
+            try {
+                historyReference = new HistoryReference(historyId);
+            } catch (HttpMalformedHeaderException | DatabaseException e) {
+                LOGGER.warn("Failed to read the message {}:", historyId, e);
+                return null;
+            }
+            historyReferenceCache = new SoftReference<>(historyReference);
+            return historyReference;
+        }
+
+        /** Clears the cached {@code HistoryReference}, as if reclaimed by the garbage collector. */
+        void clearHistoryReferenceCache() {
+            historyReferenceCache.clear();
+        }
+
+        @Override
+        public Integer getHistoryId() {
+            return historyId;
+        }
+
+        @Override
+        public Integer getHistoryType() {
+            return HistoryReference.TYPE_FUZZER_TEMPORARY;
+        }
+
+        @Override
+        public String getMethod() {
+            return method;
+        }
+
+        @Override
+        public String getUri() {
+            return uri;
+        }
+
+        @Override
+        public Integer getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public Date getRequestTimestamp() {
+            return new Date(timeSent);
+        }
+
+        @Override
+        public Integer getRtt() {
+            return rtt;
+        }
+
+        @Override
+        public Long getMessageSize() {
+            return Long.valueOf(
+                    (long) requestHeaderSize
+                            + requestBodySize
+                            + responseHeaderSize
+                            + responseBodySize);
+        }
+
+        @Override
+        public Integer getRequestHeaderSize() {
+            return requestHeaderSize;
+        }
+
+        @Override
+        public Integer getRequestBodySize() {
+            return requestBodySize;
+        }
+
+        @Override
+        public Integer getResponseHeaderSize() {
+            return responseHeaderSize;
+        }
+
+        @Override
+        public Integer getResponseBodySize() {
+            return responseBodySize;
+        }
+
+        @Override
+        public AlertRiskTableCellItem getHighestAlert() {
+            return highestAlert;
         }
 
         public long getTaskId() {
@@ -312,6 +456,10 @@ public class HttpFuzzerResultsTableModel
             }
 
             HistoryReference historyReference = getEntry(i).getHistoryReference();
+            if (historyReference == null) {
+                continue;
+            }
+
             try {
                 HttpMessage msg = historyReference.getHttpMessage();
                 if (inverse) {
@@ -50,6 +50,7 @@ public class FuzzerOptionsPanel<FO extends FuzzerOptions> extends JPanel {
     private final JRadioButton pitchforkPayloadReplacementStrategyRadioButton;
     private final ZapNumberSpinner defaultThreadsPerFuzzerSpinner;
     private final ZapNumberSpinner defaultFuzzDelayInMsSpinner;
+    private final JCheckBox adaptiveConcurrencyCheckBox;
 
     private final FuzzerHandlerOptionsPanel<FO> fuzzerHandlerOptions;
 
@@ -100,6 +101,12 @@ public class FuzzerOptionsPanel<FO extends FuzzerOptions> extends JPanel {
                 new JLabel(resourceBundle.getString("fuzz.options.label.delayInMs"));
         defaultFuzzDelayLabel.setLabelFor(defaultFuzzDelayInMsSpinner);
 
+        adaptiveConcurrencyCheckBox = new JCheckBox();
+        adaptiveConcurrencyCheckBox.setSelected(defaultOptions.isAdaptiveConcurrency());
+        JLabel adaptiveConcurrencyLabel =
+                new JLabel(resourceBundle.getString("fuzz.options.label.adaptiveConcurrency"));
+        adaptiveConcurrencyLabel.setLabelFor(adaptiveConcurrencyCheckBox);
+
         ButtonGroup replacementStrategyButtonGroup = new ButtonGroup();
         clusterBombPayloadReplacementStrategyRadioButton =
                 new JRadioButton(
@@ -199,6 +206,10 @@ public class FuzzerOptionsPanel<FO extends FuzzerOptions> extends JPanel {
                                 layout.createSequentialGroup()
                                         .addComponent(defaultFuzzDelayLabel)
                                         .addComponent(defaultFuzzDelayInMsSpinner))
+                        .addGroup(
+                                layout.createSequentialGroup()
+                                        .addComponent(adaptiveConcurrencyLabel)
+                                        .addComponent(adaptiveConcurrencyCheckBox))
                         .addGroup(
                                 layout.createSequentialGroup()
                                         .addComponent(fuzzerHandlerOptions.getPanel())));
@@ -232,6 +243,10 @@ public class FuzzerOptionsPanel<FO extends FuzzerOptions> extends JPanel {
                                 layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
                                         .addComponent(defaultFuzzDelayLabel)
                                         .addComponent(defaultFuzzDelayInMsSpinner))
+                        .addGroup(
+                                layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                                        .addComponent(adaptiveConcurrencyLabel)
+                                        .addComponent(adaptiveConcurrencyCheckBox))
                         .addGroup(
                                 layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
                                         .addComponent(fuzzerHandlerOptions.getPanel())));
@@ -251,7 +266,8 @@ public class FuzzerOptionsPanel<FO extends FuzzerOptions> extends JPanel {
                         getMaxErrorsAllowed(),
                         defaultFuzzDelayInMsSpinner.getValue(),
                         TimeUnit.MILLISECONDS,
-                        getSelectedStrategy());
+                        getSelectedStrategy(),
+                        adaptiveConcurrencyCheckBox.isSelected());
 
         return fuzzerHandlerOptions.validate(baseOptions);
     }
@@ -281,7 +297,8 @@ public class FuzzerOptionsPanel<FO extends FuzzerOptions> extends JPanel {
                         getMaxErrorsAllowed(),
                         defaultFuzzDelayInMsSpinner.getValue(),
                         TimeUnit.MILLISECONDS,
-                        getSelectedStrategy());
+                        getSelectedStrategy(),
+                        adaptiveConcurrencyCheckBox.isSelected());
 
         return fuzzerHandlerOptions.getOptions(baseOptions);
     }
@@ -292,6 +309,7 @@ public class FuzzerOptionsPanel<FO extends FuzzerOptions> extends JPanel {
         maxErrorsAllowedEnabledCheckBox.setSelected(true);
         maxErrorsAllowedNumberSpinner.setValue(defaultOptions.getMaxErrorsAllowed());
         defaultFuzzDelayInMsSpinner.setValue((int) defaultOptions.getSendMessageDelay());
+        adaptiveConcurrencyCheckBox.setSelected(defaultOptions.isAdaptiveConcurrency());
         if (MessageLocationsReplacementStrategy.CLUSTER_BOMB
                 == defaultOptions.getPayloadsReplacementStrategy()) {
             clusterBombPayloadReplacementStrategyRadioButton.setSelected(true);
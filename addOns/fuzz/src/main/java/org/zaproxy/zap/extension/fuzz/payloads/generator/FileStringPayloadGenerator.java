@@ -19,7 +19,6 @@
  */
 package org.zaproxy.zap.extension.fuzz.payloads.generator;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -36,6 +35,9 @@ import org.zaproxy.zap.utils.ResettableAutoCloseableIterator;
  *
  * <p>It reads the contents of a file and returns a payload for each line read. Ignoring empty and
  * commented lines.
+ *
+ * <p>The payloads of the file are indexed when first counted, to not read the file again while not
+ * changed and to allow to start iterating at any payload.
  */
 public class FileStringPayloadGenerator implements PayloadGenerator {
 
@@ -161,38 +163,27 @@ public class FileStringPayloadGenerator implements PayloadGenerator {
             boolean ignoreFirstLine,
             boolean ignoreException)
             throws IOException {
-        boolean checkCommentedLines = !commentToken.isEmpty();
-        int count = 0;
-
-        try (BufferedReader reader = Files.newBufferedReader(file, charset)) {
-            if (ignoreFirstLine) {
-                reader.readLine();
-            }
-
-            boolean lineValid;
-            String line = null;
-            while ((line = reader.readLine()) != null) {
-                if (limit > NO_LIMIT && count >= limit) {
-                    break;
-                }
-
-                lineValid = true;
-                if (ignoreTrimmedEmptyLines && line.trim().isEmpty()) {
-                    lineValid = false;
-                } else if (checkCommentedLines) {
-                    lineValid = !line.startsWith(commentToken);
-                }
-
-                if (lineValid) {
-                    count++;
-                }
-            }
+        PayloadFileIndex index;
+        try {
+            index =
+                    PayloadFileIndex.get(
+                            file,
+                            charset,
+                            limit,
+                            commentToken,
+                            ignoreTrimmedEmptyLines,
+                            ignoreFirstLine);
         } catch (IOException e) {
             if (!ignoreException) {
                 throw e;
             }
+            return 0;
         }
-        return count;
+
+        if (!ignoreException && index.getError() != null) {
+            throw index.getError();
+        }
+        return (int) index.getNumberOfPayloads(limit);
     }
 
     @Override
@@ -202,9 +193,27 @@ public class FileStringPayloadGenerator implements PayloadGenerator {
 
     @Override
     public ResettableAutoCloseableIterator<Payload> iterator() {
+        return iterator(0);
+    }
+
+    /**
+     * Returns an iterator that starts at the payload with the given index.
+     *
+     * <p>Allows to split the payloads among several iterators, or continue from a given payload,
+     * without reading all the previous payloads.
+     *
+     * @param start the index of the first payload, zero based.
+     * @return the iterator, never {@code null}.
+     * @throws IllegalArgumentException if the {@code start} is negative.
+     */
+    public ResettableAutoCloseableIterator<Payload> iterator(long start) {
+        if (start < 0) {
+            throw new IllegalArgumentException("Parameter start must not be negative.");
+        }
         return new FileIterator(
                 file,
                 charset,
+                start,
                 numberOfPayloads,
                 commentToken,
                 ignoreTrimmedEmptyLines,
@@ -220,29 +229,31 @@ public class FileStringPayloadGenerator implements PayloadGenerator {
 
         private final Path file;
         private final Charset charset;
+        private final long start;
         private final long limit;
         private final String commentToken;
-        private final boolean checkCommentedLines;
         private final boolean ignoreTrimmedEmptyLines;
         private final boolean ignoreFirstLine;
-        private BufferedReader reader;
+        private PayloadFileIndex.LineReader reader;
         private boolean initialised;
         private long current;
 
         public FileIterator(
                 Path file,
                 Charset charset,
+                long start,
                 long limit,
                 String commentToken,
                 boolean ignoreTrimmedEmptyLines,
                 boolean ignoreFirstLine) {
             this.file = file;
             this.charset = charset;
+            this.start = start;
             this.limit = limit;
             this.commentToken = commentToken;
-            this.checkCommentedLines = !commentToken.isEmpty();
             this.ignoreTrimmedEmptyLines = ignoreTrimmedEmptyLines;
             this.ignoreFirstLine = ignoreFirstLine;
+            this.current = start;
         }
 
         @Override
@@ -266,9 +277,34 @@ public class FileStringPayloadGenerator implements PayloadGenerator {
                 return;
             }
             try {
-                reader = Files.newBufferedReader(file, charset);
-                if (ignoreFirstLine) {
-                    reader.readLine();
+                long offset = -1;
+                long skip = start;
+                if (start > 0) {
+                    offset =
+                            PayloadFileIndex.get(
+                                            file,
+                                            charset,
+                                            start + 1,
+                                            commentToken,
+                                            ignoreTrimmedEmptyLines,
+                                            ignoreFirstLine)
+                                    .getCheckpointOffset(start);
+                    if (offset != -1) {
+                        skip = start % PayloadFileIndex.CHECKPOINT_INTERVAL;
+                    }
+                }
+
+                if (offset == -1) {
+                    reader = PayloadFileIndex.LineReader.open(file, charset, 0);
+                    if (ignoreFirstLine) {
+                        reader.readLine();
+                    }
+                } else {
+                    reader = PayloadFileIndex.LineReader.open(file, charset, offset);
+                }
+
+                for (long i = 0; i < skip; i++) {
+                    readNextPayload();
                 }
             } catch (IOException e) {
                 throw new PayloadGenerationException("Failed to read/initialise the file:", e);
@@ -283,17 +319,10 @@ public class FileStringPayloadGenerator implements PayloadGenerator {
             }
 
             try {
-                boolean lineValid;
                 String line = null;
                 while ((line = reader.readLine()) != null) {
-                    lineValid = true;
-                    if (ignoreTrimmedEmptyLines && line.trim().isEmpty()) {
-                        lineValid = false;
-                    } else if (checkCommentedLines) {
-                        lineValid = !line.startsWith(commentToken);
-                    }
-
-                    if (lineValid) {
+                    if (PayloadFileIndex.isValidPayload(
+                            line, commentToken, ignoreTrimmedEmptyLines)) {
                         return new DefaultPayload(line);
                     }
                 }
@@ -309,7 +338,7 @@ public class FileStringPayloadGenerator implements PayloadGenerator {
 
         @Override
         public void reset() {
-            current = 0;
+            current = start;
             initialised = false;
             close();
         }
@@ -0,0 +1,409 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.fuzz.payloads.generator;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An index of the payloads of a file, used by {@link FileStringPayloadGenerator}.
+ *
+ * <p>Keeps the number of payloads in the file and the offset of every {@value
+ * #CHECKPOINT_INTERVAL}th payload, which allows to start reading the payloads at a given index
+ * without reading all the previous lines. The indexes are cached while the file is not changed, so
+ * the file is read just once to count its payloads.
+ */
+class PayloadFileIndex {
+
+    /** The number of payloads between each offset kept. */
+    static final int CHECKPOINT_INTERVAL = 1024;
+
+    private static final int MAX_CACHED_INDEXES = 16;
+
+    @SuppressWarnings("serial")
+    private static final Map<Key, PayloadFileIndex> CACHE =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<>(MAX_CACHED_INDEXES + 1, 0.75f, true) {
+
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<Key, PayloadFileIndex> eldest) {
+                            return size() > MAX_CACHED_INDEXES;
+                        }
+                    });
+
+    private final long numberOfPayloads;
+    private final boolean complete;
+    private final long[] checkpoints;
+    private final IOException error;
+
+    private PayloadFileIndex(
+            long numberOfPayloads, boolean complete, long[] checkpoints, IOException error) {
+        this.numberOfPayloads = numberOfPayloads;
+        this.complete = complete;
+        this.checkpoints = checkpoints;
+        this.error = error;
+    }
+
+    /**
+     * Gets the index of the given file, reading the file if not already indexed.
+     *
+     * @param file the file with the payloads.
+     * @param charset the charset of the file.
+     * @param limit the maximum number of payloads that need to be indexed, {@link
+     *     FileStringPayloadGenerator#NO_LIMIT} to index all.
+     * @param commentToken the token of commented lines, empty to not ignore commented lines.
+     * @param ignoreTrimmedEmptyLines {@code true} if empty lines should be ignored.
+     * @param ignoreFirstLine {@code true} if the first line should be ignored.
+     * @return the index, never {@code null}.
+     * @throws IOException if an error occurred while reading the attributes of the file.
+     */
+    static PayloadFileIndex get(
+            Path file,
+            Charset charset,
+            long limit,
+            String commentToken,
+            boolean ignoreTrimmedEmptyLines,
+            boolean ignoreFirstLine)
+            throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        Key key =
+                new Key(
+                        file.toAbsolutePath().normalize(),
+                        attributes.size(),
+                        attributes.lastModifiedTime(),
+                        charset,
+                        commentToken,
+                        ignoreTrimmedEmptyLines,
+                        ignoreFirstLine);
+
+        PayloadFileIndex index = CACHE.get(key);
+        if (index != null && index.covers(limit)) {
+            return index;
+        }
+
+        index =
+                create(
+                        file,
+                        charset,
+                        limit,
+                        commentToken,
+                        ignoreTrimmedEmptyLines,
+                        ignoreFirstLine);
+        if (index.error == null) {
+            CACHE.put(key, index);
+        }
+        return index;
+    }
+
+    private static PayloadFileIndex create(
+            Path file,
+            Charset charset,
+            long limit,
+            String commentToken,
+            boolean ignoreTrimmedEmptyLines,
+            boolean ignoreFirstLine) {
+        long count = 0;
+        long[] checkpoints = new long[16];
+        int checkpointCount = 0;
+        boolean complete = false;
+        IOException error = null;
+
+        try (LineReader reader = LineReader.open(file, charset, 0)) {
+            if (ignoreFirstLine) {
+                reader.readLine();
+            }
+
+            while (limit <= FileStringPayloadGenerator.NO_LIMIT || count < limit) {
+                long position = reader.getPosition();
+                String line = reader.readLine();
+                if (line == null) {
+                    complete = true;
+                    break;
+                }
+
+                if (isValidPayload(line, commentToken, ignoreTrimmedEmptyLines)) {
+                    if (position != -1 && count % CHECKPOINT_INTERVAL == 0) {
+                        if (checkpointCount == checkpoints.length) {
+                            checkpoints = Arrays.copyOf(checkpoints, checkpointCount * 2);
+                        }
+                        checkpoints[checkpointCount++] = position;
+                    }
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            error = e;
+        }
+
+        return new PayloadFileIndex(
+                count, complete, Arrays.copyOf(checkpoints, checkpointCount), error);
+    }
+
+    /**
+     * Tells whether or not the given line is a payload.
+     *
+     * @param line the line read from the file.
+     * @param commentToken the token of commented lines, empty to not ignore commented lines.
+     * @param ignoreTrimmedEmptyLines {@code true} if empty lines should be ignored.
+     * @return {@code true} if the line is a payload, {@code false} otherwise.
+     */
+    static boolean isValidPayload(
+            String line, String commentToken, boolean ignoreTrimmedEmptyLines) {
+        if (ignoreTrimmedEmptyLines && line.trim().isEmpty()) {
+            return false;
+        }
+        return commentToken.isEmpty() || !line.startsWith(commentToken);
+    }
+
+    private boolean covers(long limit) {
+        return complete
+                || (limit > FileStringPayloadGenerator.NO_LIMIT && limit <= numberOfPayloads);
+    }
+
+    /**
+     * Gets the number of payloads in the file, up to the given limit.
+     *
+     * @param limit the maximum number of payloads, {@link FileStringPayloadGenerator#NO_LIMIT} for
+     *     no limit.
+     * @return the number of payloads.
+     */
+    long getNumberOfPayloads(long limit) {
+        if (limit > FileStringPayloadGenerator.NO_LIMIT) {
+            return Math.min(limit, numberOfPayloads);
+        }
+        return numberOfPayloads;
+    }
+
+    /**
+     * Gets the error that occurred while reading the file, if any.
+     *
+     * <p>The payloads read before the error are still indexed.
+     *
+     * @return the error, or {@code null} if none.
+     */
+    IOException getError() {
+        return error;
+    }
+
+    /**
+     * Gets the offset of the nearest checkpoint at or before the payload with the given index.
+     *
+     * <p>The payload at the offset has the index {@code payloadIndex - (payloadIndex %
+     * CHECKPOINT_INTERVAL)}.
+     *
+     * @param payloadIndex the index of the payload.
+     * @return the offset, in bytes, or {@code -1} if not available.
+     */
+    long getCheckpointOffset(long payloadIndex) {
+        long checkpoint = payloadIndex / CHECKPOINT_INTERVAL;
+        if (checkpoint >= checkpoints.length) {
+            return -1;
+        }
+        return checkpoints[(int) checkpoint];
+    }
+
+    private record Key(
+            Path file,
+            long size,
+            FileTime lastModified,
+            Charset charset,
+            String commentToken,
+            boolean ignoreTrimmedEmptyLines,
+            boolean ignoreFirstLine) {}
+
+    /**
+     * A reader of the lines of a file, which might also provide the offset of the lines.
+     *
+     * <p>The lines are terminated the same way as {@link BufferedReader#readLine()}.
+     */
+    abstract static class LineReader implements Closeable {
+
+        /**
+         * Opens a reader for the given file, starting at the given offset.
+         *
+         * @param file the file to read.
+         * @param charset the charset of the file.
+         * @param offset the offset to start reading, as returned by {@link #getPosition()}.
+         * @return the reader.
+         * @throws IOException if an error occurred while opening the file.
+         * @throws IllegalArgumentException if the offset is not zero and the charset does not allow
+         *     to provide offsets.
+         */
+        static LineReader open(Path file, Charset charset, long offset) throws IOException {
+            if (isByteLineCompatible(charset)) {
+                FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                try {
+                    channel.position(offset);
+                } catch (IOException e) {
+                    channel.close();
+                    throw e;
+                }
+                return new ChannelLineReader(channel, charset.newDecoder(), offset);
+            }
+
+            if (offset != 0) {
+                throw new IllegalArgumentException(
+                        "Offsets are not supported with charset: " + charset);
+            }
+            return new BufferedLineReader(Files.newBufferedReader(file, charset));
+        }
+
+        private static boolean isByteLineCompatible(Charset charset) {
+            if (StandardCharsets.UTF_8.equals(charset)) {
+                return true;
+            }
+            if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1) {
+                return false;
+            }
+            return Arrays.equals("\r\n".getBytes(charset), new byte[] {'\r', '\n'});
+        }
+
+        /**
+         * Reads the next line.
+         *
+         * @return the line, without the line terminator, or {@code null} if the end of the file was
+         *     reached.
+         * @throws IOException if an error occurred while reading or decoding the line.
+         */
+        abstract String readLine() throws IOException;
+
+        /**
+         * Gets the offset of the next line to read.
+         *
+         * @return the offset, in bytes, or {@code -1} if not available.
+         */
+        abstract long getPosition();
+    }
+
+    private static class BufferedLineReader extends LineReader {
+
+        private final BufferedReader reader;
+
+        BufferedLineReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        String readLine() throws IOException {
+            return reader.readLine();
+        }
+
+        @Override
+        long getPosition() {
+            return -1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * A {@code LineReader} that splits the lines in bytes, only for charsets in which the line
+     * terminators are single bytes that are not part of other characters.
+     */
+    private static class ChannelLineReader extends LineReader {
+
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final FileChannel channel;
+        private final CharsetDecoder decoder;
+        private final ByteBuffer buffer;
+        private byte[] line;
+        private long position;
+
+        ChannelLineReader(FileChannel channel, CharsetDecoder decoder, long position) {
+            this.channel = channel;
+            this.decoder = decoder;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            this.buffer.flip();
+            this.line = new byte[256];
+            this.position = position;
+        }
+
+        @Override
+        String readLine() throws IOException {
+            int length = 0;
+            boolean read = false;
+            while (fillBuffer()) {
+                byte b = buffer.get();
+                position++;
+                if (b == '\n') {
+                    return decode(length);
+                }
+                if (b == '\r') {
+                    if (fillBuffer() && buffer.get(buffer.position()) == '\n') {
+                        buffer.get();
+                        position++;
+                    }
+                    return decode(length);
+                }
+
+                read = true;
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = b;
+            }
+            return read ? decode(length) : null;
+        }
+
+        private boolean fillBuffer() throws IOException {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            buffer.clear();
+            int read = channel.read(buffer);
+            buffer.flip();
+            return read > 0;
+        }
+
+        private String decode(int length) throws IOException {
+            return decoder.decode(ByteBuffer.wrap(line, 0, length)).toString();
+        }
+
+        @Override
+        long getPosition() {
+            return position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.fuzz;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link AdaptiveConcurrencyLimiter}. */
+class AdaptiveConcurrencyLimiterUnitTest {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void shouldThrowIfMinLimitIsNotPositive() {
+        // Given
+        int minLimit = 0;
+        // When
+        IllegalArgumentException e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new AdaptiveConcurrencyLimiter(minLimit, 10));
+        // Then
+        assertThat(e.getMessage(), containsString("minLimit"));
+    }
+
+    @Test
+    void shouldThrowIfMaxLimitIsLowerThanMinLimit() {
+        // Given
+        int maxLimit = 1;
+        // When
+        IllegalArgumentException e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new AdaptiveConcurrencyLimiter(2, maxLimit));
+        // Then
+        assertThat(e.getMessage(), containsString("maxLimit"));
+    }
+
+    @Test
+    void shouldStartWithHalfOfMaxLimit() {
+        // Given / When
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10);
+        // Then
+        assertThat(limiter.getLimit(), is(equalTo(5)));
+    }
+
+    @Test
+    void shouldNotAcquireMoreThanLimit() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 4);
+        limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+        limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+        // When
+        boolean acquired = limiter.tryAcquire(10, TimeUnit.MILLISECONDS);
+        // Then
+        assertThat(acquired, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldAcquireAfterRelease() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 2);
+        limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+        limiter.release();
+        // When
+        boolean acquired = limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+        // Then
+        assertThat(acquired, is(equalTo(true)));
+    }
+
+    @Test
+    void shouldIncreaseLimitWithStableLatency() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10);
+        // When
+        completeWindows(limiter, 3, LATENCY, false);
+        // Then
+        assertThat(limiter.getLimit(), is(equalTo(8)));
+    }
+
+    @Test
+    void shouldNotIncreaseLimitAboveMax() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 6);
+        // When
+        completeWindows(limiter, 10, LATENCY, false);
+        // Then
+        assertThat(limiter.getLimit(), is(equalTo(6)));
+    }
+
+    @Test
+    void shouldDecreaseLimitOnErrors() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 16);
+        // When
+        completeWindows(limiter, 1, LATENCY, true);
+        // Then
+        assertThat(limiter.getLimit(), is(equalTo(6)));
+    }
+
+    @Test
+    void shouldDecreaseLimitOnHigherLatency() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 16);
+        completeWindows(limiter, 1, LATENCY, false);
+        // When
+        completeWindows(limiter, 1, LATENCY * 5, false);
+        // Then
+        assertThat(limiter.getLimit(), is(equalTo(6)));
+    }
+
+    @Test
+    void shouldNotDecreaseLimitBelowMin() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 16);
+        // When
+        completeWindows(limiter, 10, LATENCY, true);
+        // Then
+        assertThat(limiter.getLimit(), is(equalTo(2)));
+    }
+
+    private static void completeWindows(
+            AdaptiveConcurrencyLimiter limiter, int windows, long latency, boolean error)
+            throws InterruptedException {
+        for (int i = 0; i < windows; i++) {
+            int limit = limiter.getLimit();
+            for (int j = 0; j < limit; j++) {
+                limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+            }
+            for (int j = 0; j < limit; j++) {
+                limiter.release(latency, error);
+            }
+        }
+    }
+}
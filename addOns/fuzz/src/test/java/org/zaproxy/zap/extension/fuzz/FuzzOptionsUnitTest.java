@@ -123,6 +123,33 @@ class FuzzOptionsUnitTest {
         }
     }
 
+    @Test
+    void shouldDefaultAdaptiveConcurrencyToFalse() {
+        // Given / When
+        options.load(configuration);
+        // Then
+        assertThat(options.isDefaultAdaptiveConcurrency(), is(equalTo(false)));
+    }
+
+    @Test
+    void shouldLoadAdaptiveConcurrencyFromConfig() {
+        // Given
+        configuration.setProperty("fuzz.defaultAdaptiveConcurrency", true);
+        // When
+        options.load(configuration);
+        // Then
+        assertThat(options.isDefaultAdaptiveConcurrency(), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldPersistAdaptiveConcurrency() {
+        // Given / When
+        options.setDefaultAdaptiveConcurrency(true);
+        // Then
+        assertThat(options.isDefaultAdaptiveConcurrency(), is(equalTo(true)));
+        assertThat(configuration.getBoolean("fuzz.defaultAdaptiveConcurrency"), is(equalTo(true)));
+    }
+
     @ParameterizedTest
     @CsvSource({"depth, CLUSTER_BOMB, clusterBomb", "breadth, PITCHFORK, pitchfork"})
     void shouldMigrateLegacyPayloadReplacementStrategy(
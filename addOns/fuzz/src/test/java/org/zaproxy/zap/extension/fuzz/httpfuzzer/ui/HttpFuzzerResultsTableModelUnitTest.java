@@ -0,0 +1,246 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.fuzz.httpfuzzer.ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.awt.EventQueue;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.apache.commons.httpclient.URI;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.Constant;
+import org.parosproxy.paros.db.DatabaseException;
+import org.parosproxy.paros.db.RecordHistory;
+import org.parosproxy.paros.db.TableHistory;
+import org.parosproxy.paros.model.HistoryReference;
+import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpRequestHeader;
+import org.parosproxy.paros.network.HttpResponseHeader;
+import org.zaproxy.zap.extension.fuzz.httpfuzzer.HttpFuzzResult;
+import org.zaproxy.zap.extension.fuzz.httpfuzzer.ui.HttpFuzzerResultsTableModel.FuzzResultTableEntry;
+import org.zaproxy.zap.extension.search.SearchResult;
+import org.zaproxy.zap.utils.I18N;
+import org.zaproxy.zap.view.table.AlertRiskTableCellItem;
+
+/** Unit test for {@link HttpFuzzerResultsTableModel}. */
+class HttpFuzzerResultsTableModelUnitTest {
+
+    private TableHistory tableHistory;
+
+    @BeforeEach
+    void setUp() {
+        I18N i18n = mock(I18N.class);
+        given(i18n.getString(any())).willReturn("");
+        Constant.messages = i18n;
+        tableHistory = mock(TableHistory.class);
+        HistoryReference.setTableHistory(tableHistory);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        HistoryReference.setTableHistory(null);
+    }
+
+    @Test
+    void shouldKeepSummaryOfHistoryReference() throws Exception {
+        // Given
+        HistoryReference historyReference = createHistoryReference(1, "http://example.com/");
+        // When
+        FuzzResultTableEntry entry =
+                new FuzzResultTableEntry(
+                        historyReference, 2, "Fuzzed", Map.of(), List.of("payload"));
+        // Then
+        assertThat(entry.getHistoryId(), is(equalTo(1)));
+        assertThat(entry.getTaskId(), is(equalTo(2L)));
+        assertThat(entry.getType(), is(equalTo("Fuzzed")));
+        assertThat(entry.getPayloads(), contains("payload"));
+        assertThat(entry.getMethod(), is(equalTo("GET")));
+        assertThat(entry.getUri(), is(equalTo("http://example.com/")));
+        assertThat(entry.getStatusCode(), is(equalTo(200)));
+        assertThat(entry.getReason(), is(equalTo("OK")));
+        assertThat(entry.getRequestTimestamp(), is(equalTo(new Date(1234))));
+        assertThat(entry.getRtt(), is(equalTo(5)));
+        assertThat(entry.getRequestHeaderSize(), is(equalTo(10)));
+        assertThat(entry.getRequestBodySize(), is(equalTo(20)));
+        assertThat(entry.getResponseHeaderSize(), is(equalTo(30)));
+        assertThat(entry.getResponseBodySize(), is(equalTo(40)));
+        assertThat(entry.getMessageSize(), is(equalTo(100L)));
+        assertThat(entry.getHighestAlert(), is(equalTo(AlertRiskTableCellItem.getItemForRisk(-1))));
+    }
+
+    @Test
+    void shouldNotReadHistoryReferenceWhileCached() throws Exception {
+        // Given
+        HistoryReference historyReference = createHistoryReference(1, "http://example.com/");
+        FuzzResultTableEntry entry = createEntry(historyReference);
+        // When
+        HistoryReference entryHistoryReference = entry.getHistoryReference();
+        // Then
+        assertThat(entryHistoryReference, is(sameInstance(historyReference)));
+        verify(tableHistory, never()).read(anyInt());
+    }
+
+    @Test
+    void shouldReadHistoryReferenceOnceIfNoLongerCached() throws Exception {
+        // Given
+        given(tableHistory.read(1)).willReturn(createRecordHistory(1, "Body"));
+        FuzzResultTableEntry entry = createEntry(createHistoryReference(1, "http://example.com/"));
+        entry.clearHistoryReferenceCache();
+        // When
+        HistoryReference historyReference = entry.getHistoryReference();
+        HistoryReference historyReferenceAgain = entry.getHistoryReference();
+        // Then
+        assertThat(historyReference.getHistoryId(), is(equalTo(1)));
+        assertThat(historyReferenceAgain, is(sameInstance(historyReference)));
+        verify(tableHistory, times(1)).read(1);
+    }
+
+    @Test
+    void shouldReturnNullHistoryReferenceIfFailedToRead() throws Exception {
+        // Given
+        given(tableHistory.read(1)).willThrow(DatabaseException.class);
+        FuzzResultTableEntry entry = createEntry(createHistoryReference(1, "http://example.com/"));
+        entry.clearHistoryReferenceCache();
+        // When
+        HistoryReference historyReference = entry.getHistoryReference();
+        // Then
+        assertThat(historyReference, is(nullValue()));
+    }
+
+    @Test
+    void shouldSearchResponsesOfResultsExceptOriginalMessage() throws Exception {
+        // Given
+        HttpFuzzerResultsTableModel model = new HttpFuzzerResultsTableModel();
+        addResult(model, 1, "match");
+        addResult(model, 2, "match");
+        addResult(model, 3, "other");
+        // When
+        List<SearchResult> results = model.search(Pattern.compile("match"), false);
+        // Then
+        assertThat(results, hasSize(1));
+        assertThat(results.get(0).getMessage().getHistoryRef().getHistoryId(), is(equalTo(2)));
+        verify(tableHistory, never()).read(anyInt());
+    }
+
+    @Test
+    void shouldSearchInverseResponsesOfResults() throws Exception {
+        // Given
+        HttpFuzzerResultsTableModel model = new HttpFuzzerResultsTableModel();
+        addResult(model, 1, "match");
+        addResult(model, 2, "match");
+        addResult(model, 3, "other");
+        // When
+        List<SearchResult> results = model.search(Pattern.compile("match"), true);
+        // Then
+        assertThat(results, hasSize(1));
+        assertThat(results.get(0).getMessage().getHistoryRef().getHistoryId(), is(equalTo(3)));
+    }
+
+    @Test
+    void shouldSkipResultsNotReadWhenSearching() throws Exception {
+        // Given
+        given(tableHistory.read(2)).willThrow(DatabaseException.class);
+        given(tableHistory.read(3)).willReturn(createRecordHistory(3, "match"));
+        HttpFuzzerResultsTableModel model = new HttpFuzzerResultsTableModel();
+        addResult(model, 1, "match");
+        addResult(model, 2, "match");
+        addResult(model, 3, "other");
+        model.getEntry(1).clearHistoryReferenceCache();
+        model.getEntry(2).clearHistoryReferenceCache();
+        // When
+        List<SearchResult> results = model.search(Pattern.compile("match"), false);
+        // Then
+        assertThat(results, hasSize(1));
+        assertThat(results.get(0).getMessage().getHistoryRef().getHistoryId(), is(equalTo(3)));
+    }
+
+    private static FuzzResultTableEntry createEntry(HistoryReference historyReference) {
+        return new FuzzResultTableEntry(historyReference, 1, "Fuzzed", Map.of(), List.of());
+    }
+
+    private static void addResult(HttpFuzzerResultsTableModel model, int id, String responseBody)
+            throws Exception {
+        HttpMessage message = createMessage(responseBody);
+        HistoryReference historyReference = createHistoryReference(id, "http://example.com/");
+        given(historyReference.getHttpMessage()).willReturn(message);
+        message.setHistoryRef(historyReference);
+        model.addResult(new HttpFuzzResult(id, "Fuzzed", message));
+        EventQueue.invokeAndWait(() -> {});
+    }
+
+    private static HistoryReference createHistoryReference(int id, String uri) throws Exception {
+        HistoryReference historyReference = mock(HistoryReference.class);
+        given(historyReference.getHistoryId()).willReturn(id);
+        given(historyReference.getMethod()).willReturn("GET");
+        given(historyReference.getURI()).willReturn(new URI(uri, true));
+        given(historyReference.getStatusCode()).willReturn(200);
+        given(historyReference.getReason()).willReturn("OK");
+        given(historyReference.getTimeSentMillis()).willReturn(1234L);
+        given(historyReference.getRtt()).willReturn(5);
+        given(historyReference.getRequestHeaderLength()).willReturn(10);
+        given(historyReference.getRequestBodyLength()).willReturn(20);
+        given(historyReference.getResponseHeaderLength()).willReturn(30);
+        given(historyReference.getResponseBodyLength()).willReturn(40);
+        given(historyReference.getHighestAlert()).willReturn(-1);
+        return historyReference;
+    }
+
+    private static HttpMessage createMessage(String responseBody) throws Exception {
+        HttpMessage message = new HttpMessage(new HttpRequestHeader("GET / HTTP/1.1"));
+        message.setResponseHeader(new HttpResponseHeader("HTTP/1.1 200 OK\r\n\r\n"));
+        message.setResponseBody(responseBody);
+        return message;
+    }
+
+    private static RecordHistory createRecordHistory(int id, String responseBody) throws Exception {
+        return new RecordHistory(
+                id,
+                HistoryReference.TYPE_FUZZER_TEMPORARY,
+                1,
+                1234,
+                5,
+                "GET http://example.com/ HTTP/1.1\r\n\r\n",
+                new byte[0],
+                "HTTP/1.1 200 OK\r\n\r\n",
+                responseBody.getBytes(StandardCharsets.UTF_8),
+                "",
+                "",
+                false);
+    }
+}
@@ -21,9 +21,11 @@ package org.zaproxy.zap.extension.fuzz.payloads.generator;
 
 import static org.hamcrest.CoreMatchers.both;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -36,12 +38,16 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.zaproxy.zap.extension.fuzz.payloads.Payload;
 import org.zaproxy.zap.testutils.TestUtils;
 import org.zaproxy.zap.utils.ResettableAutoCloseableIterator;
@@ -195,6 +201,129 @@ class FileStringPayloadGeneratorUnitTest extends TestUtils {
         assertThat(numberOfIteratedPayloads(generator), is(equalTo(payloadCount)));
     }
 
+    @Test
+    void shouldReadLinesWithAnyLineTerminator() throws Exception {
+        // Given
+        Path file = Files.createTempFile(tempDir, "fuzz", ".txt");
+        Files.writeString(file, "a\nb\r\nc\rd\r\r\ne");
+        // When
+        FileStringPayloadGenerator generator =
+                new FileStringPayloadGenerator(
+                        file,
+                        StandardCharsets.UTF_8,
+                        NO_LIMIT,
+                        DEFAULT_COMMENT_TOKEN,
+                        false,
+                        IGNORE_FIRST_LINE);
+        // Then
+        assertThat(generator.getNumberOfPayloads(), is(equalTo(6L)));
+        assertThat(iteratedPayloads(generator.iterator()), contains("a", "b", "c", "d", "", "e"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 1023, 1024, 1025, 2500, 2999})
+    void shouldIterateFromGivenPayload(long start) throws Exception {
+        // Given
+        Path file = fileWithPayloads(3000);
+        FileStringPayloadGenerator generator =
+                new FileStringPayloadGenerator(
+                        file,
+                        StandardCharsets.UTF_8,
+                        NO_LIMIT,
+                        DEFAULT_COMMENT_TOKEN,
+                        IGNORE_EMPTY_LINES,
+                        true);
+        List<String> allPayloads = iteratedPayloads(generator.iterator());
+        // When
+        List<String> payloads = iteratedPayloads(generator.iterator(start));
+        // Then
+        assertThat(allPayloads, hasSize(2999));
+        assertThat(payloads, is(equalTo(allPayloads.subList((int) start, allPayloads.size()))));
+    }
+
+    @Test
+    void shouldIterateFromGivenPayloadAfterReset() throws Exception {
+        // Given
+        Path file = fileWithPayloads(3000);
+        FileStringPayloadGenerator generator = new FileStringPayloadGenerator(file);
+        try (ResettableAutoCloseableIterator<Payload> iterator = generator.iterator(2998)) {
+            iterator.next();
+            // When
+            iterator.reset();
+            // Then
+            assertThat(iterator.next().getValue(), is(equalTo("Payload 2999")));
+            assertThat(iterator.next().getValue(), is(equalTo("Payload 3000")));
+            assertThat(iterator.hasNext(), is(equalTo(false)));
+        }
+    }
+
+    @Test
+    void shouldThrowOnNegativeStart() throws Exception {
+        // Given
+        Path file = fileWithPayloads(10);
+        FileStringPayloadGenerator generator = new FileStringPayloadGenerator(file);
+        // When / Then
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> generator.iterator(-1));
+        assertThat(exception.getMessage(), containsString("start"));
+    }
+
+    @Test
+    void shouldCountPayloadsAgainIfFileChanged() throws Exception {
+        // Given
+        Path file = fileWithPayloads(10);
+        long countBefore = new FileStringPayloadGenerator(file).getNumberOfPayloads();
+        Files.writeString(file, "Payload 11\nPayload 12\n", StandardOpenOption.APPEND);
+        // When
+        long countAfter = new FileStringPayloadGenerator(file).getNumberOfPayloads();
+        // Then
+        assertThat(countBefore, is(equalTo(10L)));
+        assertThat(countAfter, is(equalTo(12L)));
+    }
+
+    @Test
+    void shouldCountPayloadsUpToLimit() throws Exception {
+        // Given
+        Path file = fileWithPayloads(3000);
+        // When
+        long limited = new FileStringPayloadGenerator(file, 5).getNumberOfPayloads();
+        long all = new FileStringPayloadGenerator(file).getNumberOfPayloads();
+        long limitedAgain = new FileStringPayloadGenerator(file, 2000).getNumberOfPayloads();
+        // Then
+        assertThat(limited, is(equalTo(5L)));
+        assertThat(all, is(equalTo(3000L)));
+        assertThat(limitedAgain, is(equalTo(2000L)));
+    }
+
+    private static Path fileWithPayloads(int count) throws IOException {
+        Path file = Files.createTempFile(tempDir, "fuzz", ".txt");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 1; i <= count; i++) {
+                if (i % 7 == 0) {
+                    writer.append("# Comment ").append(Integer.toString(i)).append("\r\n");
+                }
+                if (i % 11 == 0) {
+                    writer.append("  \n");
+                }
+                writer.append("Payload ")
+                        .append(Integer.toString(i))
+                        .append(i % 2 == 0 ? "\n" : "\r\n");
+            }
+        }
+        return file;
+    }
+
+    private static List<String> iteratedPayloads(
+            ResettableAutoCloseableIterator<Payload> iterator) {
+        List<String> payloads = new ArrayList<>();
+        try (iterator) {
+            while (iterator.hasNext()) {
+                payloads.add(iterator.next().getValue());
+            }
+        }
+        return payloads;
+    }
+
     private static Path fileWithIso8859Payloads(long count) throws IOException {
         Path file = Files.createTempFile(tempDir, "fuzz", ".txt");
         try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
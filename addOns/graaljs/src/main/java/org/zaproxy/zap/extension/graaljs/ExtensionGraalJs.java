@@ -147,5 +147,6 @@ public class ExtensionGraalJs extends ExtensionAdaptor {
     @Override
     public void unload() {
         getExtScript().removeScriptEngineWrapper(engineWrapper);
+        engineWrapper.closePolyglotEngine();
     }
 }
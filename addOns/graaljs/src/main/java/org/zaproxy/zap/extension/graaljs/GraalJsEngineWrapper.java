@@ -37,6 +37,7 @@ public class GraalJsEngineWrapper extends DefaultEngineWrapper {
     private final ClassLoader hostClassLoader;
     private final List<Path> defaultTemplates;
     private final ImageIcon icon;
+    private Engine polyglotEngine;
 
     public GraalJsEngineWrapper(
             ClassLoader hostClassLoader, List<Path> defaultTemplates, ImageIcon icon) {
@@ -64,12 +65,6 @@ public class GraalJsEngineWrapper extends DefaultEngineWrapper {
 
     @Override
     public ScriptEngine getEngine() {
-        Engine engine =
-                Engine.newBuilder()
-                        .allowExperimentalOptions(true)
-                        .option("engine.WarnInterpreterOnly", "false")
-                        .build();
-
         Context.Builder contextBuilder =
                 Context.newBuilder("js")
                         .allowExperimentalOptions(true)
@@ -81,7 +76,39 @@ public class GraalJsEngineWrapper extends DefaultEngineWrapper {
                         .allowAllAccess(true)
                         .hostClassLoader(hostClassLoader);
 
-        return new ScriptEngineCleaner(GraalJSScriptEngine.create(engine, contextBuilder));
+        return new ScriptEngineCleaner(
+                GraalJSScriptEngine.create(getPolyglotEngine(), contextBuilder));
+    }
+
+    /**
+     * Gets the polyglot engine shared by all the script engines, created if needed.
+     *
+     * <p>Sharing the engine allows the contexts to reuse the parsed and compiled code of the
+     * scripts, instead of starting cold each time.
+     *
+     * @return the polyglot engine.
+     */
+    synchronized Engine getPolyglotEngine() {
+        if (polyglotEngine == null) {
+            polyglotEngine =
+                    Engine.newBuilder()
+                            .allowExperimentalOptions(true)
+                            .option("engine.WarnInterpreterOnly", "false")
+                            .build();
+        }
+        return polyglotEngine;
+    }
+
+    /**
+     * Closes the shared polyglot engine, cancelling any script still executing.
+     *
+     * <p>A new engine is created if script engines are obtained afterwards.
+     */
+    synchronized void closePolyglotEngine() {
+        if (polyglotEngine != null) {
+            polyglotEngine.close(true);
+            polyglotEngine = null;
+        }
     }
 
     @Override
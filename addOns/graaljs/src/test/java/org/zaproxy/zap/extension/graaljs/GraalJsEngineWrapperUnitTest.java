@@ -21,6 +21,9 @@ package org.zaproxy.zap.extension.graaljs;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
@@ -29,6 +32,8 @@ import javax.script.Compilable;
 import javax.script.Invocable;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
+import org.graalvm.polyglot.Engine;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +49,11 @@ class GraalJsEngineWrapperUnitTest {
                         GraalJsEngineWrapperUnitTest.class.getClassLoader(), List.of(), null);
     }
 
+    @AfterEach
+    void cleanUp() {
+        engineWrapper.closePolyglotEngine();
+    }
+
     @Test
     void shouldReturnScriptEngineCleaner() {
         // Given / When
@@ -116,4 +126,45 @@ class GraalJsEngineWrapperUnitTest {
         // Then
         assertThrows(IllegalStateException.class, () -> engine.eval("x + 1"));
     }
+
+    @Test
+    void shouldSharePolyglotEngine() {
+        // Given
+        engineWrapper.getEngine();
+        Engine polyglotEngine = engineWrapper.getPolyglotEngine();
+
+        // When
+        engineWrapper.getEngine();
+
+        // Then
+        assertThat(engineWrapper.getPolyglotEngine(), is(sameInstance(polyglotEngine)));
+    }
+
+    @Test
+    void shouldNotAffectOtherEnginesWhenClosed() throws Exception {
+        // Given
+        ScriptEngine engine = engineWrapper.getEngine();
+        ScriptEngine otherEngine = engineWrapper.getEngine();
+        engine.eval("const x = 1");
+        otherEngine.eval("const x = 2");
+
+        // When
+        ((AutoCloseable) engine).close();
+
+        // Then
+        assertThat(otherEngine.eval("x + 1"), is(3));
+    }
+
+    @Test
+    void shouldCreateNewPolyglotEngineAfterClosed() throws ScriptException {
+        // Given
+        Engine polyglotEngine = engineWrapper.getPolyglotEngine();
+
+        // When
+        engineWrapper.closePolyglotEngine();
+
+        // Then
+        assertThat(engineWrapper.getPolyglotEngine(), is(not(sameInstance(polyglotEngine))));
+        assertThat(engineWrapper.getEngine().eval("1 + 1"), is(2));
+    }
 }
@@ -944,7 +944,8 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
                 httpSenderHandler,
                 new LocalServerConfig(config, aliasChecker),
                 serialiseForBreak,
-                getModel());
+                getModel(),
+                localServersOptions::getLargeBodyThreshold);
     }
 
     private void startLocalServers(String overrideAddress, int overridePort, boolean install) {
@@ -1406,6 +1407,10 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
 
         blockingServerExecutor.shutdownNow();
 
+        if (serverCertificateService != null) {
+            serverCertificateService.close();
+        }
+
         if (httpSenderNetwork != null) {
             httpSenderNetwork.close();
         }
@@ -1413,10 +1418,20 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
 
     class ServerCertificateServiceImpl implements ServerCertificateService {
 
-        private ServerCertificateGenerator generator;
+        private volatile ServerCertificateGenerator generator;
 
         public void setRootCaCert(KeyStore keyStore) {
+            ServerCertificateGenerator oldGenerator = generator;
             generator = new ServerCertificateGenerator(keyStore, serverCertificatesOptions);
+            if (oldGenerator != null) {
+                oldGenerator.close();
+            }
+        }
+
+        void close() {
+            if (generator != null) {
+                generator.close();
+            }
         }
 
         @Override
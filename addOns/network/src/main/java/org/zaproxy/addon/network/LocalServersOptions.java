@@ -56,6 +56,13 @@ public class LocalServersOptions extends VersionedAbstractParam {
      */
     private static final int CURRENT_CONFIG_VERSION = 1;
 
+    /**
+     * The default large body threshold, zero, all the bodies are kept in memory.
+     *
+     * @see #setLargeBodyThreshold(int)
+     */
+    public static final int DEFAULT_LARGE_BODY_THRESHOLD = 0;
+
     private static final String BASE_KEY = "network.localServers";
 
     /**
@@ -99,11 +106,14 @@ public class LocalServersOptions extends VersionedAbstractParam {
 
     private static final String BROWSER_REQUEST_ACTION_KEY = BASE_KEY + ".browserRequestAction";
 
+    private static final String LARGE_BODY_THRESHOLD_KEY = BASE_KEY + ".largeBodyThreshold";
+
     private List<Alias> aliases = new ArrayList<>();
     private boolean confirmRemoveAlias = true;
     private List<PassThrough> passThroughs = new ArrayList<>();
     private boolean confirmRemovePassThrough = true;
     private BrowserRequestHandler.Action browserRequestAction = BrowserRequestHandler.Action.HIDE;
+    private int largeBodyThreshold = DEFAULT_LARGE_BODY_THRESHOLD;
     private LocalServerConfig mainProxy = new LocalServerConfig();
     private List<LocalServerConfig> servers = Collections.emptyList();
     private boolean confirmRemoveServer = true;
@@ -164,6 +174,11 @@ public class LocalServersOptions extends VersionedAbstractParam {
         browserRequestAction =
                 getEnum(BROWSER_REQUEST_ACTION_KEY, BrowserRequestHandler.Action.HIDE);
 
+        largeBodyThreshold = getInt(LARGE_BODY_THRESHOLD_KEY, DEFAULT_LARGE_BODY_THRESHOLD);
+        if (largeBodyThreshold < 0) {
+            largeBodyThreshold = DEFAULT_LARGE_BODY_THRESHOLD;
+        }
+
         readMainProxyAndServers();
     }
 
@@ -398,6 +413,37 @@ public class LocalServersOptions extends VersionedAbstractParam {
         getConfig().setProperty(BROWSER_REQUEST_ACTION_KEY, action.name());
     }
 
+    /**
+     * Gets the large body threshold.
+     *
+     * @return the maximum number of bytes of a body kept in memory, or zero if all of them are
+     *     kept.
+     * @see #setLargeBodyThreshold(int)
+     */
+    public int getLargeBodyThreshold() {
+        return largeBodyThreshold;
+    }
+
+    /**
+     * Sets the large body threshold, the maximum number of bytes of a body kept in memory.
+     *
+     * <p>The remainder of larger bodies is spilled to a temporary file and forwarded from it, while
+     * the history and the scanners see just the bytes kept in memory. Bodies with content encoding
+     * are always kept in memory.
+     *
+     * <p>Applies to new connections to the local servers/proxies.
+     *
+     * @param threshold the threshold, zero to keep all the bytes in memory.
+     * @throws IllegalArgumentException if the threshold is negative.
+     */
+    public void setLargeBodyThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The threshold must not be negative.");
+        }
+        this.largeBodyThreshold = threshold;
+        getConfig().setProperty(LARGE_BODY_THRESHOLD_KEY, threshold);
+    }
+
     private static Pattern createPassThroughPattern(String value) {
         try {
             return PassThrough.createAuthorityPattern(value);
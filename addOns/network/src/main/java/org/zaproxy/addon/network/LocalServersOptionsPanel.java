@@ -50,6 +50,7 @@ import org.zaproxy.addon.network.internal.ui.PassThroughTableModel;
 import org.zaproxy.addon.network.internal.ui.PassThroughTablePanel;
 import org.zaproxy.zap.utils.FontUtils;
 import org.zaproxy.zap.utils.ZapLabel;
+import org.zaproxy.zap.utils.ZapNumberSpinner;
 
 @SuppressWarnings("serial")
 class LocalServersOptionsPanel extends AbstractParamPanel {
@@ -128,6 +129,7 @@ class LocalServersOptionsPanel extends AbstractParamPanel {
 
         private final ExtensionNetwork extensionNetwork;
         private final JComboBox<BrowserRequestHandler.Action> actionComboBox;
+        private final ZapNumberSpinner largeBodyThresholdSpinner;
         private final MainProxyPanel mainProxyPanel;
         private final LocalServersTablePanel localServersTablePanel;
         private final LocalServersTableModel localServersTableModel;
@@ -144,6 +146,18 @@ class LocalServersOptionsPanel extends AbstractParamPanel {
                                     "network.ui.options.localservers.browserrequestaction.label"));
             actionLabel.setLabelFor(actionComboBox);
 
+            largeBodyThresholdSpinner =
+                    new ZapNumberSpinner(
+                            0, LocalServersOptions.DEFAULT_LARGE_BODY_THRESHOLD, Integer.MAX_VALUE);
+            JLabel largeBodyThresholdLabel =
+                    new JLabel(
+                            Constant.messages.getString(
+                                    "network.ui.options.localservers.largebodythreshold.label"));
+            largeBodyThresholdLabel.setLabelFor(largeBodyThresholdSpinner);
+            largeBodyThresholdSpinner.setToolTipText(
+                    Constant.messages.getString(
+                            "network.ui.options.localservers.largebodythreshold.tooltip"));
+
             ZapLabel labelDesc =
                     new ZapLabel(
                             Constant.messages.getString("network.ui.options.localservers.desc"));
@@ -183,6 +197,10 @@ class LocalServersOptionsPanel extends AbstractParamPanel {
                                     layout.createSequentialGroup()
                                             .addComponent(actionLabel)
                                             .addComponent(actionComboBox))
+                            .addGroup(
+                                    layout.createSequentialGroup()
+                                            .addComponent(largeBodyThresholdLabel)
+                                            .addComponent(largeBodyThresholdSpinner))
                             .addComponent(actionLabel)
                             .addComponent(labelDesc)
                             .addComponent(mainProxyPanel)
@@ -198,6 +216,14 @@ class LocalServersOptionsPanel extends AbstractParamPanel {
                                                     GroupLayout.PREFERRED_SIZE,
                                                     GroupLayout.PREFERRED_SIZE,
                                                     GroupLayout.PREFERRED_SIZE))
+                            .addGroup(
+                                    layout.createParallelGroup()
+                                            .addComponent(largeBodyThresholdLabel)
+                                            .addComponent(
+                                                    largeBodyThresholdSpinner,
+                                                    GroupLayout.PREFERRED_SIZE,
+                                                    GroupLayout.PREFERRED_SIZE,
+                                                    GroupLayout.PREFERRED_SIZE))
                             .addComponent(
                                     labelDesc,
                                     GroupLayout.PREFERRED_SIZE,
@@ -243,6 +269,7 @@ class LocalServersOptionsPanel extends AbstractParamPanel {
 
         void init(LocalServersOptions options) {
             actionComboBox.setSelectedItem(options.getBrowserRequestAction());
+            largeBodyThresholdSpinner.setValue(options.getLargeBodyThreshold());
             mainProxyPanel.setServerConfig(options.getMainProxy());
             localServersTableModel.setServers(options.getServers());
             localServersTablePanel.setRemoveWithoutConfirmation(!options.isConfirmRemoveServer());
@@ -257,6 +284,7 @@ class LocalServersOptionsPanel extends AbstractParamPanel {
         void save(LocalServersOptions options) {
             options.setBrowserRequestAction(
                     (BrowserRequestHandler.Action) actionComboBox.getSelectedItem());
+            options.setLargeBodyThreshold(largeBodyThresholdSpinner.getValue());
 
             options.setMainProxy(mainProxyPanel.getServerConfig());
             options.setServers(localServersTableModel.getElements());
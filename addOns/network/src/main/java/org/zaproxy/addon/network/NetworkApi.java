@@ -124,10 +124,12 @@ public class NetworkApi extends ApiImplementor {
 
     private static final String SHORTCUT_SET_PROXY = "setproxy";
 
+    private static final String PARAM_ADAPTIVE = "adaptive";
     private static final String PARAM_ADDRESS = "address";
     private static final String PARAM_API = "api";
     private static final String PARAM_AUTHORITY = "authority";
     private static final String PARAM_BEHIND_NAT = "behindNat";
+    private static final String PARAM_BURST = "burst";
     private static final String PARAM_DECODE_RESPONSE = "decodeResponse";
     private static final String PARAM_DESCRIPTION = "description";
     private static final String PARAM_ENABLED = "enabled";
@@ -282,7 +284,8 @@ public class NetworkApi extends ApiImplementor {
                                 PARAM_MATCH_REGEX,
                                 PARAM_MATCH_STRING,
                                 PARAM_REQUESTS_PER_SECOND,
-                                PARAM_GROUP_BY)));
+                                PARAM_GROUP_BY),
+                        Arrays.asList(PARAM_BURST, PARAM_ADAPTIVE)));
         this.addApiAction(
                 new ApiAction(ACTION_REMOVE_RATE_LIMIT_RULE, Arrays.asList(PARAM_DESCRIPTION)));
         this.addApiAction(
@@ -606,11 +609,12 @@ public class NetworkApi extends ApiImplementor {
                                     ApiException.Type.ILLEGAL_PARAMETER, PARAM_MATCH_STRING, e);
                         }
                     }
-                    int requestsPerSecond = getParam(params, PARAM_REQUESTS_PER_SECOND, 1);
-                    if (requestsPerSecond <= 0) {
-                        throw new ApiException(
-                                ApiException.Type.ILLEGAL_PARAMETER, PARAM_REQUESTS_PER_SECOND);
+                    double requestsPerSecond = getRequestsPerSecond(params);
+                    int burst = getParam(params, PARAM_BURST, 1);
+                    if (burst <= 0) {
+                        throw new ApiException(ApiException.Type.ILLEGAL_PARAMETER, PARAM_BURST);
                     }
+                    boolean adaptive = getParam(params, PARAM_ADAPTIVE, false);
 
                     RateLimitRule.GroupBy groupBy =
                             getGroupBy(
@@ -627,6 +631,8 @@ public class NetworkApi extends ApiImplementor {
                                             matchString,
                                             matchRegex,
                                             requestsPerSecond,
+                                            burst,
+                                            adaptive,
                                             groupBy,
                                             enabled));
 
@@ -648,6 +654,25 @@ public class NetworkApi extends ApiImplementor {
         }
     }
 
+    private static double getRequestsPerSecond(JSONObject params) throws ApiException {
+        String value = params.optString(PARAM_REQUESTS_PER_SECOND, "");
+        if (value.isEmpty()) {
+            return 1;
+        }
+
+        double requestsPerSecond;
+        try {
+            requestsPerSecond = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new ApiException(
+                    ApiException.Type.ILLEGAL_PARAMETER, PARAM_REQUESTS_PER_SECOND, e);
+        }
+        if (!(requestsPerSecond > 0) || Double.isInfinite(requestsPerSecond)) {
+            throw new ApiException(ApiException.Type.ILLEGAL_PARAMETER, PARAM_REQUESTS_PER_SECOND);
+        }
+        return requestsPerSecond;
+    }
+
     private static RateLimitRule.GroupBy getGroupBy(String groupByName) throws ApiException {
         if (groupByName.isEmpty()) {
             return RateLimitRule.GroupBy.RULE;
@@ -989,6 +1014,8 @@ public class NetworkApi extends ApiImplementor {
         map.put(PARAM_MATCH_REGEX, rule.isMatchRegex());
         map.put(PARAM_MATCH_STRING, rule.getMatchString());
         map.put(PARAM_REQUESTS_PER_SECOND, rule.getRequestsPerSecond());
+        map.put(PARAM_BURST, rule.getBurst());
+        map.put(PARAM_ADAPTIVE, rule.isAdaptive());
         map.put(PARAM_GROUP_BY, rule.getGroupBy().name());
         return new ApiResponseSet<>("rateLimitRule", map);
     }
@@ -49,6 +49,9 @@ public class ServerCertificatesOptions extends VersionedAbstractParam {
      */
     public static final int DEFAULT_SERVER_CERT_VALIDITY = 368;
 
+    /** The default number of server certificates kept in memory. */
+    public static final int DEFAULT_SERVER_CERT_CACHE_SIZE = 1000;
+
     /**
      * The current version of the configurations. Used to keep track of configuration changes
      * between releases, in case changes/updates are needed.
@@ -84,6 +87,10 @@ public class ServerCertificatesOptions extends VersionedAbstractParam {
 
     private static final String SERVER_CERT_CDP = SERVER_BASE_KEY + "crlDistributionPoint";
 
+    private static final String SERVER_CERT_CACHE_SIZE = SERVER_BASE_KEY + "cacheSize";
+
+    private static final String SERVER_CERT_PERSIST = SERVER_BASE_KEY + "persist";
+
     private KeyStore rootCaKeyStore;
     private Duration rootCaCertValidity = Duration.ofDays(DEFAULT_ROOT_CA_CERT_VALIDITY);
     private CertConfig rootCaCertConfig = new CertConfig(rootCaCertValidity);
@@ -93,6 +100,9 @@ public class ServerCertificatesOptions extends VersionedAbstractParam {
 
     private CertConfig serverCertConfig = new CertConfig(serverCertValidity);
 
+    private int serverCertCacheSize = DEFAULT_SERVER_CERT_CACHE_SIZE;
+    private boolean persistServerCerts;
+
     @Override
     protected int getCurrentVersion() {
         return CURRENT_CONFIG_VERSION;
@@ -123,6 +133,12 @@ public class ServerCertificatesOptions extends VersionedAbstractParam {
         serverCertValidity = Duration.ofDays(validity);
         serverCrlDistributionPoint = getString(SERVER_CERT_CDP, null);
         refreshServerCertConfig();
+
+        serverCertCacheSize = getInt(SERVER_CERT_CACHE_SIZE, DEFAULT_SERVER_CERT_CACHE_SIZE);
+        if (serverCertCacheSize <= 0) {
+            serverCertCacheSize = DEFAULT_SERVER_CERT_CACHE_SIZE;
+        }
+        persistServerCerts = getBoolean(SERVER_CERT_PERSIST, false);
     }
 
     private void refreshServerCertConfig() {
@@ -284,4 +300,49 @@ public class ServerCertificatesOptions extends VersionedAbstractParam {
     public CertConfig getServerCertConfig() {
         return serverCertConfig;
     }
+
+    /**
+     * Gets the maximum number of server certificates kept in memory.
+     *
+     * @return the number of certificates.
+     */
+    public int getServerCertCacheSize() {
+        return serverCertCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of server certificates kept in memory.
+     *
+     * @param size the number of certificates.
+     * @throws IllegalArgumentException if the given size is less than or equal to 0.
+     */
+    public void setServerCertCacheSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The size must be greater than 0.");
+        }
+
+        getConfig().setProperty(SERVER_CERT_CACHE_SIZE, size);
+        serverCertCacheSize = size;
+    }
+
+    /**
+     * Tells whether or not the server certificates should be persisted, to be reused across
+     * sessions.
+     *
+     * @return {@code true} if the certificates should be persisted, {@code false} otherwise.
+     */
+    public boolean isPersistServerCerts() {
+        return persistServerCerts;
+    }
+
+    /**
+     * Sets whether or not the server certificates should be persisted, to be reused across
+     * sessions.
+     *
+     * @param persist {@code true} if the certificates should be persisted, {@code false} otherwise.
+     */
+    public void setPersistServerCerts(boolean persist) {
+        getConfig().setProperty(SERVER_CERT_PERSIST, persist);
+        persistServerCerts = persist;
+    }
 }
@@ -32,6 +32,7 @@ import java.time.Duration;
 import java.util.Locale;
 import javax.swing.GroupLayout;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
 import javax.swing.JFileChooser;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
@@ -515,6 +516,8 @@ class ServerCertificatesOptionsPanel extends AbstractParamPanel {
 
         private final ZapNumberSpinner numberSpinnerValidity;
         private final ZapTextField cdpTextField;
+        private final ZapNumberSpinner numberSpinnerCacheSize;
+        private final JCheckBox persistCheckBox;
 
         private final JPanel panel;
 
@@ -537,6 +540,24 @@ class ServerCertificatesOptionsPanel extends AbstractParamPanel {
                                     "network.ui.options.servercertificates.field.crldistpoint"));
             labelCdp.setLabelFor(cdpTextField);
 
+            numberSpinnerCacheSize =
+                    new ZapNumberSpinner(
+                            1,
+                            ServerCertificatesOptions.DEFAULT_SERVER_CERT_CACHE_SIZE,
+                            Integer.MAX_VALUE);
+            JLabel labelCacheSize =
+                    new JLabel(
+                            Constant.messages.getString(
+                                    "network.ui.options.servercertificates.field.cachesize"));
+            labelCacheSize.setLabelFor(numberSpinnerCacheSize);
+
+            persistCheckBox = new JCheckBox();
+            JLabel labelPersist =
+                    new JLabel(
+                            Constant.messages.getString(
+                                    "network.ui.options.servercertificates.field.persist"));
+            labelPersist.setLabelFor(persistCheckBox);
+
             panel = new JPanel();
             GroupLayout layout = new GroupLayout(panel);
             panel.setLayout(layout);
@@ -548,11 +569,15 @@ class ServerCertificatesOptionsPanel extends AbstractParamPanel {
                             .addGroup(
                                     layout.createParallelGroup(GroupLayout.Alignment.TRAILING)
                                             .addComponent(labelValidity)
-                                            .addComponent(labelCdp))
+                                            .addComponent(labelCdp)
+                                            .addComponent(labelCacheSize)
+                                            .addComponent(labelPersist))
                             .addGroup(
                                     layout.createParallelGroup(GroupLayout.Alignment.LEADING)
                                             .addComponent(numberSpinnerValidity)
-                                            .addComponent(cdpTextField)));
+                                            .addComponent(cdpTextField)
+                                            .addComponent(numberSpinnerCacheSize)
+                                            .addComponent(persistCheckBox)));
 
             layout.setVerticalGroup(
                     layout.createSequentialGroup()
@@ -567,7 +592,19 @@ class ServerCertificatesOptionsPanel extends AbstractParamPanel {
                             .addGroup(
                                     layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
                                             .addComponent(labelCdp)
-                                            .addComponent(cdpTextField)));
+                                            .addComponent(cdpTextField))
+                            .addGroup(
+                                    layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                                            .addComponent(labelCacheSize)
+                                            .addComponent(
+                                                    numberSpinnerCacheSize,
+                                                    GroupLayout.PREFERRED_SIZE,
+                                                    GroupLayout.PREFERRED_SIZE,
+                                                    GroupLayout.PREFERRED_SIZE))
+                            .addGroup(
+                                    layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                                            .addComponent(labelPersist)
+                                            .addComponent(persistCheckBox)));
         }
 
         JPanel getPanel() {
@@ -578,11 +615,15 @@ class ServerCertificatesOptionsPanel extends AbstractParamPanel {
             numberSpinnerValidity.setValue(options.getServerCertValidity().toDays());
             cdpTextField.setText(options.getServerCrlDistributionPoint());
             cdpTextField.discardAllEdits();
+            numberSpinnerCacheSize.setValue(options.getServerCertCacheSize());
+            persistCheckBox.setSelected(options.isPersistServerCerts());
         }
 
         void save(ServerCertificatesOptions options) {
             options.setServerCertValidity(createValidity(numberSpinnerValidity));
             options.setServerCrlDistributionPoint(cdpTextField.getText());
+            options.setServerCertCacheSize(numberSpinnerCacheSize.getValue());
+            options.setPersistServerCerts(persistCheckBox.isSelected());
         }
     }
 }
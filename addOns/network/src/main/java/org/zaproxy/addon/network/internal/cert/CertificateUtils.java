@@ -247,9 +247,41 @@ public final class CertificateUtils {
             CertData certData,
             long serial,
             CertConfig config) {
+        return createServerKeyStore(
+                rootCaCert, rootCaPublicKey, rootCaPrivateKey, certData, serial, config, null);
+    }
+
+    /**
+     * Creates a new server certificate, for the given key pair, and returns the private and public
+     * key in a {@link KeyStore}.
+     *
+     * @param rootCaCert the root CA certificate.
+     * @param rootCaPublicKey the public key.
+     * @param rootCaPrivateKey the private key.
+     * @param certData the data used for the server certificate.
+     * @param serial the serial for the server certificate.
+     * @param config the configuration used to generate the certificate.
+     * @param keyPair the key pair of the server certificate, or {@code null} to generate one.
+     * @return the {@code KeyStore} containing the certificate and private key.
+     * @throws GenerationException if an error occurred while generating the server certificate.
+     */
+    public static KeyStore createServerKeyStore(
+            X509Certificate rootCaCert,
+            PublicKey rootCaPublicKey,
+            PrivateKey rootCaPrivateKey,
+            CertData certData,
+            long serial,
+            CertConfig config,
+            KeyPair keyPair) {
         try {
             return createServerCertificateImpl(
-                    rootCaCert, rootCaPublicKey, rootCaPrivateKey, certData, serial, config);
+                    rootCaCert,
+                    rootCaPublicKey,
+                    rootCaPrivateKey,
+                    certData,
+                    serial,
+                    config,
+                    keyPair);
         } catch (Exception e) {
             throw new GenerationException(
                     "An error occurred while generating the server certificate: " + e.getMessage(),
@@ -263,7 +295,8 @@ public final class CertificateUtils {
             PrivateKey rootCaPrivateKey,
             CertData certData,
             long serial,
-            CertConfig config)
+            CertConfig config,
+            KeyPair keyPair)
             throws Exception {
         CertData.Name[] certDataNames = certData.getSubjectAlternativeNames();
         GeneralName[] subjectAlternativeNames = new GeneralName[certDataNames.length];
@@ -278,7 +311,9 @@ public final class CertificateUtils {
                     "commonName is null and no subjectAlternativeNames are specified");
         }
 
-        KeyPair keyPair = generateKeyPair();
+        if (keyPair == null) {
+            keyPair = generateKeyPair();
+        }
         PrivateKey privateKey = keyPair.getPrivate();
         PublicKey publicKey = keyPair.getPublic();
 
@@ -348,7 +383,7 @@ public final class CertificateUtils {
      * @return the key pair
      * @throws NoSuchAlgorithmException if no provider supports the used algorithms.
      */
-    private static KeyPair generateKeyPair() throws NoSuchAlgorithmException {
+    static KeyPair generateKeyPair() throws NoSuchAlgorithmException {
         SecureRandom random = new SecureRandom();
         random.setSeed(Long.toString(System.currentTimeMillis()).getBytes());
         KeyPairGenerator keyGenerator = KeyPairGenerator.getInstance("RSA");
@@ -0,0 +1,134 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.cert;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A pool of key pairs, generated in the background.
+ *
+ * <p>The generation of the key pair is the most expensive part of issuing a server certificate,
+ * having them ready avoids delaying the TLS handshakes of new hosts. If the pool is empty the key
+ * pair is generated by the caller.
+ */
+class KeyPairPool implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger(KeyPairPool.class);
+
+    private final BlockingQueue<KeyPair> keyPairs;
+    private final ExecutorService executor;
+    private final AtomicBoolean refilling;
+
+    /**
+     * Constructs a {@code KeyPairPool} with the given size, starting to fill it in the background.
+     *
+     * @param size the number of key pairs to keep ready, zero to not generate them in advance.
+     * @throws IllegalArgumentException if the size is negative.
+     */
+    KeyPairPool(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size must not be negative.");
+        }
+        refilling = new AtomicBoolean();
+        if (size == 0) {
+            keyPairs = null;
+            executor = null;
+            return;
+        }
+        keyPairs = new ArrayBlockingQueue<>(size);
+        executor =
+                Executors.newSingleThreadExecutor(
+                        new DefaultThreadFactory("ZAP-ServerCertKeyPairs", true));
+        refill();
+    }
+
+    /**
+     * Takes a key pair from the pool, or generates one if the pool is empty.
+     *
+     * @return the key pair, never {@code null}.
+     * @throws GeneralSecurityException if an error occurred while generating the key pair.
+     */
+    KeyPair take() throws GeneralSecurityException {
+        if (keyPairs == null) {
+            return CertificateUtils.generateKeyPair();
+        }
+        KeyPair keyPair = keyPairs.poll();
+        refill();
+        if (keyPair == null) {
+            return CertificateUtils.generateKeyPair();
+        }
+        return keyPair;
+    }
+
+    /**
+     * Gets the number of key pairs ready to be taken.
+     *
+     * @return the number of key pairs.
+     */
+    int getAvailable() {
+        return keyPairs == null ? 0 : keyPairs.size();
+    }
+
+    private void refill() {
+        if (!refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::refillImpl);
+        } catch (RejectedExecutionException e) {
+            // Closed.
+        }
+    }
+
+    private void refillImpl() {
+        try {
+            while (keyPairs.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                keyPairs.offer(CertificateUtils.generateKeyPair());
+            }
+        } catch (GeneralSecurityException e) {
+            LOGGER.warn("Failed to generate key pair: {}", e.getMessage(), e);
+            return;
+        } finally {
+            refilling.set(false);
+        }
+        // A key pair might have been taken after the last check.
+        if (keyPairs.remainingCapacity() > 0 && !executor.isShutdown()) {
+            refill();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            keyPairs.clear();
+        }
+    }
+}
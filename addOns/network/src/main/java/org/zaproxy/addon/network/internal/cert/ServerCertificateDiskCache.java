@@ -0,0 +1,219 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.cert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.PublicKey;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A cache of server certificates in the file system, to reuse them across sessions.
+ *
+ * <p>The certificates are kept in a directory specific to the root CA certificate that issued them,
+ * each in its own file named after the certificate data and configuration. The certificates read
+ * are checked to be issued by the root CA and still valid for a while, otherwise they are deleted
+ * (and replaced once generated again). The directories of other root CA certificates are deleted
+ * when the cache is first used, their certificates would no longer be used. The cache is used only
+ * when persisting the certificates, the files are not managed otherwise.
+ */
+class ServerCertificateDiskCache {
+
+    private static final Logger LOGGER = LogManager.getLogger(ServerCertificateDiskCache.class);
+
+    private static final String FILE_EXTENSION = ".ks";
+
+    /** The pattern of the names of the directories, the SHA-256 of the root CA certificates. */
+    private static final Pattern DIR_NAME_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    /** The minimum remaining validity for a certificate to be reused. */
+    private static final Duration MIN_REMAINING_VALIDITY = Duration.ofDays(1);
+
+    private final Path baseDir;
+    private final Path dir;
+    private final PublicKey rootCaPublicKey;
+    private final AtomicBoolean otherDirsDeleted = new AtomicBoolean();
+
+    /**
+     * Constructs a {@code ServerCertificateDiskCache} for the given root CA certificate.
+     *
+     * @param baseDir the base directory of the cache.
+     * @param rootCaCert the root CA certificate issuing the certificates.
+     * @throws CertificateEncodingException if an error occurred while encoding the root CA
+     *     certificate, to compute its fingerprint.
+     */
+    ServerCertificateDiskCache(Path baseDir, X509Certificate rootCaCert)
+            throws CertificateEncodingException {
+        this.baseDir = baseDir;
+        this.dir = baseDir.resolve(DigestUtils.sha256Hex(rootCaCert.getEncoded()));
+        this.rootCaPublicKey = rootCaCert.getPublicKey();
+    }
+
+    private void deleteOtherDirs() {
+        if (!otherDirsDeleted.compareAndSet(false, true) || !Files.isDirectory(baseDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> dirs =
+                Files.newDirectoryStream(
+                        baseDir,
+                        e ->
+                                !e.equals(dir)
+                                        && Files.isDirectory(e)
+                                        && DIR_NAME_PATTERN
+                                                .matcher(e.getFileName().toString())
+                                                .matches())) {
+            for (Path otherDir : dirs) {
+                LOGGER.debug("Deleting certificates of other root CA: {}", otherDir);
+                deleteDir(otherDir);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Failed to list the directories in {}: {}", baseDir, e.getMessage());
+        }
+    }
+
+    private static void deleteDir(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(ServerCertificateDiskCache::delete);
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.debug("Failed to delete {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.debug("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the certificate for the given data and configuration.
+     *
+     * @param certData the data of the server.
+     * @param config the configuration of the certificate.
+     * @return the {@code KeyStore} with the certificate, or {@code null} if not cached or no longer
+     *     usable, in which case the file is deleted.
+     */
+    KeyStore read(CertData certData, CertConfig config) {
+        deleteOtherDirs();
+        Path file = getFile(certData, config);
+        KeyStore keyStore;
+        try (InputStream is = Files.newInputStream(file)) {
+            keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            keyStore.load(is, CertificateUtils.getPassphrase());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | GeneralSecurityException e) {
+            LOGGER.debug("Failed to read the cached certificate {}: {}", file, e.getMessage());
+            delete(file);
+            return null;
+        }
+
+        X509Certificate certificate = CertificateUtils.getCertificate(keyStore);
+        if (certificate == null || CertificateUtils.getPrivateKey(keyStore) == null) {
+            delete(file);
+            return null;
+        }
+        try {
+            certificate.checkValidity(
+                    new Date(System.currentTimeMillis() + MIN_REMAINING_VALIDITY.toMillis()));
+            certificate.verify(rootCaPublicKey);
+        } catch (GeneralSecurityException e) {
+            LOGGER.debug("Deleting cached certificate {}: {}", file, e.getMessage());
+            delete(file);
+            return null;
+        }
+        return keyStore;
+    }
+
+    /**
+     * Writes the certificate for the given data and configuration.
+     *
+     * <p>Errors are logged and otherwise ignored, the cache is just an optimisation.
+     *
+     * @param certData the data of the server.
+     * @param config the configuration of the certificate.
+     * @param keyStore the {@code KeyStore} with the certificate.
+     */
+    void write(CertData certData, CertConfig config, KeyStore keyStore) {
+        deleteOtherDirs();
+        Path file = getFile(certData, config);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(dir);
+            tempFile = Files.createTempFile(dir, "cert", ".tmp");
+            try (OutputStream os = Files.newOutputStream(tempFile)) {
+                keyStore.store(os, CertificateUtils.getPassphrase());
+            }
+            try {
+                Files.move(
+                        tempFile,
+                        file,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempFile = null;
+        } catch (IOException | GeneralSecurityException e) {
+            LOGGER.warn("Failed to cache the certificate in {}: {}", file, e.getMessage());
+        } finally {
+            if (tempFile != null) {
+                delete(tempFile);
+            }
+        }
+    }
+
+    private Path getFile(CertData certData, CertConfig config) {
+        StringBuilder strBuilder = new StringBuilder();
+        strBuilder.append(certData.getCommonName()).append('\n');
+        for (CertData.Name name : certData.getSubjectAlternativeNames()) {
+            strBuilder.append(name.getType()).append(':').append(name.getValue()).append('\n');
+        }
+        strBuilder.append(certData.isSubjectAlternativeNameIsCritical()).append('\n');
+        strBuilder.append(config.getValidity()).append('\n');
+        strBuilder.append(config.getCrlDistributionPoint());
+        return dir.resolve(
+                DigestUtils.sha256Hex(strBuilder.toString().getBytes(StandardCharsets.UTF_8))
+                        + FILE_EXTENSION);
+    }
+}
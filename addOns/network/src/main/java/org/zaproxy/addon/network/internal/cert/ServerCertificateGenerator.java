@@ -19,19 +19,46 @@
  */
 package org.zaproxy.addon.network.internal.cert;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.Constant;
 import org.zaproxy.addon.network.ServerCertificatesOptions;
+import org.zaproxy.zap.utils.Stats;
 
-/** A generator of server certificates. */
-public class ServerCertificateGenerator {
+/**
+ * A generator of server certificates.
+ *
+ * <p>The generation is done concurrently for different certificate data, while concurrent requests
+ * for the same data wait for a single generation. The generated certificates are kept in a bounded
+ * LRU cache and, if enabled in the options, in the file system to be reused across sessions.
+ */
+public class ServerCertificateGenerator implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger(ServerCertificateGenerator.class);
+
+    /** The number of key pairs generated in advance. */
+    private static final int KEY_PAIR_POOL_SIZE = 4;
+
+    private static final String STATS_CACHE_HIT = "stats.network.cert.cache.hit";
+    private static final String STATS_DISK_CACHE_HIT = "stats.network.cert.cache.disk.hit";
+    private static final String STATS_GENERATED = "stats.network.cert.generated";
+    private static final String STATS_GENERATION_TIME = "stats.network.cert.generated.time";
 
     private static final AtomicLong serial;
 
@@ -50,7 +77,9 @@ public class ServerCertificateGenerator {
     private final PublicKey rootCaPublicKey;
     private final PrivateKey rooCaPrivateKey;
     private final ServerCertificatesOptions serverCertificatesOptions;
-    private final Map<CertData, KeyStore> cache;
+    private final Map<CertData, FutureTask<KeyStore>> cache;
+    private final KeyPairPool keyPairPool;
+    private final ServerCertificateDiskCache diskCache;
 
     /**
      * Constructs a {@code ServerCertificateGenerator} with the given {@code KeyStore} and options.
@@ -62,6 +91,14 @@ public class ServerCertificateGenerator {
      */
     public ServerCertificateGenerator(
             KeyStore keyStore, ServerCertificatesOptions serverCertificatesOptions) {
+        this(keyStore, serverCertificatesOptions, getDefaultDiskCacheDir(), KEY_PAIR_POOL_SIZE);
+    }
+
+    ServerCertificateGenerator(
+            KeyStore keyStore,
+            ServerCertificatesOptions serverCertificatesOptions,
+            Path diskCacheDir,
+            int keyPairPoolSize) {
         Objects.requireNonNull(keyStore);
         this.serverCertificatesOptions = Objects.requireNonNull(serverCertificatesOptions);
 
@@ -69,7 +106,39 @@ public class ServerCertificateGenerator {
         rootCaPublicKey = rootCaCert.getPublicKey();
         rooCaPrivateKey = Objects.requireNonNull(CertificateUtils.getPrivateKey(keyStore));
 
-        cache = new HashMap<>();
+        cache =
+                new LinkedHashMap<>(16, 0.75f, true) {
+
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry(
+                            Map.Entry<CertData, FutureTask<KeyStore>> eldest) {
+                        return size() > serverCertificatesOptions.getServerCertCacheSize();
+                    }
+                };
+        diskCache = createDiskCache(diskCacheDir, rootCaCert);
+        keyPairPool = new KeyPairPool(keyPairPoolSize);
+    }
+
+    private static Path getDefaultDiskCacheDir() {
+        String zapHome = Constant.getZapHome();
+        if (zapHome == null) {
+            return null;
+        }
+        return Paths.get(zapHome, "network", "certs");
+    }
+
+    private static ServerCertificateDiskCache createDiskCache(Path dir, X509Certificate cert) {
+        if (dir == null) {
+            return null;
+        }
+        try {
+            return new ServerCertificateDiskCache(dir, cert);
+        } catch (CertificateEncodingException e) {
+            LOGGER.warn("Unable to persist the server certificates: {}", e.getMessage(), e);
+            return null;
+        }
     }
 
     /**
@@ -81,18 +150,77 @@ public class ServerCertificateGenerator {
      * @throws GenerationException if an error occurred while generating the certificate.
      * @throws NullPointerException if the {@code certData} is null.
      */
-    public synchronized KeyStore generate(CertData certData) {
+    public KeyStore generate(CertData certData) {
         Objects.requireNonNull(certData);
 
-        return cache.computeIfAbsent(
-                certData,
-                data ->
-                        CertificateUtils.createServerKeyStore(
-                                rootCaCert,
-                                rootCaPublicKey,
-                                rooCaPrivateKey,
-                                data,
-                                serial.getAndIncrement(),
-                                serverCertificatesOptions.getServerCertConfig()));
+        FutureTask<KeyStore> task;
+        boolean generate = false;
+        synchronized (cache) {
+            task = cache.get(certData);
+            if (task == null) {
+                task = new FutureTask<>(() -> createKeyStore(certData));
+                cache.put(certData, task);
+                generate = true;
+            }
+        }
+
+        if (generate) {
+            task.run();
+        } else {
+            Stats.incCounter(STATS_CACHE_HIT);
+        }
+
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            synchronized (cache) {
+                cache.remove(certData, task);
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new GenerationException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GenerationException("Interrupted while generating the certificate.", e);
+        }
+    }
+
+    private KeyStore createKeyStore(CertData certData) throws GeneralSecurityException {
+        CertConfig config = serverCertificatesOptions.getServerCertConfig();
+        boolean persist = diskCache != null && serverCertificatesOptions.isPersistServerCerts();
+        if (persist) {
+            KeyStore keyStore = diskCache.read(certData, config);
+            if (keyStore != null) {
+                Stats.incCounter(STATS_DISK_CACHE_HIT);
+                return keyStore;
+            }
+        }
+
+        long start = System.nanoTime();
+        KeyStore keyStore =
+                CertificateUtils.createServerKeyStore(
+                        rootCaCert,
+                        rootCaPublicKey,
+                        rooCaPrivateKey,
+                        certData,
+                        serial.getAndIncrement(),
+                        config,
+                        keyPairPool.take());
+        Stats.incCounter(STATS_GENERATED);
+        Stats.incCounter(
+                STATS_GENERATION_TIME, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        if (persist) {
+            diskCache.write(certData, config, keyStore);
+        }
+        return keyStore;
+    }
+
+    /** Stops the generation of key pairs in the background. */
+    @Override
+    public void close() {
+        keyPairPool.close();
     }
 }
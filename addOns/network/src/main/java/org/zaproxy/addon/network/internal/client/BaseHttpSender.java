@@ -47,6 +47,8 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpRequestHeader;
 import org.parosproxy.paros.network.HttpResponseHeader;
 import org.parosproxy.paros.network.HttpSender;
+import org.zaproxy.addon.network.internal.codec.SpillableBody;
+import org.zaproxy.addon.network.internal.codec.SpillableResponseBody;
 import org.zaproxy.addon.network.internal.ratelimit.NopRateLimiter;
 import org.zaproxy.addon.network.internal.ratelimit.RateLimiter;
 import org.zaproxy.zap.network.HttpRedirectionValidator;
@@ -217,14 +219,40 @@ public abstract class BaseHttpSender<T1 extends BaseHttpSenderContext, T2, T3>
                     return;
                 }
 
+                int limit = SpillableBody.getLimit(msg.getRequestBody());
+                if (limit > 0
+                        && msg.getResponseHeader().getHeader(HttpHeader.CONTENT_ENCODING) == null) {
+                    readSpillableBody(msg, entity, limit);
+                    return;
+                }
+
                 byte[] bodyContent = getBytes(entity);
                 msg.setResponseBody(bodyContent == null ? EMPTY_BODY : bodyContent);
             };
 
+    /**
+     * Reads the response body into a {@link SpillableResponseBody}, done for requests that were
+     * also decoded with a {@link SpillableBody} (i.e. proxied with a large body threshold).
+     */
+    private void readSpillableBody(HttpMessage msg, T3 entity, int limit) throws IOException {
+        SpillableResponseBody body = new SpillableResponseBody(limit);
+        body.setCharset(msg.getResponseHeader().getCharset());
+        try {
+            readBody(entity, body);
+        } catch (IOException e) {
+            body.discard();
+            throw e;
+        }
+        SpillableBody.discard(msg.getResponseBody());
+        msg.setResponseBody(body);
+    }
+
     protected abstract InputStream getStream(T3 body) throws IOException;
 
     protected abstract byte[] getBytes(T3 body) throws IOException;
 
+    protected abstract void readBody(T3 body, SpillableBody target) throws IOException;
+
     protected abstract T2 createRequestContext(T1 ctx, HttpRequestConfig requestConfig);
 
     @Override
@@ -408,12 +436,16 @@ public abstract class BaseHttpSender<T1 extends BaseHttpSenderContext, T2, T3>
             HttpMessage message,
             ResponseBodyConsumer<T3> responseBodyConsumer)
             throws IOException {
-        if (ctx.getInitiator() != CHECK_FOR_UPDATES_INITIATOR) {
+        boolean rateLimited = ctx.getInitiator() != CHECK_FOR_UPDATES_INITIATOR;
+        if (rateLimited) {
             rateLimiter.throttle(message, ctx.getInitiator());
         }
         try {
             sendImpl(ctx, requestCtx, requestConfig, message, responseBodyConsumer);
             Stats.incCounter("stats.network.send.success");
+            if (rateLimited) {
+                rateLimiter.responseReceived(message, ctx.getInitiator());
+            }
         } catch (IOException e) {
             Stats.incCounter("stats.network.send.failure");
             throw e;
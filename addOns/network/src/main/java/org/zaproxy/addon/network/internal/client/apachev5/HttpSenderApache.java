@@ -89,6 +89,7 @@ import org.apache.hc.core5.util.ByteArrayBuffer;
 import org.apache.hc.core5.util.Timeout;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.network.HttpBody;
 import org.parosproxy.paros.network.HttpHeader;
 import org.parosproxy.paros.network.HttpHeaderField;
 import org.parosproxy.paros.network.HttpMalformedHeaderException;
@@ -108,6 +109,8 @@ import org.zaproxy.addon.network.internal.client.SocksProxy;
 import org.zaproxy.addon.network.internal.client.apachev5.h2.HttpMessageRequestProducer;
 import org.zaproxy.addon.network.internal.client.apachev5.h2.HttpMessageResponseConsumer;
 import org.zaproxy.addon.network.internal.client.apachev5.h2.ZapClientTlsStrategy;
+import org.zaproxy.addon.network.internal.codec.SpillableBody;
+import org.zaproxy.addon.network.internal.codec.SpilledContent;
 import org.zaproxy.addon.network.internal.server.http.handlers.LegacyProxyListenerHandler;
 import org.zaproxy.zap.network.HttpRequestConfig;
 import org.zaproxy.zap.users.User;
@@ -337,6 +340,28 @@ public class HttpSenderApache
         }
     }
 
+    @Override
+    protected void readBody(HttpEntity body, SpillableBody target) throws IOException {
+        if (body == null) {
+            return;
+        }
+
+        try (InputStream is = body.getContent()) {
+            if (is == null) {
+                return;
+            }
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            try {
+                while ((read = is.read(buffer)) != -1) {
+                    target.write(buffer, read);
+                }
+            } catch (ConnectionClosedException e) {
+                rethrowIfNotPrematureEnd(e);
+            }
+        }
+    }
+
     private static void rethrowIfNotPrematureEnd(ConnectionClosedException e) throws IOException {
         String message = e.getMessage();
         if (message == null || !message.startsWith("Premature end")) {
@@ -526,7 +551,7 @@ public class HttpSenderApache
         updateRequestHeaders(message.getRequestHeader(), requestCtx.getRequest());
 
         if (isSet(requestCtx, RemoveTransferEncoding.ATTR_NAME) && !message.isEventStream()) {
-            message.getResponseHeader().setContentLength(message.getResponseBody().length());
+            SpillableBody.setContentLength(message.getResponseHeader(), message.getResponseBody());
         }
 
         if (user != null) {
@@ -570,6 +595,8 @@ public class HttpSenderApache
     private void sendHttp2(
             HttpMessage message, HttpRequest request, ZapHttpClientContext requestCtx)
             throws IOException {
+        // The HTTP/2 request producer sends just the body in memory.
+        SpillableBody.materialise(message.getRequestBody());
 
         CloseableHttpAsyncClient client;
         boolean lax =
@@ -816,11 +843,19 @@ public class HttpSenderApache
             copy.addHeader(header.getName(), header.getValue());
         }
 
-        copy.setEntity(new ByteArrayEntity(msg.getRequestBody().getBytes(), null));
+        copy.setEntity(createEntity(msg.getRequestBody()));
 
         return copy;
     }
 
+    private static HttpEntity createEntity(HttpBody body) {
+        SpilledContent spilledContent = SpillableBody.getSpilledContent(body);
+        if (spilledContent == null) {
+            return new ByteArrayEntity(body.getBytes(), null);
+        }
+        return new SpilledBodyEntity(body.getBytes(), spilledContent);
+    }
+
     private static String getPath(HttpMessage msg) {
         if (HttpRequestHeader.CONNECT.equals(msg.getRequestHeader().getMethod())) {
             return msg.getRequestHeader().getURI().toString();
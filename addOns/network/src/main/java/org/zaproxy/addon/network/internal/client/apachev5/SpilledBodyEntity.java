@@ -0,0 +1,70 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.client.apachev5;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.zaproxy.addon.network.internal.codec.SpilledContent;
+
+/**
+ * A repeatable {@link org.apache.hc.core5.http.HttpEntity HttpEntity} for bodies with spilled
+ * content, the content in memory followed by the spilled content.
+ */
+class SpilledBodyEntity extends AbstractHttpEntity {
+
+    private final byte[] memoryContent;
+    private final SpilledContent spilledContent;
+
+    SpilledBodyEntity(byte[] memoryContent, SpilledContent spilledContent) {
+        super((ContentType) null, null);
+        this.memoryContent = memoryContent;
+        this.spilledContent = spilledContent;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return memoryContent.length + spilledContent.length();
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return new SequenceInputStream(
+                new ByteArrayInputStream(memoryContent), spilledContent.getInputStream());
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to do, the spilled content is discarded with the body.
+    }
+}
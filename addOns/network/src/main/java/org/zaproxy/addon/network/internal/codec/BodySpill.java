@@ -0,0 +1,91 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/** Implements the spilling logic of the {@link SpillableBody} implementations. */
+final class BodySpill {
+
+    interface Appender {
+        void append(byte[] data, int length);
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final int limit;
+    private SpilledContent spilledContent;
+
+    BodySpill(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be greater than zero.");
+        }
+        this.limit = limit;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    void write(int memoryLength, byte[] data, int length, Appender appender) throws IOException {
+        int inMemory = Math.max(0, Math.min(length, limit - memoryLength));
+        if (spilledContent == null && inMemory > 0) {
+            appender.append(data, inMemory);
+        } else {
+            inMemory = 0;
+        }
+
+        if (inMemory < length) {
+            if (spilledContent == null) {
+                spilledContent = new SpilledContent();
+            }
+            spilledContent.write(data, inMemory, length - inMemory);
+        }
+    }
+
+    SpilledContent getSpilledContent() {
+        return spilledContent;
+    }
+
+    void materialise(Appender appender) throws IOException {
+        if (spilledContent == null) {
+            return;
+        }
+        SpilledContent content = spilledContent;
+        spilledContent = null;
+        try (InputStream is = content.getInputStream()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                appender.append(buffer, read);
+            }
+        } finally {
+            content.close();
+        }
+    }
+
+    void discard() {
+        if (spilledContent != null) {
+            spilledContent.close();
+            spilledContent = null;
+        }
+    }
+}
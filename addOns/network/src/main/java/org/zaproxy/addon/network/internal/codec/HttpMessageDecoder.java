@@ -25,6 +25,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import io.netty.util.ByteProcessor;
 import io.netty.util.internal.AppendableCharSequence;
+import java.io.IOException;
 import java.util.List;
 import java.util.function.Function;
 import org.apache.commons.lang3.Strings;
@@ -235,7 +236,7 @@ public abstract class HttpMessageDecoder extends ByteToMessageDecoder {
                     }
 
                     header.setHeader(HttpHeader.TRANSFER_ENCODING, null);
-                    header.setContentLength(body.length());
+                    SpillableBody.setContentLength(header, body);
                     out.add(message);
                     resetNow();
                     return;
@@ -260,9 +261,13 @@ public abstract class HttpMessageDecoder extends ByteToMessageDecoder {
         }
     }
 
-    private void appendToBody(ByteBuf buffer, int length) {
+    private void appendToBody(ByteBuf buffer, int length) throws IOException {
         buffer.readBytes(chunkBuffer, 0, length);
-        body.append(chunkBuffer, length);
+        if (body instanceof SpillableBody) {
+            ((SpillableBody) body).write(chunkBuffer, length);
+        } else {
+            body.append(chunkBuffer, length);
+        }
     }
 
     private boolean isTransferEncodingChunked() {
@@ -302,6 +307,7 @@ public abstract class HttpMessageDecoder extends ByteToMessageDecoder {
         }
 
         if (prematureClosure) {
+            SpillableBody.discard(body);
             message.setUserObject(MISSING_FULL_BODY);
         }
         out.add(message);
@@ -355,6 +361,8 @@ public abstract class HttpMessageDecoder extends ByteToMessageDecoder {
 
         if (message == null) {
             message = new HttpMessage();
+        } else if (body != null) {
+            SpillableBody.discard(body);
         }
         message.setUserObject(cause);
 
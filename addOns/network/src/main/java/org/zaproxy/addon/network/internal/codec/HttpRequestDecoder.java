@@ -19,6 +19,7 @@
  */
 package org.zaproxy.addon.network.internal.codec;
 
+import org.parosproxy.paros.network.HttpHeader;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpRequestHeader;
 import org.zaproxy.addon.network.internal.ChannelAttributes;
@@ -28,6 +29,20 @@ public class HttpRequestDecoder extends HttpMessageDecoder {
 
     /** Constructs a {@code HttpRequestDecoder}. */
     public HttpRequestDecoder() {
+        this(0);
+    }
+
+    /**
+     * Constructs a {@code HttpRequestDecoder} with the given large body threshold.
+     *
+     * <p>When greater than zero the requests are decoded with a {@link SpillableRequestBody}, which
+     * keeps in memory only up to the threshold, spilling the remainder to a temporary file. Bodies
+     * with content encoding are always kept in memory.
+     *
+     * @param largeBodyThreshold the maximum number of bytes of the body kept in memory, or zero to
+     *     keep all of them.
+     */
+    public HttpRequestDecoder(int largeBodyThreshold) {
         super(
                 true,
                 (ctx, msg, content) -> {
@@ -36,6 +51,15 @@ public class HttpRequestDecoder extends HttpMessageDecoder {
                     header.setMessage(content, secure);
                     return header;
                 },
-                HttpMessage::getRequestBody);
+                msg -> {
+                    if (largeBodyThreshold <= 0
+                            || msg.getRequestHeader().getHeader(HttpHeader.CONTENT_ENCODING)
+                                    != null) {
+                        return msg.getRequestBody();
+                    }
+                    SpillableRequestBody body = new SpillableRequestBody(largeBodyThreshold);
+                    msg.setRequestBody(body);
+                    return body;
+                });
     }
 }
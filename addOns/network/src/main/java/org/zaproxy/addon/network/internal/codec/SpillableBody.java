@@ -0,0 +1,152 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.codec;
+
+import java.io.IOException;
+import org.parosproxy.paros.network.HttpBody;
+import org.parosproxy.paros.network.HttpHeader;
+
+/**
+ * A {@link HttpBody} that keeps in memory only up to a limit of its content, the remainder is
+ * spilled to a temporary file to be forwarded as is.
+ *
+ * <p>The {@code HttpBody} methods operate just on the content kept in memory, which allows to show
+ * and scan the start of large bodies without holding all of them in memory. Changing the body
+ * through those methods discards the spilled content, the body then behaves as a normal body.
+ *
+ * @see #write(byte[], int)
+ */
+public interface SpillableBody {
+
+    /**
+     * Gets the maximum number of bytes kept in memory.
+     *
+     * @return the limit, greater than zero.
+     */
+    int getLimit();
+
+    /**
+     * Writes the given data to the body, spilling it once the limit is reached.
+     *
+     * @param data the data.
+     * @param length the number of bytes to write.
+     * @throws IOException if an error occurred while spilling the data.
+     */
+    void write(byte[] data, int length) throws IOException;
+
+    /**
+     * Gets the spilled content.
+     *
+     * @return the spilled content, or {@code null} if all the content is in memory.
+     */
+    SpilledContent getSpilledContent();
+
+    /**
+     * Reads the spilled content, if any, back into memory.
+     *
+     * @throws IOException if an error occurred while reading the spilled content.
+     */
+    void materialise() throws IOException;
+
+    /** Discards the spilled content, if any. */
+    void discard();
+
+    /**
+     * Gets the spilled content of the given body.
+     *
+     * @param body the body.
+     * @return the spilled content, or {@code null} if the body is not a {@code SpillableBody} or
+     *     all the content is in memory.
+     */
+    static SpilledContent getSpilledContent(HttpBody body) {
+        if (body instanceof SpillableBody) {
+            return ((SpillableBody) body).getSpilledContent();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the full length of the given body, in memory and spilled.
+     *
+     * @param body the body.
+     * @return the full length.
+     */
+    static long getFullLength(HttpBody body) {
+        SpilledContent spilledContent = getSpilledContent(body);
+        if (spilledContent == null) {
+            return body.length();
+        }
+        return body.length() + spilledContent.length();
+    }
+
+    /**
+     * Sets the {@code Content-Length} of the given header to the full length of the given body.
+     *
+     * <p>Lengths greater than {@link Integer#MAX_VALUE} are set just in the header field, {@link
+     * HttpHeader#getContentLength()} is not able to represent them.
+     *
+     * @param header the header to update.
+     * @param body the body.
+     */
+    static void setContentLength(HttpHeader header, HttpBody body) {
+        long length = getFullLength(body);
+        if (length <= Integer.MAX_VALUE) {
+            header.setContentLength((int) length);
+        } else {
+            header.setHeader(HttpHeader.CONTENT_LENGTH, Long.toString(length));
+        }
+    }
+
+    /**
+     * Gets the limit of the given body.
+     *
+     * @param body the body.
+     * @return the limit, or zero if the body is not a {@code SpillableBody}.
+     */
+    static int getLimit(HttpBody body) {
+        if (body instanceof SpillableBody) {
+            return ((SpillableBody) body).getLimit();
+        }
+        return 0;
+    }
+
+    /**
+     * Reads the spilled content of the given body, if any, back into memory.
+     *
+     * @param body the body.
+     * @throws IOException if an error occurred while reading the spilled content.
+     */
+    static void materialise(HttpBody body) throws IOException {
+        if (body instanceof SpillableBody) {
+            ((SpillableBody) body).materialise();
+        }
+    }
+
+    /**
+     * Discards the spilled content of the given body, if any.
+     *
+     * @param body the body.
+     */
+    static void discard(HttpBody body) {
+        if (body instanceof SpillableBody) {
+            ((SpillableBody) body).discard();
+        }
+    }
+}
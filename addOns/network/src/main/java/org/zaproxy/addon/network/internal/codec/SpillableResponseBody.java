@@ -0,0 +1,102 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.codec;
+
+import java.io.IOException;
+import org.zaproxy.zap.network.HttpResponseBody;
+
+/** A {@link HttpResponseBody} that spills to a temporary file the content above a limit. */
+public class SpillableResponseBody extends HttpResponseBody implements SpillableBody {
+
+    private final BodySpill spill;
+
+    /**
+     * Constructs a {@code SpillableResponseBody} with the given limit.
+     *
+     * @param limit the maximum number of bytes kept in memory.
+     * @throws IllegalArgumentException if the limit is not greater than zero.
+     */
+    public SpillableResponseBody(int limit) {
+        spill = new BodySpill(limit);
+    }
+
+    @Override
+    public int getLimit() {
+        return spill.getLimit();
+    }
+
+    @Override
+    public void write(byte[] data, int length) throws IOException {
+        spill.write(length(), data, length, super::append);
+    }
+
+    @Override
+    public SpilledContent getSpilledContent() {
+        return spill.getSpilledContent();
+    }
+
+    @Override
+    public void materialise() throws IOException {
+        spill.materialise(super::append);
+    }
+
+    @Override
+    public void discard() {
+        if (spill != null) {
+            spill.discard();
+        }
+    }
+
+    @Override
+    public void setBody(byte[] contents) {
+        discard();
+        super.setBody(contents);
+    }
+
+    @Override
+    public void setBody(String contents) {
+        discard();
+        super.setBody(contents);
+    }
+
+    @Override
+    public void append(byte[] contents, int length) {
+        discard();
+        super.append(contents, length);
+    }
+
+    @Override
+    public void append(String contents) {
+        discard();
+        super.append(contents);
+    }
+
+    @Override
+    public void setContent(byte[] content) {
+        discard();
+        super.setContent(content);
+    }
+
+    @Override
+    public void setLength(int length) {
+        discard();
+        super.setLength(length);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.codec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The content of a {@link SpillableBody} that did not fit in memory, kept in a temporary file.
+ *
+ * <p>The file is created when the first byte is written and deleted when the content is closed.
+ */
+public class SpilledContent implements Closeable {
+
+    private static final Logger LOGGER = LogManager.getLogger(SpilledContent.class);
+
+    private static final String FILE_PREFIX = "zap-body-";
+    private static final String FILE_SUFFIX = ".tmp";
+
+    private Path file;
+    private OutputStream output;
+    private long length;
+
+    /**
+     * Writes the given data to the file.
+     *
+     * @param data the data.
+     * @param offset the offset in the data.
+     * @param length the number of bytes to write.
+     * @throws IOException if an error occurred while creating or writing the file.
+     */
+    void write(byte[] data, int offset, int length) throws IOException {
+        if (output == null) {
+            if (file != null) {
+                throw new IOException("Spilled content already read or closed.");
+            }
+            file = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+            output = new BufferedOutputStream(Files.newOutputStream(file));
+        }
+        output.write(data, offset, length);
+        this.length += length;
+    }
+
+    /**
+     * Gets the number of bytes spilled.
+     *
+     * @return the number of bytes.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Gets a new input stream to read the spilled content.
+     *
+     * <p>No more content can be written afterwards.
+     *
+     * @return the input stream, never {@code null}.
+     * @throws IOException if an error occurred while opening the file.
+     */
+    public InputStream getInputStream() throws IOException {
+        closeOutput();
+        if (file == null) {
+            return InputStream.nullInputStream();
+        }
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
+    private void closeOutput() throws IOException {
+        if (output != null) {
+            OutputStream os = output;
+            output = null;
+            os.close();
+        }
+    }
+
+    /** Deletes the file, if any. */
+    @Override
+    public void close() {
+        try {
+            closeOutput();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close the spilled content:", e);
+        }
+
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOGGER.warn("Failed to delete the spilled content {}:", file, e);
+            }
+        }
+        length = 0;
+    }
+}
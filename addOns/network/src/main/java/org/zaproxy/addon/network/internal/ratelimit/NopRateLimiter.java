@@ -30,6 +30,9 @@ public class NopRateLimiter implements RateLimiter {
     @Override
     public void throttle(HttpMessage message, int initiator) {}
 
+    @Override
+    public void responseReceived(HttpMessage message, int initiator) {}
+
     @Override
     public List<RateLimiterEntry> getEntries() {
         return List.of();
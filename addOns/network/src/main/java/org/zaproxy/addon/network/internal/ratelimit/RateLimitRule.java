@@ -49,7 +49,13 @@ public class RateLimitRule extends Enableable {
     /** Indicates if matchString is a regular expression (true). */
     private boolean matchRegex;
 
-    private int requestsPerSecond;
+    private double requestsPerSecond;
+
+    /** The maximum number of requests that can be sent at once, after an idle period. */
+    private int burst;
+
+    /** Indicates if the rate should be lowered when the server signals it is overloaded. */
+    private boolean adaptive;
 
     /** How to group hosts when applying rate limiting. */
     private GroupBy groupBy = GroupBy.RULE;
@@ -82,7 +88,31 @@ public class RateLimitRule extends Enableable {
             String description,
             String matchString,
             boolean matchRegex,
-            int requestsPerSecond,
+            double requestsPerSecond,
+            GroupBy groupBy,
+            boolean enabled) {
+        this(description, matchString, matchRegex, requestsPerSecond, 1, false, groupBy, enabled);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param description whatever makes sense to the user
+     * @param matchString the string to match against the host name
+     * @param matchRegex true if the matchString is a regex
+     * @param requestsPerSecond the maximum requests per second, might be less than one
+     * @param burst the maximum number of requests sent at once after an idle period
+     * @param adaptive true if the rate should be lowered on 429/503 responses
+     * @param groupBy how to group hosts
+     * @param enabled true if the rule is enabled
+     */
+    public RateLimitRule(
+            String description,
+            String matchString,
+            boolean matchRegex,
+            double requestsPerSecond,
+            int burst,
+            boolean adaptive,
             GroupBy groupBy,
             boolean enabled) {
         super(enabled);
@@ -91,6 +121,8 @@ public class RateLimitRule extends Enableable {
         this.matchString = matchString;
         this.matchRegex = matchRegex;
         this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.adaptive = adaptive;
         this.groupBy = groupBy;
     }
 
@@ -100,6 +132,8 @@ public class RateLimitRule extends Enableable {
                 token.matchString,
                 token.matchRegex,
                 token.requestsPerSecond,
+                token.burst,
+                token.adaptive,
                 token.groupBy,
                 token.isEnabled());
     }
@@ -128,14 +162,30 @@ public class RateLimitRule extends Enableable {
         this.matchRegex = matchRegex;
     }
 
-    public int getRequestsPerSecond() {
+    public double getRequestsPerSecond() {
         return requestsPerSecond;
     }
 
-    public void setRequestsPerSecond(int requestsPerSecond) {
+    public void setRequestsPerSecond(double requestsPerSecond) {
         this.requestsPerSecond = requestsPerSecond;
     }
 
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
     public GroupBy getGroupBy() {
         return groupBy;
     }
@@ -181,7 +231,9 @@ public class RateLimitRule extends Enableable {
         result = prime * result + ((description == null) ? 0 : description.hashCode());
         result = prime * result + (matchRegex ? 1231 : 1237);
         result = prime * result + ((matchString == null) ? 0 : matchString.hashCode());
-        result = prime * result + requestsPerSecond;
+        result = prime * result + Double.hashCode(requestsPerSecond);
+        result = prime * result + burst;
+        result = prime * result + (adaptive ? 1231 : 1237);
         result = prime * result + groupBy.hashCode();
         return result;
     }
@@ -201,7 +253,9 @@ public class RateLimitRule extends Enableable {
         return Objects.equals(description, other.description)
                 && Objects.equals(matchString, other.matchString)
                 && matchRegex == other.matchRegex
-                && requestsPerSecond == other.requestsPerSecond
+                && Double.compare(requestsPerSecond, other.requestsPerSecond) == 0
+                && burst == other.burst
+                && adaptive == other.adaptive
                 && groupBy == other.groupBy;
     }
 
@@ -34,6 +34,15 @@ public interface RateLimiter extends RateLimitOptions.Observer {
      */
     void throttle(HttpMessage message, int initiator) throws InterruptedIOException;
 
+    /**
+     * Notifies that the response of a throttled message was received, to adapt the rate to the
+     * server's load.
+     *
+     * @param message the HTTP message, with the response.
+     * @param initiator the initiator of the message.
+     */
+    void responseReceived(HttpMessage message, int initiator);
+
     /** Get a snapshot view of the entries. */
     List<RateLimiterEntry> getEntries();
 
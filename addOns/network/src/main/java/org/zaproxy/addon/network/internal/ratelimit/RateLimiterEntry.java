@@ -21,13 +21,40 @@ package org.zaproxy.addon.network.internal.ratelimit;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
-/** Tracks a single entry (based on RateLimitGroupBy). */
+/**
+ * The state of a rate limited group of requests.
+ *
+ * <p>The requests are limited with a token bucket, implemented as a generic cell rate algorithm
+ * (GCRA): a single theoretical arrival time is atomically advanced by each request, which reserves
+ * its own slot and waits, without holding any lock, until that slot is due. The reservation order
+ * is thus also the order in which the requests are sent.
+ */
 public class RateLimiterEntry {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /** The upper bound of the computed intervals, to keep the arithmetic away from overflows. */
+    private static final long MAX_NANOS = Long.MAX_VALUE / 8;
+
+    /** The lowest fraction of the configured rate used when backing off. */
+    private static final double MIN_RATE_FACTOR = 1.0 / 64;
+
+    /** The fraction of the configured rate restored for each response not signalling overload. */
+    private static final double RATE_FACTOR_RECOVERY = 0.05;
+
     private final RateLimiterKey key;
-    private long firstRequestTime;
-    private long lastRequestTime;
-    private long requestCount;
+    private final AtomicLong firstRequestTime = new AtomicLong();
+    private volatile long lastRequestTime;
+    private final AtomicLong requestCount = new AtomicLong();
+
+    /** The theoretical arrival time of the next request, in {@link System#nanoTime()} units. */
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong(Long.MIN_VALUE);
+
+    /** The bits of the fraction of the configured rate currently in use. */
+    private final AtomicLong rateFactor = new AtomicLong(Double.doubleToLongBits(1));
 
     public RateLimiterEntry(RateLimiterKey key) {
         this.key = key;
@@ -38,11 +65,11 @@ public class RateLimiterEntry {
     }
 
     public long getFirstRequestTime() {
-        return firstRequestTime;
+        return firstRequestTime.get();
     }
 
     public void setFirstRequestTime(long firstRequestTime) {
-        this.firstRequestTime = firstRequestTime;
+        this.firstRequestTime.set(firstRequestTime);
     }
 
     public long getLastRequestTime() {
@@ -54,32 +81,107 @@ public class RateLimiterEntry {
     }
 
     public long getRequestCount() {
-        return requestCount;
+        return requestCount.get();
     }
 
     public void setRequestCount(long requestCount) {
-        this.requestCount = requestCount;
+        this.requestCount.set(requestCount);
     }
 
     public void recordRequest() {
-        if (firstRequestTime == 0) {
-            firstRequestTime = System.currentTimeMillis();
-        }
-        requestCount++;
-        lastRequestTime = System.currentTimeMillis();
+        long now = System.currentTimeMillis();
+        firstRequestTime.compareAndSet(0, now);
+        requestCount.incrementAndGet();
+        lastRequestTime = now;
     }
 
     public BigDecimal getEffectiveRequestsPerSecond() {
-        if (requestCount == 0 || firstRequestTime == 0) {
+        long count = requestCount.get();
+        long first = firstRequestTime.get();
+        if (count == 0 || first == 0) {
             return null;
         }
-        long elapsed = lastRequestTime - firstRequestTime;
+        long elapsed = lastRequestTime - first;
         if (elapsed <= 0) {
             return null;
         }
-        BigDecimal n = BigDecimal.valueOf(requestCount);
+        BigDecimal n = BigDecimal.valueOf(count);
         BigDecimal d =
                 BigDecimal.valueOf(elapsed).divide(BigDecimal.valueOf(1000), RoundingMode.UP);
         return n.divide(d, RoundingMode.UP);
     }
+
+    /**
+     * Gets the fraction of the configured rate currently in use, lower than one while backing off
+     * from an overloaded server.
+     *
+     * @return the rate factor, between zero (exclusive) and one.
+     */
+    public double getRateFactor() {
+        return Double.longBitsToDouble(rateFactor.get());
+    }
+
+    /**
+     * Reserves the slot for a request.
+     *
+     * @param rule the rule limiting the request.
+     * @param now the current time, in {@link System#nanoTime()} units.
+     * @return the nanoseconds to wait before sending the request, zero if it can be sent now.
+     */
+    long reserve(RateLimitRule rule, long now) {
+        long interval = getInterval(rule);
+        if (interval == 0) {
+            return 0;
+        }
+        long tolerance = getTolerance(rule, interval);
+        long tat;
+        long start;
+        do {
+            tat = theoreticalArrivalTime.get();
+            start = Math.max(tat, now);
+        } while (!theoreticalArrivalTime.compareAndSet(tat, start + interval));
+        return Math.max(0, start - tolerance - now);
+    }
+
+    /**
+     * Backs off in response to the server signalling it is overloaded, by halving the rate and
+     * delaying the following requests by at least the given pause.
+     *
+     * @param rule the rule limiting the requests.
+     * @param pause the nanoseconds requested by the server to wait, might be zero.
+     * @param now the current time, in {@link System#nanoTime()} units.
+     */
+    void backOff(RateLimitRule rule, long pause, long now) {
+        rateFactor.updateAndGet(
+                bits ->
+                        Double.doubleToLongBits(
+                                Math.max(MIN_RATE_FACTOR, Double.longBitsToDouble(bits) / 2)));
+        long interval = getInterval(rule);
+        long earliest =
+                now + Math.min(Math.max(pause, interval), MAX_NANOS) + getTolerance(rule, interval);
+        theoreticalArrivalTime.accumulateAndGet(earliest, Math::max);
+    }
+
+    /** Gradually restores the configured rate, after a response not signalling overload. */
+    void recover() {
+        if (getRateFactor() >= 1) {
+            return;
+        }
+        rateFactor.updateAndGet(
+                bits ->
+                        Double.doubleToLongBits(
+                                Math.min(1, Double.longBitsToDouble(bits) + RATE_FACTOR_RECOVERY)));
+    }
+
+    private long getInterval(RateLimitRule rule) {
+        double rate = rule.getRequestsPerSecond() * getRateFactor();
+        if (!(rate > 0)) {
+            return 0;
+        }
+        return (long) Math.min(Math.ceil(NANOS_PER_SECOND / rate), MAX_NANOS);
+    }
+
+    private static long getTolerance(RateLimitRule rule, long interval) {
+        return (long) Math.min((double) interval * (Math.max(rule.getBurst(), 1) - 1), MAX_NANOS);
+    }
 }
@@ -20,6 +20,9 @@
 package org.zaproxy.addon.network.internal.ratelimit;
 
 import java.io.InterruptedIOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -27,17 +30,29 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.httpclient.URIException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpStatusCode;
 import org.zaproxy.zap.utils.Pair;
 
 /** Track rate limiting. */
 public class RateLimiterImpl implements RateLimiter {
     private static final Logger LOGGER = LogManager.getLogger(RateLimiterImpl.class);
+
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    /** The maximum pause honoured from a {@code Retry-After} header. */
+    static final long MAX_RETRY_AFTER_SECONDS = 300;
+
     private final Map<RateLimiterKey, RateLimiterEntry> table = new ConcurrentHashMap<>();
-    private List<RateLimitRule> rules = new ArrayList<>();
+    private volatile List<RateLimitRule> rules = new ArrayList<>();
     private Observer observer;
     private WaitAction wait = new ThreadSleep();
 
@@ -53,27 +68,91 @@ public class RateLimiterImpl implements RateLimiter {
         }
         RateLimiterEntry limiterEntry = entryAndRule.first;
         RateLimitRule rule = entryAndRule.second;
-        synchronized (limiterEntry) {
-            long millisToWait =
-                    (1000 / rule.getRequestsPerSecond())
-                            - (System.currentTimeMillis() - limiterEntry.getLastRequestTime());
-            if (millisToWait > 0) {
-                try {
-                    LOGGER.debug(
-                            "{}: sleeping for {} ms",
-                            message.getRequestHeader().getURI(),
-                            millisToWait);
-                    wait.waitFor(millisToWait);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new InterruptedIOException("Rate limit throttle interrupted");
-                }
+        // The slot is reserved atomically, the wait happens without holding any lock.
+        long nanosToWait = limiterEntry.reserve(rule, System.nanoTime());
+        if (nanosToWait > 0) {
+            long millisToWait = (nanosToWait + NANOS_PER_MILLI - 1) / NANOS_PER_MILLI;
+            try {
+                LOGGER.debug(
+                        "{}: sleeping for {} ms",
+                        message.getRequestHeader().getURI(),
+                        millisToWait);
+                wait.waitFor(millisToWait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Rate limit throttle interrupted");
             }
-            limiterEntry.recordRequest();
         }
+        limiterEntry.recordRequest();
+        fireObserver();
+    }
+
+    @Override
+    public void responseReceived(HttpMessage message, int initiator) {
+        if (rules.isEmpty()) {
+            return;
+        }
+        Pair<RateLimiterEntry, RateLimitRule> entryAndRule = getOrCreate(message, initiator);
+        if (entryAndRule == null || !entryAndRule.second.isAdaptive()) {
+            return;
+        }
+        RateLimiterEntry limiterEntry = entryAndRule.first;
+        int statusCode = message.getResponseHeader().getStatusCode();
+        if (statusCode != STATUS_TOO_MANY_REQUESTS
+                && statusCode != HttpStatusCode.SERVICE_UNAVAILABLE) {
+            limiterEntry.recover();
+            return;
+        }
+
+        long pause = getRetryAfter(message, System.currentTimeMillis());
+        limiterEntry.backOff(entryAndRule.second, pause, System.nanoTime());
+        LOGGER.debug(
+                "{}: backing off after {} response, pausing for {} ms, rate factor now {}",
+                message.getRequestHeader().getURI(),
+                statusCode,
+                pause / NANOS_PER_MILLI,
+                limiterEntry.getRateFactor());
         fireObserver();
     }
 
+    /**
+     * Gets the pause requested by the server with the {@code Retry-After} header, either as
+     * delay-seconds or as an HTTP-date.
+     *
+     * @param message the HTTP message, with the response.
+     * @param now the current time, in milliseconds since the epoch.
+     * @return the pause in nanoseconds, zero if none or not valid, at most {@link
+     *     #MAX_RETRY_AFTER_SECONDS}.
+     */
+    static long getRetryAfter(HttpMessage message, long now) {
+        String value = message.getResponseHeader().getHeader(RETRY_AFTER_HEADER);
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        value = value.trim();
+
+        long millis;
+        if (value.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            millis =
+                    value.length() > 9
+                            ? Long.MAX_VALUE
+                            : TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+        } else {
+            try {
+                millis =
+                        ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME)
+                                        .toInstant()
+                                        .toEpochMilli()
+                                - now;
+            } catch (DateTimeParseException e) {
+                LOGGER.debug("Ignoring invalid {} header: {}", RETRY_AFTER_HEADER, value);
+                return 0;
+            }
+        }
+        return TimeUnit.MILLISECONDS.toNanos(
+                Math.max(0, Math.min(millis, TimeUnit.SECONDS.toMillis(MAX_RETRY_AFTER_SECONDS))));
+    }
+
     /**
      * Update the limiter in response to configuration change.
      *
@@ -168,7 +168,7 @@ public class HttpServer extends BaseServer {
                         new ReadTimeoutHandler(ConnectionOptions.DEFAULT_TIMEOUT, TimeUnit.SECONDS))
                 .addLast("tls.upgrade", new TlsProtocolHandler())
                 .addLast(LOGGING_HANDLER_NAME, new LoggingHandler(LOGGER_NAME, LogLevel.TRACE))
-                .addLast(HTTP_DECODER_HANDLER_NAME, new HttpRequestDecoder())
+                .addLast(HTTP_DECODER_HANDLER_NAME, createRequestDecoder())
                 .addLast(HTTP_ENCODER_HANDLER_NAME, HttpResponseEncoder.getInstance())
                 .addLast(CommonMessagePropertiesHandler.getInstance())
                 .addLast(Http2UpgradeHandler.getInstance())
@@ -177,6 +177,15 @@ public class HttpServer extends BaseServer {
                 .addLast("exception", new ServerExceptionHandler());
     }
 
+    /**
+     * Creates the decoder of the HTTP/1.x requests, called for each new channel.
+     *
+     * @return the decoder, never {@code null}.
+     */
+    protected HttpRequestDecoder createRequestDecoder() {
+        return new HttpRequestDecoder();
+    }
+
     static void protocolConfiguration(ChannelHandlerContext ctx, String protocol) {
         switch (protocol) {
             case TlsUtils.APPLICATION_PROTOCOL_HTTP_1_1:
@@ -26,9 +26,11 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.Executor;
+import java.util.function.IntSupplier;
 import org.parosproxy.paros.model.Model;
 import org.zaproxy.addon.network.internal.ChannelAttributes;
 import org.zaproxy.addon.network.internal.cert.ServerCertificateService;
+import org.zaproxy.addon.network.internal.codec.HttpRequestDecoder;
 import org.zaproxy.addon.network.internal.handlers.PassThroughHandler;
 import org.zaproxy.addon.network.internal.server.http.LocalServerHandler.SerialiseState;
 import org.zaproxy.addon.network.internal.server.http.handlers.AliasApiRewriteHandler;
@@ -56,6 +58,7 @@ public class LocalServer extends HttpServer {
 
     private final SerialiseState serialiseState;
     private final Model model;
+    private final IntSupplier largeBodyThreshold;
 
     private final AliasApiRewriteHandler aliasRewriteHandler;
     private final ZapApiHandler zapApiHandler;
@@ -77,6 +80,8 @@ public class LocalServer extends HttpServer {
      * @param serverConfig the server configuration
      * @param serialiseState the serialisation state.
      * @param model the model to obtain the proxy excludes.
+     * @param largeBodyThreshold the supplier of the large body threshold, the maximum number of
+     *     bytes of a body kept in memory or zero to keep all of them.
      */
     public LocalServer(
             NioEventLoopGroup group,
@@ -90,7 +95,8 @@ public class LocalServer extends HttpServer {
             HttpSenderHandler httpSenderHandler,
             LocalServerConfig serverConfig,
             SerialiseState serialiseState,
-            Model model) {
+            Model model,
+            IntSupplier largeBodyThreshold) {
         super(group, mainHandlerExecutor, certificateService);
         this.executor = executor;
         this.legacyHandler = legacyHandler;
@@ -102,6 +108,7 @@ public class LocalServer extends HttpServer {
 
         this.serialiseState = serialiseState;
         this.model = model;
+        this.largeBodyThreshold = Objects.requireNonNull(largeBodyThreshold);
 
         aliasRewriteHandler = new AliasApiRewriteHandler(serverConfig);
         zapApiHandler = new ZapApiHandler(serverConfig::isApiEnabled);
@@ -140,6 +147,11 @@ public class LocalServer extends HttpServer {
         return serverConfig;
     }
 
+    @Override
+    protected HttpRequestDecoder createRequestDecoder() {
+        return new HttpRequestDecoder(largeBodyThreshold.getAsInt());
+    }
+
     @Override
     protected void initChannel(SocketChannel ch) {
         super.initChannel(ch);
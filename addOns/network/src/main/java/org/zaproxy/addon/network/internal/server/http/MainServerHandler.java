@@ -20,10 +20,13 @@
 package org.zaproxy.addon.network.internal.server.http;
 
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.ssl.SslClosedEngineException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.channels.ClosedChannelException;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +39,8 @@ import org.parosproxy.paros.network.HttpHeader;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpRequestHeader;
 import org.zaproxy.addon.network.internal.ChannelAttributes;
+import org.zaproxy.addon.network.internal.codec.SpillableBody;
+import org.zaproxy.addon.network.internal.codec.SpilledContent;
 import org.zaproxy.addon.network.server.HttpMessageHandler;
 
 /**
@@ -54,6 +59,8 @@ public class MainServerHandler extends SimpleChannelInboundHandler<HttpMessage>
 
     private static final Logger LOGGER = LogManager.getLogger(MainServerHandler.class);
 
+    private static final int SPILLED_CONTENT_CHUNK_SIZE = 65536;
+
     protected final Executor executor;
     protected final List<HttpMessageHandler> pipeline;
 
@@ -87,6 +94,15 @@ public class MainServerHandler extends SimpleChannelInboundHandler<HttpMessage>
     }
 
     private void process(ChannelHandlerContext ctx, HttpMessage msg) {
+        try {
+            processImpl(ctx, msg);
+        } finally {
+            SpillableBody.discard(msg.getRequestBody());
+            SpillableBody.discard(msg.getResponseBody());
+        }
+    }
+
+    private void processImpl(ChannelHandlerContext ctx, HttpMessage msg) {
         DefaultHttpMessageHandlerContext handlerContext =
                 new DefaultHttpMessageHandlerContext(
                         ctx.channel(), RecursiveRequestChecker.getInstance());
@@ -170,29 +186,68 @@ public class MainServerHandler extends SimpleChannelInboundHandler<HttpMessage>
     }
 
     private static void writeResponse(ChannelHandlerContext ctx, HttpMessage msg) {
-        ctx.writeAndFlush(msg)
-                .addListener(
-                        e -> {
-                            if (!e.isSuccess()) {
-                                Throwable cause = e.cause();
-                                if (cause instanceof ClosedChannelException
-                                        || cause instanceof SslClosedEngineException) {
-                                    LOGGER.debug(() -> ERROR_WRITE + "connection closed.");
-                                    return;
-                                }
-
-                                LOGGER.warn(
-                                        () -> {
-                                            StringBuilder strBuilder = new StringBuilder(200);
-                                            strBuilder.append(ERROR_WRITE);
-                                            strBuilder.append(cause.getClass().getName());
-                                            if (cause.getMessage() != null) {
-                                                strBuilder.append(": ").append(cause.getMessage());
-                                            }
-                                            return strBuilder;
-                                        });
-                            }
-                        });
+        ChannelFuture future = ctx.writeAndFlush(msg);
+        SpilledContent spilledContent = SpillableBody.getSpilledContent(msg.getResponseBody());
+        if (spilledContent != null) {
+            future = writeSpilledContent(ctx, spilledContent, future);
+        }
+        future.addListener(
+                e -> {
+                    if (!e.isSuccess()) {
+                        Throwable cause = e.cause();
+                        if (cause instanceof ClosedChannelException
+                                || cause instanceof SslClosedEngineException) {
+                            LOGGER.debug(() -> ERROR_WRITE + "connection closed.");
+                            return;
+                        }
+
+                        LOGGER.warn(
+                                () -> {
+                                    StringBuilder strBuilder = new StringBuilder(200);
+                                    strBuilder.append(ERROR_WRITE);
+                                    strBuilder.append(cause.getClass().getName());
+                                    if (cause.getMessage() != null) {
+                                        strBuilder.append(": ").append(cause.getMessage());
+                                    }
+                                    return strBuilder;
+                                });
+                    }
+                });
+    }
+
+    /**
+     * Writes the spilled content of the response body, after the response.
+     *
+     * <p>The content is written in chunks, waiting for previous writes while the channel is not
+     * writable, to not hold the whole content in memory.
+     *
+     * @param ctx the channel handler context.
+     * @param spilledContent the spilled content.
+     * @param future the future of the write of the response.
+     * @return the future of the last write.
+     */
+    private static ChannelFuture writeSpilledContent(
+            ChannelHandlerContext ctx, SpilledContent spilledContent, ChannelFuture future) {
+        try (InputStream is = spilledContent.getInputStream()) {
+            for (; ; ) {
+                byte[] chunk = new byte[SPILLED_CONTENT_CHUNK_SIZE];
+                int read = is.readNBytes(chunk, 0, chunk.length);
+                if (read == 0) {
+                    return future;
+                }
+
+                if (!ctx.channel().isWritable()) {
+                    future.awaitUninterruptibly();
+                }
+                if (future.isDone() && !future.isSuccess()) {
+                    return future;
+                }
+                future = ctx.writeAndFlush(Unpooled.wrappedBuffer(chunk, 0, read));
+            }
+        } catch (IOException e) {
+            close(ctx);
+            return ctx.newFailedFuture(e);
+        }
     }
 
     protected static void close(ChannelHandlerContext ctx) {
@@ -77,7 +77,7 @@ public class OptionsRateLimitTableModel extends AbstractMultipleOptionsTableMode
             return Boolean.class;
         }
         if (c == 3) {
-            return Integer.class;
+            return Double.class;
         }
         return String.class;
     }
@@ -24,6 +24,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import javax.swing.JSpinner;
+import javax.swing.SpinnerNumberModel;
 import org.parosproxy.paros.Constant;
 import org.zaproxy.addon.network.internal.ratelimit.RateLimitOptions;
 import org.zaproxy.addon.network.internal.ratelimit.RateLimitRule;
@@ -44,19 +46,22 @@ public class RateLimitRuleAddDialog extends StandardFieldsDialog {
     protected static final String REGEX_FIELD = "network.ui.ratelimit.label.regex";
     protected static final String REQUESTS_PER_SECOND_FIELD =
             "network.ui.ratelimit.label.requestspersecond";
+    protected static final String BURST_FIELD = "network.ui.ratelimit.label.burst";
+    protected static final String ADAPTIVE_FIELD = "network.ui.ratelimit.label.adaptive";
     protected static final String GROUP_BY = "network.ui.ratelimit.label.groupby";
     protected static final String ENABLE_FIELD = "network.ui.ratelimit.label.enable";
 
     private RateLimitOptions rateLimitOptions;
     private RateLimitRule rule;
     private final OptionsRateLimitTableModel rateLimitModel;
+    private JSpinner requestsPerSecondSpinner;
 
     public RateLimitRuleAddDialog(
             Window owner,
             String title,
             RateLimitOptions rateLimitOptions,
             OptionsRateLimitTableModel rateLimitModel) {
-        super(owner, title, DisplayUtils.getScaledDimension(500, 350), ADV_TAB_LABELS, true);
+        super(owner, title, DisplayUtils.getScaledDimension(500, 400), ADV_TAB_LABELS, true);
         this.rateLimitOptions = rateLimitOptions;
         this.rateLimitModel = rateLimitModel;
         initFields();
@@ -69,7 +74,11 @@ public class RateLimitRuleAddDialog extends StandardFieldsDialog {
         this.addTextField(0, MATCH_STR_FIELD, "");
         this.addCheckBoxField(0, REGEX_FIELD, false);
 
-        this.addNumberField(0, REQUESTS_PER_SECOND_FIELD, 1, Integer.MAX_VALUE, 1);
+        requestsPerSecondSpinner =
+                new JSpinner(new SpinnerNumberModel(1.0, 0.01, Integer.MAX_VALUE, 1.0));
+        this.addCustomComponent(0, REQUESTS_PER_SECOND_FIELD, requestsPerSecondSpinner);
+        this.addNumberField(0, BURST_FIELD, 1, Integer.MAX_VALUE, 1);
+        this.addCheckBoxField(0, ADAPTIVE_FIELD, false);
         List<String> groupByValues = getGroupByValues();
         this.addComboField(0, GROUP_BY, groupByValues, groupByValues.get(0));
         this.addCheckBoxField(0, ENABLE_FIELD, false);
@@ -114,7 +123,9 @@ public class RateLimitRuleAddDialog extends StandardFieldsDialog {
             this.setFieldValue(DESC_FIELD, rule.getDescription());
             this.setFieldValue(MATCH_STR_FIELD, rule.getMatchString());
             this.setFieldValue(REGEX_FIELD, rule.isMatchRegex());
-            this.setFieldValue(REQUESTS_PER_SECOND_FIELD, rule.getRequestsPerSecond());
+            requestsPerSecondSpinner.setValue(rule.getRequestsPerSecond());
+            this.setFieldValue(BURST_FIELD, rule.getBurst());
+            this.setFieldValue(ADAPTIVE_FIELD, rule.isAdaptive());
             this.setFieldValue(GROUP_BY, rule.getGroupBy().getLabel());
             this.setFieldValue(ENABLE_FIELD, rule.isEnabled());
         }
@@ -147,7 +158,9 @@ public class RateLimitRuleAddDialog extends StandardFieldsDialog {
                         this.getStringValue(DESC_FIELD),
                         this.getStringValue(MATCH_STR_FIELD),
                         this.getBoolValue(REGEX_FIELD),
-                        this.getIntValue(REQUESTS_PER_SECOND_FIELD),
+                        ((Number) requestsPerSecondSpinner.getValue()).doubleValue(),
+                        this.getIntValue(BURST_FIELD),
+                        this.getBoolValue(ADAPTIVE_FIELD),
                         getSelectedGroupBy(),
                         this.getBoolValue(ENABLE_FIELD));
     }
@@ -182,7 +195,9 @@ public class RateLimitRuleAddDialog extends StandardFieldsDialog {
         this.rule = null;
         this.setFieldValue(DESC_FIELD, "");
         this.setFieldValue(MATCH_STR_FIELD, "");
-        this.setFieldValue(REQUESTS_PER_SECOND_FIELD, 1);
+        requestsPerSecondSpinner.setValue(1.0);
+        this.setFieldValue(BURST_FIELD, 1);
+        this.setFieldValue(ADAPTIVE_FIELD, false);
         this.setFieldValue(GROUP_BY, RateLimitRule.GroupBy.RULE.getLabel());
         this.setFieldValue(ENABLE_FIELD, false);
     }
@@ -152,6 +152,7 @@ class LocalServersOptionsUnitTest {
         assertThat(options.isConfirmRemoveServer(), is(equalTo(true)));
         assertThat(
                 options.getBrowserRequestAction(), is(equalTo(BrowserRequestHandler.Action.HIDE)));
+        assertThat(options.getLargeBodyThreshold(), is(equalTo(0)));
         LocalServerConfig mainProxy = options.getMainProxy();
         assertThat(mainProxy, is(notNullValue()));
         assertThat(mainProxy.getAddress(), is(equalTo(LocalServerConfig.DEFAULT_ADDRESS)));
@@ -1726,6 +1727,65 @@ class LocalServersOptionsUnitTest {
                 options.getBrowserRequestAction(), is(equalTo(BrowserRequestHandler.Action.HIDE)));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 1048576, Integer.MAX_VALUE})
+    void shouldSetAndPersistLargeBodyThreshold(int threshold) {
+        // Given / When
+        options.setLargeBodyThreshold(threshold);
+        // Then
+        assertThat(options.getLargeBodyThreshold(), is(equalTo(threshold)));
+        assertThat(
+                config.getInt("network.localServers.largeBodyThreshold"), is(equalTo(threshold)));
+    }
+
+    @Test
+    void shouldThrowIfSettingNegativeLargeBodyThreshold() {
+        // Given
+        int threshold = -1;
+        // When / Then
+        assertThrows(
+                IllegalArgumentException.class, () -> options.setLargeBodyThreshold(threshold));
+        assertThat(options.getLargeBodyThreshold(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldLoadLargeBodyThresholdFromConfig() {
+        // Given
+        config =
+                configWith(
+                        """
+                        <network>
+                          <localServers>
+                            <largeBodyThreshold>1048576</largeBodyThreshold>
+                          </localServers>
+                        </network>
+                        """);
+        // When
+        options.load(config);
+        // Then
+        assertThat(options.getLargeBodyThreshold(), is(equalTo(1048576)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-1", "not a number"})
+    void shouldUseDefaultLargeBodyThresholdForInvalidConfig(String value) {
+        // Given
+        config =
+                configWith(
+                        """
+                        <network>
+                          <localServers>
+                            <largeBodyThreshold>%s</largeBodyThreshold>
+                          </localServers>
+                        </network>
+                        """
+                                .formatted(value));
+        // When
+        options.load(config);
+        // Then
+        assertThat(options.getLargeBodyThreshold(), is(equalTo(0)));
+    }
+
     private static ZapXmlConfiguration configWith(String value) {
         ZapXmlConfiguration config = new ZapXmlConfiguration();
         String contents =
@@ -1559,6 +1559,69 @@ class NetworkApiUnitTest extends TestUtils {
         verify(rateLimitOptions, times(0)).addRule(any());
     }
 
+    @Test
+    void shouldAcceptFractionalRateBurstAndAdaptiveForRateLimitRule() throws Exception {
+        // Given
+        String name = "addRateLimitRule";
+        JSONObject params = new JSONObject();
+        params.put("description", "limit example.org");
+        params.put("matchString", "example.org");
+        params.put("requestsPerSecond", "0.5");
+        params.put("burst", "5");
+        params.put("adaptive", "true");
+        // When
+        ApiResponse response = networkApi.handleApiAction(name, params);
+        // Then
+        assertThat(response, is(equalTo(ApiResponseElement.OK)));
+        verify(rateLimitOptions)
+                .addRule(
+                        new RateLimitRule(
+                                "limit example.org",
+                                "example.org",
+                                false,
+                                0.5,
+                                5,
+                                true,
+                                RateLimitRule.GroupBy.RULE,
+                                true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "NaN", "Infinity", "not a number"})
+    void shouldRejectInvalidRequestsPerSecondForRateLimitRule(String requestsPerSecond)
+            throws Exception {
+        // Given
+        String name = "addRateLimitRule";
+        JSONObject params = new JSONObject();
+        params.put("description", "limit example.org");
+        params.put("matchString", "example.org");
+        params.put("requestsPerSecond", requestsPerSecond);
+        // When
+        ApiException exception =
+                assertThrows(ApiException.class, () -> networkApi.handleApiAction(name, params));
+        // Then
+        assertThat(exception.getType(), is(equalTo(ApiException.Type.ILLEGAL_PARAMETER)));
+        assertThat(exception.getMessage(), containsString("requestsPerSecond"));
+        verify(rateLimitOptions, times(0)).addRule(any());
+    }
+
+    @Test
+    void shouldRejectInvalidBurstForRateLimitRule() throws Exception {
+        // Given
+        String name = "addRateLimitRule";
+        JSONObject params = new JSONObject();
+        params.put("description", "limit example.org");
+        params.put("matchString", "example.org");
+        params.put("burst", "0");
+        // When
+        ApiException exception =
+                assertThrows(ApiException.class, () -> networkApi.handleApiAction(name, params));
+        // Then
+        assertThat(exception.getType(), is(equalTo(ApiException.Type.ILLEGAL_PARAMETER)));
+        assertThat(exception.getMessage(), containsString("burst"));
+        verify(rateLimitOptions, times(0)).addRule(any());
+    }
+
     @Test
     void shouldDefaultToEnabledForAddedRateLimitRule() throws Exception {
         // Given
@@ -1653,7 +1716,7 @@ class NetworkApiUnitTest extends TestUtils {
                 response.toJSON().toString(),
                 is(
                         equalTo(
-                                "{\"getRateLimitRules\":[{\"description\":\"limit example.org\",\"matchString\":\"example.org\",\"requestsPerSecond\":1,\"groupBy\":\"RULE\",\"matchRegex\":false,\"enabled\":true},{\"description\":\"limit example.com\",\"matchString\":\"example.com\",\"requestsPerSecond\":1,\"groupBy\":\"RULE\",\"matchRegex\":false,\"enabled\":false}]}")));
+                                "{\"getRateLimitRules\":[{\"adaptive\":false,\"description\":\"limit example.org\",\"matchString\":\"example.org\",\"requestsPerSecond\":1,\"burst\":1,\"groupBy\":\"RULE\",\"matchRegex\":false,\"enabled\":true},{\"adaptive\":false,\"description\":\"limit example.com\",\"matchString\":\"example.com\",\"requestsPerSecond\":1,\"burst\":1,\"groupBy\":\"RULE\",\"matchRegex\":false,\"enabled\":false}]}")));
     }
 
     private static void checkApiElements(
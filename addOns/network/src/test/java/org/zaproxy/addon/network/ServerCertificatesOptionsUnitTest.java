@@ -26,6 +26,7 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.zaproxy.addon.network.ServerCertificatesOptions.DEFAULT_ROOT_CA_CERT_VALIDITY;
+import static org.zaproxy.addon.network.ServerCertificatesOptions.DEFAULT_SERVER_CERT_CACHE_SIZE;
 import static org.zaproxy.addon.network.ServerCertificatesOptions.DEFAULT_SERVER_CERT_VALIDITY;
 
 import java.security.KeyStore;
@@ -48,6 +49,10 @@ class ServerCertificatesOptionsUnitTest {
             "network.serverCertificates.rootCa.certValidityDays";
     private static final String SERVER_CERT_VALIDITY_DAYS_KEY =
             "network.serverCertificates.server.certValidityDays";
+    private static final String SERVER_CERT_CACHE_SIZE_KEY =
+            "network.serverCertificates.server.cacheSize";
+    private static final String SERVER_CERT_PERSIST_KEY =
+            "network.serverCertificates.server.persist";
 
     private static final String TEST_KEY_STORE_STR = NetworkTestUtils.FISH_CERT_BASE64_STR;
 
@@ -85,6 +90,8 @@ class ServerCertificatesOptionsUnitTest {
         assertThat(
                 options.getServerCertConfig().getValidity(),
                 is(equalTo(Duration.ofDays(DEFAULT_SERVER_CERT_VALIDITY))));
+        assertThat(options.getServerCertCacheSize(), is(equalTo(DEFAULT_SERVER_CERT_CACHE_SIZE)));
+        assertThat(options.isPersistServerCerts(), is(equalTo(false)));
     }
 
     @Test
@@ -380,4 +387,57 @@ class ServerCertificatesOptionsUnitTest {
         assertThat(config.getLong(SERVER_CERT_VALIDITY_DAYS_KEY), is(equalTo(validity.toDays())));
         assertThat(options.getServerCertConfig().getValidity(), is(equalTo(validity)));
     }
+
+    @Test
+    void shouldLoadConfigWithServerCertCacheSizeAndPersist() {
+        // Given
+        ZapXmlConfiguration config = new ZapXmlConfiguration();
+        config.setProperty(SERVER_CERT_CACHE_SIZE_KEY, "50");
+        config.setProperty(SERVER_CERT_PERSIST_KEY, "true");
+        // When
+        options.load(config);
+        // Then
+        assertThat(options.getServerCertCacheSize(), is(equalTo(50)));
+        assertThat(options.isPersistServerCerts(), is(equalTo(true)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-1", "0", "A", ""})
+    void shouldUseDefaultWithInvalidServerCertCacheSize(String size) {
+        // Given
+        ZapXmlConfiguration config = new ZapXmlConfiguration();
+        config.setProperty(SERVER_CERT_CACHE_SIZE_KEY, size);
+        // When
+        options.load(config);
+        // Then
+        assertThat(options.getServerCertCacheSize(), is(equalTo(DEFAULT_SERVER_CERT_CACHE_SIZE)));
+    }
+
+    @Test
+    void shouldSetAndPersistServerCertCacheSizeAndPersist() throws Exception {
+        // Given
+        ZapXmlConfiguration config = new ZapXmlConfiguration();
+        options.load(config);
+        // When
+        options.setServerCertCacheSize(25);
+        options.setPersistServerCerts(true);
+        // Then
+        assertThat(options.getServerCertCacheSize(), is(equalTo(25)));
+        assertThat(config.getInt(SERVER_CERT_CACHE_SIZE_KEY), is(equalTo(25)));
+        assertThat(options.isPersistServerCerts(), is(equalTo(true)));
+        assertThat(config.getBoolean(SERVER_CERT_PERSIST_KEY), is(equalTo(true)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void shouldNotSetNorPersistInvalidServerCertCacheSize(int size) throws Exception {
+        // Given
+        ZapXmlConfiguration config = new ZapXmlConfiguration();
+        options.load(config);
+        options.setServerCertCacheSize(25);
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> options.setServerCertCacheSize(size));
+        assertThat(options.getServerCertCacheSize(), is(equalTo(25)));
+        assertThat(config.getInt(SERVER_CERT_CACHE_SIZE_KEY), is(equalTo(25)));
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.cert;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.KeyPair;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link KeyPairPool}. */
+class KeyPairPoolUnitTest {
+
+    @Test
+    void shouldThrowExceptionWhenCreatingPoolWithNegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyPairPool(-1));
+    }
+
+    @Test
+    void shouldGenerateKeyPairsWithoutPool() throws Exception {
+        try (KeyPairPool pool = new KeyPairPool(0)) {
+            // When
+            KeyPair keyPair1 = pool.take();
+            KeyPair keyPair2 = pool.take();
+            // Then
+            assertThat(keyPair1, is(notNullValue()));
+            assertThat(keyPair2, is(not(sameInstance(keyPair1))));
+            assertThat(pool.getAvailable(), is(equalTo(0)));
+        }
+    }
+
+    @Test
+    void shouldFillPoolInBackground() throws Exception {
+        try (KeyPairPool pool = new KeyPairPool(2)) {
+            // When
+            waitForAvailable(pool, 2);
+            KeyPair keyPair = pool.take();
+            // Then
+            assertThat(keyPair, is(notNullValue()));
+            waitForAvailable(pool, 2);
+        }
+    }
+
+    private static void waitForAvailable(KeyPairPool pool, int expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (pool.getAvailable() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(pool.getAvailable(), is(equalTo(expected)));
+    }
+}
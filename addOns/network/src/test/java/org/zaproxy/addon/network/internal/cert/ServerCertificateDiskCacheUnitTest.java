@@ -0,0 +1,196 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.cert;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.zaproxy.addon.network.NetworkTestUtils;
+
+/** Unit test for {@link ServerCertificateDiskCache}. */
+class ServerCertificateDiskCacheUnitTest {
+
+    private static final CertConfig CONFIG = new CertConfig(Duration.ofDays(365));
+
+    private static X509Certificate rootCaCert;
+    private static PublicKey rootCaPublicKey;
+    private static PrivateKey rootCaPrivateKey;
+
+    @TempDir Path baseDir;
+
+    private CertData certData;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        KeyStore keyStore =
+                CertificateUtils.stringToKeystore(NetworkTestUtils.FISH_CERT_BASE64_STR);
+        rootCaCert = CertificateUtils.getCertificate(keyStore);
+        rootCaPublicKey = rootCaCert.getPublicKey();
+        rootCaPrivateKey = CertificateUtils.getPrivateKey(keyStore);
+    }
+
+    @BeforeEach
+    void setup() {
+        certData = new CertData("example.com");
+    }
+
+    @Test
+    void shouldReadWrittenCertificate() throws Exception {
+        // Given
+        ServerCertificateDiskCache cache = new ServerCertificateDiskCache(baseDir, rootCaCert);
+        KeyStore keyStore = createServerKeyStore(CONFIG);
+        cache.write(certData, CONFIG, keyStore);
+        // When
+        KeyStore readKeyStore = cache.read(certData, CONFIG);
+        // Then
+        assertThat(readKeyStore, is(notNullValue()));
+        assertThat(
+                CertificateUtils.getCertificate(readKeyStore),
+                is(equalTo(CertificateUtils.getCertificate(keyStore))));
+    }
+
+    @Test
+    void shouldReturnNullIfNotCached() throws Exception {
+        // Given
+        ServerCertificateDiskCache cache = new ServerCertificateDiskCache(baseDir, rootCaCert);
+        // When
+        KeyStore keyStore = cache.read(certData, CONFIG);
+        // Then
+        assertThat(keyStore, is(nullValue()));
+    }
+
+    @Test
+    void shouldDeleteUnreadableCertificateOnRead() throws Exception {
+        // Given
+        ServerCertificateDiskCache cache = new ServerCertificateDiskCache(baseDir, rootCaCert);
+        cache.write(certData, CONFIG, createServerKeyStore(CONFIG));
+        Path file = listFiles(baseDir).get(0);
+        Files.writeString(file, "Not a KeyStore");
+        // When
+        KeyStore keyStore = cache.read(certData, CONFIG);
+        // Then
+        assertThat(keyStore, is(nullValue()));
+        assertThat(Files.exists(file), is(equalTo(false)));
+    }
+
+    @Test
+    void shouldDeleteExpiringCertificateOnRead() throws Exception {
+        // Given
+        // The start of the validity is 30 days before the creation.
+        CertConfig config = new CertConfig(Duration.ofDays(30).plusHours(12));
+        ServerCertificateDiskCache cache = new ServerCertificateDiskCache(baseDir, rootCaCert);
+        cache.write(certData, config, createServerKeyStore(config));
+        Path file = listFiles(baseDir).get(0);
+        // When
+        KeyStore keyStore = cache.read(certData, config);
+        // Then
+        assertThat(keyStore, is(nullValue()));
+        assertThat(Files.exists(file), is(equalTo(false)));
+    }
+
+    @Test
+    void shouldDeleteDirectoriesOfOtherRootCasWhenFirstRead() throws Exception {
+        // Given
+        new ServerCertificateDiskCache(baseDir, rootCaCert)
+                .write(certData, CONFIG, createServerKeyStore(CONFIG));
+        Path otherRootCaDir = baseDir.resolve(DigestUtils.sha256Hex("other root CA"));
+        Files.createDirectories(otherRootCaDir);
+        Files.writeString(otherRootCaDir.resolve("cert.ks"), "");
+        Path rootCaDir = baseDir.resolve(DigestUtils.sha256Hex(rootCaCert.getEncoded()));
+        ServerCertificateDiskCache cache = new ServerCertificateDiskCache(baseDir, rootCaCert);
+        // When
+        cache.read(certData, CONFIG);
+        // Then
+        assertThat(Files.exists(otherRootCaDir), is(equalTo(false)));
+        assertThat(listFiles(baseDir), hasSize(1));
+        assertThat(listFiles(baseDir).get(0).getParent(), is(equalTo(rootCaDir)));
+    }
+
+    @Test
+    void shouldDeleteDirectoriesOfOtherRootCasWhenFirstWritten() throws Exception {
+        // Given
+        Path otherRootCaDir = baseDir.resolve(DigestUtils.sha256Hex("other root CA"));
+        Files.createDirectories(otherRootCaDir);
+        Files.writeString(otherRootCaDir.resolve("cert.ks"), "");
+        ServerCertificateDiskCache cache = new ServerCertificateDiskCache(baseDir, rootCaCert);
+        // When
+        cache.write(certData, CONFIG, createServerKeyStore(CONFIG));
+        // Then
+        assertThat(Files.exists(otherRootCaDir), is(equalTo(false)));
+        assertThat(listFiles(baseDir), hasSize(1));
+    }
+
+    @Test
+    void shouldNotDeleteDirectoriesOfOtherRootCasWhenCreated() throws Exception {
+        // Given
+        Path otherRootCaDir = baseDir.resolve(DigestUtils.sha256Hex("other root CA"));
+        Files.createDirectories(otherRootCaDir);
+        Path otherRootCaFile = Files.writeString(otherRootCaDir.resolve("cert.ks"), "");
+        // When
+        new ServerCertificateDiskCache(baseDir, rootCaCert);
+        // Then
+        assertThat(listFiles(baseDir), contains(otherRootCaFile));
+    }
+
+    @Test
+    void shouldNotDeleteOtherFilesWhenUsed() throws Exception {
+        // Given
+        Path otherDir = baseDir.resolve("other");
+        Files.createDirectories(otherDir);
+        Path otherFile = Files.writeString(otherDir.resolve("file"), "");
+        Path file = Files.writeString(baseDir.resolve(DigestUtils.sha256Hex("file")), "");
+        ServerCertificateDiskCache cache = new ServerCertificateDiskCache(baseDir, rootCaCert);
+        // When
+        cache.read(certData, CONFIG);
+        // Then
+        assertThat(listFiles(baseDir), contains(file, otherFile));
+    }
+
+    private KeyStore createServerKeyStore(CertConfig config) throws Exception {
+        return CertificateUtils.createServerKeyStore(
+                rootCaCert, rootCaPublicKey, rootCaPrivateKey, certData, 1, config);
+    }
+
+    private static List<Path> listFiles(Path dir) throws Exception {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+}
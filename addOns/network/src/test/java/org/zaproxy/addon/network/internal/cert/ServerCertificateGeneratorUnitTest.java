@@ -20,19 +20,35 @@
 package org.zaproxy.addon.network.internal.cert;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.KeyStore;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.zaproxy.addon.network.NetworkTestUtils;
 import org.zaproxy.addon.network.ServerCertificatesOptions;
 import org.zaproxy.zap.utils.ZapXmlConfiguration;
@@ -160,4 +176,155 @@ class ServerCertificateGeneratorUnitTest {
                 CertificateUtils.getCertificate(certKeyStoreSecond).getSerialNumber();
         assertThat(secondSerial, is(equalTo(firstSerial.add(BigInteger.ONE))));
     }
+
+    @Test
+    void shouldGenerateCertificateOnceForConcurrentRequests() throws Exception {
+        // Given
+        ServerCertificateGenerator generator =
+                new ServerCertificateGenerator(testKeyStore, options, null, 0);
+        CertData certData = new CertData("example.com");
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<KeyStore>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    return generator.generate(certData);
+                                }));
+            }
+            // When
+            start.countDown();
+            List<KeyStore> keyStores = new ArrayList<>();
+            for (Future<KeyStore> future : futures) {
+                keyStores.add(future.get());
+            }
+            // Then
+            assertThat(keyStores, everyItem(is(sameInstance(keyStores.get(0)))));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedCertificates() {
+        // Given
+        ServerCertificatesOptions options = new ServerCertificatesOptions();
+        options.load(new ZapXmlConfiguration());
+        options.setServerCertCacheSize(2);
+        ServerCertificateGenerator generator =
+                new ServerCertificateGenerator(testKeyStore, options, null, 0);
+        CertData certDataA = new CertData("a.example.com");
+        CertData certDataB = new CertData("b.example.com");
+        CertData certDataC = new CertData("c.example.com");
+        KeyStore keyStoreA = generator.generate(certDataA);
+        KeyStore keyStoreB = generator.generate(certDataB);
+        // When
+        generator.generate(certDataA);
+        generator.generate(certDataC);
+        // Then
+        assertThat(generator.generate(certDataA), is(sameInstance(keyStoreA)));
+        assertThat(generator.generate(certDataB), is(not(sameInstance(keyStoreB))));
+    }
+
+    @Test
+    void shouldNotPersistCertificatesIfNotEnabled(@TempDir Path dir) throws Exception {
+        // Given
+        ServerCertificateGenerator generator =
+                new ServerCertificateGenerator(testKeyStore, options, dir, 0);
+        // When
+        generator.generate(new CertData("example.com"));
+        // Then
+        assertThat(listFiles(dir), is(empty()));
+    }
+
+    @Test
+    void shouldNotDeletePersistedCertificatesOfOtherRootCaIfNotEnabled(@TempDir Path dir)
+            throws Exception {
+        // Given
+        Path otherRootCaDir = dir.resolve(DigestUtils.sha256Hex("other root CA"));
+        Files.createDirectories(otherRootCaDir);
+        Path otherRootCaFile = Files.writeString(otherRootCaDir.resolve("cert.ks"), "");
+        ServerCertificateGenerator generator =
+                new ServerCertificateGenerator(testKeyStore, options, dir, 0);
+        // When
+        generator.generate(new CertData("example.com"));
+        // Then
+        assertThat(listFiles(dir), contains(otherRootCaFile));
+    }
+
+    @Test
+    void shouldReusePersistedCertificatesOfSameRootCa(@TempDir Path dir) throws Exception {
+        // Given
+        ServerCertificatesOptions options = createPersistOptions();
+        CertData certData = new CertData("example.com");
+        KeyStore persisted =
+                new ServerCertificateGenerator(testKeyStore, options, dir, 0).generate(certData);
+        ServerCertificateGenerator generator =
+                new ServerCertificateGenerator(testKeyStore, options, dir, 0);
+        // When
+        KeyStore keyStore = generator.generate(certData);
+        // Then
+        assertThat(keyStore, is(not(sameInstance(persisted))));
+        assertThat(
+                CertificateUtils.getCertificate(keyStore),
+                is(equalTo(CertificateUtils.getCertificate(persisted))));
+        assertThat(
+                CertificateUtils.getPrivateKey(keyStore),
+                is(equalTo(CertificateUtils.getPrivateKey(persisted))));
+    }
+
+    @Test
+    void shouldNotReusePersistedCertificatesOfOtherRootCa(@TempDir Path dir) throws Exception {
+        // Given
+        ServerCertificatesOptions options = createPersistOptions();
+        CertData certData = new CertData("example.com");
+        KeyStore persisted =
+                new ServerCertificateGenerator(testKeyStore, options, dir, 0).generate(certData);
+        KeyStore otherRootCa = CertificateUtils.createRootCaKeyStore(options.getRootCaCertConfig());
+        ServerCertificateGenerator generator =
+                new ServerCertificateGenerator(otherRootCa, options, dir, 0);
+        // When
+        KeyStore keyStore = generator.generate(certData);
+        // Then
+        assertThat(
+                CertificateUtils.getCertificate(keyStore),
+                is(not(equalTo(CertificateUtils.getCertificate(persisted)))));
+        CertificateUtils.getCertificate(keyStore)
+                .verify(CertificateUtils.getCertificate(otherRootCa).getPublicKey());
+    }
+
+    @Test
+    void shouldNotReusePersistedCertificatesWithOtherConfig(@TempDir Path dir) throws Exception {
+        // Given
+        ServerCertificatesOptions options = createPersistOptions();
+        CertData certData = new CertData("example.com");
+        KeyStore persisted =
+                new ServerCertificateGenerator(testKeyStore, options, dir, 0).generate(certData);
+        options.setServerCertValidity(Duration.ofDays(60));
+        ServerCertificateGenerator generator =
+                new ServerCertificateGenerator(testKeyStore, options, dir, 0);
+        // When
+        KeyStore keyStore = generator.generate(certData);
+        // Then
+        assertThat(
+                CertificateUtils.getCertificate(keyStore),
+                is(not(equalTo(CertificateUtils.getCertificate(persisted)))));
+    }
+
+    private static ServerCertificatesOptions createPersistOptions() {
+        ServerCertificatesOptions options = new ServerCertificatesOptions();
+        options.load(new ZapXmlConfiguration());
+        options.setPersistServerCerts(true);
+        return options;
+    }
+
+    private static List<Path> listFiles(Path dir) throws Exception {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
 }
@@ -297,6 +297,7 @@ class HttpSenderImplUnitTest {
                     receivedMessage.getRequestHeader().toString(),
                     is(equalTo(requestHeader.toString())));
             verify(rateLimiter, times(0)).throttle(any(), anyInt());
+            verify(rateLimiter, times(0)).responseReceived(any(), anyInt());
         }
 
         @ParameterizedTest
@@ -318,6 +319,7 @@ class HttpSenderImplUnitTest {
                     receivedMessage.getRequestHeader().toString(),
                     is(equalTo(requestHeader.toString())));
             verify(rateLimiter).throttle(message, INITIATOR);
+            verify(rateLimiter).responseReceived(message, INITIATOR);
         }
 
         @ParameterizedTest
@@ -22,9 +22,14 @@ package org.zaproxy.addon.network.internal.codec;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -151,4 +156,63 @@ class HttpRequestDecoderUnitTest extends HttpMessageDecoderUnitTest {
         assertThat(message.getUserObject(), is(instanceOf(NullPointerException.class)));
         assertChannelState();
     }
+
+    @Test
+    void shouldSpillBodyAboveLargeBodyThreshold() throws Exception {
+        // Given
+        channel = new EmbeddedChannel(new HttpRequestDecoder(4));
+        channel.attr(ChannelAttributes.TLS_UPGRADED).set(Boolean.FALSE);
+        String content = "POST / HTTP/1.1\r\nContent-Length: 10\r\n\r\n0123456789";
+        // When
+        written(content, true);
+        // Then
+        HttpMessage message = channel.readInbound();
+        assertThat(message, is(notNullValue()));
+        assertThat(message.getUserObject(), is(nullValue()));
+        assertThat(message.getRequestBody(), is(instanceOf(SpillableRequestBody.class)));
+        assertThat(message.getRequestBody().toString(), is(equalTo("0123")));
+        SpilledContent spilledContent = SpillableBody.getSpilledContent(message.getRequestBody());
+        try (InputStream is = spilledContent.getInputStream()) {
+            assertThat(
+                    new String(is.readAllBytes(), StandardCharsets.US_ASCII),
+                    is(equalTo("456789")));
+        }
+        SpillableBody.discard(message.getRequestBody());
+        assertChannelState();
+    }
+
+    @Test
+    void shouldSetFullContentLengthOfSpilledChunkedBody() {
+        // Given
+        channel = new EmbeddedChannel(new HttpRequestDecoder(4));
+        channel.attr(ChannelAttributes.TLS_UPGRADED).set(Boolean.FALSE);
+        String content =
+                "POST / HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\n5\r\n01234\r\n5\r\n56789\r\n0\r\n\r\n";
+        // When
+        written(content, true);
+        // Then
+        HttpMessage message = channel.readInbound();
+        assertThat(message, is(notNullValue()));
+        assertThat(message.getRequestHeader().getContentLength(), is(equalTo(10)));
+        assertThat(message.getRequestBody().toString(), is(equalTo("0123")));
+        SpillableBody.discard(message.getRequestBody());
+        assertChannelState();
+    }
+
+    @Test
+    void shouldNotSpillBodyWithContentEncoding() {
+        // Given
+        channel = new EmbeddedChannel(new HttpRequestDecoder(4));
+        channel.attr(ChannelAttributes.TLS_UPGRADED).set(Boolean.FALSE);
+        String content =
+                "POST / HTTP/1.1\r\nContent-Length: 10\r\nContent-Encoding: x\r\n\r\n0123456789";
+        // When
+        written(content, true);
+        // Then
+        HttpMessage message = channel.readInbound();
+        assertThat(message, is(notNullValue()));
+        assertThat(message.getRequestBody(), is(not(instanceOf(SpillableBody.class))));
+        assertThat(message.getRequestBody().length(), is(equalTo(10)));
+        assertChannelState();
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.codec;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.network.HttpBody;
+import org.parosproxy.paros.network.HttpHeader;
+import org.parosproxy.paros.network.HttpResponseHeader;
+import org.zaproxy.zap.network.HttpResponseBody;
+
+/** Unit test for {@link SpillableBody}. */
+class SpillableBodyUnitTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void shouldSetContentLengthOfFullBody() throws Exception {
+        // Given
+        HttpResponseHeader header = createHeader();
+        SpillableResponseBody body = new SpillableResponseBody(4);
+        body.write(CONTENT, CONTENT.length);
+        // When
+        SpillableBody.setContentLength(header, body);
+        // Then
+        assertThat(header.getContentLength(), is(equalTo(10)));
+        assertThat(header.getHeader(HttpHeader.CONTENT_LENGTH), is(equalTo("10")));
+        body.discard();
+    }
+
+    @Test
+    void shouldSetContentLengthOfNonSpillableBody() throws Exception {
+        // Given
+        HttpResponseHeader header = createHeader();
+        HttpBody body = new HttpResponseBody("Body");
+        // When
+        SpillableBody.setContentLength(header, body);
+        // Then
+        assertThat(header.getContentLength(), is(equalTo(4)));
+        assertThat(header.getHeader(HttpHeader.CONTENT_LENGTH), is(equalTo("4")));
+    }
+
+    @Test
+    void shouldSetContentLengthGreaterThanIntegerMaxValueWithoutOverflow() throws Exception {
+        // Given
+        HttpResponseHeader header = createHeader();
+        long spilledLength = Integer.MAX_VALUE + 10L;
+        SpilledContent spilledContent = mock(SpilledContent.class);
+        given(spilledContent.length()).willReturn(spilledLength);
+        HttpBody body = new LargeBody(spilledContent);
+        body.setBody("Body");
+        // When
+        SpillableBody.setContentLength(header, body);
+        // Then
+        assertThat(SpillableBody.getFullLength(body), is(equalTo(spilledLength + 4)));
+        assertThat(
+                header.getHeader(HttpHeader.CONTENT_LENGTH),
+                is(equalTo(Long.toString(spilledLength + 4))));
+    }
+
+    private static HttpResponseHeader createHeader() throws Exception {
+        return new HttpResponseHeader("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n");
+    }
+
+    private static class LargeBody extends HttpResponseBody implements SpillableBody {
+
+        private final SpilledContent spilledContent;
+
+        LargeBody(SpilledContent spilledContent) {
+            this.spilledContent = spilledContent;
+        }
+
+        @Override
+        public int getLimit() {
+            return 4;
+        }
+
+        @Override
+        public void write(byte[] data, int length) {
+            // Nothing to do.
+        }
+
+        @Override
+        public SpilledContent getSpilledContent() {
+            return spilledContent;
+        }
+
+        @Override
+        public void materialise() {
+            // Nothing to do.
+        }
+
+        @Override
+        public void discard() {
+            // Nothing to do.
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.codec;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit test for {@link SpillableRequestBody}. */
+class SpillableRequestBodyUnitTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void shouldThrowIfLimitNotGreaterThanZero(int limit) {
+        assertThrows(IllegalArgumentException.class, () -> new SpillableRequestBody(limit));
+    }
+
+    @Test
+    void shouldKeepContentInMemoryUpToLimit() throws Exception {
+        // Given
+        SpillableRequestBody body = new SpillableRequestBody(10);
+        // When
+        body.write(CONTENT, 5);
+        body.write(CONTENT, 5);
+        // Then
+        assertThat(body.toString(), is(equalTo("0123401234")));
+        assertThat(body.getSpilledContent(), is(nullValue()));
+        assertThat(SpillableBody.getFullLength(body), is(equalTo(10L)));
+    }
+
+    @Test
+    void shouldSpillContentAboveLimit() throws Exception {
+        // Given
+        SpillableRequestBody body = new SpillableRequestBody(4);
+        // When
+        body.write(CONTENT, 3);
+        body.write(CONTENT, CONTENT.length);
+        // Then
+        assertThat(body.toString(), is(equalTo("0120")));
+        assertThat(body.getSpilledContent(), is(notNullValue()));
+        assertThat(readSpilledContent(body), is(equalTo("123456789")));
+        assertThat(SpillableBody.getFullLength(body), is(equalTo(13L)));
+        body.discard();
+    }
+
+    @Test
+    void shouldMaterialiseSpilledContent() throws Exception {
+        // Given
+        SpillableRequestBody body = new SpillableRequestBody(4);
+        body.write(CONTENT, CONTENT.length);
+        // When
+        body.materialise();
+        // Then
+        assertThat(body.toString(), is(equalTo("0123456789")));
+        assertThat(body.getSpilledContent(), is(nullValue()));
+    }
+
+    @Test
+    void shouldDiscardSpilledContentWhenBodyChanged() throws Exception {
+        // Given
+        SpillableRequestBody body = new SpillableRequestBody(4);
+        body.write(CONTENT, CONTENT.length);
+        // When
+        body.setBody("Changed");
+        // Then
+        assertThat(body.toString(), is(equalTo("Changed")));
+        assertThat(body.getSpilledContent(), is(nullValue()));
+        assertThat(SpillableBody.getFullLength(body), is(equalTo(7L)));
+    }
+
+    @Test
+    void shouldDiscardSpilledContentWhenAppendingToBody() throws Exception {
+        // Given
+        SpillableRequestBody body = new SpillableRequestBody(4);
+        body.write(CONTENT, CONTENT.length);
+        // When
+        body.append("X");
+        // Then
+        assertThat(body.toString(), is(equalTo("0123X")));
+        assertThat(body.getSpilledContent(), is(nullValue()));
+    }
+
+    private static String readSpilledContent(SpillableBody body) throws Exception {
+        try (InputStream is = body.getSpilledContent().getInputStream()) {
+            return new String(is.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -20,7 +20,11 @@
 package org.zaproxy.addon.network.internal.ratelimit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
@@ -31,10 +35,16 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.internal.matchers.GreaterThan;
 import org.parosproxy.paros.network.HttpMalformedHeaderException;
@@ -328,6 +338,167 @@ class RateLimiterUnitTest {
         verify(wait, times(0)).waitFor(anyLong());
     }
 
+    @Test
+    void throttleAllowsBurstWithoutWaiting() throws IOException, InterruptedException {
+        // Given
+        ruleExampleDotCom.setBurst(3);
+        RateLimiterImpl limiter = new RateLimiterImpl();
+        limiter.setWait(wait);
+        limiter.configChange(params);
+        HttpMessage msg = msg("www.example.com");
+        // When
+        limiter.throttle(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        limiter.throttle(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        limiter.throttle(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        // Then
+        verify(wait, times(0)).waitFor(anyLong());
+        // When
+        limiter.throttle(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        // Then
+        verify(wait).waitFor(longThat(new GreaterThan<>(0L)));
+    }
+
+    @Test
+    void throttleFractionalRate() throws IOException, InterruptedException {
+        // Given
+        ruleExampleDotCom.setRequestsPerSecond(0.5);
+        RateLimiterImpl limiter = new RateLimiterImpl();
+        limiter.setWait(wait);
+        limiter.configChange(params);
+        HttpMessage msg = msg("www.example.com");
+        // When
+        limiter.throttle(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        limiter.throttle(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        // Then
+        verify(wait).waitFor(longThat(millis -> millis > 1900 && millis <= 2000));
+    }
+
+    @Test
+    void throttleReservesConsecutiveSlotsForWaitingRequests()
+            throws IOException, InterruptedException {
+        // Given
+        RateLimiterImpl limiter = new RateLimiterImpl();
+        limiter.setWait(wait);
+        limiter.configChange(params);
+        HttpMessage msg = msg("careers.bigcorp.com");
+        // When
+        limiter.throttle(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        limiter.throttle(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        limiter.throttle(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        // Then
+        ArgumentCaptor<Long> waits = ArgumentCaptor.forClass(Long.class);
+        verify(wait, times(2)).waitFor(waits.capture());
+        assertThat(waits.getAllValues().get(0), is(both(greaterThan(900L)).and(lessThan(1001L))));
+        assertThat(waits.getAllValues().get(1), is(both(greaterThan(1900L)).and(lessThan(2001L))));
+    }
+
+    @Test
+    void shouldNotAdaptRateIfRuleNotAdaptive() throws IOException {
+        // Given
+        RateLimiterImpl limiter = new RateLimiterImpl();
+        limiter.configChange(params);
+        HttpMessage msg = msg("www.example.com");
+        msg.setResponseHeader("HTTP/1.1 429 Too Many Requests\r\nRetry-After: 10\r\n\r\n");
+        // When
+        limiter.responseReceived(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        // Then
+        assertThat(limiter.getOrCreate(msg, 0).first.getRateFactor(), is(equalTo(1.0)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {429, 503})
+    void shouldBackOffAndHonourRetryAfterIfRuleAdaptive(int statusCode)
+            throws IOException, InterruptedException {
+        // Given
+        ruleExampleDotCom.setAdaptive(true);
+        RateLimiterImpl limiter = new RateLimiterImpl();
+        limiter.setWait(wait);
+        limiter.configChange(params);
+        HttpMessage msg = msg("www.example.com");
+        msg.setResponseHeader("HTTP/1.1 " + statusCode + " Busy\r\nRetry-After: 10\r\n\r\n");
+        // When
+        limiter.responseReceived(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        limiter.throttle(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        // Then
+        assertThat(limiter.getOrCreate(msg, 0).first.getRateFactor(), is(equalTo(0.5)));
+        verify(wait).waitFor(longThat(millis -> millis > 9900 && millis <= 10000));
+    }
+
+    @Test
+    void shouldRecoverRateAfterSuccessfulResponses() throws IOException {
+        // Given
+        ruleExampleDotCom.setAdaptive(true);
+        RateLimiterImpl limiter = new RateLimiterImpl();
+        limiter.configChange(params);
+        HttpMessage msg = msg("www.example.com");
+        msg.setResponseHeader("HTTP/1.1 429 Too Many Requests\r\n\r\n");
+        limiter.responseReceived(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        limiter.responseReceived(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        RateLimiterEntry entry = limiter.getOrCreate(msg, 0).first;
+        assertThat(entry.getRateFactor(), is(equalTo(0.25)));
+        msg.setResponseHeader("HTTP/1.1 200 OK\r\n\r\n");
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.responseReceived(msg, HttpSender.MANUAL_REQUEST_INITIATOR);
+        }
+        // Then
+        assertThat(entry.getRateFactor(), is(equalTo(1.0)));
+    }
+
+    @Test
+    void shouldParseRetryAfterInSeconds() throws IOException {
+        // Given
+        HttpMessage msg = msg("www.example.com");
+        msg.setResponseHeader("HTTP/1.1 429 Too Many Requests\r\nRetry-After: 7\r\n\r\n");
+        // When
+        long pause = RateLimiterImpl.getRetryAfter(msg, 0);
+        // Then
+        assertThat(pause, is(equalTo(TimeUnit.SECONDS.toNanos(7))));
+    }
+
+    @Test
+    void shouldParseRetryAfterAsHttpDate() throws IOException {
+        // Given
+        HttpMessage msg = msg("www.example.com");
+        msg.setResponseHeader(
+                "HTTP/1.1 503 Service Unavailable\r\n"
+                        + "Retry-After: Wed, 21 Oct 2015 07:28:30 GMT\r\n\r\n");
+        long now =
+                ZonedDateTime.of(2015, 10, 21, 7, 28, 0, 0, ZoneOffset.UTC)
+                        .toInstant()
+                        .toEpochMilli();
+        // When
+        long pause = RateLimiterImpl.getRetryAfter(msg, now);
+        // Then
+        assertThat(pause, is(equalTo(TimeUnit.SECONDS.toNanos(30))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-1", "soon", "Wed, 21 Oct 2015 07:28:30 GMT"})
+    void shouldIgnoreMissingInvalidOrPastRetryAfter(String value) throws IOException {
+        // Given
+        HttpMessage msg = msg("www.example.com");
+        msg.setResponseHeader(
+                "HTTP/1.1 429 Too Many Requests\r\nRetry-After: " + value + "\r\n\r\n");
+        // When
+        long pause = RateLimiterImpl.getRetryAfter(msg, System.currentTimeMillis());
+        // Then
+        assertThat(pause, is(equalTo(0L)));
+    }
+
+    @Test
+    void shouldCapRetryAfter() throws IOException {
+        // Given
+        HttpMessage msg = msg("www.example.com");
+        msg.setResponseHeader("HTTP/1.1 429 Too Many Requests\r\nRetry-After: 99999999999\r\n\r\n");
+        // When
+        long pause = RateLimiterImpl.getRetryAfter(msg, 0);
+        // Then
+        assertThat(
+                pause,
+                is(equalTo(TimeUnit.SECONDS.toNanos(RateLimiterImpl.MAX_RETRY_AFTER_SECONDS))));
+    }
+
     @Test
     void setObserver() {
         // Given
@@ -22,6 +22,7 @@ package org.zaproxy.addon.network.internal.server.http;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
@@ -67,6 +68,7 @@ import org.zaproxy.addon.network.internal.cert.ServerCertificateService;
 import org.zaproxy.addon.network.internal.codec.HttpClientCodec;
 import org.zaproxy.addon.network.internal.codec.HttpRequestDecoder;
 import org.zaproxy.addon.network.internal.codec.HttpResponseEncoder;
+import org.zaproxy.addon.network.internal.codec.SpillableResponseBody;
 import org.zaproxy.addon.network.internal.server.ServerConfig;
 import org.zaproxy.addon.network.server.HttpMessageHandler;
 import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
@@ -224,6 +226,45 @@ class MainServerHandlerUnitTest {
         assertResponse("HTTP/1.1 200 OK\r\n\r\n");
     }
 
+    @Test
+    void shouldWriteSpilledContentOfResponseAfterResponse() {
+        // Given
+        String request = "GET / HTTP/1.1\r\n\r\n";
+        handler1.addAction(
+                0,
+                (ctx, msg) -> {
+                    msg.setResponseHeader("HTTP/1.1 200 OK\r\nContent-Length: 10");
+                    SpillableResponseBody body = new SpillableResponseBody(4);
+                    body.write("0123456789".getBytes(StandardCharsets.US_ASCII), 10);
+                    msg.setResponseBody(body);
+                });
+        // When
+        written(request);
+        // Then
+        assertThat(exceptionsThrown, hasSize(0));
+        assertResponse("HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\n0123");
+        assertResponse("456789");
+    }
+
+    @Test
+    void shouldDiscardSpilledContentAfterProcessing() {
+        // Given
+        String request = "GET / HTTP/1.1\r\n\r\n";
+        SpillableResponseBody body = new SpillableResponseBody(4);
+        handler1.addAction(
+                0,
+                (ctx, msg) -> {
+                    msg.setResponseHeader("HTTP/1.1 200 OK\r\nContent-Length: 10");
+                    body.write("0123456789".getBytes(StandardCharsets.US_ASCII), 10);
+                    msg.setResponseBody(body);
+                });
+        // When
+        written(request);
+        // Then
+        assertThat(exceptionsThrown, hasSize(0));
+        assertThat(body.getSpilledContent(), is(nullValue()));
+    }
+
     @Test
     void shouldWriteResponseOfLastHandlerThatSetOne() {
         // Given
@@ -57,7 +57,7 @@ class RateLimitDomainMenuUnitTest {
 
     private static void assertCommonProperties(RateLimitRule rule) {
         assertThat(rule.isMatchRegex(), equalTo(false));
-        assertThat(rule.getRequestsPerSecond(), equalTo(1));
+        assertThat(rule.getRequestsPerSecond(), equalTo(1.0));
         assertThat(rule.getGroupBy(), equalTo(RateLimitRule.GroupBy.RULE));
         assertThat(rule.isEnabled(), equalTo(true));
     }
@@ -56,7 +56,7 @@ class RateLimitHostMenuUnitTest {
     }
 
     private static void assertCommonProperties(RateLimitRule rule) {
-        assertThat(rule.getRequestsPerSecond(), equalTo(1));
+        assertThat(rule.getRequestsPerSecond(), equalTo(1.0));
         assertThat(rule.getGroupBy(), equalTo(RateLimitRule.GroupBy.HOST));
         assertThat(rule.isEnabled(), equalTo(true));
     }
@@ -17,7 +17,7 @@ zapAddOn {
         dependencies {
             addOns {
                 register("database") {
-                    version.set(">=0.8.0 & < 1.0.0")
+                    version.set(">=0.10.0 & < 1.0.0")
                 }
                 register("pscan") {
                     version.set(">= 0.1.0 & < 1.0.0")
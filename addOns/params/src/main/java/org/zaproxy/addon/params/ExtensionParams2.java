@@ -26,7 +26,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeSet;
 import java.util.regex.Pattern;
 import javax.swing.tree.TreeNode;
@@ -63,7 +62,6 @@ import org.zaproxy.zap.extension.help.ExtensionHelp;
 import org.zaproxy.zap.extension.httpsessions.ExtensionHttpSessions;
 import org.zaproxy.zap.extension.params.ExtensionParams;
 import org.zaproxy.zap.extension.search.ExtensionSearch;
-import org.zaproxy.zap.utils.ErrorUtils;
 import org.zaproxy.zap.utils.ThreadUtils;
 import org.zaproxy.zap.view.SiteMapListener;
 import org.zaproxy.zap.view.SiteMapTreeCellRenderer;
@@ -90,6 +88,7 @@ public class ExtensionParams2 extends ExtensionAdaptor {
     private ExtensionHttpSessions extensionHttpSessions;
     private ParamScanner paramScanner;
     private ParamsTableJdo paramsTableJdo;
+    private ParamsWriter paramsWriter;
 
     public ExtensionParams2() {
         super(NAME);
@@ -117,8 +116,15 @@ public class ExtensionParams2 extends ExtensionAdaptor {
         if (deferToCore) {
             return;
         }
+        if (paramsWriter != null) {
+            paramsWriter.shutdown();
+        }
+        if (paramsTableJdo != null) {
+            paramsTableJdo.unload();
+        }
         try {
-            paramsTableJdo = new ParamsTableJdo(db);
+            paramsWriter = new ParamsWriter(ParamsTableJdo::getPmf);
+            paramsTableJdo = new ParamsTableJdo(db, paramsWriter::flush);
         } catch (Exception e) {
             LOGGER.warn("Could not initialize Params session database: {}", e.getMessage(), e);
         }
@@ -193,6 +199,10 @@ public class ExtensionParams2 extends ExtensionAdaptor {
 
     @Override
     public void destroy() {
+        if (paramsWriter != null) {
+            paramsWriter.shutdown();
+            paramsWriter = null;
+        }
         if (paramsTableJdo != null) {
             paramsTableJdo.unload();
             paramsTableJdo = null;
@@ -334,53 +344,9 @@ public class ExtensionParams2 extends ExtensionAdaptor {
         return true;
     }
 
-    private String setToString(Set<String> set) {
-        StringBuilder sb = new StringBuilder();
-        if (set == null) {
-            return "";
-        }
-        // Despite the SonarLint warning we do need to sync on the set
-        synchronized (set) {
-            for (String str : set) {
-                if (sb.length() > 0) {
-                    sb.append(',');
-                }
-                // Escape all commas in the values
-                sb.append(str.replace(",", "%2C"));
-            }
-        }
-        return sb.toString();
-    }
-
     private void persist(HtmlParameterStats param) {
-        var pmf = ParamsTableJdo.getPmf();
-        if (pmf == null) {
-            return;
-        }
-        try {
-            if (param.getId() < 0) {
-                RecordParam rp =
-                        ParamsDao.insert(
-                                pmf,
-                                param.getSite(),
-                                param.getType().name(),
-                                param.getName(),
-                                param.getTimesUsed(),
-                                setToString(param.getFlags()),
-                                setToString(param.getValues()));
-                param.setId(rp.paramId());
-            } else {
-                ParamsDao.update(
-                        pmf,
-                        param.getId(),
-                        param.getTimesUsed(),
-                        setToString(param.getFlags()),
-                        setToString(param.getValues()));
-            }
-        } catch (Exception e) {
-            if (!ErrorUtils.handleDiskSpaceException(e)) {
-                LOGGER.error(e.getMessage(), e);
-            }
+        if (paramsWriter != null) {
+            paramsWriter.add(param);
         }
     }
 
@@ -661,7 +627,9 @@ public class ExtensionParams2 extends ExtensionAdaptor {
 
         @Override
         public void sessionAboutToChange(Session session) {
-            // Nothing to do
+            if (paramsWriter != null) {
+                paramsWriter.flush();
+            }
         }
 
         @Override
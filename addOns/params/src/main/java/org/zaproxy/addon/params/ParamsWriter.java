@@ -0,0 +1,180 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.params;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import javax.jdo.PersistenceManagerFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.addon.database.BufferedEntityWriter;
+import org.zaproxy.addon.params.internal.db.ParamsDao;
+import org.zaproxy.addon.params.internal.db.RecordParam;
+import org.zaproxy.zap.utils.ErrorUtils;
+
+/**
+ * Persists the changes of the {@link HtmlParameterStats} in batches.
+ *
+ * <p>The params changed are kept in memory and written in a single transaction periodically or once
+ * the number of params changed reaches a threshold. A param changed several times before being
+ * written is written just once, with its latest state. If the transaction fails the params are
+ * written one by one, so that one failing param does not prevent the others from being written.
+ *
+ * @see BufferedEntityWriter
+ */
+class ParamsWriter {
+
+    static final long DEFAULT_FLUSH_INTERVAL_MS = 2000;
+
+    static final int DEFAULT_FLUSH_THRESHOLD = 250;
+
+    private static final Logger LOGGER = LogManager.getLogger(ParamsWriter.class);
+
+    private final Supplier<PersistenceManagerFactory> pmfSupplier;
+    private final BiFunction<PersistenceManagerFactory, List<RecordParam>, List<RecordParam>> saver;
+    private final BufferedEntityWriter<HtmlParameterStats> writer;
+
+    ParamsWriter(Supplier<PersistenceManagerFactory> pmfSupplier) {
+        this(pmfSupplier, ParamsDao::save, DEFAULT_FLUSH_INTERVAL_MS, DEFAULT_FLUSH_THRESHOLD);
+    }
+
+    ParamsWriter(
+            Supplier<PersistenceManagerFactory> pmfSupplier,
+            BiFunction<PersistenceManagerFactory, List<RecordParam>, List<RecordParam>> saver,
+            long flushIntervalMs,
+            int flushThreshold) {
+        this.pmfSupplier = pmfSupplier;
+        this.saver = saver;
+        this.writer =
+                new BufferedEntityWriter<>(
+                        this::write, flushThreshold, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds the given param to be persisted, with the state it has when written.
+     *
+     * @param param the param changed.
+     */
+    void add(HtmlParameterStats param) {
+        writer.add(param);
+    }
+
+    /** Writes all the params changed. */
+    void flush() {
+        writer.flush();
+    }
+
+    /** Stops the periodic writes and writes the params still pending. */
+    void shutdown() {
+        writer.close();
+    }
+
+    private void write(List<HtmlParameterStats> changes) {
+        PersistenceManagerFactory pmf = pmfSupplier.get();
+        if (pmf == null) {
+            return;
+        }
+
+        Set<HtmlParameterStats> added = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<HtmlParameterStats> params = new ArrayList<>(changes.size());
+        List<RecordParam> records = new ArrayList<>(changes.size());
+        for (HtmlParameterStats param : changes) {
+            if (added.add(param)) {
+                params.add(param);
+                records.add(toRecord(param));
+            }
+        }
+
+        try {
+            save(pmf, params, records);
+        } catch (Exception e) {
+            if (ErrorUtils.handleDiskSpaceException(e)) {
+                return;
+            }
+            if (params.size() == 1) {
+                LOGGER.error(e.getMessage(), e);
+                return;
+            }
+
+            LOGGER.warn(
+                    "Failed to write {} params in one transaction, writing one by one: {}",
+                    params.size(),
+                    e.getMessage());
+            for (int i = 0; i < params.size(); i++) {
+                try {
+                    save(pmf, List.of(params.get(i)), List.of(records.get(i)));
+                } catch (Exception ex) {
+                    if (ErrorUtils.handleDiskSpaceException(ex)) {
+                        return;
+                    }
+                    LOGGER.error(ex.getMessage(), ex);
+                }
+            }
+        }
+    }
+
+    private void save(
+            PersistenceManagerFactory pmf,
+            List<HtmlParameterStats> params,
+            List<RecordParam> records) {
+        List<RecordParam> saved = saver.apply(pmf, records);
+        for (int i = 0; i < params.size(); i++) {
+            HtmlParameterStats param = params.get(i);
+            if (param.getId() < 0) {
+                param.setId(saved.get(i).paramId());
+            }
+        }
+    }
+
+    private static RecordParam toRecord(HtmlParameterStats param) {
+        return new RecordParam(
+                param.getId(),
+                param.getSite(),
+                param.getType().name(),
+                param.getName(),
+                param.getTimesUsed(),
+                setToString(param.getFlags()),
+                setToString(param.getValues()));
+    }
+
+    private static String setToString(Set<String> set) {
+        StringBuilder sb = new StringBuilder();
+        if (set == null) {
+            return "";
+        }
+        // Despite the SonarLint warning we do need to sync on the set
+        synchronized (set) {
+            for (String str : set) {
+                if (sb.length() > 0) {
+                    sb.append(',');
+                }
+                // Escape all commas in the values
+                sb.append(str.replace(",", "%2C"));
+            }
+        }
+        return sb.toString();
+    }
+}
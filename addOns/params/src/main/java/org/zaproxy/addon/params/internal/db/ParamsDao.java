@@ -49,49 +49,45 @@ public final class ParamsDao {
         }
     }
 
-    public static RecordParam insert(
-            PersistenceManagerFactory pmf,
-            String site,
-            String type,
-            String name,
-            int used,
-            String flags,
-            String values) {
-        ParamsRow row = new ParamsRow();
-        row.setSite(site);
-        row.setType(type);
-        row.setName(name);
-        row.setUsed(used);
-        row.setFlags(flags);
-        row.setVals(values);
-
+    /**
+     * Inserts and updates the given params in a single transaction.
+     *
+     * <p>The params with a negative ID are inserted, the others are updated.
+     *
+     * @param pmf the persistence manager factory.
+     * @param params the params to insert or update.
+     * @return the params persisted, with the IDs assigned, in the same order.
+     */
+    public static List<RecordParam> save(PersistenceManagerFactory pmf, List<RecordParam> params) {
+        List<ParamsRow> rows = new ArrayList<>(params.size());
         PersistenceManager pm = pmf.getPersistenceManager();
         Transaction tx = pm.currentTransaction();
         try {
             tx.begin();
-            pm.makePersistent(row);
+            for (RecordParam param : params) {
+                ParamsRow row;
+                if (param.paramId() < 0) {
+                    row = new ParamsRow();
+                    row.setSite(param.site());
+                    row.setType(param.type());
+                    row.setName(param.name());
+                    pm.makePersistent(row);
+                } else {
+                    row = pm.getObjectById(ParamsRow.class, param.paramId());
+                }
+                row.setUsed(param.used());
+                row.setFlags(param.flags());
+                row.setVals(param.values());
+                rows.add(row);
+            }
             pm.flush();
             tx.commit();
-            return toRecord(row);
-        } finally {
-            if (tx.isActive()) {
-                tx.rollback();
-            }
-            pm.close();
-        }
-    }
 
-    public static void update(
-            PersistenceManagerFactory pmf, long id, int used, String flags, String values) {
-        PersistenceManager pm = pmf.getPersistenceManager();
-        Transaction tx = pm.currentTransaction();
-        try {
-            tx.begin();
-            ParamsRow row = pm.getObjectById(ParamsRow.class, id);
-            row.setUsed(used);
-            row.setFlags(flags);
-            row.setVals(values);
-            tx.commit();
+            List<RecordParam> result = new ArrayList<>(rows.size());
+            for (ParamsRow row : rows) {
+                result.add(toRecord(row));
+            }
+            return result;
         } finally {
             if (tx.isActive()) {
                 tx.rollback();
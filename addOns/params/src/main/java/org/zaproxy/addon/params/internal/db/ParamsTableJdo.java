@@ -36,9 +36,18 @@ public class ParamsTableJdo implements DatabaseListener {
     private static PersistenceManagerFactory pmf;
 
     private final Database db;
+    private final Runnable closingHandler;
 
-    public ParamsTableJdo(Database db) throws DatabaseException {
+    /**
+     * Constructs a {@code ParamsTableJdo} for the given database.
+     *
+     * @param db the database.
+     * @param closingHandler called before the database is closed, while still usable.
+     * @throws DatabaseException if an error occurred while opening the table.
+     */
+    public ParamsTableJdo(Database db, Runnable closingHandler) throws DatabaseException {
         this.db = db;
+        this.closingHandler = closingHandler;
         db.addDatabaseListener(this);
         databaseOpen(db.getDatabaseServer());
     }
@@ -71,6 +80,7 @@ public class ParamsTableJdo implements DatabaseListener {
 
     @Override
     public void closing(DatabaseServer db) {
+        closingHandler.run();
         if (pmf != null) {
             pmf.close();
             pmf = null;
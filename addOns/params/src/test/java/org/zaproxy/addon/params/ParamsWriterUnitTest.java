@@ -0,0 +1,256 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.params;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.jdo.PersistenceManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.network.HtmlParameter;
+import org.zaproxy.addon.params.internal.db.RecordParam;
+
+/** Unit test for {@link ParamsWriter}. */
+class ParamsWriterUnitTest {
+
+    private static final long NO_PERIODIC_FLUSH = 600_000;
+
+    private PersistenceManagerFactory pmf;
+    private List<List<RecordParam>> batches;
+    private long nextId;
+    private ParamsWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        pmf = mock(PersistenceManagerFactory.class);
+        batches = new CopyOnWriteArrayList<>();
+        nextId = 1;
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    void shouldNotWriteUntilFlushed() {
+        // Given
+        writer = createWriter(10);
+        // When
+        writer.add(createParam("a"));
+        // Then
+        assertThat(batches, is(empty()));
+    }
+
+    @Test
+    void shouldWriteAllPendingParamsInOneBatch() {
+        // Given
+        writer = createWriter(10);
+        writer.add(createParam("a"));
+        writer.add(createParam("b"));
+        // When
+        writer.flush();
+        // Then
+        assertThat(batches, hasSize(1));
+        assertThat(batches.get(0), hasSize(2));
+    }
+
+    @Test
+    void shouldCoalesceChangesOfSameParam() {
+        // Given
+        writer = createWriter(10);
+        HtmlParameterStats param = createParam("a");
+        writer.add(param);
+        param.incTimesUsed();
+        param.addValue("other");
+        writer.add(param);
+        // When
+        writer.flush();
+        // Then
+        assertThat(batches, hasSize(1));
+        assertThat(batches.get(0), hasSize(1));
+        RecordParam record = batches.get(0).get(0);
+        assertThat(record.used(), is(equalTo(2)));
+        assertThat(Arrays.asList(record.values().split(",")), containsInAnyOrder("value", "other"));
+    }
+
+    @Test
+    void shouldAssignIdOfInsertedParamAndUpdateAfter() {
+        // Given
+        writer = createWriter(10);
+        HtmlParameterStats param = createParam("a");
+        writer.add(param);
+        writer.flush();
+        // When
+        writer.add(param);
+        writer.flush();
+        // Then
+        assertThat(param.getId(), is(equalTo(1L)));
+        assertThat(batches, hasSize(2));
+        assertThat(batches.get(0).get(0).paramId(), is(equalTo(-1L)));
+        assertThat(batches.get(1).get(0).paramId(), is(equalTo(1L)));
+    }
+
+    @Test
+    void shouldWriteOnceThresholdReached() throws Exception {
+        // Given
+        writer = createWriter(2);
+        writer.add(createParam("a"));
+        // When
+        writer.add(createParam("b"));
+        // Then
+        for (int i = 0; i < 100 && batches.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(batches, hasSize(1));
+    }
+
+    @Test
+    void shouldWritePendingParamsOnShutdown() {
+        // Given
+        writer = createWriter(10);
+        writer.add(createParam("a"));
+        // When
+        writer.shutdown();
+        // Then
+        assertThat(batches, hasSize(1));
+    }
+
+    @Test
+    void shouldNotWriteIfNoDatabase() {
+        // Given
+        pmf = null;
+        writer = createWriter(10);
+        writer.add(createParam("a"));
+        // When
+        writer.flush();
+        // Then
+        assertThat(batches, is(empty()));
+    }
+
+    @Test
+    void shouldNotWriteIfNothingPending() {
+        // Given
+        writer = createWriter(10);
+        // When
+        writer.flush();
+        // Then
+        assertThat(batches, is(empty()));
+    }
+
+    @Test
+    void shouldKeepWritingAfterError() {
+        // Given
+        writer =
+                new ParamsWriter(
+                        () -> pmf,
+                        (pmf, records) -> {
+                            batches.add(records);
+                            throw new RuntimeException("Failed");
+                        },
+                        NO_PERIODIC_FLUSH,
+                        10);
+        writer.add(createParam("a"));
+        writer.flush();
+        // When
+        writer.add(createParam("b"));
+        writer.flush();
+        // Then
+        assertThat(batches, hasSize(2));
+        assertThat(batches.get(1).get(0).name(), is(equalTo("b")));
+    }
+
+    @Test
+    void shouldWriteParamsOneByOneIfBatchFailed() {
+        // Given
+        writer =
+                new ParamsWriter(
+                        () -> pmf,
+                        (pmf, records) -> {
+                            if (records.stream().anyMatch(r -> "bad".equals(r.name()))) {
+                                batches.add(records);
+                                throw new RuntimeException("Failed");
+                            }
+                            return save(pmf, records);
+                        },
+                        NO_PERIODIC_FLUSH,
+                        10);
+        HtmlParameterStats paramA = createParam("a");
+        HtmlParameterStats paramBad = createParam("bad");
+        HtmlParameterStats paramB = createParam("b");
+        writer.add(paramA);
+        writer.add(paramBad);
+        writer.add(paramB);
+        // When
+        writer.flush();
+        // Then
+        assertThat(batches, hasSize(4));
+        assertThat(batches.get(0), hasSize(3));
+        assertThat(batches.get(1).get(0).name(), is(equalTo("a")));
+        assertThat(batches.get(2).get(0).name(), is(equalTo("bad")));
+        assertThat(batches.get(3).get(0).name(), is(equalTo("b")));
+        assertThat(paramA.getId(), is(equalTo(1L)));
+        assertThat(paramBad.getId(), is(equalTo(-1L)));
+        assertThat(paramB.getId(), is(equalTo(2L)));
+    }
+
+    private ParamsWriter createWriter(int threshold) {
+        return new ParamsWriter(() -> pmf, this::save, NO_PERIODIC_FLUSH, threshold);
+    }
+
+    private List<RecordParam> save(PersistenceManagerFactory pmf, List<RecordParam> records) {
+        batches.add(records);
+        List<RecordParam> saved = new ArrayList<>(records.size());
+        for (RecordParam record : records) {
+            long id = record.paramId() < 0 ? nextId++ : record.paramId();
+            saved.add(
+                    new RecordParam(
+                            id,
+                            record.site(),
+                            record.type(),
+                            record.name(),
+                            record.used(),
+                            record.flags(),
+                            record.values()));
+        }
+        return saved;
+    }
+
+    private static HtmlParameterStats createParam(String name) {
+        Set<String> flags = new HashSet<>();
+        return new HtmlParameterStats(
+                "example.com:443", name, HtmlParameter.Type.url, "value", flags);
+    }
+}
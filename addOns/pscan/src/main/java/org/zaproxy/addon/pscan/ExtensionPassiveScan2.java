@@ -42,6 +42,7 @@ import org.parosproxy.paros.extension.history.ProxyListenerLog;
 import org.parosproxy.paros.model.Model;
 import org.parosproxy.paros.model.Session;
 import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpSender;
 import org.zaproxy.addon.pscan.internal.AddOnScanRulesLoader;
 import org.zaproxy.addon.pscan.internal.DefaultStatsListener;
 import org.zaproxy.addon.pscan.internal.PassiveScannerOptions;
@@ -50,6 +51,7 @@ import org.zaproxy.addon.pscan.internal.ScanRuleManager;
 import org.zaproxy.addon.pscan.internal.StatsPassiveScanner;
 import org.zaproxy.addon.pscan.internal.scanner.PassiveScanController;
 import org.zaproxy.addon.pscan.internal.scanner.PassiveScanTask;
+import org.zaproxy.addon.pscan.internal.scanner.PassiveScanTaskHelper;
 import org.zaproxy.addon.pscan.internal.ui.OptionsPassiveScan;
 import org.zaproxy.addon.pscan.internal.ui.PassiveScannerOptionsPanel;
 import org.zaproxy.addon.pscan.internal.ui.PolicyPassiveScanPanel;
@@ -60,6 +62,7 @@ import org.zaproxy.zap.extension.pscan.PassiveScanner;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
 import org.zaproxy.zap.extension.script.ExtensionScript;
 import org.zaproxy.zap.extension.script.ScriptType;
+import org.zaproxy.zap.network.HttpSenderListener;
 import org.zaproxy.zap.utils.DisplayUtils;
 import org.zaproxy.zap.utils.Stats;
 import org.zaproxy.zap.utils.StatsListener;
@@ -317,6 +320,7 @@ public class ExtensionPassiveScan2 extends ExtensionAdaptor {
         }
 
         extensionHook.addProxyListener(new ProxyListenerImpl());
+        extensionHook.addHttpSenderListener(new HttpSenderListenerImpl());
         extensionHook.addSessionListener(new SessionListenerImpl());
     }
 
@@ -464,6 +468,28 @@ public class ExtensionPassiveScan2 extends ExtensionAdaptor {
         }
     }
 
+    private class HttpSenderListenerImpl implements HttpSenderListener {
+
+        @Override
+        public int getListenerOrder() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public void onHttpRequestSend(HttpMessage msg, int initiator, HttpSender sender) {
+            // Nothing to do.
+        }
+
+        @Override
+        public void onHttpResponseReceive(HttpMessage msg, int initiator, HttpSender sender) {
+            if (psc != null
+                    && initiator != HttpSender.PROXY_INITIATOR
+                    && PassiveScanTaskHelper.isApplicableInitiator(initiator)) {
+                psc.messageSent();
+            }
+        }
+    }
+
     private class SessionListenerImpl implements SessionChangedListener {
 
         @Override
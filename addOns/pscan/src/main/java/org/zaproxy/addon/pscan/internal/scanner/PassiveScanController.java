@@ -21,8 +21,10 @@ package org.zaproxy.addon.pscan.internal.scanner;
 
 import java.util.List;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -40,17 +42,26 @@ public class PassiveScanController extends Thread {
 
     private static final Logger LOGGER = LogManager.getLogger(PassiveScanController.class);
 
+    /**
+     * The number of tasks, per passive scan thread, that can be queued before the controller stops
+     * loading new records, to keep the executor's queue bounded.
+     */
+    private static final int QUEUED_TASKS_PER_THREAD = 50;
+
     private ExtensionHistory extHist;
     private PassiveScanTaskHelper helper;
     private Session session;
 
     private ThreadPoolExecutor executor;
+    private Semaphore taskPermits;
+    private final Semaphore newMessages = new Semaphore(0);
 
     private int currentId = 1;
     private int lastId = -1;
     private int mainSleep = 2000;
     private int postSleep = 200;
     private volatile boolean shutDown = false;
+    private volatile boolean senderMessages;
 
     public PassiveScanController(
             ExtensionPassiveScan2 extPscan, ExtensionHistory extHistory, ExtensionAlert extAlert) {
@@ -83,63 +94,116 @@ public class PassiveScanController extends Thread {
         currentId = this.getLastHistoryId();
         lastId = currentId;
 
-        // Prevent re-scanning of existing message.
-        if (currentId != 0) {
-            currentId++;
+        while (!shutDown) {
+            waitForNewMessages();
+            if (shutDown) {
+                return;
+            }
+
+            lastId = this.getLastHistoryId();
+            // Load all the records added since the last pass, in one batch.
+            while (currentId < lastId && !shutDown) {
+                currentId++;
+                submit(currentId);
+            }
+            Stats.setHighwaterMark("stats.pscan.recordsToScan", this.getRecordsToScan());
+        }
+    }
+
+    /**
+     * Waits until notified of new messages or until the polling interval elapses, whichever happens
+     * first.
+     *
+     * <p>The polling interval is still needed for messages that are not proxied nor sent through
+     * the {@code HttpSender}, for example, imported messages. If the last notification came from
+     * the {@code HttpSender} a shorter interval is used, the message might have been notified
+     * before being persisted.
+     */
+    private void waitForNewMessages() {
+        try {
+            int sleep = senderMessages ? postSleep : mainSleep;
+            senderMessages = false;
+            if (newMessages.tryAcquire(sleep, TimeUnit.MILLISECONDS)) {
+                newMessages.drainPermits();
+            }
+        } catch (InterruptedException e) {
+            // Ignore, just check for new records.
         }
+    }
+
+    private void submit(int historyId) {
         HistoryReference href = null;
+        try {
+            href = getHistoryReference(historyId);
 
-        while (!shutDown) {
+            if (href == null || (getOptions().isScanOnlyInScope() && !session.isInScope(href))) {
+                return;
+            }
+
+            if (!acquireTaskPermit()) {
+                return;
+            }
+
+            LOGGER.debug(
+                    "Submitting request to executor: {} id {} type {}",
+                    href.getURI(),
+                    historyId,
+                    href.getHistoryType());
+            PassiveScanTask task = new PassiveScanTask(href, helper);
+            Semaphore permits = taskPermits;
             try {
-                if (href != null || lastId > currentId) {
-                    currentId++;
-                } else {
-                    // Either just started or there are no new records
-                    try {
-                        Thread.sleep(mainSleep);
-                        if (shutDown) {
-                            return;
-                        }
-                    } catch (InterruptedException e) {
-                        // New URL, but give it a chance to be processed first
-                        try {
-                            Thread.sleep(postSleep);
-                        } catch (InterruptedException e2) {
-                            // Ignore
-                        }
-                    }
-                    lastId = this.getLastHistoryId();
-                }
-                href = getHistoryReference(currentId);
+                getExecutor()
+                        .execute(
+                                () -> {
+                                    try {
+                                        task.run();
+                                    } finally {
+                                        permits.release();
+                                    }
+                                });
+            } catch (RuntimeException e) {
+                permits.release();
+                helper.removeTaskFromList(task);
+                throw e;
+            }
+            Stats.setHighwaterMark("stats.pscan.queue.depth", executor.getQueue().size());
 
-                if (shutDown) {
-                    return;
-                }
+        } catch (Exception e) {
+            if (shutDown) {
+                return;
+            }
+            if (href != null
+                    && HistoryReference.getTemporaryTypes().contains(href.getHistoryType())) {
+                LOGGER.debug("Temporary record {} no longer available:", historyId, e);
+            } else {
+                LOGGER.error("Failed on record {} from History table", historyId, e);
+            }
+        }
+    }
 
-                if (href != null
-                        && (!getOptions().isScanOnlyInScope() || session.isInScope(href))) {
-                    LOGGER.debug(
-                            "Submitting request to executor: {} id {} type {}",
-                            href.getURI(),
-                            currentId,
-                            href.getHistoryType());
-                    getExecutor().submit(new PassiveScanTask(href, helper));
-                }
-                int recordsToScan = this.getRecordsToScan();
-                Stats.setHighwaterMark("stats.pscan.recordsToScan", recordsToScan);
+    /**
+     * Acquires a permit to submit a task, waiting while the queue is full.
+     *
+     * @return {@code true} if the permit was acquired, {@code false} if shutting down.
+     */
+    private boolean acquireTaskPermit() {
+        getExecutor();
+        if (taskPermits.tryAcquire()) {
+            return true;
+        }
 
-            } catch (Exception e) {
-                if (shutDown) {
-                    return;
-                }
-                if (href != null
-                        && HistoryReference.getTemporaryTypes().contains(href.getHistoryType())) {
-                    LOGGER.debug("Temporary record {} no longer available:", currentId, e);
-                } else {
-                    LOGGER.error("Failed on record {} from History table", currentId, e);
+        Stats.incCounter("stats.pscan.queue.deferred");
+        LOGGER.debug("Passive scan queue full, waiting for tasks to complete.");
+        while (!shutDown) {
+            try {
+                if (taskPermits.tryAcquire(mainSleep, TimeUnit.MILLISECONDS)) {
+                    return true;
                 }
+            } catch (InterruptedException e) {
+                // Ignore, check again.
             }
         }
+        return false;
     }
 
     private PassiveScannerOptions getOptions() {
@@ -155,6 +219,7 @@ public class PassiveScanController extends Thread {
                     (ThreadPoolExecutor)
                             Executors.newFixedThreadPool(
                                     threads, new PassiveScanThreadFactory("ZAP-PassiveScan-"));
+            this.taskPermits = new Semaphore(threads + threads * QUEUED_TASKS_PER_THREAD);
         }
         return this.executor;
     }
@@ -180,9 +245,6 @@ public class PassiveScanController extends Thread {
     }
 
     private int getLastScannedId() {
-        if (currentId > lastId) {
-            return currentId - 1;
-        }
         return currentId;
     }
 
@@ -193,6 +255,7 @@ public class PassiveScanController extends Thread {
             this.executor.shutdown();
         }
         this.helper.shutdownTasks();
+        newMessages.release();
     }
 
     public List<PassiveScanTask> getRunningTasks() {
@@ -204,13 +267,30 @@ public class PassiveScanController extends Thread {
     }
 
     public void clearQueue() {
-        currentId = this.getLastHistoryId();
+        int last = this.getLastHistoryId();
+        if (last > currentId) {
+            Stats.incCounter("stats.pscan.queue.dropped", last - currentId);
+        }
+        currentId = last;
         lastId = currentId;
         this.helper.shutdownTasks();
     }
 
+    /**
+     * Notifies that a proxied message was received and persisted, the controller will start
+     * scanning it right away.
+     */
     public void responseReceived() {
-        this.interrupt();
+        newMessages.release();
+    }
+
+    /**
+     * Notifies that a message was sent through the {@code HttpSender}, the message might not be
+     * persisted yet so the controller will check for it shortly.
+     */
+    public void messageSent() {
+        senderMessages = true;
+        newMessages.release();
     }
 
     private static class PassiveScanThreadFactory implements ThreadFactory {
@@ -31,7 +31,7 @@ import org.parosproxy.paros.model.Model;
 import org.parosproxy.paros.network.HttpHeader;
 import org.parosproxy.paros.network.HttpMalformedHeaderException;
 import org.parosproxy.paros.network.HttpMessage;
-import org.zaproxy.zap.extension.pscan.PassiveScanData;
+import org.zaproxy.addon.commonlib.http.SharedPassiveScanData;
 import org.zaproxy.zap.extension.pscan.PassiveScanner;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
 import org.zaproxy.zap.utils.Stats;
@@ -47,6 +47,7 @@ public class PassiveScanTask implements Runnable {
     private Boolean completed = null;
     private boolean shutdown = false;
     private PassiveScanner currentScanner;
+    private final long queuedTime;
     private long startTime;
     private long stopTime;
 
@@ -56,6 +57,7 @@ public class PassiveScanTask implements Runnable {
         this.href = hr;
         this.helper = helper;
         this.maxBodySize = helper.getMaxBodySizeInBytesToScan();
+        this.queuedTime = System.currentTimeMillis();
         helper.addTaskToList(this);
     }
 
@@ -92,13 +94,17 @@ public class PassiveScanTask implements Runnable {
         boolean scanned = false;
         startTime = System.currentTimeMillis();
 
+        long queueLatency = startTime - queuedTime;
+        Stats.incCounter("stats.pscan.queue.latency", queueLatency);
+        Stats.setHighwaterMark("stats.pscan.queue.latency.max", queueLatency);
+
         completed = false;
 
         try {
             // Parse the record
             HttpMessage msg = href.getHttpMessage();
-            Source src = new Source(msg.getResponseBody().toString());
-            PassiveScanData passiveScanData = new PassiveScanData(msg);
+            SharedPassiveScanData passiveScanData = new SharedPassiveScanData(msg);
+            Source src = passiveScanData.getResponseView().getSource();
 
             for (PassiveScanner scanner : helper.getPassiveScanRuleManager().getScanners()) {
                 currentScanner = scanner;
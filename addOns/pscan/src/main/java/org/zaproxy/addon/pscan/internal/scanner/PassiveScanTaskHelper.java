@@ -34,6 +34,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.core.scanner.Alert;
 import org.parosproxy.paros.model.HistoryReference;
+import org.parosproxy.paros.network.HttpSender;
 import org.zaproxy.addon.pscan.ExtensionPassiveScan2;
 import org.zaproxy.addon.pscan.PassiveScannersManager;
 import org.zaproxy.addon.pscan.internal.PassiveScannerOptions;
@@ -49,6 +50,40 @@ public class PassiveScanTaskHelper implements PassiveScanActions {
 
     private static Set<Integer> optedInHistoryTypes = new HashSet<>();
 
+    /**
+     * The history types of the messages sent by the initiators, for the initiators whose messages
+     * are always persisted with the same type (or never persisted, {@code TYPE_TEMPORARY}).
+     */
+    private static final Map<Integer, Integer> INITIATOR_HISTORY_TYPES =
+            Map.ofEntries(
+                    Map.entry(HttpSender.ACTIVE_SCANNER_INITIATOR, HistoryReference.TYPE_SCANNER),
+                    Map.entry(HttpSender.SPIDER_INITIATOR, HistoryReference.TYPE_SPIDER),
+                    Map.entry(HttpSender.FUZZER_INITIATOR, HistoryReference.TYPE_FUZZER),
+                    Map.entry(
+                            HttpSender.AUTHENTICATION_INITIATOR,
+                            HistoryReference.TYPE_AUTHENTICATION),
+                    Map.entry(HttpSender.MANUAL_REQUEST_INITIATOR, HistoryReference.TYPE_ZAP_USER),
+                    Map.entry(
+                            HttpSender.CHECK_FOR_UPDATES_INITIATOR,
+                            HistoryReference.TYPE_TEMPORARY),
+                    Map.entry(
+                            HttpSender.ACCESS_CONTROL_SCANNER_INITIATOR,
+                            HistoryReference.TYPE_ACCESS_CONTROL),
+                    Map.entry(HttpSender.AJAX_SPIDER_INITIATOR, HistoryReference.TYPE_SPIDER_AJAX),
+                    Map.entry(
+                            HttpSender.FORCED_BROWSE_INITIATOR, HistoryReference.TYPE_BRUTE_FORCE),
+                    Map.entry(
+                            HttpSender.TOKEN_GENERATOR_INITIATOR, HistoryReference.TYPE_TEMPORARY),
+                    Map.entry(
+                            HttpSender.AUTHENTICATION_POLL_INITIATOR,
+                            HistoryReference.TYPE_TEMPORARY),
+                    Map.entry(HttpSender.OAST_INITIATOR, HistoryReference.TYPE_OAST),
+                    Map.entry(
+                            HttpSender.PARAM_DIGGER_INITIATOR, HistoryReference.TYPE_PARAM_DIGGER),
+                    Map.entry(
+                            HttpSender.CLIENT_SPIDER_INITIATOR,
+                            HistoryReference.TYPE_CLIENT_SPIDER));
+
     private volatile boolean shutDown = false;
 
     private final ExtensionPassiveScan2 extPscan;
@@ -220,6 +255,25 @@ public class PassiveScanTaskHelper implements PassiveScanActions {
         return Collections.unmodifiableSet(optedInHistoryTypes);
     }
 
+    /**
+     * Tells whether or not the messages sent by the given initiator might be passively scanned,
+     * that is, they might be persisted with an applicable history type.
+     *
+     * <p>Initiators whose messages might be persisted with any type (e.g. scripts) are always
+     * considered applicable.
+     *
+     * @param initiator the initiator of the message, one of the {@code HttpSender} initiators.
+     * @return {@code true} if the messages might be passively scanned, {@code false} otherwise.
+     */
+    public static boolean isApplicableInitiator(int initiator) {
+        Integer type = INITIATOR_HISTORY_TYPES.get(initiator);
+        if (type == null) {
+            return true;
+        }
+        return PluginPassiveScanner.getDefaultHistoryTypes().contains(type)
+                || optedInHistoryTypes.contains(type);
+    }
+
     /**
      * Returns the full set (both default and "opted-in") which are to be applicable for passive
      * scanning.
@@ -25,9 +25,19 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -40,6 +50,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.mockito.quality.Strictness;
 import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.control.Control;
 import org.parosproxy.paros.extension.history.ExtensionHistory;
@@ -55,9 +66,10 @@ import org.zaproxy.zap.extension.alert.ExtensionAlert;
 import org.zaproxy.zap.extension.pscan.PassiveScanner;
 import org.zaproxy.zap.testutils.TestUtils;
 import org.zaproxy.zap.utils.I18N;
+import org.zaproxy.zap.utils.Stats;
+import org.zaproxy.zap.utils.StatsListener;
 
 /** Unit test for {@link PassiveScanController}. */
-@Disabled("Requires latest core changes to work properly.")
 class PassiveScanControllerUnitTest extends TestUtils {
 
     private static final String EXAMPLE_URL = "https://www.example.com";
@@ -68,6 +80,7 @@ class PassiveScanControllerUnitTest extends TestUtils {
     private ExtensionAlert extAlert;
     private PassiveScannerOptions options;
     private Session session;
+    private StatsListener statsListener;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -93,6 +106,9 @@ class PassiveScanControllerUnitTest extends TestUtils {
         given(optionsParam.getParamSet(PassiveScannerOptions.class)).willReturn(options);
         given(options.getPassiveScanThreads()).willReturn(2);
 
+        statsListener = mock(StatsListener.class);
+        Stats.addListener(statsListener);
+
         psc = new PassiveScanController(extPscan, extHistory, extAlert);
         psc.setSession(session);
     }
@@ -100,6 +116,7 @@ class PassiveScanControllerUnitTest extends TestUtils {
     @AfterEach
     void cleanup() {
         psc.shutdown();
+        Stats.removeListener(statsListener);
     }
 
     private static void sleep(int msecs) {
@@ -111,6 +128,7 @@ class PassiveScanControllerUnitTest extends TestUtils {
     }
 
     @Test
+    @Disabled("Requires latest core changes to work properly.")
     void shouldProcessInScopeHistoryRecord() throws Exception {
         // Given
         HttpMessage msg = new HttpMessage(new URI(EXAMPLE_URL, true));
@@ -138,6 +156,7 @@ class PassiveScanControllerUnitTest extends TestUtils {
     }
 
     @Test
+    @Disabled("Requires latest core changes to work properly.")
     void shouldProcessHistoryRecordEvenIfConstantlyInterrupted() throws Exception {
         ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
         try {
@@ -169,6 +188,7 @@ class PassiveScanControllerUnitTest extends TestUtils {
     }
 
     @Test
+    @Disabled("Requires latest core changes to work properly.")
     void shouldProcessOutOfScopeHistoryRecordByDefault() throws Exception {
         // Given
         HttpMessage msg = new HttpMessage(new URI(EXAMPLE_URL, true));
@@ -199,6 +219,7 @@ class PassiveScanControllerUnitTest extends TestUtils {
     }
 
     @Test
+    @Disabled("Requires latest core changes to work properly.")
     void shouldNotProcessOutOfScopeHistoryRecordIfOptionSet() throws Exception {
         // Given
         HttpMessage msg = new HttpMessage(new URI(EXAMPLE_URL, true));
@@ -229,6 +250,7 @@ class PassiveScanControllerUnitTest extends TestUtils {
     }
 
     @Test
+    @Disabled("Requires latest core changes to work properly.")
     void shouldReturnRunningTasks() throws Exception {
         // Given
         String exampleUrl1 = EXAMPLE_URL + "/1";
@@ -284,6 +306,118 @@ class PassiveScanControllerUnitTest extends TestUtils {
         assertThat(tasks.get(1).getURI().toString(), is(equalTo(exampleUrl2)));
     }
 
+    @Test
+    void shouldWaitForTaskPermitsWhenQueueIsFull() throws Exception {
+        // Given
+        int permits = 1 + 50;
+        int records = permits + 5;
+        given(options.getPassiveScanThreads()).willReturn(1);
+        given(extHistory.getLastHistoryId()).willReturn(0, records);
+        given(extHistory.getHistoryReference(anyInt()))
+                .willAnswer(invocation -> createHistoryReference(invocation.getArgument(0)));
+        ScanState scanState = new ScanState(true, records);
+        given(scanRuleManager.getScanners())
+                .willReturn(List.of(new TestPassiveScanner(true, scanState)));
+        // When
+        psc.start();
+        psc.responseReceived();
+        scanState.waitScanStarted(1);
+        // Then
+        verify(extHistory, timeout(5000)).getHistoryReference(permits + 1);
+        sleep(500);
+        verify(extHistory, never()).getHistoryReference(permits + 2);
+        verify(statsListener).counterInc("stats.pscan.queue.deferred");
+    }
+
+    @Test
+    void shouldReleaseTaskPermitsWhenTasksComplete() throws Exception {
+        // Given
+        int records = 1 + 50 + 5;
+        given(options.getPassiveScanThreads()).willReturn(1);
+        given(extHistory.getLastHistoryId()).willReturn(0, records);
+        given(extHistory.getHistoryReference(anyInt()))
+                .willAnswer(invocation -> createHistoryReference(invocation.getArgument(0)));
+        ScanState scanState = new ScanState(true, records);
+        given(scanRuleManager.getScanners())
+                .willReturn(List.of(new TestPassiveScanner(true, scanState)));
+        psc.start();
+        psc.responseReceived();
+        scanState.waitScanStarted(1);
+        // When
+        scanState.continueScan();
+        // Then
+        scanState.waitScanFinished();
+        verify(extHistory, timeout(5000)).getHistoryReference(records);
+    }
+
+    @Test
+    void shouldReleaseTaskPermitsWhenTasksFail() throws Exception {
+        // Given
+        int records = 1 + 50 + 5;
+        given(options.getPassiveScanThreads()).willReturn(1);
+        given(extHistory.getLastHistoryId()).willReturn(0, records);
+        given(extHistory.getHistoryReference(anyInt()))
+                .willAnswer(invocation -> createHistoryReference(invocation.getArgument(0)));
+        CountDownLatch scans = new CountDownLatch(records);
+        PassiveScanner scanner = mock(PassiveScanner.class);
+        given(scanner.isEnabled()).willReturn(true);
+        given(scanner.appliesToHistoryType(anyInt())).willReturn(true);
+        willAnswer(
+                        invocation -> {
+                            scans.countDown();
+                            throw new TaskError();
+                        })
+                .given(scanner)
+                .scanHttpRequestSend(any(), anyInt());
+        given(scanRuleManager.getScanners()).willReturn(List.of(scanner));
+        // When
+        psc.start();
+        psc.responseReceived();
+        // Then
+        assertThat(scans.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldRecordQueueStats() throws Exception {
+        // Given
+        given(extHistory.getLastHistoryId()).willReturn(0, 2);
+        given(extHistory.getHistoryReference(anyInt()))
+                .willAnswer(invocation -> createHistoryReference(invocation.getArgument(0)));
+        ScanState scanState = new ScanState(2);
+        given(scanRuleManager.getScanners())
+                .willReturn(List.of(new TestPassiveScanner(true, scanState)));
+        // When
+        psc.start();
+        psc.responseReceived();
+        scanState.waitScanFinished();
+        // Then
+        verify(statsListener, timeout(5000).atLeastOnce())
+                .highwaterMarkSet(eq("stats.pscan.queue.depth"), anyLong());
+        verify(statsListener, timeout(5000).atLeastOnce())
+                .highwaterMarkSet(eq("stats.pscan.recordsToScan"), anyLong());
+        verify(statsListener, times(2)).counterInc(eq("stats.pscan.queue.latency"), anyLong());
+        verify(statsListener, times(2))
+                .highwaterMarkSet(eq("stats.pscan.queue.latency.max"), anyLong());
+        verify(statsListener, never()).counterInc("stats.pscan.queue.deferred");
+    }
+
+    private static HistoryReference createHistoryReference(int id) throws Exception {
+        HttpMessage msg = new HttpMessage(new URI(EXAMPLE_URL, true));
+        msg.setResponseFromTargetHost(true);
+        HistoryReference href =
+                mock(HistoryReference.class, withSettings().strictness(Strictness.LENIENT));
+        given(href.getHttpMessage()).willReturn(msg);
+        given(href.getURI()).willReturn(new URI(EXAMPLE_URL, true));
+        given(href.getHistoryId()).willReturn(id);
+        return href;
+    }
+
+    /** An error thrown by a scan rule, not handled by the passive scan task. */
+    private static class TaskError extends Error {
+
+        private static final long serialVersionUID = 1L;
+    }
+
     static class TestPassiveScanner implements PassiveScanner {
 
         private final ScanState scanState;
@@ -332,6 +466,7 @@ class PassiveScanControllerUnitTest extends TestUtils {
 
     private static class ScanState {
 
+        private final int messagesToScan;
         private CountDownLatch holdScan;
         private CountDownLatch scanStarted;
         private CountDownLatch scanFinished;
@@ -344,6 +479,7 @@ class PassiveScanControllerUnitTest extends TestUtils {
         }
 
         ScanState(boolean holdScan, int messagesToScan) {
+            this.messagesToScan = messagesToScan;
             this.holdScan = new CountDownLatch(holdScan ? 1 : 0);
             scanStarted = new CountDownLatch(messagesToScan);
             scanFinished = new CountDownLatch(messagesToScan);
@@ -371,6 +507,17 @@ class PassiveScanControllerUnitTest extends TestUtils {
             await(scanStarted);
         }
 
+        void waitScanStarted(int messages) {
+            long expected = Math.max(0, messagesToScan - messages);
+            long end = System.currentTimeMillis() + 5000;
+            while (scanStarted.getCount() > expected) {
+                if (System.currentTimeMillis() > end) {
+                    throw new RuntimeException("Await condition failed.");
+                }
+                sleep(10);
+            }
+        }
+
         void waitScanFinished() {
             await(scanFinished);
         }
@@ -0,0 +1,90 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.pscan.internal.scanner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.parosproxy.paros.model.HistoryReference;
+import org.parosproxy.paros.network.HttpSender;
+
+/** Unit test for {@link PassiveScanTaskHelper}. */
+class PassiveScanTaskHelperUnitTest {
+
+    @AfterEach
+    void cleanup() {
+        PassiveScanTaskHelper.removeApplicableHistoryType(HistoryReference.TYPE_FUZZER);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            ints = {
+                HttpSender.SPIDER_INITIATOR,
+                HttpSender.AJAX_SPIDER_INITIATOR,
+                HttpSender.CLIENT_SPIDER_INITIATOR,
+                HttpSender.MANUAL_REQUEST_INITIATOR
+            })
+    void shouldBeApplicableInitiatorIfHistoryTypeScannedByDefault(int initiator) {
+        // Given / When
+        boolean applicable = PassiveScanTaskHelper.isApplicableInitiator(initiator);
+        // Then
+        assertThat(applicable, is(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            ints = {
+                HttpSender.ACTIVE_SCANNER_INITIATOR,
+                HttpSender.CHECK_FOR_UPDATES_INITIATOR,
+                HttpSender.TOKEN_GENERATOR_INITIATOR,
+                HttpSender.AUTHENTICATION_POLL_INITIATOR,
+                HttpSender.FUZZER_INITIATOR
+            })
+    void shouldNotBeApplicableInitiatorIfHistoryTypeNotScanned(int initiator) {
+        // Given / When
+        boolean applicable = PassiveScanTaskHelper.isApplicableInitiator(initiator);
+        // Then
+        assertThat(applicable, is(false));
+    }
+
+    @Test
+    void shouldBeApplicableInitiatorIfHistoryTypeOptedIn() {
+        // Given
+        PassiveScanTaskHelper.addApplicableHistoryType(HistoryReference.TYPE_FUZZER);
+        // When
+        boolean applicable =
+                PassiveScanTaskHelper.isApplicableInitiator(HttpSender.FUZZER_INITIATOR);
+        // Then
+        assertThat(applicable, is(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {HttpSender.BEAN_SHELL_INITIATOR, HttpSender.WEB_SOCKET_INITIATOR, 1000})
+    void shouldBeApplicableInitiatorIfHistoryTypeNotKnown(int initiator) {
+        // Given / When
+        boolean applicable = PassiveScanTaskHelper.isApplicableInitiator(initiator);
+        // Then
+        assertThat(applicable, is(true));
+    }
+}
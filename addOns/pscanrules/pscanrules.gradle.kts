@@ -14,7 +14,7 @@ zapAddOn {
         dependencies {
             addOns {
                 register("commonlib") {
-                    version.set(">= 1.40.0 & < 2.0.0")
+                    version.set(">= 1.44.0 & < 2.0.0")
                 }
 
                 // Not an actual dependency (yet) but allows to include passive scan add-on "by default".
@@ -31,7 +31,7 @@ zapAddOn {
                 dependencies {
                     addOns {
                         register("custompayloads") {
-                            version.set(">= 0.9.0 & < 1.0.0")
+                            version.set(">= 0.17.0 & < 1.0.0")
                         }
                     }
                 }
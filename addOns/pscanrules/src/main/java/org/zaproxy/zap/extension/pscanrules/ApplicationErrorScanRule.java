@@ -30,6 +30,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 import net.htmlparser.jericho.Source;
 import org.apache.logging.log4j.LogManager;
@@ -41,6 +42,8 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.PolicyTag;
 import org.zaproxy.addon.commonlib.ResourceIdentificationUtils;
+import org.zaproxy.addon.commonlib.http.ResponseView;
+import org.zaproxy.addon.commonlib.matching.MultiPatternMatcher;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
 import org.zaproxy.zap.utils.ContentMatcher;
 
@@ -87,7 +90,14 @@ public class ApplicationErrorScanRule extends PluginPassiveScanner
     private static final Supplier<Iterable<String>> DEFAULT_PAYLOAD_PROVIDER = () -> DEFAULT_ERRORS;
     public static final String ERRORS_PAYLOAD_CATEGORY = "Application-Errors";
 
+    private static final IntSupplier DEFAULT_PAYLOADS_VERSION = () -> 0;
+
     private static Supplier<Iterable<String>> payloadProvider = DEFAULT_PAYLOAD_PROVIDER;
+    private static IntSupplier payloadsVersion = DEFAULT_PAYLOADS_VERSION;
+
+    // The custom payloads, searched in a single pass, rebuilt when the payloads change
+    private static volatile PayloadsMatcher payloadsMatcher =
+            new PayloadsMatcher(DEFAULT_PAYLOAD_PROVIDER, 0);
 
     // Inner Content Matcher component with pattern definitions
     private ContentMatcher matcher = null;
@@ -170,12 +180,12 @@ public class ApplicationErrorScanRule extends PluginPassiveScanner
                             || ResourceIdentificationUtils.isCss(msg))) {
                 return;
             }
-            String body = msg.getResponseBody().toString();
-            for (String payload : getCustomPayloads().get()) {
-                if (body.contains(payload)) {
-                    raiseAlert(msg, id, payload);
-                    return;
-                }
+            String body = ResponseView.of(getHelper(), msg).getBody();
+            MultiPatternMatcher.EntryMatcher<String> payloadMatch =
+                    getPayloadsMatcher().findFirst(body);
+            if (payloadMatch != null) {
+                raiseAlert(msg, id, payloadMatch.getEntry().getValue());
+                return;
             }
             String evidence = getContentMatcher().findInContent(body);
             if (evidence != null) {
@@ -218,7 +228,48 @@ public class ApplicationErrorScanRule extends PluginPassiveScanner
         return payloadProvider;
     }
 
+    private static MultiPatternMatcher<String> getPayloadsMatcher() {
+        Supplier<Iterable<String>> provider = payloadProvider;
+        int version = payloadsVersion.getAsInt();
+        PayloadsMatcher current = payloadsMatcher;
+        if (current.provider != provider || current.version != version) {
+            current = new PayloadsMatcher(provider, version);
+            payloadsMatcher = current;
+        }
+        return current.matcher;
+    }
+
     public static void setPayloadProvider(Supplier<Iterable<String>> provider) {
+        setPayloadProvider(provider, null);
+    }
+
+    /**
+     * Sets the provider of the custom payloads and the version of the payloads.
+     *
+     * <p>The payloads are read again only when the provider or the version change.
+     *
+     * @param provider the provider of the payloads, might be {@code null}.
+     * @param version the version of the payloads, might be {@code null} if the payloads do not
+     *     change.
+     */
+    public static void setPayloadProvider(
+            Supplier<Iterable<String>> provider, IntSupplier version) {
+        payloadsVersion = version == null ? DEFAULT_PAYLOADS_VERSION : version;
         payloadProvider = provider == null ? DEFAULT_PAYLOAD_PROVIDER : provider;
     }
+
+    private static class PayloadsMatcher {
+
+        private final Supplier<Iterable<String>> provider;
+        private final int version;
+        private final MultiPatternMatcher<String> matcher;
+
+        PayloadsMatcher(Supplier<Iterable<String>> provider, int version) {
+            this.provider = provider;
+            this.version = version;
+            MultiPatternMatcher.Builder<String> builder = MultiPatternMatcher.builder();
+            provider.get().forEach(payload -> builder.addLiteral(payload, payload));
+            this.matcher = builder.build();
+        }
+    }
 }
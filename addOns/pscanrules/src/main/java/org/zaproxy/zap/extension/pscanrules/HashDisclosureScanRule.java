@@ -22,7 +22,6 @@ package org.zaproxy.zap.extension.pscanrules;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -39,6 +38,8 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.PolicyTag;
 import org.zaproxy.addon.commonlib.ResourceIdentificationUtils;
+import org.zaproxy.addon.commonlib.http.ResponseView;
+import org.zaproxy.addon.commonlib.matching.MultiPatternMatcher;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
 
 /**
@@ -261,6 +262,15 @@ public class HashDisclosureScanRule extends PluginPassiveScanner
         ALERT_TAGS = Collections.unmodifiableMap(alertTags);
     }
 
+    /** The hash patterns, prefiltered by their literals (e.g. {@code $1$}), in insertion order. */
+    private static final MultiPatternMatcher<HashAlert> HASH_MATCHER;
+
+    static {
+        MultiPatternMatcher.Builder<HashAlert> builder = MultiPatternMatcher.builder();
+        hashPatterns.forEach(builder::add);
+        HASH_MATCHER = builder.build();
+    }
+
     @Override
     public String getName() {
         return Constant.messages.getString(MESSAGE_PREFIX + "name");
@@ -305,16 +315,13 @@ public class HashDisclosureScanRule extends PluginPassiveScanner
 
         // get the response contents as an array of Strings, so we can match against them
         String responseheader = msg.getResponseHeader().getHeadersAsString();
-        String responsebody = msg.getResponseBody().toString();
+        String responsebody = ResponseView.of(getHelper(), msg).getBody();
         String[] responseparts = {responseheader, responsebody};
 
         checkForHashes(responseparts);
     }
 
     public void checkForHashes(String[] haystacks) {
-        // try each of the patterns in turn against the response.
-        Iterator<Pattern> patternIterator = hashPatterns.keySet().iterator();
-
         int minimumConfidence = Alert.CONFIDENCE_LOW;
         switch (this.getAlertThreshold()) {
             case HIGH:
@@ -325,18 +332,18 @@ public class HashDisclosureScanRule extends PluginPassiveScanner
                 break;
         }
 
-        while (patternIterator.hasNext()) {
-            Pattern hashPattern = patternIterator.next();
-            HashAlert hashalert = hashPatterns.get(hashPattern);
+        // try each of the candidate patterns in turn against the response.
+        for (MultiPatternMatcher.Entry<HashAlert> entry : HASH_MATCHER.getCandidates(haystacks)) {
+            HashAlert hashalert = entry.getValue();
             if (hashalert.getConfidence() < minimumConfidence) {
                 continue;
             }
             LOGGER.debug(
                     "Trying Hash Pattern: {} for hash type {}",
-                    hashPattern,
+                    entry.getPattern(),
                     hashalert.getDescription());
             for (String haystack : haystacks) {
-                Matcher matcher = hashPattern.matcher(haystack);
+                Matcher matcher = entry.matcher(haystack);
                 while (matcher.find()) {
                     String evidence = matcher.group();
                     LOGGER.debug(
@@ -42,6 +42,8 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.PolicyTag;
 import org.zaproxy.addon.commonlib.ResourceIdentificationUtils;
+import org.zaproxy.addon.commonlib.http.ResponseView;
+import org.zaproxy.addon.commonlib.matching.MultiPatternMatcher;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
 import org.zaproxy.zap.extension.pscanrules.antlr.JavaScriptLexer;
 
@@ -94,7 +96,7 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
 
     private static Supplier<Iterable<String>> payloadProvider = DEFAULT_PAYLOAD_PROVIDER;
 
-    private List<Pattern> patterns = null;
+    private MultiPatternMatcher<String> patterns = null;
 
     @Override
     public void scanHttpResponseReceive(HttpMessage msg, int id, Source source) {
@@ -107,7 +109,7 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
                 && !ResourceIdentificationUtils.isFont(msg)) {
 
             if (ResourceIdentificationUtils.isJavaScript(msg)) {
-                checkJsComments(patterns, alertMap, msg.getResponseBody().toString());
+                checkJsComments(patterns, alertMap, ResponseView.of(getHelper(), msg).getBody());
             } else {
                 // Can use the parser
 
@@ -155,7 +157,9 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
     }
 
     private void checkJsComments(
-            List<Pattern> patterns, Map<String, List<AlertSummary>> alertMap, String target) {
+            MultiPatternMatcher<String> patterns,
+            Map<String, List<AlertSummary>> alertMap,
+            String target) {
         if (!isGoodCandidate(target)) {
             return;
         }
@@ -176,19 +180,18 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
 
     private void searchSuspiciousComments(
             Map<String, List<AlertSummary>> alertMap, String comment) {
-        for (Pattern pattern : patterns) {
-            Matcher m = pattern.matcher(comment);
-            if (m.find()) {
-                int contextStart = Math.max(0, m.start() - EVIDENCE_CONTEXT_CHARS);
-                int contextEnd = Math.min(comment.length(), m.end() + EVIDENCE_CONTEXT_CHARS);
-                recordAlertSummary(
-                        alertMap,
-                        new AlertSummary(
-                                pattern.toString(),
-                                comment,
-                                comment.substring(contextStart, contextEnd)));
-                return; // Only need to record this comment once
-            }
+        MultiPatternMatcher.EntryMatcher<String> match = patterns.findFirst(comment);
+        if (match != null) {
+            Matcher m = match.getMatcher();
+            int contextStart = Math.max(0, m.start() - EVIDENCE_CONTEXT_CHARS);
+            int contextEnd = Math.min(comment.length(), m.end() + EVIDENCE_CONTEXT_CHARS);
+            // Only need to record this comment once
+            recordAlertSummary(
+                    alertMap,
+                    new AlertSummary(
+                            match.getEntry().getValue(),
+                            comment,
+                            comment.substring(contextStart, contextEnd)));
         }
     }
 
@@ -221,19 +224,20 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
                 .setEvidence(evidence);
     }
 
-    private List<Pattern> getPatterns() {
+    private MultiPatternMatcher<String> getPatterns() {
         if (patterns == null) {
             patterns = initPatterns();
         }
         return patterns;
     }
 
-    private static List<Pattern> initPatterns() {
-        List<Pattern> targetPatterns = new ArrayList<>();
+    private static MultiPatternMatcher<String> initPatterns() {
+        MultiPatternMatcher.Builder<String> builder = MultiPatternMatcher.builder();
         for (String payload : payloadProvider.get()) {
-            targetPatterns.add(compilePayload(payload));
+            Pattern pattern = compilePayload(payload);
+            builder.add(pattern, pattern.toString());
         }
-        return targetPatterns;
+        return builder.build();
     }
 
     private static Pattern compilePayload(String payload) {
@@ -65,7 +65,8 @@ public class ExtensionPayloader extends ExtensionAdaptor {
                         ApplicationErrorScanRule.ERRORS_PAYLOAD_CATEGORY,
                         ApplicationErrorScanRule.DEFAULT_ERRORS);
         ecp.addPayloadCategory(errorCategory);
-        ApplicationErrorScanRule.setPayloadProvider(errorCategory::getPayloadsIterator);
+        ApplicationErrorScanRule.setPayloadProvider(
+                errorCategory::getPayloadsIterator, errorCategory::getPayloadsVersion);
 
         suspiciousCommentsCategory =
                 new PayloadCategory(
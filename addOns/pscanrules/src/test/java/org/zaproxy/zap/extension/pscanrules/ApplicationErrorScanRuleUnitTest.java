@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -319,6 +320,33 @@ class ApplicationErrorScanRuleUnitTest extends PassiveScannerTest<ApplicationErr
         assertThat(alertsRaised.size(), equalTo(0));
     }
 
+    @Test
+    void shouldUseCustomPayloadsChangedOnlyAfterVersionChanged()
+            throws HttpMalformedHeaderException {
+        // Given
+        String expectedEvidence = "customPayloadString";
+        HttpMessage msg = new HttpMessage();
+        msg.setRequestHeader(REQUEST_HEADER);
+        msg.setResponseHeader(createResponseHeader(OK));
+        given(passiveScanData.isPage500(any())).willReturn(false);
+        given(passiveScanData.isPage404(any())).willReturn(false);
+        msg.setResponseBody("<html>" + "<div>" + expectedEvidence + "</div>" + "</html>");
+        List<String> payloads = new ArrayList<>(List.of("notDetectedString"));
+        AtomicInteger version = new AtomicInteger();
+        ApplicationErrorScanRule.setPayloadProvider(() -> payloads, version::get);
+        scanHttpResponseReceive(msg);
+        payloads.set(0, expectedEvidence);
+        scanHttpResponseReceive(msg);
+        int alertsBeforeVersionChange = alertsRaised.size();
+        // When
+        version.incrementAndGet();
+        scanHttpResponseReceive(msg);
+        // Then
+        assertThat(alertsBeforeVersionChange, equalTo(0));
+        assertThat(alertsRaised.size(), equalTo(1));
+        assertThat(alertsRaised.get(0).getEvidence(), equalTo(expectedEvidence));
+    }
+
     @Test
     void shouldRaiseAlertForResponseCodeOkAndFilePayloadDetected()
             throws HttpMalformedHeaderException {
@@ -9,6 +9,13 @@ zapAddOn {
     manifest {
         author.set("ZAP Dev Team")
         url.set("https://www.zaproxy.org/docs/desktop/addons/replacer/")
+        dependencies {
+            addOns {
+                register("commonlib") {
+                    version.set(">= 1.44.0 & < 2.0.0")
+                }
+            }
+        }
         extensions {
             register("org.zaproxy.zap.extension.replacer.automation.ExtensionReplacerAutomation") {
                 classnames {
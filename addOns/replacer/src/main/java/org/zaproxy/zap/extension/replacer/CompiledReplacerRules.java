@@ -0,0 +1,303 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.replacer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.addon.commonlib.matching.AhoCorasick;
+import org.zaproxy.addon.commonlib.matching.MultiPatternMatcher;
+import org.zaproxy.zap.extension.replacer.ReplacerParamRule.MatchType;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * The replacer rules compiled for matching, created once per change of the rules.
+ *
+ * <p>The regular expressions of the rules are compiled just once and the literal match strings of
+ * each type of rule are searched all at once, in a single pass over the header or body. The
+ * literals that all the matches of the regular expressions must contain are also searched all at
+ * once, the regular expressions are used only if their literal was found (or if they have none).
+ *
+ * @see #compile(List)
+ * @see #isCompiledFrom(List)
+ */
+class CompiledReplacerRules {
+
+    static final String STATS_RULE_PREFIX = "stats.replacer.rule.";
+    static final String STATS_HITS_SUFFIX = ".hits";
+    static final String STATS_TIME_SUFFIX = ".time";
+
+    private static final Logger LOGGER = LogManager.getLogger(CompiledReplacerRules.class);
+
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final int NUMBER_OF_MATCH_TYPES = MatchType.values().length;
+
+    private final ReplacerParamRule[] rules;
+    private final MatchType[] matchTypes;
+    private final String[] matchStrings;
+    private final boolean[] matchRegexes;
+
+    private final Pattern[] patterns;
+    private final boolean[] invalid;
+    private final int[] literalIndexes;
+    private final AhoCorasick[] literalsMatchers;
+    private final int[] regexLiteralIndexes;
+    private final AhoCorasick[] regexLiteralsMatchers;
+    private final AtomicLong[] pendingNanos;
+
+    private CompiledReplacerRules(List<ReplacerParamRule> rules) {
+        int size = rules.size();
+        this.rules = rules.toArray(new ReplacerParamRule[size]);
+        matchTypes = new MatchType[size];
+        matchStrings = new String[size];
+        matchRegexes = new boolean[size];
+        patterns = new Pattern[size];
+        invalid = new boolean[size];
+        literalIndexes = new int[size];
+        regexLiteralIndexes = new int[size];
+        pendingNanos = new AtomicLong[size];
+
+        List<List<String>> literals = new ArrayList<>(NUMBER_OF_MATCH_TYPES);
+        List<List<String>> regexLiterals = new ArrayList<>(NUMBER_OF_MATCH_TYPES);
+        for (int i = 0; i < NUMBER_OF_MATCH_TYPES; i++) {
+            literals.add(new ArrayList<>());
+            regexLiterals.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < size; i++) {
+            ReplacerParamRule rule = this.rules[i];
+            matchTypes[i] = rule.getMatchType();
+            matchStrings[i] = rule.getMatchString();
+            matchRegexes[i] = rule.isMatchRegex();
+            literalIndexes[i] = -1;
+            regexLiteralIndexes[i] = -1;
+            pendingNanos[i] = new AtomicLong();
+
+            if (matchTypes[i] == null || matchStrings[i] == null) {
+                continue;
+            }
+            if (matchRegexes[i]) {
+                try {
+                    patterns[i] = Pattern.compile(matchStrings[i]);
+                } catch (PatternSyntaxException e) {
+                    LOGGER.warn(
+                            "Ignoring replacer rule {} with invalid regular expression: {}",
+                            rule.getDescription(),
+                            e.getMessage());
+                    invalid[i] = true;
+                    continue;
+                }
+
+                String literal = MultiPatternMatcher.extractLiteral(matchStrings[i]);
+                if (literal != null) {
+                    List<String> typeLiterals = regexLiterals.get(matchTypes[i].ordinal());
+                    regexLiteralIndexes[i] = typeLiterals.size();
+                    typeLiterals.add(literal);
+                }
+            } else if (!matchStrings[i].isEmpty()) {
+                List<String> typeLiterals = literals.get(matchTypes[i].ordinal());
+                literalIndexes[i] = typeLiterals.size();
+                typeLiterals.add(matchStrings[i]);
+            }
+        }
+
+        literalsMatchers = new AhoCorasick[NUMBER_OF_MATCH_TYPES];
+        regexLiteralsMatchers = new AhoCorasick[NUMBER_OF_MATCH_TYPES];
+        for (int i = 0; i < NUMBER_OF_MATCH_TYPES; i++) {
+            if (!literals.get(i).isEmpty()) {
+                literalsMatchers[i] = new AhoCorasick(literals.get(i), false);
+            }
+            if (!regexLiterals.get(i).isEmpty()) {
+                // Case insensitive, the regular expressions might have inline flags.
+                regexLiteralsMatchers[i] = new AhoCorasick(regexLiterals.get(i), true);
+            }
+        }
+    }
+
+    /**
+     * Compiles the given rules.
+     *
+     * <p>Rules with invalid regular expressions are logged and ignored.
+     *
+     * @param rules the rules to compile.
+     * @return the compiled rules.
+     */
+    static CompiledReplacerRules compile(List<ReplacerParamRule> rules) {
+        return new CompiledReplacerRules(rules);
+    }
+
+    /**
+     * Tells whether or not these compiled rules are still up to date with the given rules, that is,
+     * the same rules, in the same order, with the same matching properties.
+     *
+     * @param rules the current rules.
+     * @return {@code true} if the compiled rules can still be used, {@code false} otherwise.
+     */
+    boolean isCompiledFrom(List<ReplacerParamRule> rules) {
+        if (rules.size() != this.rules.length) {
+            return false;
+        }
+        for (int i = 0; i < this.rules.length; i++) {
+            ReplacerParamRule rule = rules.get(i);
+            if (rule != this.rules[i]
+                    || rule.getMatchType() != matchTypes[i]
+                    || !Objects.equals(rule.getMatchString(), matchStrings[i])
+                    || rule.isMatchRegex() != matchRegexes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int size() {
+        return rules.length;
+    }
+
+    ReplacerParamRule getRule(int index) {
+        return rules[index];
+    }
+
+    /**
+     * Tells whether or not the rule can be applied, that is, it was compiled successfully.
+     *
+     * @param index the index of the rule.
+     * @return {@code true} if the rule can be applied, {@code false} otherwise.
+     */
+    boolean isValid(int index) {
+        return !invalid[index] && matchTypes[index] != null;
+    }
+
+    /**
+     * Gets the compiled regular expression of the rule.
+     *
+     * @param index the index of the rule.
+     * @return the pattern, or {@code null} if the rule does not use a regular expression.
+     */
+    Pattern getPattern(int index) {
+        return patterns[index];
+    }
+
+    /**
+     * Creates the matching state for a message.
+     *
+     * @return a new {@code MessageMatcher}, to be used for just one message.
+     */
+    MessageMatcher createMessageMatcher() {
+        return new MessageMatcher();
+    }
+
+    /**
+     * Records the execution of a rule in the statistics.
+     *
+     * @param index the index of the rule.
+     * @param applied {@code true} if the rule changed the message, {@code false} otherwise.
+     * @param nanos the time spent with the rule, in nanoseconds.
+     */
+    void recordExecution(int index, boolean applied, long nanos) {
+        String prefix = STATS_RULE_PREFIX + rules[index].getDescription();
+        if (applied) {
+            Stats.incCounter(prefix + STATS_HITS_SUFFIX);
+        }
+
+        // Accumulate the time until a whole millisecond, most rules take just a fraction of it.
+        long total = pendingNanos[index].addAndGet(nanos);
+        if (total >= NANOS_PER_MILLI) {
+            long millis = total / NANOS_PER_MILLI;
+            pendingNanos[index].addAndGet(-millis * NANOS_PER_MILLI);
+            Stats.incCounter(prefix + STATS_TIME_SUFFIX, millis);
+        }
+    }
+
+    /**
+     * The matching state of a message, keeps the header and body texts and the literals found in
+     * them until the message is changed.
+     */
+    class MessageMatcher {
+
+        private final String[] texts = new String[NUMBER_OF_MATCH_TYPES];
+        private final BitSet[] literalsFound = new BitSet[NUMBER_OF_MATCH_TYPES];
+        private final BitSet[] regexLiteralsFound = new BitSet[NUMBER_OF_MATCH_TYPES];
+
+        private MessageMatcher() {}
+
+        /**
+         * Gets the text that the rule applies to.
+         *
+         * @param index the index of the rule.
+         * @param supplier the supplier of the text, called if the text is not known.
+         * @return the text.
+         */
+        String getText(int index, Supplier<String> supplier) {
+            int type = matchTypes[index].ordinal();
+            if (texts[type] == null) {
+                texts[type] = supplier.get();
+            }
+            return texts[type];
+        }
+
+        /**
+         * Tells whether or not the text of the rule contains its match string.
+         *
+         * @param index the index of the rule.
+         * @param text the text of the rule, as returned by {@link #getText(int, Supplier)}.
+         * @return {@code true} if the text matches, {@code false} otherwise.
+         */
+        boolean matches(int index, String text) {
+            int type = matchTypes[index].ordinal();
+            if (patterns[index] != null) {
+                if (regexLiteralIndexes[index] != -1) {
+                    if (regexLiteralsFound[type] == null) {
+                        regexLiteralsFound[type] = regexLiteralsMatchers[type].findLiterals(text);
+                    }
+                    if (!regexLiteralsFound[type].get(regexLiteralIndexes[index])) {
+                        return false;
+                    }
+                }
+                return patterns[index].matcher(text).find();
+            }
+            if (literalIndexes[index] == -1) {
+                return text.contains(matchStrings[index]);
+            }
+
+            if (literalsFound[type] == null) {
+                literalsFound[type] = literalsMatchers[type].findLiterals(text);
+            }
+            return literalsFound[type].get(literalIndexes[index]);
+        }
+
+        /** Notifies that the message was changed, the texts have to be obtained again. */
+        void messageChanged() {
+            for (int i = 0; i < NUMBER_OF_MATCH_TYPES; i++) {
+                texts[i] = null;
+                literalsFound[i] = null;
+                regexLiteralsFound[i] = null;
+            }
+        }
+    }
+}
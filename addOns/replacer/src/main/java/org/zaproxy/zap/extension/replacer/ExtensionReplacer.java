@@ -66,6 +66,7 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
 
     private OptionsReplacerPanel optionsReplacerPanel;
     private ReplacerParam params;
+    private volatile CompiledReplacerRules compiledRules;
     private ZapMenuItem replacerMenuItem;
     private static final Logger LOGGER = LogManager.getLogger(ExtensionReplacer.class);
 
@@ -112,6 +113,26 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
         return params;
     }
 
+    /**
+     * Gets the rules compiled for matching, compiling them again if they were changed.
+     *
+     * @return the compiled rules.
+     */
+    private CompiledReplacerRules getCompiledRules() {
+        List<ReplacerParamRule> rules = getParams().getRules();
+        CompiledReplacerRules current = compiledRules;
+        if (current == null || !current.isCompiledFrom(rules)) {
+            synchronized (this) {
+                current = compiledRules;
+                if (current == null || !current.isCompiledFrom(rules)) {
+                    current = CompiledReplacerRules.compile(rules);
+                    compiledRules = current;
+                }
+            }
+        }
+        return current;
+    }
+
     @Override
     public String getUIName() {
         return Constant.messages.getString(PREFIX + ".name");
@@ -143,14 +164,6 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
         return replacerMenuItem;
     }
 
-    private static boolean contains(String original, String match, Pattern p) {
-        if (p != null) {
-            return p.matcher(original).find();
-        }
-
-        return original.contains(match);
-    }
-
     private static String replace(
             String original, String match, Pattern p, String replacement, boolean tokenProcessing) {
         LOGGER.debug("Static Replacement function.");
@@ -229,15 +242,18 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
     @SuppressWarnings("unchecked")
     public void onHttpRequestSend(HttpMessage msg, int initiator, HttpSender httpSender) {
         boolean hostHeaderChanged = false;
-        for (ReplacerParamRule rule : this.getParams().getRules()) {
+        CompiledReplacerRules rules = getCompiledRules();
+        CompiledReplacerRules.MessageMatcher matcher = rules.createMessageMatcher();
+        for (int i = 0; i < rules.size(); i++) {
+            ReplacerParamRule rule = rules.getRule(i);
             if (rule.isEnabled()
                     && rule.appliesToInitiator(initiator)
                     && rule.matchesUrl(msg.getRequestHeader().getURI().toString())
-                    && rule.matchesMethod(msg.getRequestHeader().getMethod())) {
-                Pattern p = null;
-                if (rule.isMatchRegex()) {
-                    p = Pattern.compile(rule.getMatchString());
-                }
+                    && rule.matchesMethod(msg.getRequestHeader().getMethod())
+                    && rules.isValid(i)) {
+                long start = System.nanoTime();
+                boolean applied = false;
+                Pattern p = rules.getPattern(i);
                 switch (rule.getMatchType()) {
                     case REQ_HEADER:
                         LOGGER.debug(
@@ -253,14 +269,15 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
                             msg.getRequestHeader()
                                     .setHeader(rule.getMatchString(), rule.getEscapedReplacement());
                         }
+                        applied = true;
                         break;
                     case REQ_HEADER_STR:
                         LOGGER.debug(
                                 "Replace in request header: {} with {}",
                                 rule.getMatchString(),
                                 rule.getReplacement());
-                        String header = msg.getRequestHeader().toString();
-                        if (contains(header, rule.getMatchString(), p)) {
+                        String header = matcher.getText(i, () -> msg.getRequestHeader().toString());
+                        if (matcher.matches(i, header)) {
                             header =
                                     replace(
                                             header,
@@ -272,6 +289,7 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
                                 List<HttpHeaderField> oldHostHeaders = getHostHeaders(msg);
                                 msg.setRequestHeader(new HttpRequestHeader(header));
                                 hostHeaderChanged |= !oldHostHeaders.equals(getHostHeaders(msg));
+                                applied = true;
                             } catch (HttpMalformedHeaderException e) {
                                 LOGGER.error(e.getMessage(), e);
                             }
@@ -282,8 +300,8 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
                                 "Add in request body: {} : {}",
                                 rule.getMatchString(),
                                 rule.getReplacement());
-                        String body = msg.getRequestBody().toString();
-                        if (contains(body, rule.getMatchString(), p)) {
+                        String body = matcher.getText(i, () -> msg.getRequestBody().toString());
+                        if (matcher.matches(i, body)) {
                             body =
                                     replace(
                                             body,
@@ -293,6 +311,7 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
                                             rule.isTokenProcessingEnabled());
                             msg.getRequestBody().setBody(body);
                             msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
+                            applied = true;
                         }
                         break;
                     case RESP_HEADER:
@@ -300,8 +319,12 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
                     case RESP_BODY_STR:
                         // Ignore response rules here
                         LOGGER.debug("Ignore response rule {}", rule.getDescription());
-                        break;
+                        continue;
                 }
+                if (applied) {
+                    matcher.messageChanged();
+                }
+                rules.recordExecution(i, applied, System.nanoTime() - start);
             }
         }
 
@@ -326,22 +349,25 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
 
     @Override
     public void onHttpResponseReceive(HttpMessage msg, int initiator, HttpSender httpSender) {
-        for (ReplacerParamRule rule : this.getParams().getRules()) {
+        CompiledReplacerRules rules = getCompiledRules();
+        CompiledReplacerRules.MessageMatcher matcher = rules.createMessageMatcher();
+        for (int i = 0; i < rules.size(); i++) {
+            ReplacerParamRule rule = rules.getRule(i);
             if (rule.isEnabled()
                     && rule.appliesToInitiator(initiator)
                     && rule.matchesUrl(msg.getRequestHeader().getURI().toString())
-                    && rule.matchesMethod(msg.getRequestHeader().getMethod())) {
-                Pattern p = null;
-                if (rule.isMatchRegex()) {
-                    p = Pattern.compile(rule.getMatchString());
-                }
+                    && rule.matchesMethod(msg.getRequestHeader().getMethod())
+                    && rules.isValid(i)) {
+                long start = System.nanoTime();
+                boolean applied = false;
+                Pattern p = rules.getPattern(i);
                 switch (rule.getMatchType()) {
                     case REQ_HEADER:
                     case REQ_HEADER_STR:
                     case REQ_BODY_STR:
                         // Ignore request rules here
                         LOGGER.debug("Ignore request rule {}", rule.getDescription());
-                        break;
+                        continue;
                     case RESP_HEADER:
                         LOGGER.debug(
                                 "Add in response header: {} : {}",
@@ -354,14 +380,16 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
                             msg.getResponseHeader()
                                     .setHeader(rule.getMatchString(), rule.getEscapedReplacement());
                         }
+                        applied = true;
                         break;
                     case RESP_HEADER_STR:
                         LOGGER.debug(
                                 "Replace in response header: {} with {}",
                                 rule.getMatchString(),
                                 rule.getReplacement());
-                        String header = msg.getResponseHeader().toString();
-                        if (contains(header, rule.getMatchString(), p)) {
+                        String header =
+                                matcher.getText(i, () -> msg.getResponseHeader().toString());
+                        if (matcher.matches(i, header)) {
                             header =
                                     replace(
                                             header,
@@ -371,6 +399,7 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
                                             rule.isTokenProcessingEnabled());
                             try {
                                 msg.setResponseHeader(new HttpResponseHeader(header));
+                                applied = true;
                             } catch (HttpMalformedHeaderException e) {
                                 LOGGER.error(e.getMessage(), e);
                             }
@@ -381,8 +410,8 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
                                 "Replace in response body: {} with {}",
                                 rule.getMatchString(),
                                 rule.getReplacement());
-                        String body = msg.getResponseBody().toString();
-                        if (contains(body, rule.getMatchString(), p)) {
+                        String body = matcher.getText(i, () -> msg.getResponseBody().toString());
+                        if (matcher.matches(i, body)) {
                             body =
                                     replace(
                                             body,
@@ -393,9 +422,14 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
                             msg.getResponseBody().setBody(body);
                             msg.getResponseHeader()
                                     .setContentLength(msg.getResponseBody().length());
+                            applied = true;
                         }
                         break;
                 }
+                if (applied) {
+                    matcher.messageChanged();
+                }
+                rules.recordExecution(i, applied, System.nanoTime() - start);
             }
         }
     }
@@ -0,0 +1,113 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.replacer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.zaproxy.zap.extension.replacer.ReplacerParamRule.MatchType.RESP_BODY_STR;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link CompiledReplacerRules}. */
+class CompiledReplacerRulesUnitTest {
+
+    @Test
+    void shouldBeCompiledFromRulesWithEqualMatchStrings() {
+        // Given
+        ReplacerParamRule rule = new ReplacerParamRule("Rule", RESP_BODY_STR, "abc");
+        List<ReplacerParamRule> rules = List.of(rule);
+        CompiledReplacerRules compiledRules = CompiledReplacerRules.compile(rules);
+        rule.setMatchString(new StringBuilder("ab").append('c').toString());
+        // When
+        boolean compiledFrom = compiledRules.isCompiledFrom(rules);
+        // Then
+        assertThat(compiledFrom, is(equalTo(true)));
+    }
+
+    @Test
+    void shouldNotBeCompiledFromRulesWithChangedMatchStrings() {
+        // Given
+        ReplacerParamRule rule = new ReplacerParamRule("Rule", RESP_BODY_STR, "abc");
+        List<ReplacerParamRule> rules = List.of(rule);
+        CompiledReplacerRules compiledRules = CompiledReplacerRules.compile(rules);
+        rule.setMatchString("xyz");
+        // When
+        boolean compiledFrom = compiledRules.isCompiledFrom(rules);
+        // Then
+        assertThat(compiledFrom, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldMatchLiteralsOfRules() {
+        // Given
+        List<ReplacerParamRule> rules =
+                List.of(
+                        new ReplacerParamRule("Rule 1", RESP_BODY_STR, "abc"),
+                        new ReplacerParamRule("Rule 2", RESP_BODY_STR, "bcd"),
+                        new ReplacerParamRule("Rule 3", RESP_BODY_STR, "xyz"));
+        CompiledReplacerRules.MessageMatcher matcher =
+                CompiledReplacerRules.compile(rules).createMessageMatcher();
+        String text = matcher.getText(0, () -> "_abcd_");
+        // When / Then
+        assertThat(matcher.matches(0, text), is(equalTo(true)));
+        assertThat(matcher.matches(1, text), is(equalTo(true)));
+        assertThat(matcher.matches(2, text), is(equalTo(false)));
+    }
+
+    @Test
+    void shouldMatchRegexesOfRules() {
+        // Given
+        List<ReplacerParamRule> rules =
+                List.of(
+                        createRegexRule("Rule 1", "ab[cd]+_"),
+                        createRegexRule("Rule 2", "(?i)ABCD"),
+                        createRegexRule("Rule 3", "x[yz]"),
+                        createRegexRule("Rule 4", "[a-z]+"));
+        CompiledReplacerRules.MessageMatcher matcher =
+                CompiledReplacerRules.compile(rules).createMessageMatcher();
+        String text = matcher.getText(0, () -> "_abcd_");
+        // When / Then
+        assertThat(matcher.matches(0, text), is(equalTo(true)));
+        assertThat(matcher.matches(1, text), is(equalTo(true)));
+        assertThat(matcher.matches(2, text), is(equalTo(false)));
+        assertThat(matcher.matches(3, text), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldMatchRegexesOfRulesAfterMessageChanged() {
+        // Given
+        List<ReplacerParamRule> rules = List.of(createRegexRule("Rule", "x[yz]"));
+        CompiledReplacerRules.MessageMatcher matcher =
+                CompiledReplacerRules.compile(rules).createMessageMatcher();
+        matcher.matches(0, matcher.getText(0, () -> "_abcd_"));
+        matcher.messageChanged();
+        String text = matcher.getText(0, () -> "_xz_");
+        // When
+        boolean matches = matcher.matches(0, text);
+        // Then
+        assertThat(matches, is(equalTo(true)));
+    }
+
+    private static ReplacerParamRule createRegexRule(String description, String regex) {
+        return new ReplacerParamRule(description, RESP_BODY_STR, regex, true, "", null, true);
+    }
+}
@@ -720,6 +720,59 @@ class ExtensionReplacerTest {
                 is(not(nullValue())));
     }
 
+    @Test
+    void shouldApplyLiteralRulesToResultOfPreviousRules() throws HttpMalformedHeaderException {
+        // Given
+        msg.setResponseHeader("HTTP/1.1 200 OK");
+        msg.setResponseBody("a b c");
+        replacerRule(RESP_BODY_STR, "a", "b");
+        replacerRule(RESP_BODY_STR, "b", "c");
+        replacerRule(RESP_BODY_STR, "x", "y");
+        replacerRule(RESP_BODY_STR, "c c", "d");
+
+        // When
+        extensionReplacer.onHttpResponseReceive(msg, 0, null);
+
+        // Then
+        assertThat(msg.getResponseBody().toString(), equalTo("d c"));
+    }
+
+    @Test
+    void shouldApplyRulesChangedAfterPreviousMessages() throws HttpMalformedHeaderException {
+        // Given
+        msg.setRequestHeader("POST / HTTP/1.1");
+        msg.setRequestBody("abc");
+        replacerRule(REQ_BODY_STR, "b", "x");
+        extensionReplacer.onHttpRequestSend(msg, 0, null);
+        ReplacerParamRule rule = extensionReplacer.getParams().getRules().get(0);
+        rule.setMatchString("[ac]");
+        rule.setMatchRegex(true);
+
+        // When
+        extensionReplacer.onHttpRequestSend(msg, 0, null);
+
+        // Then
+        assertThat(msg.getRequestBody().toString(), equalTo("xxx"));
+    }
+
+    @Test
+    void shouldIgnoreRuleWithInvalidRegex() throws HttpMalformedHeaderException {
+        // Given
+        msg.setRequestHeader("POST / HTTP/1.1");
+        msg.setRequestBody("abc");
+        extensionReplacer
+                .getParams()
+                .getRules()
+                .add(new ReplacerParamRule("", REQ_BODY_STR, "[a", true, "x", null, true));
+        replacerRule(REQ_BODY_STR, "b", "x");
+
+        // When
+        extensionReplacer.onHttpRequestSend(msg, 0, null);
+
+        // Then
+        assertThat(msg.getRequestBody().toString(), equalTo("axc"));
+    }
+
     @Test
     void shouldCheckMethodOnHttpRequestSend() throws HttpMalformedHeaderException {
         // Given
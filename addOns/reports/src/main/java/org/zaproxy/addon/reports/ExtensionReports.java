@@ -26,6 +26,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
@@ -35,12 +36,20 @@ import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -63,7 +72,6 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.view.View;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
-import org.thymeleaf.templateresolver.FileTemplateResolver;
 import org.xhtmlrenderer.pdf.ITextRenderer;
 import org.zaproxy.zap.extension.alert.AlertNode;
 import org.zaproxy.zap.extension.alert.ExtensionAlert;
@@ -94,6 +102,9 @@ public class ExtensionReports extends ExtensionAdaptor {
             new SimpleDateFormat("EEE, d MMM yyyy HH:mm:ss");
     static final int RISK_FALSE_POSITIVE = -1;
 
+    /** The maximum number of reports generated in parallel by a report bundle. */
+    private static final int MAX_PARALLEL_REPORTS = 4;
+
     private ZapMenuItem reportMenu;
     private JButton reportButton;
     private ReportDialog reportDialog;
@@ -101,6 +112,7 @@ public class ExtensionReports extends ExtensionAdaptor {
     private ReportParam reportParam;
 
     private List<ReportDataHandler> reportDataHandlers = new ArrayList<>();
+    private final Object reportDataHandlersLock = new Object();
 
     public ExtensionReports() {
         super(NAME);
@@ -266,6 +278,16 @@ public class ExtensionReports extends ExtensionAdaptor {
         return (AlertNode) treeModel.getRoot();
     }
 
+    /**
+     * Gets a view of the alerts tree with just the alerts included in the report.
+     *
+     * <p>The returned tree is read-only and does not copy the alert instances, the instance nodes
+     * are shared with the alerts tree.
+     *
+     * @param reportData the report data, used to filter the alerts.
+     * @return the filtered alerts tree.
+     * @see #isIncluded(ReportData, AlertNode)
+     */
     public AlertNode getFilteredAlertTree(ReportData reportData) {
 
         AlertNode root = null;
@@ -273,28 +295,20 @@ public class ExtensionReports extends ExtensionAdaptor {
         try {
             root = getRootAlertNode();
 
-            AlertNode filteredRoot = cloneAlertNode(root);
-            AlertNode child;
-            AlertNode instance;
-            AlertNode filteredChild;
-            if (root.getChildCount() > 0) {
-                // Loop through the top level alert nodes, adding them to start with
-                child = (AlertNode) root.getFirstChild();
-                while (child != null) {
-                    filteredChild = cloneAlertNode(child);
-                    if (child.getChildCount() > 0) {
-                        instance = (AlertNode) child.getFirstChild();
-                        while (instance != null) {
-                            if (isIncluded(reportData, instance)) {
-                                filteredChild.add(cloneAlertNode(instance));
-                            }
-                            instance = (AlertNode) child.getChildAfter(instance);
-                        }
+            FilteredAlertNode filteredRoot = new FilteredAlertNode(root);
+            Enumeration<?> childEnum = root.children();
+            while (childEnum.hasMoreElements()) {
+                AlertNode child = (AlertNode) childEnum.nextElement();
+                FilteredAlertNode filteredChild = new FilteredAlertNode(child);
+                Enumeration<?> instanceEnum = child.children();
+                while (instanceEnum.hasMoreElements()) {
+                    AlertNode instance = (AlertNode) instanceEnum.nextElement();
+                    if (isIncluded(reportData, instance)) {
+                        filteredChild.addViewChild(instance);
                     }
-                    if (filteredChild.getChildCount() > 0) {
-                        filteredRoot.add(filteredChild);
-                    }
-                    child = (AlertNode) root.getChildAfter(child);
+                }
+                if (filteredChild.getChildCount() > 0) {
+                    filteredRoot.addViewChild(filteredChild);
                 }
             }
             root = filteredRoot;
@@ -370,35 +384,141 @@ public class ExtensionReports extends ExtensionAdaptor {
     public File generateReport(
             ReportData reportData, Template template, String reportFilename, boolean display)
             throws IOException {
+        return generateReport(
+                reportData,
+                template,
+                reportFilename,
+                display,
+                createSharedReportData(reportData, Collections.emptyList()));
+    }
+
+    /**
+     * Generates the reports of several templates from the same report data (report bundle).
+     *
+     * <p>The data common to all the reports (e.g. alert counts, statistics) is gathered just once,
+     * from the given report data, and shared by all the reports, which are generated in parallel.
+     * The report data should already have the filtered alerts tree, as returned by {@link
+     * #getFilteredAlertTree(ReportData)}, which is also shared.
+     *
+     * <p>Each report uses its own copy of the report data, with the name of its template and just
+     * the sections and theme the template supports.
+     *
+     * @param reportData the report data shared by all the reports.
+     * @param reportFilenames the templates and the full path of the files the reports will be
+     *     written to.
+     * @return the templates and the files the reports were written to.
+     * @throws IOException if an error occurred while generating any of the reports.
+     * @since 0.47.0
+     */
+    public Map<Template, File> generateReports(
+            ReportData reportData, Map<Template, String> reportFilenames) throws IOException {
+        if (reportFilenames.isEmpty()) {
+            closeReportObjects(reportData.getReportObjects().values());
+            return Collections.emptyMap();
+        }
+        SharedReportData sharedData =
+                createSharedReportData(reportData, reportData.getReportObjects().values());
+
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        Math.min(reportFilenames.size(), MAX_PARALLEL_REPORTS),
+                        r -> new Thread(r, "ZAP-Reports-Generator"));
         try {
-            TemplateEngine templateEngine = new TemplateEngine();
-            FileTemplateResolver templateResolver = new FileTemplateResolver();
-            templateResolver.setTemplateMode(template.getMode());
-            templateEngine.setTemplateResolver(templateResolver);
+            Map<Template, Future<File>> tasks = new LinkedHashMap<>();
+            reportFilenames.forEach(
+                    (template, reportFilename) -> {
+                        ReportData templateReportData = reportData.copyFor(template);
+                        tasks.put(
+                                template,
+                                executor.submit(
+                                        () ->
+                                                generateReport(
+                                                        templateReportData,
+                                                        template,
+                                                        reportFilename,
+                                                        false,
+                                                        sharedData)));
+                    });
 
-            templateEngine.setMessageResolver(new ReportMessageResolver(template));
+            Map<Template, File> files = new LinkedHashMap<>();
+            IOException exception = null;
+            for (Map.Entry<Template, Future<File>> task : tasks.entrySet()) {
+                try {
+                    files.put(task.getKey(), task.getValue().get());
+                } catch (ExecutionException e) {
+                    IOException cause =
+                            e.getCause() instanceof IOException
+                                    ? (IOException) e.getCause()
+                                    : new IOException(e.getCause());
+                    if (exception == null) {
+                        exception = cause;
+                    } else {
+                        exception.addSuppressed(cause);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while generating the reports.");
+                }
+            }
+            if (exception != null) {
+                throw exception;
+            }
+            return files;
+        } finally {
+            executor.shutdownNow();
+            closeReportObjects(reportData.getReportObjects().values());
+        }
+    }
+
+    private SharedReportData createSharedReportData(
+            ReportData reportData, Collection<Object> reportObjects) {
+        AlertNode root = reportData.getAlertTreeRootNode();
+
+        Map<String, Long> stats = null;
+        ExtensionStats extStats =
+                Control.getSingleton().getExtensionLoader().getExtension(ExtensionStats.class);
+        if (extStats != null) {
+            InMemoryStats inMemoryStats = extStats.getInMemoryStats();
+            if (inMemoryStats != null) {
+                stats = Collections.unmodifiableMap(inMemoryStats.getStats(""));
+            }
+        }
+
+        Set<Object> sharedReportObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        sharedReportObjects.addAll(reportObjects);
+
+        return new SharedReportData(
+                Collections.unmodifiableMap(getAlertCountsByRisk(root)),
+                Collections.unmodifiableMap(getAlertCountsByRule(root)),
+                stats,
+                Instant.now(),
+                sharedReportObjects);
+    }
+
+    private File generateReport(
+            ReportData reportData,
+            Template template,
+            String reportFilename,
+            boolean display,
+            SharedReportData sharedData)
+            throws IOException {
+        try {
+            TemplateEngine templateEngine = template.getTemplateEngine();
 
             Context context = new Context();
             context.setVariable("alertTree", reportData.getAlertTreeRootNode());
             context.setVariable("reportTitle", reportData.getTitle());
             context.setVariable("description", reportData.getDescription());
             context.setVariable("helper", new ReportHelper());
-            context.setVariable(
-                    "alertCounts", getAlertCountsByRisk(reportData.getAlertTreeRootNode()));
-            context.setVariable(
-                    "alertCountsByRule", getAlertCountsByRule(reportData.getAlertTreeRootNode()));
+            context.setVariable("alertCounts", sharedData.alertCounts());
+            context.setVariable("alertCountsByRule", sharedData.alertCountsByRule());
             context.setVariable("reportData", reportData);
 
-            ExtensionStats extStats =
-                    Control.getSingleton().getExtensionLoader().getExtension(ExtensionStats.class);
-            if (extStats != null) {
-                InMemoryStats stats = extStats.getInMemoryStats();
-                if (stats != null) {
-                    context.setVariable("stats", stats.getStats(""));
-                }
+            if (sharedData.stats() != null) {
+                context.setVariable("stats", sharedData.stats());
             }
 
-            Instant currentDateTime = Instant.now();
+            Instant currentDateTime = sharedData.created();
             synchronized (SIMPLE_DATE_FORMAT) {
                 context.setVariable(
                         "generatedString",
@@ -408,7 +528,10 @@ public class ExtensionReports extends ExtensionAdaptor {
             context.setVariable("zapVersion", Constant.PROGRAM_VERSION);
             context.setVariable("programName", Constant.PROGRAM_NAME_SHORT);
 
-            reportDataHandlers.forEach(rdh -> rdh.handle(reportData));
+            // The handlers might not be thread-safe
+            synchronized (reportDataHandlersLock) {
+                reportDataHandlers.forEach(rdh -> rdh.handle(reportData));
+            }
 
             if ("PDF".equals(template.getFormat())) {
                 if (reportFilename.toLowerCase().endsWith(".pdf")) {
@@ -488,20 +611,43 @@ public class ExtensionReports extends ExtensionAdaptor {
             Stats.incCounter("stats.reports.error." + template.getConfigName());
             throw e;
         } finally {
-            reportData.getReportObjects().values().stream()
-                    .filter(Closeable.class::isInstance)
-                    .map(Closeable.class::cast)
-                    .forEach(
-                            e -> {
-                                try {
-                                    e.close();
-                                } catch (Exception ex) {
-                                    LOGGER.error("Failed to close the report data:", ex);
-                                }
-                            });
-        }
+            closeReportObjects(
+                    reportData.getReportObjects().values().stream()
+                            .filter(e -> !sharedData.reportObjects().contains(e))
+                            .collect(Collectors.toList()));
+        }
+    }
+
+    private static void closeReportObjects(Collection<Object> reportObjects) {
+        reportObjects.stream()
+                .filter(Closeable.class::isInstance)
+                .map(Closeable.class::cast)
+                .forEach(
+                        e -> {
+                            try {
+                                e.close();
+                            } catch (Exception ex) {
+                                LOGGER.error("Failed to close the report data:", ex);
+                            }
+                        });
     }
 
+    /**
+     * The data common to the reports generated from the same report data.
+     *
+     * @param alertCounts the number of alerts by risk.
+     * @param alertCountsByRule the number of alert instances by rule.
+     * @param stats the statistics, might be {@code null}.
+     * @param created when the reports were created.
+     * @param reportObjects the report objects shared by the reports, closed just once.
+     */
+    private record SharedReportData(
+            Map<Integer, Integer> alertCounts,
+            Map<Integer, Integer> alertCountsByRule,
+            Map<String, Long> stats,
+            Instant created,
+            Set<Object> reportObjects) {}
+
     /**
      * Set (add) a class which can be used to add more data to reports.
      *
@@ -0,0 +1,107 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.reports;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import javax.swing.tree.MutableTreeNode;
+import javax.swing.tree.TreeNode;
+import org.zaproxy.zap.extension.alert.AlertNode;
+
+/**
+ * A read-only view of an {@link AlertNode} with just some of its children.
+ *
+ * <p>The children are not copied nor reparented, they keep being children of the original node,
+ * which allows to filter the alerts tree without cloning all the instance nodes.
+ */
+class FilteredAlertNode extends AlertNode {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<TreeNode> viewChildren;
+
+    FilteredAlertNode(AlertNode node) {
+        super(node.getRisk(), node.getNodeName());
+        if (node.getUserObject() != null) {
+            setUserObject(node.getUserObject());
+        }
+        setSystemic(node.isSystemic());
+        viewChildren = new ArrayList<>();
+    }
+
+    /**
+     * Adds the given node to the view, without changing its parent.
+     *
+     * @param child the node to add.
+     */
+    void addViewChild(AlertNode child) {
+        viewChildren.add(child);
+    }
+
+    @Override
+    public void add(MutableTreeNode newChild) {
+        throw new UnsupportedOperationException("The filtered alert tree is read-only.");
+    }
+
+    @Override
+    public void insert(MutableTreeNode newChild, int childIndex) {
+        throw new UnsupportedOperationException("The filtered alert tree is read-only.");
+    }
+
+    @Override
+    public void remove(int childIndex) {
+        throw new UnsupportedOperationException("The filtered alert tree is read-only.");
+    }
+
+    @Override
+    public int getChildCount() {
+        return viewChildren.size();
+    }
+
+    @Override
+    public AlertNode getChildAt(int index) {
+        return (AlertNode) viewChildren.get(index);
+    }
+
+    @Override
+    public Enumeration<TreeNode> children() {
+        return Collections.enumeration(viewChildren);
+    }
+
+    @Override
+    public int getIndex(TreeNode node) {
+        if (node == null) {
+            throw new IllegalArgumentException("argument is null");
+        }
+        for (int i = 0; i < viewChildren.size(); i++) {
+            if (viewChildren.get(i) == node) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean isNodeChild(TreeNode node) {
+        return node != null && getIndex(node) != -1;
+    }
+}
@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -60,6 +61,7 @@ public class ReportApi extends ApiImplementor {
     private static final String PREFIX = "reports";
 
     static final String ACTION_GENERATE = "generate";
+    static final String ACTION_GENERATE_BUNDLE = "generateBundle";
     static final String VIEW_TEMPLATES = "templates";
     static final String VIEW_TEMPLATE_DETAILS = "templateDetails";
 
@@ -70,6 +72,7 @@ public class ReportApi extends ApiImplementor {
     static final String PARAM_SECTIONS = "sections";
     static final String PARAM_SITES = "sites";
     static final String PARAM_TEMPLATE = "template";
+    static final String PARAM_TEMPLATES = "templates";
     static final String PARAM_THEME = "theme";
     static final String PARAM_TITLE = "title";
     static final String PARAM_DISPLAY = "display";
@@ -107,6 +110,23 @@ public class ReportApi extends ApiImplementor {
                             PARAM_REPORT_DIRECTORY,
                             PARAM_DISPLAY,
                         }));
+        this.addApiAction(
+                new ApiAction(
+                        ACTION_GENERATE_BUNDLE,
+                        new String[] {
+                            PARAM_TITLE, PARAM_TEMPLATES,
+                        },
+                        new String[] {
+                            PARAM_THEME,
+                            PARAM_DESCRIPTION,
+                            PARAM_CONTEXTS,
+                            PARAM_SITES,
+                            PARAM_SECTIONS,
+                            PARAM_INC_CONFIDENCES,
+                            PARAM_INC_RISKS,
+                            PARAM_REPORT_FILE_NAME_PATTERN,
+                            PARAM_REPORT_DIRECTORY,
+                        }));
         this.addApiView(new ApiView(VIEW_TEMPLATES));
         this.addApiView(new ApiView(VIEW_TEMPLATE_DETAILS, new String[] {PARAM_TEMPLATE}));
     }
@@ -151,26 +171,8 @@ public class ReportApi extends ApiImplementor {
                 }
 
                 reportData.setDescription(params.optString(PARAM_DESCRIPTION, ""));
-
-                if (isContainedParam(PARAM_CONTEXTS, params)) {
-                    String[] contextNames = params.getString(PARAM_CONTEXTS).split(DELIMITER_REGEX);
-                    List<Context> contextsList = new ArrayList<>();
-                    for (String contextName : contextNames) {
-                        contextsList.add(ApiUtils.getContextByName(contextName));
-                    }
-                    reportData.setContexts(contextsList);
-                } else {
-                    reportData.setContexts(Collections.emptyList());
-                }
-
-                List<String> sitesList = new ArrayList<>();
-                if (isContainedParam(PARAM_SITES, params)) {
-                    sitesList.addAll(
-                            Arrays.asList(params.getString(PARAM_SITES).split(DELIMITER_REGEX)));
-                    reportData.setSites(sitesList);
-                } else {
-                    reportData.setSites(ExtensionReports.getSites());
-                }
+                setContexts(reportData, params);
+                List<String> sitesList = setSites(reportData, params);
 
                 if (isContainedParam(PARAM_SECTIONS, params)) {
                     List<String> inputSections =
@@ -194,59 +196,17 @@ public class ReportApi extends ApiImplementor {
                     reportData.setSections(template.getSections());
                 }
 
-                if (isContainedParam(PARAM_INC_CONFIDENCES, params)) {
-                    reportData.setIncludeAllConfidences(false);
-                    String[] confidences =
-                            params.getString(PARAM_INC_CONFIDENCES).split(DELIMITER_REGEX);
-                    for (String confidence : confidences) {
-                        confidence =
-                                WordUtils.capitalize(confidence.trim().toLowerCase(Locale.ROOT));
-                        int confidenceIndex = ArrayUtils.indexOf(Alert.MSG_CONFIDENCE, confidence);
-                        if (confidenceIndex == -1) {
-                            throw new ApiException(Type.ILLEGAL_PARAMETER, PARAM_INC_CONFIDENCES);
-                        }
-                        reportData.setIncludeConfidence(confidenceIndex, true);
-                    }
-                } else {
-                    reportData.setIncludeAllConfidences(true);
-                }
-
-                if (isContainedParam(PARAM_INC_RISKS, params)) {
-                    reportData.setIncludeAllRisks(false);
-                    String[] risks = params.getString(PARAM_INC_RISKS).split(DELIMITER_REGEX);
-                    for (String risk : risks) {
-                        risk = WordUtils.capitalize(risk.trim().toLowerCase(Locale.ROOT));
-                        int riskIndex = ArrayUtils.indexOf(Alert.MSG_RISK, risk);
-                        if (riskIndex == -1) {
-                            throw new ApiException(Type.ILLEGAL_PARAMETER, PARAM_INC_RISKS);
-                        }
-                        reportData.setIncludeRisk(riskIndex, true);
-                    }
-                } else {
-                    reportData.setIncludeAllRisks(true);
-                }
+                setConfidences(reportData, params);
+                setRisks(reportData, params);
 
                 reportData.setAlertTreeRootNode(extReports.getFilteredAlertTree(reportData));
 
-                String paramReportDir = System.getProperty("user.home");
-                if (isContainedParam(PARAM_REPORT_DIRECTORY, params)) {
-                    paramReportDir = params.getString(PARAM_REPORT_DIRECTORY);
-                    if (!Files.isWritable(Paths.get(paramReportDir))) {
-                        String response =
-                                Constant.messages.getString(
-                                        "reports.dialog.error.dirperms", paramReportDir);
-                        throw new ApiException(Type.ILLEGAL_PARAMETER, response);
-                    }
-                }
+                String paramReportDir = getReportDirectory(params);
 
                 String reportFileName =
                         isContainedParam(PARAM_REPORT_FILE_NAME, params)
                                 ? params.getString(PARAM_REPORT_FILE_NAME)
-                                : ExtensionReports.getNameFromPattern(
-                                        isContainedParam(PARAM_REPORT_FILE_NAME_PATTERN, params)
-                                                ? params.getString(PARAM_REPORT_FILE_NAME_PATTERN)
-                                                : ReportParam.DEFAULT_NAME_PATTERN,
-                                        (sitesList.size() > 0 ? sitesList.get(0) : ""));
+                                : getReportFileNameFromPattern(params, sitesList);
                 if (!reportFileName.endsWith(template.getExtension())) {
                     reportFileName += '.' + template.getExtension();
                 }
@@ -260,11 +220,164 @@ public class ReportApi extends ApiImplementor {
                     throw new ApiException(Type.INTERNAL_ERROR, e);
                 }
                 return new ApiResponseElement(name, reportFilePath);
+            case ACTION_GENERATE_BUNDLE:
+                return generateBundle(name, params);
             default:
                 throw new ApiException(Type.BAD_ACTION);
         }
     }
 
+    /**
+     * Generates the reports of several templates from the same report data.
+     *
+     * <p>The sections and theme are applied to the templates that support them. The reports share
+     * the file name, if two templates have the same extension the name of the template is appended
+     * to the file name.
+     */
+    private ApiResponse generateBundle(String name, JSONObject params) throws ApiException {
+        List<Template> templates = new ArrayList<>();
+        for (String templateName : params.getString(PARAM_TEMPLATES).split(DELIMITER_REGEX)) {
+            Template template = extReports.getTemplateByConfigName(templateName.trim());
+            if (template == null) {
+                throw new ApiException(
+                        Type.DOES_NOT_EXIST,
+                        Constant.messages.getString(
+                                "reports.api.error.templateDoesNotExist", templateName.trim()));
+            }
+            if (!templates.contains(template)) {
+                templates.add(template);
+            }
+        }
+
+        ReportData reportData = new ReportData();
+        reportData.setTitle(params.getString(PARAM_TITLE));
+        if (isContainedParam(PARAM_THEME, params)) {
+            reportData.setTheme(params.getString(PARAM_THEME));
+        }
+        reportData.setDescription(params.optString(PARAM_DESCRIPTION, ""));
+        setContexts(reportData, params);
+        List<String> sitesList = setSites(reportData, params);
+        if (isContainedParam(PARAM_SECTIONS, params)) {
+            reportData.setSections(
+                    Arrays.stream(params.getString(PARAM_SECTIONS).split(DELIMITER_REGEX))
+                            .map(String::trim)
+                            .collect(Collectors.toList()));
+        }
+        setConfidences(reportData, params);
+        setRisks(reportData, params);
+        reportData.setAlertTreeRootNode(extReports.getFilteredAlertTree(reportData));
+
+        String reportDir = getReportDirectory(params);
+        String reportFileName = getReportFileNameFromPattern(params, sitesList);
+        Map<String, Long> extensionCounts =
+                templates.stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        Template::getExtension, Collectors.counting()));
+        Map<Template, String> reportFilePaths = new LinkedHashMap<>();
+        for (Template template : templates) {
+            String templateFileName = reportFileName;
+            if (extensionCounts.get(template.getExtension()) > 1) {
+                templateFileName += '-' + template.getConfigName();
+            }
+            templateFileName += '.' + template.getExtension();
+            reportFilePaths.put(template, Paths.get(reportDir, templateFileName).toString());
+        }
+
+        try {
+            extReports.generateReports(reportData, reportFilePaths);
+        } catch (Exception e) {
+            throw new ApiException(Type.INTERNAL_ERROR, e);
+        }
+
+        ApiResponseList result = new ApiResponseList(name);
+        reportFilePaths
+                .values()
+                .forEach(path -> result.addItem(new ApiResponseElement("file", path)));
+        return result;
+    }
+
+    private static void setContexts(ReportData reportData, JSONObject params) throws ApiException {
+        if (isContainedParam(PARAM_CONTEXTS, params)) {
+            String[] contextNames = params.getString(PARAM_CONTEXTS).split(DELIMITER_REGEX);
+            List<Context> contextsList = new ArrayList<>();
+            for (String contextName : contextNames) {
+                contextsList.add(ApiUtils.getContextByName(contextName));
+            }
+            reportData.setContexts(contextsList);
+        } else {
+            reportData.setContexts(Collections.emptyList());
+        }
+    }
+
+    private static List<String> setSites(ReportData reportData, JSONObject params) {
+        List<String> sitesList = new ArrayList<>();
+        if (isContainedParam(PARAM_SITES, params)) {
+            sitesList.addAll(Arrays.asList(params.getString(PARAM_SITES).split(DELIMITER_REGEX)));
+            reportData.setSites(sitesList);
+        } else {
+            reportData.setSites(ExtensionReports.getSites());
+        }
+        return sitesList;
+    }
+
+    private static void setConfidences(ReportData reportData, JSONObject params)
+            throws ApiException {
+        if (isContainedParam(PARAM_INC_CONFIDENCES, params)) {
+            reportData.setIncludeAllConfidences(false);
+            String[] confidences = params.getString(PARAM_INC_CONFIDENCES).split(DELIMITER_REGEX);
+            for (String confidence : confidences) {
+                confidence = WordUtils.capitalize(confidence.trim().toLowerCase(Locale.ROOT));
+                int confidenceIndex = ArrayUtils.indexOf(Alert.MSG_CONFIDENCE, confidence);
+                if (confidenceIndex == -1) {
+                    throw new ApiException(Type.ILLEGAL_PARAMETER, PARAM_INC_CONFIDENCES);
+                }
+                reportData.setIncludeConfidence(confidenceIndex, true);
+            }
+        } else {
+            reportData.setIncludeAllConfidences(true);
+        }
+    }
+
+    private static void setRisks(ReportData reportData, JSONObject params) throws ApiException {
+        if (isContainedParam(PARAM_INC_RISKS, params)) {
+            reportData.setIncludeAllRisks(false);
+            String[] risks = params.getString(PARAM_INC_RISKS).split(DELIMITER_REGEX);
+            for (String risk : risks) {
+                risk = WordUtils.capitalize(risk.trim().toLowerCase(Locale.ROOT));
+                int riskIndex = ArrayUtils.indexOf(Alert.MSG_RISK, risk);
+                if (riskIndex == -1) {
+                    throw new ApiException(Type.ILLEGAL_PARAMETER, PARAM_INC_RISKS);
+                }
+                reportData.setIncludeRisk(riskIndex, true);
+            }
+        } else {
+            reportData.setIncludeAllRisks(true);
+        }
+    }
+
+    private static String getReportDirectory(JSONObject params) throws ApiException {
+        String paramReportDir = System.getProperty("user.home");
+        if (isContainedParam(PARAM_REPORT_DIRECTORY, params)) {
+            paramReportDir = params.getString(PARAM_REPORT_DIRECTORY);
+            if (!Files.isWritable(Paths.get(paramReportDir))) {
+                String response =
+                        Constant.messages.getString(
+                                "reports.dialog.error.dirperms", paramReportDir);
+                throw new ApiException(Type.ILLEGAL_PARAMETER, response);
+            }
+        }
+        return paramReportDir;
+    }
+
+    private static String getReportFileNameFromPattern(JSONObject params, List<String> sites) {
+        return ExtensionReports.getNameFromPattern(
+                isContainedParam(PARAM_REPORT_FILE_NAME_PATTERN, params)
+                        ? params.getString(PARAM_REPORT_FILE_NAME_PATTERN)
+                        : ReportParam.DEFAULT_NAME_PATTERN,
+                (sites.size() > 0 ? sites.get(0) : ""));
+    }
+
     @Override
     public ApiResponse handleApiView(String name, JSONObject params) throws ApiException {
         LOGGER.debug("Request for handleApiView: {} (params: {})", name, params);
@@ -180,6 +180,44 @@ public class ReportData {
         this.theme = theme;
     }
 
+    /**
+     * Creates a copy of this report data for the given template.
+     *
+     * <p>The copy has the name of the template and just the sections and theme that the template
+     * supports, all the template sections if none set, and the first theme of the template if the
+     * theme is not supported. The alerts tree, contexts, and sites are shared with this report
+     * data, the report objects are copied.
+     *
+     * @param template the template of the copy.
+     * @return the copy of the report data.
+     */
+    ReportData copyFor(Template template) {
+        ReportData copy = new ReportData(template.getConfigName());
+        copy.alertTreeRootNode = alertTreeRootNode;
+        copy.title = title;
+        copy.description = description;
+        copy.contexts = contexts;
+        copy.sites = sites;
+        copy.reportObjects = new HashMap<>(reportObjects);
+        copy.confidences = confidences.clone();
+        copy.risks = risks.clone();
+
+        List<String> templateSections = template.getSections();
+        if (sections.isEmpty()) {
+            copy.sections = new ArrayList<>(templateSections);
+        } else {
+            sections.stream().filter(templateSections::contains).forEach(copy.sections::add);
+        }
+
+        List<String> themes = template.getThemes();
+        if (theme != null && themes.contains(theme)) {
+            copy.theme = theme;
+        } else if (!themes.isEmpty()) {
+            copy.theme = themes.get(0);
+        }
+        return copy;
+    }
+
     public String getTemplateName() {
         return templateName;
     }
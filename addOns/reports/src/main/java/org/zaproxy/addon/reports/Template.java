@@ -34,7 +34,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
+import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.FileTemplateResolver;
 import org.yaml.snakeyaml.Yaml;
 
 public class Template {
@@ -52,6 +54,8 @@ public class Template {
     private ResourceBundle msgs = null;
     private Boolean hasMsgs = null;
     private URLClassLoader classloader = null;
+    private TemplateEngine templateEngine;
+    private long templateEngineLastModified;
 
     public Template(File templateYaml) throws IOException {
         Yaml yaml = new Yaml();
@@ -179,8 +183,9 @@ public class Template {
         return mode;
     }
 
-    public void setMode(TemplateMode mode) {
+    public synchronized void setMode(TemplateMode mode) {
         this.mode = mode;
+        templateEngine = null;
     }
 
     public File getResourcesDir() {
@@ -257,7 +262,38 @@ public class Template {
         return null;
     }
 
+    /**
+     * Gets the engine to process the report template.
+     *
+     * <p>The engine is created once and keeps the parsed template cached, the cache is cleared when
+     * the report template file changes.
+     *
+     * @return the template engine, never {@code null}.
+     */
+    synchronized TemplateEngine getTemplateEngine() {
+        long lastModified = reportTemplateFile.lastModified();
+        if (templateEngine == null) {
+            FileTemplateResolver templateResolver = new FileTemplateResolver();
+            templateResolver.setTemplateMode(mode);
+            templateResolver.setCacheable(true);
+
+            templateEngine = new TemplateEngine();
+            templateEngine.setTemplateResolver(templateResolver);
+            templateEngine.setMessageResolver(new ReportMessageResolver(this));
+        } else if (lastModified != templateEngineLastModified) {
+            templateEngine.clearTemplateCache();
+        }
+        templateEngineLastModified = lastModified;
+        return templateEngine;
+    }
+
     void unload() {
+        synchronized (this) {
+            if (templateEngine != null) {
+                templateEngine.clearTemplateCache();
+                templateEngine = null;
+            }
+        }
         if (classloader != null) {
             ResourceBundle.clearCache(classloader);
             try {
@@ -20,9 +20,10 @@
 package org.zaproxy.addon.reports.sarif;
 
 import java.net.URI;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
@@ -42,6 +43,16 @@ import org.zaproxy.zap.extension.alert.AlertNode;
 public class SarifReportDataSupport {
 
     private static final String FALLBACK_SEMANTIC_VERSION = "0.0.0";
+
+    /* same order as SarifResult#compareTo */
+    private static final Comparator<Alert> RESULT_ORDER =
+            Comparator.<Alert>comparingInt(
+                            alert ->
+                                    -SarifLevel.fromAlertRisk(
+                                                    alert.getRisk(), alert.getConfidence())
+                                            .getAlertRisk())
+                    .thenComparingInt(Alert::getPluginId);
+
     private ReportData reportData;
     private List<SarifResult> results;
 
@@ -65,20 +76,35 @@ public class SarifReportDataSupport {
         return results;
     }
 
+    /**
+     * Creates the results, as a list that builds each result when accessed.
+     *
+     * <p>The results, which contain the HTTP messages of the alerts, are not kept in memory, the
+     * alerts are sorted in the same order as the results instead.
+     *
+     * @return the results, sorted.
+     * @see SarifResult#compareTo(SarifResult)
+     */
     private List<SarifResult> createResults() {
 
-        Collection<Alert> allAlerts = collectAllAlerts(reportData.getAlertTreeRootNode());
-        List<SarifResult> results = new ArrayList<>(allAlerts.size());
-
-        for (Alert alert : allAlerts) {
-            SarifResult sarifResult = SarifResult.builder().setAlert(alert).build();
-            results.add(sarifResult);
-        }
+        List<Alert> allAlerts =
+                new ArrayList<>(collectAllAlerts(reportData.getAlertTreeRootNode()));
 
         /* sort, so always in same order */
-        Collections.sort(results);
+        allAlerts.sort(RESULT_ORDER);
 
-        return results;
+        return new AbstractList<SarifResult>() {
+
+            @Override
+            public SarifResult get(int index) {
+                return SarifResult.builder().setAlert(allAlerts.get(index)).build();
+            }
+
+            @Override
+            public int size() {
+                return allAlerts.size();
+            }
+        };
     }
 
     public Collection<SarifTaxonomy> getTaxonomies() {
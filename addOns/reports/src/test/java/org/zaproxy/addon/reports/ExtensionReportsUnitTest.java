@@ -20,6 +20,7 @@
 package org.zaproxy.addon.reports;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
@@ -29,8 +30,10 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.withSettings;
 
+import java.io.Closeable;
 import java.io.File;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
@@ -39,6 +42,7 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -818,6 +822,81 @@ class ExtensionReportsUnitTest extends TestUtils {
         assertThat(logEvents, not(hasItem(startsWith("ERROR"))));
     }
 
+    @Test
+    void shouldGenerateReportsOfAllTemplatesInBundle() throws Exception {
+        // Given
+        ExtensionReports extRep = new ExtensionReports();
+        ReportData reportData = setupReportData();
+        Map<Template, String> reportFilenames = new LinkedHashMap<>();
+        for (String templateName :
+                List.of(
+                        "traditional-html",
+                        "traditional-json",
+                        "traditional-md",
+                        "traditional-xml",
+                        "traditional-xml-plus")) {
+            Template template = ReportTestUtils.getTemplateFromYamlFile(templateName);
+            File f = File.createTempFile("zap.reports.test", "." + template.getExtension());
+            reportFilenames.put(template, f.getAbsolutePath());
+        }
+        // When
+        Map<Template, File> files = extRep.generateReports(reportData, reportFilenames);
+        // Then
+        assertThat(files.keySet(), contains(reportFilenames.keySet().toArray()));
+        for (Map.Entry<Template, File> entry : files.entrySet()) {
+            File file = entry.getValue();
+            assertThat(file.getAbsolutePath(), is(equalTo(reportFilenames.get(entry.getKey()))));
+            assertThat(file.length(), greaterThan(0L));
+        }
+        assertThat(logEvents, not(hasItem(startsWith("WARN"))));
+        assertThat(logEvents, not(hasItem(startsWith("ERROR"))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "traditional-json",
+                "traditional-json-plus",
+                "traditional-xml",
+                "traditional-xml-plus"
+            })
+    void shouldGenerateSameReportInBundleAsSingleReport(String templateName) throws Exception {
+        // Given
+        Constant.messages = new I18N(Locale.ENGLISH);
+        ExtensionReports extRep = new ExtensionReports();
+        ReportData reportData = setupReportData();
+        Template template = ReportTestUtils.getTemplateFromYamlFile(templateName);
+        Template otherTemplate = ReportTestUtils.getTemplateFromYamlFile("traditional-md");
+        File single = File.createTempFile("zap.reports.test", "." + template.getExtension());
+        File bundled = File.createTempFile("zap.reports.test", "." + template.getExtension());
+        File other = File.createTempFile("zap.reports.test", "." + otherTemplate.getExtension());
+        Map<Template, String> reportFilenames = new LinkedHashMap<>();
+        reportFilenames.put(otherTemplate, other.getAbsolutePath());
+        reportFilenames.put(template, bundled.getAbsolutePath());
+        // When
+        extRep.generateReport(
+                reportData.copyFor(template), template, single.getAbsolutePath(), false);
+        extRep.generateReports(reportData, reportFilenames);
+        // Then
+        String singleReport = new String(Files.readAllBytes(single.toPath()));
+        String bundledReport = new String(Files.readAllBytes(bundled.toPath()));
+        assertThat(cleanReport(bundledReport), is(equalTo(cleanReport(singleReport))));
+    }
+
+    @Test
+    void shouldCloseReportObjectsIfNoTemplatesInBundle() throws Exception {
+        // Given
+        ExtensionReports extRep = new ExtensionReports();
+        ReportData reportData = setupReportData();
+        Closeable reportObject = mock(Closeable.class);
+        reportData.addReportObjects("object", reportObject);
+        // When
+        Map<Template, File> files = extRep.generateReports(reportData, Map.of());
+        // Then
+        assertThat(files.isEmpty(), is(equalTo(true)));
+        verify(reportObject).close();
+    }
+
     private static ReportData setupReportData() {
         ReportData reportData = ReportTestUtils.getTestReportData();
         AlertNode root = new AlertNode(0, "Alerts");
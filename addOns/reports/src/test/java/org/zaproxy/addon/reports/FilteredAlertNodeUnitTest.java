@@ -0,0 +1,101 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.reports;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.core.scanner.Alert;
+import org.zaproxy.zap.extension.alert.AlertNode;
+
+/** Unit test for {@link FilteredAlertNode}. */
+class FilteredAlertNodeUnitTest {
+
+    private AlertNode node;
+    private AlertNode childA;
+    private AlertNode childB;
+
+    @BeforeEach
+    void setUp() {
+        node = new AlertNode(Alert.RISK_MEDIUM, "Alert");
+        node.setUserObject(new Alert(1));
+        childA = new AlertNode(Alert.RISK_MEDIUM, "A");
+        childB = new AlertNode(Alert.RISK_MEDIUM, "B");
+        node.add(childA);
+        node.add(childB);
+    }
+
+    @Test
+    void shouldCopyStateOfNode() {
+        // Given / When
+        FilteredAlertNode filteredNode = new FilteredAlertNode(node);
+        // Then
+        assertThat(filteredNode.getRisk(), is(equalTo(Alert.RISK_MEDIUM)));
+        assertThat(filteredNode.getNodeName(), is(equalTo("Alert")));
+        assertThat(filteredNode.getUserObject(), is(sameInstance(node.getUserObject())));
+        assertThat(filteredNode.getChildCount(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldHaveJustViewChildren() {
+        // Given
+        FilteredAlertNode filteredNode = new FilteredAlertNode(node);
+        // When
+        filteredNode.addViewChild(childB);
+        // Then
+        assertThat(filteredNode.getChildCount(), is(equalTo(1)));
+        assertThat(filteredNode.getChildAt(0), is(sameInstance(childB)));
+        assertThat(Collections.list(filteredNode.children()), contains(childB));
+        assertThat(filteredNode.getIndex(childB), is(equalTo(0)));
+        assertThat(filteredNode.getIndex(childA), is(equalTo(-1)));
+        assertThat(filteredNode.isNodeChild(childB), is(equalTo(true)));
+        assertThat(filteredNode.isNodeChild(childA), is(equalTo(false)));
+    }
+
+    @Test
+    void shouldNotChangeOriginalNodeWhenAddingViewChildren() {
+        // Given
+        FilteredAlertNode filteredNode = new FilteredAlertNode(node);
+        // When
+        filteredNode.addViewChild(childB);
+        // Then
+        assertThat(node.getChildCount(), is(equalTo(2)));
+        assertThat(childB.getParent(), is(sameInstance(node)));
+    }
+
+    @Test
+    void shouldNotAllowToModifyChildren() {
+        // Given
+        FilteredAlertNode filteredNode = new FilteredAlertNode(node);
+        filteredNode.addViewChild(childA);
+        AlertNode other = new AlertNode(Alert.RISK_LOW, "Other");
+        // When / Then
+        assertThrows(UnsupportedOperationException.class, () -> filteredNode.add(other));
+        assertThrows(UnsupportedOperationException.class, () -> filteredNode.insert(other, 0));
+        assertThrows(UnsupportedOperationException.class, () -> filteredNode.remove(0));
+    }
+}
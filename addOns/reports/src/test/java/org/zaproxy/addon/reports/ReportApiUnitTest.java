@@ -20,6 +20,8 @@
 package org.zaproxy.addon.reports;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -30,6 +32,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
@@ -38,6 +41,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 import net.sf.json.JSONObject;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +51,7 @@ import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.core.scanner.Alert;
 import org.parosproxy.paros.model.Model;
 import org.zaproxy.zap.extension.api.ApiException;
+import org.zaproxy.zap.extension.api.ApiResponse;
 import org.zaproxy.zap.model.Context;
 import org.zaproxy.zap.utils.I18N;
 
@@ -484,4 +489,96 @@ class ReportApiUnitTest {
                 () -> assertThat(reportFilePathCaptor.getValue(), is(fileNamePath)),
                 () -> assertThat(reportFilePathCaptor.getValue(), is(not(fileNamePatternPath))));
     }
+
+    @Test
+    void shouldGenerateBundleOfTemplates() throws Exception {
+        // Given
+        String reportDirectory = "src/main/zapHomeFiles";
+        Template jsonTemplate = ReportTestUtils.getTemplateFromYamlFile("traditional-json");
+        Template xmlTemplate = ReportTestUtils.getTemplateFromYamlFile("traditional-xml");
+        when(extReports.getTemplateByConfigName("traditional-json")).thenReturn(jsonTemplate);
+        when(extReports.getTemplateByConfigName("traditional-xml")).thenReturn(xmlTemplate);
+        params.put(ReportApi.PARAM_TEMPLATES, "traditional-json | traditional-xml");
+        params.put(ReportApi.PARAM_REPORT_FILE_NAME_PATTERN, "bundle");
+        params.put(ReportApi.PARAM_REPORT_DIRECTORY, reportDirectory);
+        params.put(ReportApi.PARAM_INC_RISKS, "High");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Template, String>> reportFilePathsCaptor =
+                ArgumentCaptor.forClass(Map.class);
+
+        // When
+        ApiResponse response = reportApi.handleApiAction(ReportApi.ACTION_GENERATE_BUNDLE, params);
+
+        // Then
+        verify(extReports)
+                .generateReports(reportDataCaptor.capture(), reportFilePathsCaptor.capture());
+        ReportData reportData = reportDataCaptor.getValue();
+        assertThat(reportData.getTitle(), is("Default Title"));
+        assertThat(reportData.isIncludeRisk(Alert.RISK_HIGH), is(true));
+        assertThat(reportData.isIncludeRisk(Alert.RISK_LOW), is(false));
+        Map<Template, String> reportFilePaths = reportFilePathsCaptor.getValue();
+        assertThat(reportFilePaths.keySet(), contains(jsonTemplate, xmlTemplate));
+        assertThat(
+                reportFilePaths.get(jsonTemplate),
+                is(Paths.get(reportDirectory, "bundle.json").toString()));
+        assertThat(
+                reportFilePaths.get(xmlTemplate),
+                is(Paths.get(reportDirectory, "bundle.xml").toString()));
+        assertThat(
+                response.toJSON().toString(),
+                containsString(Paths.get(reportDirectory, "bundle.json").toString()));
+    }
+
+    @Test
+    void shouldAppendTemplateNameToBundleFileNamesWithSameExtension() throws Exception {
+        // Given
+        String reportDirectory = "src/main/zapHomeFiles";
+        Template jsonTemplate = ReportTestUtils.getTemplateFromYamlFile("traditional-json");
+        Template jsonPlusTemplate =
+                ReportTestUtils.getTemplateFromYamlFile("traditional-json-plus");
+        when(extReports.getTemplateByConfigName("traditional-json")).thenReturn(jsonTemplate);
+        when(extReports.getTemplateByConfigName("traditional-json-plus"))
+                .thenReturn(jsonPlusTemplate);
+        params.put(
+                ReportApi.PARAM_TEMPLATES,
+                "traditional-json|traditional-json-plus|traditional-html-plus");
+        params.put(ReportApi.PARAM_REPORT_FILE_NAME_PATTERN, "bundle");
+        params.put(ReportApi.PARAM_REPORT_DIRECTORY, reportDirectory);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Template, String>> reportFilePathsCaptor =
+                ArgumentCaptor.forClass(Map.class);
+
+        // When
+        reportApi.handleApiAction(ReportApi.ACTION_GENERATE_BUNDLE, params);
+
+        // Then
+        verify(extReports).generateReports(any(), reportFilePathsCaptor.capture());
+        Map<Template, String> reportFilePaths = reportFilePathsCaptor.getValue();
+        assertThat(
+                reportFilePaths.get(jsonTemplate),
+                is(Paths.get(reportDirectory, "bundle-traditional-json.json").toString()));
+        assertThat(
+                reportFilePaths.get(jsonPlusTemplate),
+                is(Paths.get(reportDirectory, "bundle-traditional-json-plus.json").toString()));
+        assertThat(
+                reportFilePaths.get(template),
+                is(Paths.get(reportDirectory, "bundle.html").toString()));
+    }
+
+    @Test
+    void shouldErrorOnUnknownTemplateInBundle() throws Exception {
+        // Given
+        when(extReports.getTemplateByConfigName("unknown")).thenReturn(null);
+        params.put(ReportApi.PARAM_TEMPLATES, "traditional-html-plus|unknown");
+
+        // When
+        ApiException e =
+                assertThrows(
+                        ApiException.class,
+                        () -> reportApi.handleApiAction(ReportApi.ACTION_GENERATE_BUNDLE, params));
+
+        // Then
+        assertThat(e.getType(), is(ApiException.Type.DOES_NOT_EXIST));
+        verify(extReports, never()).generateReports(any(), any());
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.reports;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.core.scanner.Alert;
+import org.zaproxy.zap.extension.alert.AlertNode;
+
+/** Unit test for {@link ReportData}. */
+class ReportDataUnitTest {
+
+    private Template template;
+
+    @BeforeEach
+    void setUp() {
+        template = mock(Template.class);
+        given(template.getConfigName()).willReturn("template");
+        given(template.getSections()).willReturn(List.of("sectionA", "sectionB"));
+        given(template.getThemes()).willReturn(List.of("themeA", "themeB"));
+    }
+
+    @Test
+    void shouldCopyForTemplate() {
+        // Given
+        ReportData reportData = new ReportData("other");
+        AlertNode root = new AlertNode(0, "Alerts");
+        reportData.setAlertTreeRootNode(root);
+        reportData.setTitle("Title");
+        reportData.setDescription("Description");
+        reportData.addSite("https://example.com");
+        reportData.setIncludeRisk(Alert.RISK_HIGH, true);
+        reportData.setIncludeConfidence(Alert.CONFIDENCE_LOW, true);
+        Object reportObject = new Object();
+        reportData.addReportObjects("key", reportObject);
+        // When
+        ReportData copy = reportData.copyFor(template);
+        // Then
+        assertThat(copy.getTemplateName(), is(equalTo("template")));
+        assertThat(copy.getAlertTreeRootNode(), is(sameInstance(root)));
+        assertThat(copy.getTitle(), is(equalTo("Title")));
+        assertThat(copy.getDescription(), is(equalTo("Description")));
+        assertThat(copy.getSites(), contains("https://example.com"));
+        assertThat(copy.isIncludeRisk(Alert.RISK_HIGH), is(equalTo(true)));
+        assertThat(copy.isIncludeRisk(Alert.RISK_LOW), is(equalTo(false)));
+        assertThat(copy.isIncludeConfidence(Alert.CONFIDENCE_LOW), is(equalTo(true)));
+        assertThat(copy.isIncludeConfidence(Alert.CONFIDENCE_HIGH), is(equalTo(false)));
+        assertThat(copy.getReportObject("key"), is(sameInstance(reportObject)));
+    }
+
+    @Test
+    void shouldNotShareMutableStateWithCopy() {
+        // Given
+        ReportData reportData = new ReportData("other");
+        ReportData copy = reportData.copyFor(template);
+        // When
+        copy.addReportObjects("key", new Object());
+        copy.setIncludeRisk(Alert.RISK_HIGH, true);
+        copy.removeSection("sectionA");
+        // Then
+        assertThat(reportData.getReportObject("key"), is(nullValue()));
+        assertThat(reportData.isIncludeRisk(Alert.RISK_HIGH), is(equalTo(false)));
+        assertThat(reportData.getSections(), is(empty()));
+    }
+
+    @Test
+    void shouldUseAllTemplateSectionsInCopyIfNoneSet() {
+        // Given
+        ReportData reportData = new ReportData("other");
+        // When
+        ReportData copy = reportData.copyFor(template);
+        // Then
+        assertThat(copy.getSections(), contains("sectionA", "sectionB"));
+    }
+
+    @Test
+    void shouldUseJustTemplateSectionsInCopy() {
+        // Given
+        ReportData reportData = new ReportData("other");
+        reportData.addSection("sectionB");
+        reportData.addSection("sectionC");
+        // When
+        ReportData copy = reportData.copyFor(template);
+        // Then
+        assertThat(copy.getSections(), contains("sectionB"));
+    }
+
+    @Test
+    void shouldUseThemeInCopyIfSupportedByTemplate() {
+        // Given
+        ReportData reportData = new ReportData("other");
+        reportData.setTheme("themeB");
+        // When
+        ReportData copy = reportData.copyFor(template);
+        // Then
+        assertThat(copy.getTheme(), is(equalTo("themeB")));
+    }
+
+    @Test
+    void shouldUseFirstTemplateThemeInCopyIfThemeNotSupported() {
+        // Given
+        ReportData reportData = new ReportData("other");
+        reportData.setTheme("themeC");
+        // When
+        ReportData copy = reportData.copyFor(template);
+        // Then
+        assertThat(copy.getTheme(), is(equalTo("themeA")));
+    }
+
+    @Test
+    void shouldNotSetThemeInCopyIfTemplateHasNoThemes() {
+        // Given
+        given(template.getThemes()).willReturn(List.of());
+        ReportData reportData = new ReportData("other");
+        reportData.setTheme("themeA");
+        // When
+        ReportData copy = reportData.copyFor(template);
+        // Then
+        assertThat(copy.getTheme(), is(nullValue()));
+    }
+}
@@ -26,10 +26,12 @@ import static org.zaproxy.addon.reports.sarif.TestAlertNodeBuilder.newAlertNodeB
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.parosproxy.paros.core.scanner.Alert;
 import org.zaproxy.addon.reports.ReportData;
 import org.zaproxy.zap.extension.alert.AlertNode;
 
@@ -150,4 +152,48 @@ class SarifReportDataSupportUnitTest {
         SarifRule rule1 = it.next();
         assertEquals("this is a description", rule1.getFullDescription());
     }
+
+    @Test
+    void resultsAreSortedByLevelAndRuleId() {
+        /* prepare */
+        reportData = new ReportData("test");
+        AlertNode rootNode = new AlertNode(0, "root");
+        reportData.setAlertTreeRootNode(rootNode);
+
+        rootNode.add(createAlertNode(3, Alert.RISK_LOW, Alert.CONFIDENCE_MEDIUM));
+        rootNode.add(createAlertNode(2, Alert.RISK_HIGH, Alert.CONFIDENCE_MEDIUM));
+        rootNode.add(createAlertNode(1, Alert.RISK_HIGH, Alert.CONFIDENCE_FALSE_POSITIVE));
+        rootNode.add(createAlertNode(4, Alert.RISK_LOW, Alert.CONFIDENCE_HIGH));
+        rootNode.add(createAlertNode(1, Alert.RISK_HIGH, Alert.CONFIDENCE_HIGH));
+
+        reportData.setSites(Arrays.asList("https://example.com"));
+        SarifReportDataSupport toTest = new SarifReportDataSupport(reportData);
+
+        /* execute */
+        List<SarifResult> results = toTest.getResults();
+
+        /* test */
+        assertEquals(5, results.size());
+        assertResult(results.get(0), "1", SarifLevel.ERROR);
+        assertResult(results.get(1), "2", SarifLevel.ERROR);
+        assertResult(results.get(2), "3", SarifLevel.NOTE);
+        assertResult(results.get(3), "4", SarifLevel.NOTE);
+        assertResult(results.get(4), "1", SarifLevel.NONE);
+    }
+
+    private static AlertNode createAlertNode(int pluginId, int risk, int confidence) {
+        return newAlertNodeBuilder(
+                        newAlertBuilder()
+                                .setPluginId(pluginId)
+                                .setRisk(risk)
+                                .setConfidence(confidence)
+                                .setUriString("https://example.com/test" + pluginId)
+                                .build())
+                .build();
+    }
+
+    private static void assertResult(SarifResult result, String ruleId, SarifLevel level) {
+        assertEquals(ruleId, result.getRuleId());
+        assertEquals(level, result.getLevel());
+    }
 }
@@ -31,42 +31,149 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import net.htmlparser.jericho.Element;
 import net.htmlparser.jericho.HTMLElementName;
 import net.htmlparser.jericho.Source;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.core.scanner.Alert;
 import org.parosproxy.paros.network.HttpMessage;
+import org.zaproxy.addon.commonlib.matching.MultiPatternMatcher;
 import org.zaproxy.addon.retire.Result;
 import org.zaproxy.addon.retire.RetireUtil;
 
 public class Repo {
 
+    private static final Logger LOGGER = LogManager.getLogger(Repo.class);
+
     private static final String DONT_CHECK_NAME = "dont check";
 
+    private static final List<String> EXTRACTOR_TYPES =
+            List.of(Extractors.TYPE_URI, Extractors.TYPE_FILENAME, Extractors.TYPE_FILECONTENT);
+
+    /** The maximum number of response bodies whose content scan is kept. */
+    private static final int MAX_CONTENT_SCANS = 1000;
+
     private final Map<String, RepoEntry> entries;
 
+    /** The hashes (lower case) of all entries, to the first entry that has them. */
+    private final Map<String, HashEntry> hashes;
+
+    /** The extractors of all entries (except "dont check"), by type, valued by entry name. */
+    private final Map<String, MultiPatternMatcher<String>> extractors;
+
+    /** The extractors of the "dont check" entry, by type. */
+    private final Map<String, MultiPatternMatcher<String>> dontCheckExtractors;
+
+    /** The content scans, by hash of the response body. */
+    private final Map<String, ContentScan> contentScans;
+
     public Repo(String resourcePath) throws IOException {
+        this(readEntries(resourcePath));
+    }
+
+    public Repo(Path file) throws IOException {
+        this(readEntries(file));
+    }
+
+    Repo(Map<String, RepoEntry> entries) {
+        this(entries, MAX_CONTENT_SCANS);
+    }
+
+    Repo(Map<String, RepoEntry> entries, int maxContentScans) {
+        this.entries = entries;
+        this.hashes = new HashMap<>();
+        this.extractors = new HashMap<>();
+        this.dontCheckExtractors = new HashMap<>();
+        this.contentScans =
+                Collections.synchronizedMap(
+                        new LinkedHashMap<>(16, 0.75f, true) {
+
+                            private static final long serialVersionUID = 1L;
+
+                            @Override
+                            protected boolean removeEldestEntry(
+                                    Map.Entry<String, ContentScan> eldest) {
+                                return size() > maxContentScans;
+                            }
+                        });
+
+        Map<String, MultiPatternMatcher.Builder<String>> builders = new HashMap<>();
+        Map<String, MultiPatternMatcher.Builder<String>> dontCheckBuilders = new HashMap<>();
+        for (String type : EXTRACTOR_TYPES) {
+            builders.put(type, MultiPatternMatcher.builder());
+            dontCheckBuilders.put(type, MultiPatternMatcher.builder());
+        }
+
+        for (Map.Entry<String, RepoEntry> repoEntry : entries.entrySet()) {
+            String name = repoEntry.getKey();
+            Extractors entryExtractors = repoEntry.getValue().getExtractors();
+            if (entryExtractors == null) {
+                continue;
+            }
+
+            boolean dontCheck = DONT_CHECK_NAME.equals(name);
+            for (String type : EXTRACTOR_TYPES) {
+                addExtractors(
+                        dontCheck ? dontCheckBuilders.get(type) : builders.get(type),
+                        name,
+                        entryExtractors.get(type));
+            }
+            if (!dontCheck) {
+                for (Map.Entry<String, String> hash : entryExtractors.getHashes().entrySet()) {
+                    hashes.putIfAbsent(
+                            hash.getKey().toLowerCase(Locale.ROOT),
+                            new HashEntry(name, hash.getKey(), hash.getValue()));
+                }
+            }
+        }
+
+        builders.forEach((type, builder) -> extractors.put(type, builder.build()));
+        dontCheckBuilders.forEach(
+                (type, builder) -> dontCheckExtractors.put(type, builder.build()));
+    }
+
+    private static void addExtractors(
+            MultiPatternMatcher.Builder<String> builder, String name, List<String> regexes) {
+        if (regexes == null) {
+            return;
+        }
+        for (String regex : regexes) {
+            if (regex == null) {
+                continue;
+            }
+            try {
+                builder.add(Pattern.compile(regex), name);
+            } catch (PatternSyntaxException e) {
+                LOGGER.warn("Ignoring invalid extractor of {}: {}", name, regex, e);
+            }
+        }
+    }
+
+    private static Map<String, RepoEntry> readEntries(String resourcePath) throws IOException {
         try (InputStream in = Repo.class.getResourceAsStream(resourcePath);
                 BufferedReader reader =
                         new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)); ) {
-            entries = createEntries(reader);
+            return createEntries(reader);
         }
     }
 
-    public Repo(Path file) throws IOException {
+    private static Map<String, RepoEntry> readEntries(Path file) throws IOException {
         try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
-            entries = createEntries(reader);
+            return createEntries(reader);
         }
     }
 
@@ -90,27 +197,33 @@ public class Repo {
      * 3)Matching vulnerability is found in database for JS file content, if YES return HashSet of related info.
      * 4)Matching vulnerability is found in database for JS file hash, if YES return HashSet of related info .
      * 5)Return empty HashSet.
+     *
+     * The results of the content and hash checks are kept by hash of the response body, so the
+     * same file served from different URLs is scanned just once.
      */
     public Result scanJS(HttpMessage msg, Source source) {
 
         String uri = msg.getRequestHeader().getURI().toString();
         String fileName = RetireUtil.getFileName(msg.getRequestHeader().getURI());
-        String content = getCleanContent(msg, source);
-        Result result;
 
-        // Check if included in don't check section
-        HashMap<String, String> msginfo = new HashMap<>();
-        msginfo.put(Extractors.TYPE_URI, uri);
-        if (fileName != null) {
-            msginfo.put(Extractors.TYPE_FILENAME, fileName);
+        String hash = RetireUtil.getHash(msg.getResponseBody().getBytes());
+        String contentScanKey = msg.getResponseHeader().isHtml() ? "html:" + hash : hash;
+        String content = null;
+        ContentScan contentScan = contentScans.get(contentScanKey);
+        if (contentScan == null) {
+            content = getCleanContent(msg, source);
+            contentScan = new ContentScan(dontcheck(Extractors.TYPE_FILECONTENT, content));
+            contentScans.put(contentScanKey, contentScan);
         }
-        msginfo.put(Extractors.TYPE_FILECONTENT, content);
 
-        if (dontcheck(msginfo)) {
+        // Check if included in don't check section
+        if (contentScan.isDontCheck()
+                || dontcheck(Extractors.TYPE_URI, uri)
+                || (fileName != null && dontcheck(Extractors.TYPE_FILENAME, fileName))) {
             return null;
         }
 
-        result = scan(Extractors.TYPE_URI, uri);
+        Result result = scan(Extractors.TYPE_URI, uri);
         if (result != null) {
             return result;
         }
@@ -122,13 +235,17 @@ public class Repo {
             return result;
         }
 
-        result = scan(Extractors.TYPE_FILECONTENT, content);
-        if (result != null) {
-            return result;
+        if (!contentScan.isScanned()) {
+            if (content == null) {
+                content = getCleanContent(msg, source);
+            }
+            result = scan(Extractors.TYPE_FILECONTENT, content);
+            if (result == null) {
+                result = scanHash(hash);
+            }
+            contentScan.setResult(result);
         }
-
-        String hash = RetireUtil.getHash(msg.getResponseBody().getBytes());
-        return scanHash(hash);
+        return contentScan.getResult();
     }
 
     private static String getCleanContent(HttpMessage msg, Source source) {
@@ -144,35 +261,24 @@ public class Repo {
     }
 
     /*
-     * This function computes the SHA 1 hash of the HTTP response body,
+     * This function looks up the SHA 1 hash of the HTTP response body,
      * IF the hash matches that of an existing entry in the vulnerability database
      * corresponding info is returned.
      * ELSE null is returned.
      */
     private Result scanHash(String hash) {
         // Testable URL: https://ajax.googleapis.com/ajax/libs/dojo/1.1.1/dojo/dojo.js
-        for (Map.Entry<String, RepoEntry> repoEntry : entries.entrySet()) {
-            Map<String, String> hashes = repoEntry.getValue().getExtractors().getHashes();
-
-            if (hashes != null && !hashes.isEmpty()) {
-                for (Entry<String, String> hashItem : hashes.entrySet()) {
-                    Map.Entry<String, String> hashEntry = hashItem;
-                    List<Vulnerability> vulnerabilities = repoEntry.getValue().getVulnerabilities();
-
-                    if (hash.equalsIgnoreCase(hashEntry.getKey())) {
-                        VulnerabilityData vulnData =
-                                isVersionVulnerable(vulnerabilities, hashEntry.getValue());
-                        Result result =
-                                new Result(repoEntry.getKey(), hashEntry.getValue(), vulnData, "");
-                        result.setOtherinfo(
-                                Constant.messages.getString(
-                                        "retire.rule.otherinfo.hash", hashEntry.getKey()));
-                        return result;
-                    }
-                }
-            }
+        HashEntry hashEntry = hashes.get(hash.toLowerCase(Locale.ROOT));
+        if (hashEntry == null) {
+            return null;
         }
-        return null;
+
+        List<Vulnerability> vulnerabilities = entries.get(hashEntry.name).getVulnerabilities();
+        VulnerabilityData vulnData = isVersionVulnerable(vulnerabilities, hashEntry.version);
+        Result result = new Result(hashEntry.name, hashEntry.version, vulnData, "");
+        result.setOtherinfo(
+                Constant.messages.getString("retire.rule.otherinfo.hash", hashEntry.hash));
+        return result;
     }
 
     /*
@@ -181,37 +287,20 @@ public class Repo {
      * FileName OR FileURL OR FileContent
      */
     private Result scan(String extractorType, String input) {
-        // reading each entry for JS libraries in repo
-        for (Map.Entry<String, RepoEntry> repoEntry : entries.entrySet()) {
-            List<String> extractors = repoEntry.getValue().getExtractors().get(extractorType);
-
-            // Reading all regexes with this extractor type (i.e. fileURI, fileName or fileContent
-            // for
-            // this particular JS library
-            if (extractors != null && !extractors.isEmpty()) {
-                ListIterator<String> iterator = extractors.listIterator();
-                while (iterator.hasNext()) {
-                    String regex = iterator.next();
-                    if (regex != null) {
-                        Pattern pattern = Pattern.compile(regex);
-                        Matcher matcher = pattern.matcher(input);
-                        if (matcher.find()) {
-                            String versionString = matcher.group(1);
-
-                            // Now try to determine if this version is vulnerable
-                            List<Vulnerability> vulnerabilities =
-                                    repoEntry.getValue().getVulnerabilities();
-                            VulnerabilityData vulnData =
-                                    isVersionVulnerable(vulnerabilities, versionString);
-                            if (!vulnData.isEmpty()) {
-                                return new Result(
-                                        repoEntry.getKey(),
-                                        versionString,
-                                        vulnData,
-                                        matcher.group(0));
-                            }
-                        }
-                    }
+        // Only the extractors whose literals are present in the input can match, they are
+        // returned in the order of the entries in the repo.
+        for (MultiPatternMatcher.Entry<String> extractor :
+                extractors.get(extractorType).getCandidates(input)) {
+            Matcher matcher = extractor.matcher(input);
+            if (matcher.find()) {
+                String versionString = matcher.group(1);
+
+                // Now try to determine if this version is vulnerable
+                String name = extractor.getValue();
+                List<Vulnerability> vulnerabilities = entries.get(name).getVulnerabilities();
+                VulnerabilityData vulnData = isVersionVulnerable(vulnerabilities, versionString);
+                if (!vulnData.isEmpty()) {
+                    return new Result(name, versionString, vulnData, matcher.group(0));
                 }
             }
         }
@@ -222,31 +311,8 @@ public class Repo {
      * This function informs whether to scan a JS library at all. There are certain
      * libraries designated "dont check", so just ignore those.
      */
-    private boolean dontcheck(HashMap<String, String> msginfo) {
-        List<String> matches = null;
-
-        RepoEntry dc = entries.get(DONT_CHECK_NAME);
-        Extractors extractors = dc.getExtractors();
-
-        // iterating over extractors
-        for (Entry<String, String> criterion : msginfo.entrySet()) {
-            matches = extractors.get(criterion.getKey());
-            if (matches != null && !matches.isEmpty()) {
-                Iterator<String> iterator = matches.iterator();
-                while (iterator.hasNext()) {
-                    String next = iterator.next();
-                    if (next != null) {
-                        Pattern p = Pattern.compile(next);
-                        Matcher m = p.matcher(criterion.getValue());
-                        // doing a match for each filename regex
-                        if (m.find()) {
-                            return true;
-                        }
-                    }
-                }
-            }
-        }
-        return false;
+    private boolean dontcheck(String extractorType, String input) {
+        return dontCheckExtractors.get(extractorType).findFirst(input) != null;
     }
 
     /*
@@ -312,6 +378,55 @@ public class Repo {
         return entries;
     }
 
+    /** For testing purposes only, the keys from least to most recently used. */
+    List<String> getContentScanKeys() {
+        synchronized (contentScans) {
+            return List.copyOf(contentScans.keySet());
+        }
+    }
+
+    private static final class HashEntry {
+
+        private final String name;
+        private final String hash;
+        private final String version;
+
+        HashEntry(String name, String hash, String version) {
+            this.name = name;
+            this.hash = hash;
+            this.version = version;
+        }
+    }
+
+    /** The scan of the content of a response body, shared by all the responses with that body. */
+    private static final class ContentScan {
+
+        private final boolean dontCheck;
+        private volatile boolean scanned;
+        private volatile Result result;
+
+        ContentScan(boolean dontCheck) {
+            this.dontCheck = dontCheck;
+        }
+
+        boolean isDontCheck() {
+            return dontCheck;
+        }
+
+        boolean isScanned() {
+            return scanned;
+        }
+
+        Result getResult() {
+            return result;
+        }
+
+        void setResult(Result result) {
+            this.result = result;
+            this.scanned = true;
+        }
+    }
+
     public static class VulnerabilityData {
         public static final VulnerabilityData EMPTY = new VulnerabilityData();
 
@@ -28,6 +28,11 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.io.Reader;
@@ -35,11 +40,33 @@ import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import net.htmlparser.jericho.Source;
+import org.apache.commons.httpclient.URI;
 import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.Constant;
+import org.parosproxy.paros.network.HttpMessage;
+import org.zaproxy.addon.retire.Result;
+import org.zaproxy.addon.retire.RetireUtil;
+import org.zaproxy.zap.utils.I18N;
 
 /** Unit test for {@link Repo}. */
 class RepoUnitTest {
+
+    private static final String LIB_CONTENT = "/* Lib v1.0.0 */";
+
+    @BeforeEach
+    void setup() {
+        Constant.messages = mock(I18N.class);
+    }
+
+    @AfterEach
+    void cleanup() {
+        Constant.messages = null;
+    }
+
     @Test
     void shouldReadEmptyRepo() throws IOException {
         // Given
@@ -147,6 +174,122 @@ class RepoUnitTest {
         assertThat(extractors.getUri(), contains("uri 1", "uri 2", "[0-9][0-9a-z._\\-]+?"));
     }
 
+    @Test
+    void shouldFindEntryByHashOfResponseBody() throws Exception {
+        // Given
+        String hash = RetireUtil.getHash(LIB_CONTENT.getBytes(StandardCharsets.UTF_8));
+        Repo repo = createRepo("[]", "{\"" + hash.toUpperCase() + "\": \"1.0.0\"}");
+        HttpMessage msg = createMessage("https://example.com/file.js", LIB_CONTENT);
+        // When
+        Result result = repo.scanJS(msg);
+        // Then
+        assertThat(result, is(notNullValue()));
+        assertThat(result.getFilename(), is("lib"));
+        assertThat(result.getVersion(), is("1.0.0"));
+        assertThat(result.getCves(), contains("CVE-0000-0001"));
+        verify(Constant.messages).getString("retire.rule.otherinfo.hash", hash.toUpperCase());
+    }
+
+    @Test
+    void shouldNotFindEntryIfHashOfResponseBodyNotInRepo() throws Exception {
+        // Given
+        String hash = RetireUtil.getHash(LIB_CONTENT.getBytes(StandardCharsets.UTF_8));
+        Repo repo = createRepo("[]", "{\"" + hash + "\": \"1.0.0\"}");
+        HttpMessage msg = createMessage("https://example.com/file.js", "/* Other */");
+        // When
+        Result result = repo.scanJS(msg);
+        // Then
+        assertThat(result, is(nullValue()));
+    }
+
+    @Test
+    void shouldReuseContentScanOfSameResponseBody() throws Exception {
+        // Given
+        String hash = RetireUtil.getHash(LIB_CONTENT.getBytes(StandardCharsets.UTF_8));
+        Repo repo = createRepo("[]", "{\"" + hash + "\": \"1.0.0\"}");
+        HttpMessage msg1 = createHtmlMessage("https://example.com/a.html", LIB_CONTENT);
+        repo.scanJS(msg1);
+        HttpMessage msg2 = createHtmlMessage("https://example.com/b.html", LIB_CONTENT);
+        Source source = spy(new Source(LIB_CONTENT));
+        // When
+        Result result = repo.scanJS(msg2, source);
+        // Then
+        assertThat(result, is(notNullValue()));
+        assertThat(result.getVersion(), is("1.0.0"));
+        verify(source, never()).getAllElements(anyString());
+        assertThat(repo.getContentScanKeys(), contains("html:" + hash));
+    }
+
+    @Test
+    void shouldKeepContentScansOfHtmlAndOtherResponsesApart() throws Exception {
+        // Given
+        String hash = RetireUtil.getHash(LIB_CONTENT.getBytes(StandardCharsets.UTF_8));
+        Repo repo = createRepo("[]", "{}");
+        // When
+        repo.scanJS(createMessage("https://example.com/a.js", LIB_CONTENT));
+        repo.scanJS(createHtmlMessage("https://example.com/a.html", LIB_CONTENT));
+        // Then
+        assertThat(repo.getContentScanKeys(), contains(hash, "html:" + hash));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedContentScans() throws Exception {
+        // Given
+        Repo repo = new Repo(Repo.createEntries(repoReader("[]", "{}")), 2);
+        repo.scanJS(createMessage("https://example.com/a.js", "a"));
+        repo.scanJS(createMessage("https://example.com/b.js", "b"));
+        repo.scanJS(createMessage("https://example.com/a2.js", "a"));
+        // When
+        repo.scanJS(createMessage("https://example.com/c.js", "c"));
+        // Then
+        assertThat(repo.getContentScanKeys(), contains(hashOf("a"), hashOf("c")));
+    }
+
+    @Test
+    void shouldIgnoreInvalidExtractors() throws Exception {
+        // Given
+        Repo repo = createRepo("[\"(\", \"lib-(§§version§§)\\\\.js\"]", "{}");
+        HttpMessage msg = createMessage("https://example.com/lib-1.0.0.js", "");
+        // When
+        Result result = repo.scanJS(msg);
+        // Then
+        assertThat(result, is(notNullValue()));
+        assertThat(result.getVersion(), is("1.0.0"));
+        assertThat(result.getEvidence(), is("lib-1.0.0.js"));
+    }
+
+    private static Repo createRepo(String filenames, String hashes) throws IOException {
+        return new Repo(Repo.createEntries(repoReader(filenames, hashes)));
+    }
+
+    private static Reader repoReader(String filenames, String hashes) {
+        return new StringReader(
+                "{\"lib\": {\"vulnerabilities\": [{\"below\": \"2.0.0\", \"severity\": \"high\","
+                        + " \"identifiers\": {\"CVE\": [\"CVE-0000-0001\"]}, \"info\": [\"info\"]}],"
+                        + " \"extractors\": {\"filename\": "
+                        + filenames
+                        + ", \"hashes\": "
+                        + hashes
+                        + "}}}");
+    }
+
+    private static String hashOf(String content) {
+        return RetireUtil.getHash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static HttpMessage createMessage(String url, String body) throws Exception {
+        HttpMessage msg = new HttpMessage(new URI(url, true));
+        msg.setResponseHeader("HTTP/1.1 200 OK\r\nContent-Type: application/javascript\r\n\r\n");
+        msg.setResponseBody(body);
+        return msg;
+    }
+
+    private static HttpMessage createHtmlMessage(String url, String body) throws Exception {
+        HttpMessage msg = createMessage(url, body);
+        msg.getResponseHeader().setHeader("Content-Type", "text/html");
+        return msg;
+    }
+
     private static Reader reader(String fileName) throws IOException {
         String content;
         try (var is = RepoUnitTest.class.getResourceAsStream("samples/" + fileName)) {
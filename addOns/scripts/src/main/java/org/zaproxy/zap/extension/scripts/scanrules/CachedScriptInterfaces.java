@@ -39,7 +39,8 @@ class CachedScriptInterfaces {
         this.currentModCount = script.getModCount();
     }
 
-    <T> T getInterface(ScriptWrapper script, Class<T> clazz) throws ScriptException, IOException {
+    synchronized <T> T getInterface(ScriptWrapper script, Class<T> clazz)
+            throws ScriptException, IOException {
         Object iface;
         if (hasChanged() || !interfaces.containsKey(clazz)) {
             iface = getExtScript().getInterface(script, clazz);
@@ -50,6 +51,11 @@ class CachedScriptInterfaces {
         return clazz.cast(iface);
     }
 
+    /** Clears the cached interfaces, allowing the script engines to be garbage collected. */
+    synchronized void clear() {
+        interfaces.clear();
+    }
+
     private boolean hasChanged() {
         if (interfaces.isEmpty()) {
             return true;
@@ -22,7 +22,8 @@ package org.zaproxy.zap.extension.scripts.scanrules;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Callable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import net.htmlparser.jericho.Source;
 import org.parosproxy.paros.control.Control;
 import org.parosproxy.paros.core.scanner.Alert;
@@ -31,26 +32,53 @@ import org.zaproxy.addon.commonlib.scanrules.ScanRuleMetadata;
 import org.zaproxy.zap.control.AddOn;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
 import org.zaproxy.zap.extension.script.ExtensionScript;
-import org.zaproxy.zap.extension.script.ScriptEngineWrapper;
 import org.zaproxy.zap.extension.script.ScriptWrapper;
 
 public class PassiveScriptScanRule extends PassiveScriptHelper {
 
     private ExtensionScript extScript;
     private ScriptWrapper script;
-    private CachedScriptInterfaces cachedScriptInterfaces;
+
+    /**
+     * The script interfaces of each thread, shared with the copies of the scan rule.
+     *
+     * <p>Each thread uses its own interface, which allows to run the scripts concurrently even if
+     * the script engine is single threaded.
+     */
+    private final ThreadLocal<CachedScriptInterfaces> cachedScriptInterfaces;
+
+    /**
+     * All the script interfaces created by {@link #cachedScriptInterfaces}, to clear them when no
+     * longer needed, the threads might outlive the scan rule.
+     */
+    private final Set<CachedScriptInterfaces> createdScriptInterfaces;
+
     private ScanRuleMetadata metadata;
 
     public PassiveScriptScanRule(ScriptWrapper script, ScanRuleMetadata metadata) {
         this.script = script;
-        cachedScriptInterfaces = new CachedScriptInterfaces(script);
         this.metadata = metadata;
+        this.createdScriptInterfaces = ConcurrentHashMap.newKeySet();
+        this.cachedScriptInterfaces =
+                ThreadLocal.withInitial(
+                        () -> {
+                            var scriptInterfaces = new CachedScriptInterfaces(script);
+                            createdScriptInterfaces.add(scriptInterfaces);
+                            return scriptInterfaces;
+                        });
+    }
+
+    private PassiveScriptScanRule(PassiveScriptScanRule scanRule) {
+        this.script = scanRule.script;
+        this.metadata = scanRule.metadata;
+        this.createdScriptInterfaces = scanRule.createdScriptInterfaces;
+        this.cachedScriptInterfaces = scanRule.cachedScriptInterfaces;
     }
 
     @Override
     public void scanHttpResponseReceive(HttpMessage msg, int id, Source source) {
         try {
-            var s = cachedScriptInterfaces.getInterface(script, PassiveScript.class);
+            var s = cachedScriptInterfaces.get().getInterface(script, PassiveScript.class);
             if (s != null) {
                 s.scan(this, msg, source);
             }
@@ -59,14 +87,14 @@ public class PassiveScriptScanRule extends PassiveScriptHelper {
         }
     }
 
-    // Note: This method is called always on the same scan rule instance
-    // so should honour the threaded property of the script engine.
+    // Note: This method is called always on the same scan rule instance, by all the passive scan
+    // threads, the script interfaces are per thread so it also honours single threaded engines.
     @Override
     public boolean appliesToHistoryType(int historyType) {
         try {
-            var s = cachedScriptInterfaces.getInterface(script, PassiveScript.class);
+            var s = cachedScriptInterfaces.get().getInterface(script, PassiveScript.class);
             if (s != null) {
-                return execute(() -> s.appliesToHistoryType(historyType));
+                return s.appliesToHistoryType(historyType);
             }
         } catch (Exception e) {
             getExtScript().handleScriptException(script, e);
@@ -74,23 +102,9 @@ public class PassiveScriptScanRule extends PassiveScriptHelper {
         return false;
     }
 
-    private <R> R execute(Callable<R> action) throws Exception {
-        if (isSyncAccess()) {
-            synchronized (this) {
-                return action.call();
-            }
-        }
-        return action.call();
-    }
-
-    private boolean isSyncAccess() {
-        ScriptEngineWrapper engine = script.getEngine();
-        return engine != null && engine.isSingleThreaded();
-    }
-
     @Override
     public PluginPassiveScanner copy() {
-        return new PassiveScriptScanRule(script, metadata);
+        return new PassiveScriptScanRule(this);
     }
 
     @Override
@@ -178,6 +192,16 @@ public class PassiveScriptScanRule extends PassiveScriptHelper {
         this.metadata = metadata;
     }
 
+    /**
+     * Clears the script interfaces of all threads, for when the script changed or the scan rule was
+     * removed.
+     *
+     * <p>The interfaces are obtained again if the scan rule is still used.
+     */
+    void clearScriptInterfaces() {
+        createdScriptInterfaces.forEach(CachedScriptInterfaces::clear);
+    }
+
     private ExtensionScript getExtScript() {
         if (extScript == null) {
             extScript =
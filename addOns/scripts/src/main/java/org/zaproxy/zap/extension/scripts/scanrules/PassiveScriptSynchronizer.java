@@ -55,6 +55,7 @@ public class PassiveScriptSynchronizer {
             if (scanRule != null) {
                 if (scanRule.getPluginId() == metadata.getId()) {
                     scanRule.setMetadata(metadata);
+                    scanRule.clearScriptInterfaces();
                     return;
                 }
                 if (unloadScanRule(scanRule)) {
@@ -112,6 +113,7 @@ public class PassiveScriptSynchronizer {
             LOGGER.error("Failed to uninstall script scan rule: {}", scanRule.getName());
             return false;
         }
+        scanRule.clearScriptInterfaces();
         return true;
     }
 
@@ -22,11 +22,21 @@ package org.zaproxy.zap.extension.scripts.scanrules;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import net.htmlparser.jericho.Source;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,7 +51,6 @@ import org.zaproxy.addon.commonlib.scanrules.Risk;
 import org.zaproxy.addon.commonlib.scanrules.ScanRuleMetadata;
 import org.zaproxy.zap.extension.pscan.PassiveScanData;
 import org.zaproxy.zap.extension.script.ExtensionScript;
-import org.zaproxy.zap.extension.script.ScriptEngineWrapper;
 import org.zaproxy.zap.extension.script.ScriptWrapper;
 import org.zaproxy.zap.testutils.TestUtils;
 
@@ -109,23 +118,91 @@ public class PassiveScriptScanRuleUnitTest extends TestUtils {
     }
 
     @Test
-    void shouldHonourScriptEngineThreadedPropertyOnAppliesToHistoryType() throws Exception {
+    void shouldReuseScriptInterfaceInSameThread() throws Exception {
         // Given
         PassiveScript scriptInterface = mock(PassiveScript.class);
         ScriptWrapper script = createScriptWrapper(scriptInterface, PassiveScript.class);
-        var engine = mock(ScriptEngineWrapper.class);
-        given(engine.isSingleThreaded()).willReturn(true);
-        given(script.getEngine()).willReturn(engine);
+        var metadata = new ScanRuleMetadata(12345, "Test Scan Rule");
+        var scanRule = new PassiveScriptScanRule(script, metadata);
         int historyType = 1;
-        var scanRule = new PassiveScriptScanRule(script, null);
         // When
         scanRule.appliesToHistoryType(historyType);
+        scanRule.copy().scanHttpResponseReceive(message, id, source);
+        scanRule.copy().scanHttpResponseReceive(message, id, source);
+        // Then
+        verify(extensionScript, times(1)).getInterface(script, PassiveScript.class);
+        verify(scriptInterface, times(1)).appliesToHistoryType(historyType);
+        verify(scriptInterface, times(2)).scan(any(), eq(message), eq(source));
+    }
+
+    @Test
+    void shouldGetScriptInterfaceAgainIfScriptChanged() throws Exception {
+        // Given
+        PassiveScript scriptInterface = mock(PassiveScript.class);
+        ScriptWrapper script = createScriptWrapper(scriptInterface, PassiveScript.class);
+        var scanRule = new PassiveScriptScanRule(script, null);
+        int historyType = 1;
+        scanRule.appliesToHistoryType(historyType);
+        given(script.getModCount()).willReturn(1);
+        // When
         scanRule.appliesToHistoryType(historyType);
         // Then
-        verify(engine, times(2)).isSingleThreaded();
+        verify(extensionScript, times(2)).getInterface(script, PassiveScript.class);
+        verify(scriptInterface, times(2)).appliesToHistoryType(historyType);
+    }
+
+    @Test
+    void shouldGetScriptInterfaceAgainInOtherThreadAfterClear() throws Exception {
+        // Given
+        PassiveScript scriptInterface = mock(PassiveScript.class);
+        ScriptWrapper script = createScriptWrapper(scriptInterface, PassiveScript.class);
+        var scanRule = new PassiveScriptScanRule(script, null);
+        int historyType = 1;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> scanRule.appliesToHistoryType(historyType)).get();
+        // When
+        scanRule.clearScriptInterfaces();
+        executor.submit(() -> scanRule.copy().appliesToHistoryType(historyType)).get();
+        executor.shutdown();
+        // Then
+        verify(extensionScript, times(2)).getInterface(script, PassiveScript.class);
         verify(scriptInterface, times(2)).appliesToHistoryType(historyType);
     }
 
+    @Test
+    void shouldRunScriptInterfacesConcurrentlyPerThread() throws Exception {
+        // Given
+        ScriptWrapper script = mock(ScriptWrapper.class);
+        given(extensionLoader.getExtension(ExtensionScript.class)).willReturn(extensionScript);
+        int threads = 2;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        given(extensionScript.getInterface(script, PassiveScript.class))
+                .willAnswer(
+                        invocation -> {
+                            PassiveScript scriptInterface = mock(PassiveScript.class);
+                            given(scriptInterface.appliesToHistoryType(anyInt()))
+                                    .willAnswer(
+                                            i -> {
+                                                // Both threads must be in the script at once.
+                                                barrier.await(5, TimeUnit.SECONDS);
+                                                return true;
+                                            });
+                            return scriptInterface;
+                        });
+        var scanRule = new PassiveScriptScanRule(script, null);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        // When
+        List<Future<Boolean>> results =
+                executor.invokeAll(
+                        Collections.nCopies(threads, () -> scanRule.appliesToHistoryType(1)));
+        executor.shutdown();
+        // Then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(), is(equalTo(true)));
+        }
+        verify(extensionScript, times(threads)).getInterface(script, PassiveScript.class);
+    }
+
     @Test
     void shouldAddAlertRefEvenOnMissingOverrides() {
         // Given
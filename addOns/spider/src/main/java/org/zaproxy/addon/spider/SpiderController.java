@@ -20,11 +20,9 @@
 package org.zaproxy.addon.spider;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import net.htmlparser.jericho.Config;
@@ -56,6 +54,7 @@ import org.zaproxy.addon.spider.parser.SpiderTextParser;
 import org.zaproxy.zap.model.NameValuePair;
 import org.zaproxy.zap.model.ParameterParser;
 import org.zaproxy.zap.model.StandardParameterParser;
+import org.zaproxy.zap.utils.Stats;
 
 /**
  * The SpiderController is used to manage the crawling process and interacts directly with the
@@ -82,8 +81,8 @@ public class SpiderController implements SpiderParserListener {
     /** The spider. */
     private Spider spider;
 
-    /** The resources visited as a set. */
-    private Set<String> visitedResources;
+    /** The resources visited. */
+    private final VisitedResources visitedResources;
 
     /** The Constant log. */
     private static final Logger LOGGER = LogManager.getLogger(SpiderController.class);
@@ -103,7 +102,7 @@ public class SpiderController implements SpiderParserListener {
         this.spider = spider;
         this.fetchFilters = new LinkedList<>();
         this.parseFilters = new LinkedList<>();
-        this.visitedResources = new HashSet<>();
+        this.visitedResources = new VisitedResources();
 
         prepareDefaultParsers();
         for (SpiderParser parser : customParsers) {
@@ -244,13 +243,9 @@ public class SpiderController implements SpiderParserListener {
         } catch (URIException e) {
             return;
         }
-        synchronized (visitedResources) {
-            if (visitedResources.contains(resourceIdentifier)) {
-                LOGGER.debug("URI already visited: {}", uri);
-                return;
-            } else {
-                visitedResources.add(resourceIdentifier);
-            }
+        if (!visitedResources.add(resourceIdentifier)) {
+            LOGGER.debug("URI already visited: {}", uri);
+            return;
         }
         // Create and submit the new task
         SpiderTask task = new SpiderTask(spider, resourceFound, uri);
@@ -316,6 +311,12 @@ public class SpiderController implements SpiderParserListener {
 
     /** Clears the previous process. */
     public void reset() {
+        int visited = visitedResources.size();
+        if (visited > 0) {
+            Stats.setHighwaterMark(
+                    SpiderScan.SPIDER_VISITED_BYTES_PER_URL_STATS,
+                    visitedResources.getMemoryUsage() / visited);
+        }
         visitedResources.clear();
 
         for (SpiderParser parser : parsers) {
@@ -368,13 +369,9 @@ public class SpiderController implements SpiderParserListener {
         } catch (URIException e) {
             return;
         }
-        synchronized (visitedResources) {
-            if (visitedResources.contains(resourceIdentifier)) {
-                LOGGER.debug("Resource already visited: {}", resourceIdentifier.trim());
-                return;
-            } else {
-                visitedResources.add(resourceIdentifier);
-            }
+        if (!visitedResources.add(resourceIdentifier)) {
+            LOGGER.debug("Resource already visited: {}", resourceIdentifier.trim());
+            return;
         }
 
         // Check if any of the filters disallows this uri
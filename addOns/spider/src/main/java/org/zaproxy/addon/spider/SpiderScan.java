@@ -55,6 +55,8 @@ public class SpiderScan implements ScanListenner, SpiderListener, GenericScanner
     public static final String SPIDER_SCAN_TIME_STATS = "stats.spider.time";
     public static final String SPIDER_URL_FOUND_STATS = "stats.spider.url.found";
     public static final String SPIDER_URL_ERROR_STATS = "stats.spider.url.error";
+    public static final String SPIDER_VISITED_BYTES_PER_URL_STATS =
+            "stats.spider.visited.bytesPerUrl";
 
     private static enum State {
         NOT_STARTED,
@@ -33,10 +33,6 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
-import org.parosproxy.paros.control.Control;
-import org.parosproxy.paros.db.DatabaseException;
-import org.parosproxy.paros.extension.history.ExtensionHistory;
-import org.parosproxy.paros.model.HistoryReference;
 import org.parosproxy.paros.network.HttpHeader;
 import org.parosproxy.paros.network.HttpHeaderField;
 import org.parosproxy.paros.network.HttpMalformedHeaderException;
@@ -64,25 +60,28 @@ public class SpiderTask implements Runnable {
     private Spider parent;
 
     /**
-     * The history reference to the database record where the request message has been partially
-     * filled in.
+     * The request header of the message, partially filled in, kept in its textual form until the
+     * task is executed.
      *
-     * <p>Might be {@code null} if failed to create or persist the message, if the task was already
-     * executed or if a clean up was performed.
+     * <p>Might be {@code null} if failed to create the message, if the task was already executed or
+     * if a clean up was performed.
      *
      * @see #cleanup()
-     * @see #deleteHistoryReference()
      * @see #prepareHttpMessage()
      */
-    private HistoryReference reference;
+    private String requestHeader;
 
-    private ExtensionHistory extHistory;
+    /** The request body of the message, {@code null} if the message has no body. */
+    private byte[] requestBody;
 
     /** The Constant log. */
     private static final Logger LOGGER = LogManager.getLogger(SpiderTask.class);
 
     private final int depth;
 
+    /** The URI of the message, to identify the task in the logs. */
+    private final URI uri;
+
     /**
      * Instantiates a new spider task using the target URI. The purpose of this task is to crawl the
      * given uri, using the provided method and supplied request headers, find any other uris in the
@@ -99,11 +98,12 @@ public class SpiderTask implements Runnable {
         super();
         this.parent = parent;
         this.depth = resourceFound.getDepth();
+        this.uri = uri;
 
         LOGGER.debug("New task submitted for uri: {}", uri);
 
-        // Create a new HttpMessage that will be used for the request and persist it in the database
-        // using HistoryReference
+        // Create the request that will be sent and keep it until the task is executed, the session
+        // is only used to persist the fetched messages
         try {
             HttpRequestHeader requestHeader =
                     new HttpRequestHeader(
@@ -119,31 +119,28 @@ public class SpiderTask implements Runnable {
                         HttpRequestHeader.REFERER,
                         resourceFound.getMessage().getRequestHeader().getURI().toString());
             }
-            HttpMessage msg = new HttpMessage(requestHeader);
             int bodyLength = resourceFound.getBody().length();
             String method = resourceFound.getMethod();
             if (bodyLength == 0
                     && METHODS_WITHOUT_CONTENT_LENGTH.stream()
                             .anyMatch(aMethod -> aMethod.equalsIgnoreCase(method))) {
-                msg.getRequestHeader().setHeader(HttpHeader.CONTENT_LENGTH, null);
+                requestHeader.setHeader(HttpHeader.CONTENT_LENGTH, null);
             } else {
-                msg.getRequestHeader().setContentLength(bodyLength);
+                requestHeader.setContentLength(bodyLength);
+                HttpMessage msg = new HttpMessage(requestHeader);
                 msg.setRequestBody(resourceFound.getBody());
+                this.requestBody = msg.getRequestBody().getBytes();
             }
-            this.reference =
-                    new HistoryReference(
-                            parent.getModel().getSession(), HistoryReference.TYPE_SPIDER_TASK, msg);
+            this.requestHeader = requestHeader.toString();
         } catch (HttpMalformedHeaderException e) {
             LOGGER.error("Error while building HttpMessage for uri: {}", uri, e);
-        } catch (DatabaseException e) {
-            LOGGER.error("Error while persisting HttpMessage for uri: {}", uri, e);
         }
     }
 
     @Override
     public void run() {
         try {
-            if (reference == null) {
+            if (requestHeader == null) {
                 LOGGER.warn("Null URI. Skipping crawling task: {}", this);
                 return;
             }
@@ -151,7 +148,7 @@ public class SpiderTask implements Runnable {
             LOGGER.debug(
                     "Spider Task Started. Processing uri at depth {} using already constructed message: {}",
                     depth,
-                    reference.getURI());
+                    uri);
 
             runImpl();
         } finally {
@@ -164,7 +161,7 @@ public class SpiderTask implements Runnable {
         // Check if the should stop
         if (parent.isStopped()) {
             LOGGER.debug("Spider process is stopped. Skipping crawling task...");
-            deleteHistoryReference();
+            cleanup();
             return;
         }
 
@@ -251,25 +248,22 @@ public class SpiderTask implements Runnable {
     /**
      * Prepares the HTTP message to be sent to the target server.
      *
-     * <p>The HTTP message is read from the database and set up with common headers (e.g.
-     * User-Agent) and properties (e.g. user).
+     * <p>The HTTP message is created from the request kept by the task and set up with common
+     * headers (e.g. User-Agent) and properties (e.g. user).
      *
      * @return the HTTP message
-     * @throws HttpMalformedHeaderException if an error occurred while parsing the HTTP message read
-     *     from the database
-     * @throws DatabaseException if an error occurred while reading the HTTP message from the
-     *     database
+     * @throws HttpMalformedHeaderException if an error occurred while parsing the request header
      */
-    private HttpMessage prepareHttpMessage()
-            throws HttpMalformedHeaderException, DatabaseException {
-        // Build fetch the request message from the database
+    HttpMessage prepareHttpMessage() throws HttpMalformedHeaderException {
         HttpMessage msg;
         try {
-            msg = reference.getHttpMessage();
-            // HistoryReference is about to be deleted, so no point keeping referencing it.
-            msg.setHistoryRef(null);
+            msg = new HttpMessage(new HttpRequestHeader(requestHeader));
+            if (requestBody != null) {
+                msg.setRequestBody(requestBody);
+            }
         } finally {
-            deleteHistoryReference();
+            // No longer needed, the message is not sent again.
+            cleanup();
         }
 
         msg.getRequestHeader().setHeader(HttpHeader.IF_MODIFIED_SINCE, null);
@@ -288,25 +282,6 @@ public class SpiderTask implements Runnable {
         return msg;
     }
 
-    /**
-     * Deletes the history reference, should be called when no longer needed.
-     *
-     * <p>The call to this method has no effect if the history reference no longer exists (i.e.
-     * {@code null}).
-     *
-     * @see #reference
-     */
-    private void deleteHistoryReference() {
-        if (reference == null) {
-            return;
-        }
-
-        if (getExtensionHistory() != null) {
-            getExtensionHistory().delete(reference);
-            reference = null;
-        }
-    }
-
     private void setErrorResponse(HttpMessage msg, Exception cause) {
         StringBuilder strBuilder = new StringBuilder(250);
         if (cause instanceof SSLException) {
@@ -409,16 +384,6 @@ public class SpiderTask implements Runnable {
         return parser.parseResource(ctx);
     }
 
-    private ExtensionHistory getExtensionHistory() {
-        if (this.extHistory == null) {
-            this.extHistory =
-                    Control.getSingleton()
-                            .getExtensionLoader()
-                            .getExtension(ExtensionHistory.class);
-        }
-        return this.extHistory;
-    }
-
     /**
      * Fetches a resource.
      *
@@ -460,6 +425,7 @@ public class SpiderTask implements Runnable {
      * <p>Should be called if the task was not executed.
      */
     void cleanup() {
-        deleteHistoryReference();
+        requestHeader = null;
+        requestBody = null;
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.spider;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.codec.digest.MurmurHash3;
+
+/**
+ * The resources visited by the spider.
+ *
+ * <p>Keeps 128-bit fingerprints of the canonical identifiers of the resources, instead of the
+ * identifiers themselves, in open addressing tables. The tables are split into segments, selected
+ * by the fingerprint, to reduce the contention between the spider threads.
+ *
+ * <p>Different identifiers with the same fingerprint are considered the same resource, which is
+ * negligible for the number of resources a spider visits.
+ */
+class VisitedResources {
+
+    private static final int SEGMENT_BITS = 4;
+
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+
+    private final Segment[] segments;
+
+    VisitedResources() {
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Adds the resource with the given identifier, if not already visited.
+     *
+     * @param identifier the canonical identifier of the resource.
+     * @return {@code true} if the resource was not yet visited, {@code false} otherwise.
+     */
+    boolean add(String identifier) {
+        long[] hash = MurmurHash3.hash128x64(identifier.getBytes(StandardCharsets.UTF_8));
+        long high = hash[0];
+        long low = hash[1];
+        if (high == 0 && low == 0) {
+            // Reserved for empty slots.
+            low = 1;
+        }
+        return segments[(int) (high >>> (Long.SIZE - SEGMENT_BITS))].add(high, low);
+    }
+
+    /** Removes all the resources visited. */
+    void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Gets the number of resources visited.
+     *
+     * @return the number of resources.
+     */
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Gets the memory used by the tables of the fingerprints.
+     *
+     * @return the memory used, in bytes.
+     */
+    long getMemoryUsage() {
+        long memory = 0;
+        for (Segment segment : segments) {
+            memory += segment.getMemoryUsage();
+        }
+        return memory;
+    }
+
+    private static class Segment {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private long[] table;
+        private int size;
+
+        synchronized boolean add(long high, long low) {
+            if (table == null) {
+                table = new long[INITIAL_CAPACITY * 2];
+            }
+
+            int mask = table.length / 2 - 1;
+            int slot = (int) low & mask;
+            while (true) {
+                int index = slot * 2;
+                long slotHigh = table[index];
+                long slotLow = table[index + 1];
+                if (slotHigh == 0 && slotLow == 0) {
+                    table[index] = high;
+                    table[index + 1] = low;
+                    size++;
+                    if (size > (mask + 1) / 4 * 3) {
+                        resize();
+                    }
+                    return true;
+                }
+                if (slotHigh == high && slotLow == low) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private void resize() {
+            long[] oldTable = table;
+            table = new long[oldTable.length * 2];
+            int mask = table.length / 2 - 1;
+            for (int i = 0; i < oldTable.length; i += 2) {
+                long high = oldTable[i];
+                long low = oldTable[i + 1];
+                if (high == 0 && low == 0) {
+                    continue;
+                }
+                int slot = (int) low & mask;
+                while (table[slot * 2] != 0 || table[slot * 2 + 1] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot * 2] = high;
+                table[slot * 2 + 1] = low;
+            }
+        }
+
+        synchronized void clear() {
+            table = null;
+            size = 0;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long getMemoryUsage() {
+            return table == null ? 0 : (long) table.length * Long.BYTES;
+        }
+    }
+}
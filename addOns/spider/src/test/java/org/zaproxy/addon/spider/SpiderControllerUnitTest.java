@@ -23,32 +23,20 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.withSettings;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.apache.commons.httpclient.URI;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
-import org.mockito.quality.Strictness;
-import org.parosproxy.paros.db.RecordHistory;
-import org.parosproxy.paros.db.TableAlert;
-import org.parosproxy.paros.db.TableHistory;
-import org.parosproxy.paros.model.HistoryReference;
-import org.parosproxy.paros.model.Model;
-import org.parosproxy.paros.model.Session;
 import org.parosproxy.paros.network.HttpHeader;
 import org.parosproxy.paros.network.HttpHeaderField;
 import org.parosproxy.paros.network.HttpMessage;
@@ -60,43 +48,21 @@ import org.zaproxy.zap.testutils.TestUtils;
 /** Unit test for {@link SpiderController}. */
 class SpiderControllerUnitTest extends TestUtils {
 
-    private TableHistory tableHistory;
-    private long sessionId;
-    private Session session;
-
     private SpiderParam spiderParam;
     private Spider spider;
     private SpiderController spiderController;
 
     @BeforeEach
     void setUp() throws Exception {
-        tableHistory = mock(TableHistory.class, withSettings().strictness(Strictness.LENIENT));
-        given(tableHistory.write(anyLong(), anyInt(), any())).willReturn(mock(RecordHistory.class));
-        HistoryReference.setTableHistory(tableHistory);
-        HistoryReference.setTableAlert(mock(TableAlert.class));
-
         spider = mock(Spider.class);
 
         spiderParam = mock(SpiderParam.class);
         given(spiderParam.getHandleParameters()).willReturn(HandleParametersOption.USE_ALL);
         given(spider.getSpiderParam()).willReturn(spiderParam);
-        Model model = mock(Model.class, withSettings().strictness(Strictness.LENIENT));
-        given(spider.getModel()).willReturn(model);
-
-        session = mock(Session.class, withSettings().strictness(Strictness.LENIENT));
-        given(model.getSession()).willReturn(session);
-        sessionId = 1234;
-        given(session.getSessionId()).willReturn(sessionId);
 
         spiderController = new SpiderController(spider, Collections.emptyList());
     }
 
-    @AfterEach
-    void cleanUp() {
-        HistoryReference.setTableHistory(null);
-        HistoryReference.setTableAlert(null);
-    }
-
     @ParameterizedTest
     @ValueSource(strings = {HttpHeader.HTTP10, HttpHeader.HTTP11, "HTTP/2"})
     void shouldCreateTaskWithHttpVersionFromAddedSeed(String httpVersion) throws Exception {
@@ -105,7 +71,7 @@ class SpiderControllerUnitTest extends TestUtils {
         // When
         spiderController.addSeed(uri, HttpRequestHeader.GET, httpVersion);
         // Then
-        HttpMessage msg = messageWrittenToSession();
+        HttpMessage msg = messageOfSubmittedTask();
         assertThat(msg.getRequestHeader().getVersion(), is(equalTo(httpVersion)));
     }
 
@@ -370,10 +336,9 @@ class SpiderControllerUnitTest extends TestUtils {
                 .build();
     }
 
-    private HttpMessage messageWrittenToSession() throws Exception {
-        ArgumentCaptor<HttpMessage> argument = ArgumentCaptor.forClass(HttpMessage.class);
-        verify(tableHistory)
-                .write(eq(sessionId), eq(HistoryReference.TYPE_SPIDER_TASK), argument.capture());
-        return argument.getValue();
+    private HttpMessage messageOfSubmittedTask() throws Exception {
+        ArgumentCaptor<SpiderTask> argument = ArgumentCaptor.forClass(SpiderTask.class);
+        verify(spider).submitTask(argument.capture());
+        return argument.getValue().prepareHttpMessage();
     }
 }
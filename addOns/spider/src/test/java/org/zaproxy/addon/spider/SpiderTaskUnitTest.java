@@ -32,6 +32,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.withSettings;
 
@@ -187,9 +188,9 @@ class SpiderTaskUnitTest extends TestUtils {
                         .setHttpVersion(httpVersion)
                         .build();
         // When
-        new SpiderTask(parent, resourceFound, uri);
+        SpiderTask task = new SpiderTask(parent, resourceFound, uri);
         // Then
-        HttpMessage msg = messageWrittenToSession();
+        HttpMessage msg = task.prepareHttpMessage();
         assertThat(msg.getRequestHeader().getVersion(), is(equalTo(httpVersion)));
     }
 
@@ -205,9 +206,9 @@ class SpiderTaskUnitTest extends TestUtils {
                         .setUri(uri.toString())
                         .build();
         // When
-        new SpiderTask(parent, resourceFound, uri);
+        SpiderTask task = new SpiderTask(parent, resourceFound, uri);
         // Then
-        HttpMessage msg = messageWrittenToSession();
+        HttpMessage msg = task.prepareHttpMessage();
         String cl = msg.getRequestHeader().getHeader(HttpHeader.CONTENT_LENGTH);
         assertNotNull(cl);
         assertThat(cl, is(equalTo(String.valueOf(body.length()))));
@@ -228,16 +229,29 @@ class SpiderTaskUnitTest extends TestUtils {
         SpiderResourceFound resourceFound =
                 SpiderResourceFound.builder().setMethod(method).setUri(uri.toString()).build();
         // When
-        new SpiderTask(parent, resourceFound, uri);
+        SpiderTask task = new SpiderTask(parent, resourceFound, uri);
         // Then
-        HttpMessage msg = messageWrittenToSession();
+        HttpMessage msg = task.prepareHttpMessage();
         assertNull(msg.getRequestHeader().getHeader(HttpHeader.CONTENT_LENGTH));
     }
 
-    private HttpMessage messageWrittenToSession() throws Exception {
-        ArgumentCaptor<HttpMessage> argument = ArgumentCaptor.forClass(HttpMessage.class);
-        verify(tableHistory)
-                .write(eq(sessionId), eq(HistoryReference.TYPE_SPIDER_TASK), argument.capture());
-        return argument.getValue();
+    @Test
+    void shouldNotWriteTaskMessageToSession() throws Exception {
+        // Given
+        URI uri = new URI("http://example.org/foo", true);
+        SpiderResourceFound resourceFound =
+                SpiderResourceFound.builder()
+                        .setMethod(HttpRequestHeader.POST)
+                        .setBody("foo=bar")
+                        .setUri(uri.toString())
+                        .build();
+        // When
+        SpiderTask task = new SpiderTask(parent, resourceFound, uri);
+        HttpMessage msg = task.prepareHttpMessage();
+        // Then
+        verify(tableHistory, never()).write(anyLong(), anyInt(), any());
+        assertThat(msg.getRequestHeader().getMethod(), is(equalTo(HttpRequestHeader.POST)));
+        assertThat(msg.getRequestHeader().getURI(), is(equalTo(uri)));
+        assertThat(msg.getRequestBody().toString(), is(equalTo("foo=bar")));
     }
 }
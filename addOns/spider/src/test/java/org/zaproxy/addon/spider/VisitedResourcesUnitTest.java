@@ -0,0 +1,144 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.spider;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link VisitedResources}. */
+class VisitedResourcesUnitTest {
+
+    private VisitedResources visitedResources;
+
+    @BeforeEach
+    void setUp() {
+        visitedResources = new VisitedResources();
+    }
+
+    @Test
+    void shouldBeEmptyByDefault() {
+        // Given / When
+        int size = visitedResources.size();
+        long memory = visitedResources.getMemoryUsage();
+        // Then
+        assertThat(size, is(equalTo(0)));
+        assertThat(memory, is(equalTo(0L)));
+    }
+
+    @Test
+    void shouldAddNewResource() {
+        // Given
+        String identifier = "GET http://example.com/\n\n";
+        // When
+        boolean added = visitedResources.add(identifier);
+        // Then
+        assertThat(added, is(equalTo(true)));
+        assertThat(visitedResources.size(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldNotAddAlreadyVisitedResource() {
+        // Given
+        String identifier = "GET http://example.com/\n\n";
+        visitedResources.add(identifier);
+        // When
+        boolean added = visitedResources.add(identifier);
+        // Then
+        assertThat(added, is(equalTo(false)));
+        assertThat(visitedResources.size(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldAddManyResources() {
+        // Given
+        int count = 100_000;
+        // When
+        for (int i = 0; i < count; i++) {
+            assertThat(visitedResources.add(identifier(i)), is(equalTo(true)));
+        }
+        // Then
+        assertThat(visitedResources.size(), is(equalTo(count)));
+        for (int i = 0; i < count; i++) {
+            assertThat(visitedResources.add(identifier(i)), is(equalTo(false)));
+        }
+        assertThat(visitedResources.size(), is(equalTo(count)));
+        assertThat(visitedResources.getMemoryUsage() / count, is(lessThan(64L)));
+    }
+
+    @Test
+    void shouldClearResources() {
+        // Given
+        visitedResources.add(identifier(1));
+        visitedResources.add(identifier(2));
+        // When
+        visitedResources.clear();
+        // Then
+        assertThat(visitedResources.size(), is(equalTo(0)));
+        assertThat(visitedResources.getMemoryUsage(), is(equalTo(0L)));
+        assertThat(visitedResources.add(identifier(1)), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldAddResourcesConcurrently() throws Exception {
+        // Given
+        int threads = 8;
+        int count = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> results = new ArrayList<>();
+        // When
+        for (int t = 0; t < threads; t++) {
+            results.add(
+                    executor.submit(
+                            () -> {
+                                int added = 0;
+                                for (int i = 0; i < count; i++) {
+                                    if (visitedResources.add(identifier(i))) {
+                                        added++;
+                                    }
+                                }
+                                return added;
+                            }));
+        }
+        int totalAdded = 0;
+        for (Future<Integer> result : results) {
+            totalAdded += result.get();
+        }
+        executor.shutdown();
+        // Then
+        assertThat(totalAdded, is(equalTo(count)));
+        assertThat(visitedResources.size(), is(equalTo(count)));
+        assertThat(visitedResources.getMemoryUsage(), is(greaterThan(0L)));
+    }
+
+    private static String identifier(int i) {
+        return "GET https://example.com/path/" + i + "?a=b\n\n";
+    }
+}
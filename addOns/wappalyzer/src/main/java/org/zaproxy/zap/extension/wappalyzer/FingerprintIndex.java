@@ -0,0 +1,200 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.wappalyzer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.zaproxy.addon.commonlib.matching.AhoCorasick;
+import org.zaproxy.addon.commonlib.matching.MultiPatternMatcher;
+
+/**
+ * An index of the literals required by the patterns of the applications, used to find the
+ * applications and patterns that might match a message with a single search of its contents.
+ *
+ * <p>An application is a candidate if any of its patterns' literals is found, or if it has a
+ * pattern without a literal or a DOM selector, which are not prefiltered.
+ */
+class FingerprintIndex {
+
+    private final List<Application> applications;
+    private final List<String> literalList;
+    private final Map<String, Integer> literalIds;
+    private final List<List<Integer>> literalApplications;
+    private final Map<AppPattern, Integer> patternLiterals;
+    private final BitSet unfiltered;
+    private final AhoCorasick literals;
+
+    FingerprintIndex(List<Application> applications) {
+        this.applications = applications;
+        literalList = new ArrayList<>();
+        literalIds = new HashMap<>();
+        literalApplications = new ArrayList<>();
+        patternLiterals = new IdentityHashMap<>();
+        unfiltered = new BitSet(applications.size());
+
+        for (int i = 0; i < applications.size(); i++) {
+            if (!addApplication(applications.get(i), i)) {
+                unfiltered.set(i);
+            }
+        }
+        literals = new AhoCorasick(literalList, true);
+    }
+
+    /**
+     * Tells whether or not this index was created for the given applications.
+     *
+     * @param applications the applications.
+     * @return {@code true} if the index is for the given applications, {@code false} otherwise.
+     */
+    boolean isFor(List<Application> applications) {
+        return this.applications == applications;
+    }
+
+    /**
+     * Gets the candidates for the given texts.
+     *
+     * <p>The texts must contain all the contents the patterns are matched against, that is, the
+     * URL, the header names and values, the cookie names and values, the body, the script sources
+     * and the meta names and contents.
+     *
+     * @param texts the texts of the message.
+     * @return the candidates, never {@code null}.
+     */
+    Candidates getCandidates(CharSequence... texts) {
+        return new Candidates(literals.findLiterals(texts));
+    }
+
+    private boolean addApplication(Application app, int index) {
+        boolean filtered = addLiterals(app.getUrl(), index);
+        filtered &= addLiterals(app.getHtml(), index);
+        filtered &= addLiterals(app.getCss(), index);
+        filtered &= addLiterals(app.getScript(), index);
+        filtered &= addKeyedLiterals(app.getHeaders(), index);
+        filtered &= addKeyedLiterals(app.getCookies(), index);
+        filtered &= addKeyedLiterals(app.getMetas(), index);
+        return filtered && app.getDom().isEmpty() && app.getSimpleDom().isEmpty();
+    }
+
+    private boolean addLiterals(List<AppPattern> patterns, int index) {
+        boolean filtered = true;
+        for (AppPattern pattern : patterns) {
+            String literal = getLiteral(pattern);
+            if (literal == null) {
+                filtered = false;
+            } else {
+                addLiteral(literal, index);
+            }
+        }
+        return filtered;
+    }
+
+    private boolean addKeyedLiterals(List<Map<String, AppPattern>> keyedPatterns, int index) {
+        boolean filtered = true;
+        for (Map<String, AppPattern> patterns : keyedPatterns) {
+            for (Map.Entry<String, AppPattern> entry : patterns.entrySet()) {
+                // Both the key and the value have to be present, prefer the value's literal.
+                String literal = getLiteral(entry.getValue());
+                if (literal == null) {
+                    literal = entry.getKey();
+                }
+                if (literal == null || literal.isEmpty()) {
+                    filtered = false;
+                } else {
+                    addLiteral(literal, index);
+                }
+            }
+        }
+        return filtered;
+    }
+
+    private String getLiteral(AppPattern pattern) {
+        if (pattern == null || pattern.getJavaPattern() == null) {
+            return null;
+        }
+        String literal = MultiPatternMatcher.extractLiteral(pattern.getJavaPattern().pattern());
+        if (literal != null) {
+            patternLiterals.put(pattern, getLiteralId(literal));
+        }
+        return literal;
+    }
+
+    private void addLiteral(String literal, int index) {
+        List<Integer> apps = literalApplications.get(getLiteralId(literal));
+        if (apps.isEmpty() || apps.get(apps.size() - 1) != index) {
+            apps.add(index);
+        }
+    }
+
+    private int getLiteralId(String literal) {
+        return literalIds.computeIfAbsent(
+                literal,
+                k -> {
+                    literalList.add(k);
+                    literalApplications.add(new ArrayList<>());
+                    return literalList.size() - 1;
+                });
+    }
+
+    /** The applications and patterns that might match a message. */
+    class Candidates {
+
+        private final BitSet found;
+
+        private Candidates(BitSet found) {
+            this.found = found;
+        }
+
+        /**
+         * Gets the applications that might match, in the order of the applications.
+         *
+         * @return the applications, never {@code null}.
+         */
+        List<Application> getApplications() {
+            BitSet candidates = (BitSet) unfiltered.clone();
+            for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+                for (int app : literalApplications.get(i)) {
+                    candidates.set(app);
+                }
+            }
+
+            List<Application> result = new ArrayList<>(candidates.cardinality());
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                result.add(applications.get(i));
+            }
+            return result;
+        }
+
+        /**
+         * Tells whether or not the given pattern might match, that is, if its literal was found or
+         * it has no literal.
+         *
+         * @param pattern the pattern.
+         * @return {@code true} if the pattern might match, {@code false} otherwise.
+         */
+        boolean mightMatch(AppPattern pattern) {
+            Integer literal = patternLiterals.get(pattern);
+            return literal == null || found.get(literal);
+        }
+    }
+}
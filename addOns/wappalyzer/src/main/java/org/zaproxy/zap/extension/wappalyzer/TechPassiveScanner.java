@@ -19,14 +19,13 @@
  */
 package org.zaproxy.zap.extension.wappalyzer;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import net.htmlparser.jericho.Element;
 import net.htmlparser.jericho.HTMLElementName;
@@ -48,6 +47,7 @@ import org.parosproxy.paros.model.SiteNode;
 import org.parosproxy.paros.network.HtmlParameter;
 import org.parosproxy.paros.network.HttpMessage;
 import org.zaproxy.addon.commonlib.ResourceIdentificationUtils;
+import org.zaproxy.addon.commonlib.http.ResponseView;
 import org.zaproxy.zap.extension.alert.ExtensionAlert;
 import org.zaproxy.zap.extension.pscan.PassiveScanner;
 import org.zaproxy.zap.extension.pscan.PluginPassiveScanner;
@@ -62,6 +62,9 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     private static final int PLUGIN_ID = 10004;
 
     private ApplicationHolder applicationHolder;
+    private volatile FingerprintIndex fingerprintIndex;
+
+    /** The applications identified for each site, also used to lock the updates of the site. */
     private Map<String, Set<String>> tracker;
 
     /** The number of requests analysed for each site */
@@ -76,7 +79,7 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     @FunctionalInterface
     private interface CustomProcessor {
         ApplicationMatch process(
-                ApplicationMatch appMatch, Application currentApp, HttpMessage msg, Source source);
+                ApplicationMatch appMatch, Application currentApp, MessageData data);
     }
 
     private List<CustomProcessor> messageHeaderProcessors =
@@ -114,33 +117,38 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
         }
 
         long startTime = System.currentTimeMillis();
+        MessageData data = new MessageData(new ResponseView(msg), source);
         String site = getSite(msg);
-        tracker.putIfAbsent(site, new HashSet<>());
+        Set<String> siteApps = tracker.computeIfAbsent(site, k -> ConcurrentHashMap.newKeySet());
         int reqCount = siteReqCount.merge(site, 1, Integer::sum);
         Stats.setHighwaterMark(site, "stats.tech.reqcount.total", reqCount);
 
-        for (Application app : this.getApps()) {
+        for (Application app : data.getCandidates(getFingerprintIndex())) {
             // Track matched based on site (authority)
-            synchronized (tracker) {
-                if (tracker.get(site).contains(app.getName())) {
-                    // Already exists, so continue
-                    LOGGER.debug("\"{}\" already identified on {}", app.getName(), site);
+            if (siteApps.contains(app.getName())) {
+                // Already exists, so continue
+                LOGGER.debug("\"{}\" already identified on {}", app.getName(), site);
+                continue;
+            }
+            ApplicationMatch appMatch = checkAppMatches(null, app, data);
+            if (appMatch == null) {
+                continue;
+            }
+            // Matched without locking, only one of the messages of the site adds the app
+            synchronized (siteApps) {
+                if (!siteApps.add(app.getName())) {
                     continue;
                 }
-                ApplicationMatch appMatch = checkAppMatches(null, app, msg, source);
-                if (appMatch != null) {
-                    LOGGER.debug(
-                            "Adding \"{}\" to tracker {} identified via {}.",
-                            app.getName(),
-                            site,
-                            msg.getRequestHeader().getURI());
-                    addApplicationsToSite(
-                            ExtensionWappalyzer.normalizeSite(msg.getRequestHeader().getURI()),
-                            appMatch);
-                    raiseAlert(msg, appMatch);
-                    tracker.get(site).add(app.getName());
-                    Stats.setHighwaterMark(site, "stats.tech.reqcount.id", reqCount);
-                }
+                LOGGER.debug(
+                        "Adding \"{}\" to tracker {} identified via {}.",
+                        app.getName(),
+                        site,
+                        msg.getRequestHeader().getURI());
+                addApplicationsToSite(
+                        ExtensionWappalyzer.normalizeSite(msg.getRequestHeader().getURI()),
+                        appMatch);
+                raiseAlert(msg, appMatch);
+                Stats.setHighwaterMark(site, "stats.tech.reqcount.id", reqCount);
             }
         }
 
@@ -185,10 +193,11 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     }
 
     private ApplicationMatch checkAppMatches(
-            ApplicationMatch appMatch, Application currentApp, HttpMessage msg, Source source) {
+            ApplicationMatch appMatch, Application currentApp, MessageData data) {
+        HttpMessage msg = data.getMessage();
 
         for (CustomProcessor cmp : messageHeaderProcessors) {
-            appMatch = cmp.process(appMatch, currentApp, msg, source);
+            appMatch = cmp.process(appMatch, currentApp, data);
             if (!Mode.EXHAUSTIVE.equals(mode) && appMatch != null) {
                 return appMatch;
             }
@@ -199,7 +208,7 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
         }
 
         for (CustomProcessor cmp : messageBodyProcessors) {
-            appMatch = cmp.process(appMatch, currentApp, msg, source);
+            appMatch = cmp.process(appMatch, currentApp, data);
             if (!Mode.EXHAUSTIVE.equals(mode) && appMatch != null) {
                 return appMatch;
             }
@@ -208,20 +217,19 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     }
 
     private ApplicationMatch checkCssElementsMatches(
-            ApplicationMatch appMatch, Application currentApp, HttpMessage msg, Source source) {
+            ApplicationMatch appMatch, Application currentApp, MessageData data) {
         for (AppPattern appPattern : currentApp.getCss()) {
-            if (ResourceIdentificationUtils.isCss(msg)) {
-                appMatch =
-                        addIfMatches(
-                                appMatch, currentApp, appPattern, msg.getResponseBody().toString());
+            if (ResourceIdentificationUtils.isCss(data.getMessage())) {
+                appMatch = addIfMatches(appMatch, currentApp, appPattern, data.getBody(), data);
             } else {
-                for (Element styleElement : source.getAllElements(HTMLElementName.STYLE)) {
+                for (Element styleElement : data.getStyleElements()) {
                     appMatch =
                             addIfMatches(
                                     appMatch,
                                     currentApp,
                                     appPattern,
-                                    styleElement.getSource().toString());
+                                    styleElement.getSource().toString(),
+                                    data);
                 }
             }
         }
@@ -229,12 +237,12 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     }
 
     private ApplicationMatch checkScriptElementsMatches(
-            ApplicationMatch appMatch, Application currentApp, HttpMessage msg, Source source) {
-        for (Element scriptElement : source.getAllElements(HTMLElementName.SCRIPT)) {
+            ApplicationMatch appMatch, Application currentApp, MessageData data) {
+        for (Element scriptElement : data.getScriptElements()) {
             for (AppPattern appPattern : currentApp.getScript()) {
                 String src = scriptElement.getAttributeValue("src");
                 if (src != null && !src.isEmpty()) {
-                    appMatch = addIfMatches(appMatch, currentApp, appPattern, src);
+                    appMatch = addIfMatches(appMatch, currentApp, appPattern, src, data);
                 }
             }
         }
@@ -242,16 +250,15 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     }
 
     private ApplicationMatch checkMetaElementsMatches(
-            ApplicationMatch appMatch, Application currentApp, HttpMessage msg, Source source) {
-        List<Element> metaElements = source.getAllElements(HTMLElementName.META);
-        for (Element metaElement : metaElements) {
+            ApplicationMatch appMatch, Application currentApp, MessageData data) {
+        for (Element metaElement : data.getMetaElements()) {
             for (Map<String, AppPattern> sp : currentApp.getMetas()) {
                 for (Map.Entry<String, AppPattern> entry : sp.entrySet()) {
                     String name = metaElement.getAttributeValue("name");
                     String content = metaElement.getAttributeValue("content");
                     if (name != null && content != null && name.equals(entry.getKey())) {
                         AppPattern p = entry.getValue();
-                        appMatch = addIfMatches(appMatch, currentApp, p, content);
+                        appMatch = addIfMatches(appMatch, currentApp, p, content, data);
                     }
                 }
             }
@@ -260,11 +267,11 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     }
 
     private ApplicationMatch checkDomElementMatches(
-            ApplicationMatch appMatch, Application currentApp, HttpMessage message, Source source) {
-        if (!message.getResponseHeader().isHtml()) {
+            ApplicationMatch appMatch, Application currentApp, MessageData data) {
+        if (!data.getMessage().getResponseHeader().isHtml()) {
             return appMatch;
         }
-        Document doc = Jsoup.parse(message.getResponseBody().toString());
+        Document doc = data.getDocument();
         for (Map<String, Map<String, Map<String, AppPattern>>> domSelectorMap :
                 currentApp.getDom()) {
             for (Map.Entry<String, Map<String, Map<String, AppPattern>>> selectorMap :
@@ -279,7 +286,11 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
                                 AppPattern ap = value.getValue();
                                 appMatch =
                                         addIfMatches(
-                                                appMatch, currentApp, ap, selectedElement.text());
+                                                appMatch,
+                                                currentApp,
+                                                ap,
+                                                selectedElement.text(),
+                                                data);
                             }
                             if (Objects.equals(nodeSelectorMap.getKey(), "attributes")) {
                                 AppPattern ap = value.getValue();
@@ -289,7 +300,8 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
                                                     appMatch,
                                                     currentApp,
                                                     ap,
-                                                    selectedElement.attr(value.getKey()));
+                                                    selectedElement.attr(value.getKey()),
+                                                    data);
                                 }
                             }
                         }
@@ -301,39 +313,37 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     }
 
     private ApplicationMatch checkSimpleDomMatches(
-            ApplicationMatch appMatch, Application currentApp, HttpMessage msg, Source source) {
-        String body = msg.getResponseBody().toString();
+            ApplicationMatch appMatch, Application currentApp, MessageData data) {
         for (String selector : currentApp.getSimpleDom()) {
-            appMatch = addIfDomMatches(appMatch, currentApp, selector, body);
+            appMatch = addIfDomMatches(appMatch, currentApp, selector, data.getDocument());
         }
         return appMatch;
     }
 
     private ApplicationMatch checkBodyMatches(
-            ApplicationMatch appMatch, Application currentApp, HttpMessage msg, Source source) {
-        String body = msg.getResponseBody().toString();
+            ApplicationMatch appMatch, Application currentApp, MessageData data) {
+        String body = data.getBody();
         for (AppPattern p : currentApp.getHtml()) {
-            appMatch = addIfMatches(appMatch, currentApp, p, body);
+            appMatch = addIfMatches(appMatch, currentApp, p, body, data);
         }
         return appMatch;
     }
 
     private ApplicationMatch checkHeadersMatches(
-            ApplicationMatch appMatch, Application currentApp, HttpMessage msg, Source source) {
+            ApplicationMatch appMatch, Application currentApp, MessageData data) {
         for (Map<String, AppPattern> sp : currentApp.getHeaders()) {
             for (Map.Entry<String, AppPattern> entry : sp.entrySet()) {
-                List<String> hasRelevantHeaders =
-                        msg.getResponseHeader().getHeaderValues(entry.getKey());
+                List<String> hasRelevantHeaders = data.getHeaderValues(entry.getKey());
                 if (!hasRelevantHeaders.isEmpty()) {
                     if (skipValueCheck(entry)) {
                         AppPattern p = new AppPattern();
                         p.setType("HEADER");
                         p.setPattern(entry.getKey());
-                        appMatch = addIfMatches(appMatch, currentApp, p, entry.getKey());
+                        appMatch = addIfMatches(appMatch, currentApp, p, entry.getKey(), data);
                     } else {
-                        String headerValue = msg.getResponseHeader().getHeader(entry.getKey());
+                        String headerValue = hasRelevantHeaders.get(0);
                         AppPattern p = entry.getValue();
-                        appMatch = addIfMatches(appMatch, currentApp, p, headerValue);
+                        appMatch = addIfMatches(appMatch, currentApp, p, headerValue, data);
                     }
                 }
             }
@@ -342,19 +352,21 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     }
 
     private ApplicationMatch checkCookieMatches(
-            ApplicationMatch appMatch, Application currentApp, HttpMessage msg, Source source) {
+            ApplicationMatch appMatch, Application currentApp, MessageData data) {
         for (Map<String, AppPattern> sp : currentApp.getCookies()) {
             for (Map.Entry<String, AppPattern> entry : sp.entrySet()) {
-                for (HtmlParameter cookie : msg.getCookieParams()) {
+                for (HtmlParameter cookie : data.getCookieParams()) {
                     if (entry.getKey().equals(cookie.getName())) {
                         if (skipValueCheck(entry)) {
                             AppPattern p = new AppPattern();
                             p.setType("Cookies");
                             p.setPattern(entry.getKey());
-                            appMatch = addIfMatches(appMatch, currentApp, p, cookie.getName());
+                            appMatch =
+                                    addIfMatches(appMatch, currentApp, p, cookie.getName(), data);
                         } else {
                             AppPattern p = entry.getValue();
-                            appMatch = addIfMatches(appMatch, currentApp, p, cookie.getValue());
+                            appMatch =
+                                    addIfMatches(appMatch, currentApp, p, cookie.getValue(), data);
                         }
                     }
                 }
@@ -369,17 +381,16 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     }
 
     private ApplicationMatch checkUrlMatches(
-            ApplicationMatch appMatch, Application currentApp, HttpMessage msg, Source source) {
-        String url = msg.getRequestHeader().getURI().toString();
+            ApplicationMatch appMatch, Application currentApp, MessageData data) {
+        String url = data.getUrl();
         for (AppPattern p : currentApp.getUrl()) {
-            appMatch = addIfMatches(appMatch, currentApp, p, url);
+            appMatch = addIfMatches(appMatch, currentApp, p, url, data);
         }
         return appMatch;
     }
 
     private static ApplicationMatch addIfDomMatches(
-            ApplicationMatch appMatch, Application currentApp, String selector, String content) {
-        Document doc = Jsoup.parse(content);
+            ApplicationMatch appMatch, Application currentApp, String selector, Document doc) {
         Elements elements = doc.select(selector);
         if (!elements.isEmpty()) {
             appMatch = getAppMatch(appMatch, currentApp);
@@ -391,7 +402,11 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
             ApplicationMatch appMatch,
             Application currentApp,
             AppPattern appPattern,
-            String content) {
+            String content,
+            MessageData data) {
+        if (!data.mightMatch(appPattern)) {
+            return appMatch;
+        }
         Result result = appPattern.findInString(content);
         if (!result.getVersions().isEmpty() || !result.getEvidence().isEmpty()) {
             appMatch = getAppMatch(appMatch, currentApp);
@@ -481,6 +496,16 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
         return applicationHolder.getApplications();
     }
 
+    private FingerprintIndex getFingerprintIndex() {
+        List<Application> apps = getApps();
+        FingerprintIndex index = fingerprintIndex;
+        if (index == null || !index.isFor(apps)) {
+            index = new FingerprintIndex(apps);
+            fingerprintIndex = index;
+        }
+        return index;
+    }
+
     private static ApplicationMatch getAppMatch(ApplicationMatch appMatch, Application currentApp) {
         if (appMatch == null) {
             appMatch = new ApplicationMatch(currentApp);
@@ -544,8 +569,129 @@ public class TechPassiveScanner implements PassiveScanner, OptionsChangedListene
     }
 
     void reset() {
-        tracker = Collections.synchronizedMap(new TreeMap<>());
-        visitedSiteIdentifiers = Collections.synchronizedSet(new HashSet<>());
-        siteReqCount = Collections.synchronizedMap(new TreeMap<>());
+        tracker = new ConcurrentHashMap<>();
+        visitedSiteIdentifiers = ConcurrentHashMap.newKeySet();
+        siteReqCount = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The data of the message being scanned, lazily computed and shared by all the applications'
+     * processors.
+     */
+    private static final class MessageData {
+
+        private final ResponseView view;
+        private final Source source;
+        private String url;
+        private Set<HtmlParameter> cookieParams;
+        private List<Element> scriptElements;
+        private List<Element> styleElements;
+        private List<Element> metaElements;
+        private Document document;
+        private FingerprintIndex.Candidates candidates;
+
+        MessageData(ResponseView view, Source source) {
+            this.view = view;
+            this.source = source;
+        }
+
+        HttpMessage getMessage() {
+            return view.getMessage();
+        }
+
+        String getUrl() {
+            if (url == null) {
+                url = getMessage().getRequestHeader().getURI().toString();
+            }
+            return url;
+        }
+
+        String getBody() {
+            return view.getBody();
+        }
+
+        List<String> getHeaderValues(String name) {
+            return view.getHeaderValues(name);
+        }
+
+        Set<HtmlParameter> getCookieParams() {
+            if (cookieParams == null) {
+                cookieParams = getMessage().getCookieParams();
+            }
+            return cookieParams;
+        }
+
+        List<Element> getScriptElements() {
+            if (scriptElements == null) {
+                scriptElements = source.getAllElements(HTMLElementName.SCRIPT);
+            }
+            return scriptElements;
+        }
+
+        List<Element> getStyleElements() {
+            if (styleElements == null) {
+                styleElements = source.getAllElements(HTMLElementName.STYLE);
+            }
+            return styleElements;
+        }
+
+        List<Element> getMetaElements() {
+            if (metaElements == null) {
+                metaElements = source.getAllElements(HTMLElementName.META);
+            }
+            return metaElements;
+        }
+
+        /**
+         * Gets the applications that might match the message, using the given index.
+         *
+         * @param index the index of the applications.
+         * @return the candidate applications.
+         */
+        List<Application> getCandidates(FingerprintIndex index) {
+            candidates = index.getCandidates(getTexts());
+            return candidates.getApplications();
+        }
+
+        boolean mightMatch(AppPattern pattern) {
+            return candidates == null || candidates.mightMatch(pattern);
+        }
+
+        private CharSequence[] getTexts() {
+            List<CharSequence> texts = new ArrayList<>();
+            texts.add(getUrl());
+            for (Map.Entry<String, List<String>> header : view.getHeaders().entrySet()) {
+                texts.add(header.getKey());
+                texts.addAll(header.getValue());
+            }
+            for (HtmlParameter cookie : getCookieParams()) {
+                texts.add(cookie.getName());
+                texts.add(cookie.getValue());
+            }
+            if (getMessage().getResponseHeader().isText()) {
+                texts.add(getBody());
+                addAttributeValues(texts, getScriptElements(), "src");
+                addAttributeValues(texts, getMetaElements(), "name");
+                addAttributeValues(texts, getMetaElements(), "content");
+            }
+            return texts.toArray(new CharSequence[0]);
+        }
+
+        private static void addAttributeValues(
+                List<CharSequence> texts, List<Element> elements, String name) {
+            for (Element element : elements) {
+                String value = element.getAttributeValue(name);
+                if (value != null) {
+                    texts.add(value);
+                }
+            }
+        }
+
+        Document getDocument() {
+            if (document == null) {
+                document = Jsoup.parse(getBody());
+            }
+            return document;
+        }
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.wappalyzer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link FingerprintIndex}. */
+class FingerprintIndexUnitTest {
+
+    @Test
+    void shouldReturnApplicationsWhoseLiteralsAreFound() {
+        // Given
+        FingerprintIndex index =
+                new FingerprintIndex(
+                        List.of(
+                                createApp("jQuery", "jquery[.-]([\\d.]*\\d)"),
+                                createApp("React", "react(?:-dom)?\\.js"),
+                                createApp("Vue", "vue(?:\\.min)?\\.js")));
+        // When
+        List<String> candidates =
+                names(index.getCandidates("/js/jquery-3.6.0.js", "<p>vue.js</p>"));
+        // Then
+        assertThat(candidates, contains("jQuery", "Vue"));
+    }
+
+    @Test
+    void shouldAlwaysReturnApplicationsWithoutLiterals() {
+        // Given
+        Application domApp = createApp("DOM", "dom-app");
+        domApp.setSimpleDom(List.of("div.app"));
+        FingerprintIndex index =
+                new FingerprintIndex(
+                        List.of(
+                                createApp("Literal", "abc"),
+                                createApp("NoLiteral", "[0-9a-f]{32}"),
+                                domApp));
+        // When
+        List<String> candidates = names(index.getCandidates("nothing to see"));
+        // Then
+        assertThat(candidates, contains("NoLiteral", "DOM"));
+    }
+
+    @Test
+    void shouldUseKeysOfKeyedPatternsWithoutLiterals() {
+        // Given
+        Application app = new Application();
+        app.setName("PHP");
+        app.setCookies(List.of(Map.of("PHPSESSID", createAppPattern(""))));
+        FingerprintIndex index = new FingerprintIndex(List.of(app));
+        // When / Then
+        assertThat(names(index.getCandidates("phpsessid", "abc")), contains("PHP"));
+        assertThat(names(index.getCandidates("jsessionid")), is(empty()));
+    }
+
+    @Test
+    void shouldTellWhichPatternsMightMatch() {
+        // Given
+        AppPattern found = createAppPattern("wp-content");
+        AppPattern notFound = createAppPattern("wp-includes");
+        AppPattern noLiteral = createAppPattern("[a-z]+");
+        Application app = new Application();
+        app.setName("WordPress");
+        app.setHtml(List.of(found, notFound, noLiteral));
+        FingerprintIndex index = new FingerprintIndex(List.of(app));
+        // When
+        FingerprintIndex.Candidates candidates = index.getCandidates("/WP-Content/themes/");
+        // Then
+        assertThat(candidates.mightMatch(found), is(true));
+        assertThat(candidates.mightMatch(notFound), is(false));
+        assertThat(candidates.mightMatch(noLiteral), is(true));
+        assertThat(candidates.mightMatch(createAppPattern("wp-includes")), is(true));
+    }
+
+    private static List<String> names(FingerprintIndex.Candidates candidates) {
+        return candidates.getApplications().stream()
+                .map(Application::getName)
+                .collect(Collectors.toList());
+    }
+
+    private static Application createApp(String name, String scriptPattern) {
+        Application app = new Application();
+        app.setName(name);
+        app.setScript(List.of(createAppPattern(scriptPattern)));
+        return app;
+    }
+
+    private static AppPattern createAppPattern(String pattern) {
+        AppPattern appPattern = new AppPattern();
+        appPattern.setType("TEST");
+        appPattern.setPattern(pattern);
+        return appPattern;
+    }
+}
@@ -36,7 +36,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.swing.ImageIcon;
@@ -262,6 +261,7 @@ public class ExtensionWebSocket extends ExtensionAdaptor
 
     @Override
     public void databaseOpen(Database db) throws DatabaseException, DatabaseUnsupportedException {
+        shutdownTable();
         table = new TableWebSocket();
         db.addDatabaseListener(table);
         try {
@@ -464,6 +464,7 @@ public class ExtensionWebSocket extends ExtensionAdaptor
 
         if (table != null) {
             getModel().getDb().removeDatabaseListener(table);
+            shutdownTable();
         }
 
         if (hasView()) {
@@ -491,6 +492,8 @@ public class ExtensionWebSocket extends ExtensionAdaptor
             wsProxy.shutdown();
         }
 
+        shutdownTable();
+
         // shut down Passive Scanner & unregister the WebSocket Passive Scan script type
         if (webSocketPassiveScannerManager != null) {
             webSocketPassiveScannerManager.shutdownThread();
@@ -826,13 +829,14 @@ public class ExtensionWebSocket extends ExtensionAdaptor
     }
 
     /**
-     * Creates and returns a cached thread pool that should speed up {@link WebSocketListener}.
+     * Creates and returns the executor that runs the {@link WebSocketListener}s.
      *
-     * @return
+     * @return the executor.
+     * @see WebSocketUtils#createListenerExecutor()
      */
     private ExecutorService getListenerThreadPool() {
         if (listenerThreadPool == null) {
-            listenerThreadPool = Executors.newCachedThreadPool();
+            listenerThreadPool = WebSocketUtils.createListenerExecutor();
         }
         return listenerThreadPool;
     }
@@ -1111,6 +1115,26 @@ public class ExtensionWebSocket extends ExtensionAdaptor
             }
             wsProxies.clear();
         }
+
+        if (table != null) {
+            try {
+                table.flush();
+            } catch (DatabaseException e) {
+                LOGGER.error("Failed to write the pending WebSocket messages:", e);
+            }
+        }
+    }
+
+    private void shutdownTable() {
+        if (table == null) {
+            return;
+        }
+
+        try {
+            table.shutdown();
+        } catch (DatabaseException e) {
+            LOGGER.error("Failed to write the pending WebSocket messages:", e);
+        }
     }
 
     @Override
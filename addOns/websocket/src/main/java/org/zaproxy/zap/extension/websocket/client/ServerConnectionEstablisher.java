@@ -26,7 +26,6 @@ import java.net.UnknownHostException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import javax.net.ssl.SSLException;
 import org.apache.commons.httpclient.URI;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -236,7 +235,7 @@ public class ServerConnectionEstablisher {
 
     private ExecutorService getListenerThreadPool() {
         if (listenerThreadPool == null) {
-            listenerThreadPool = Executors.newCachedThreadPool();
+            listenerThreadPool = WebSocketUtils.createListenerExecutor();
         }
         return listenerThreadPool;
     }
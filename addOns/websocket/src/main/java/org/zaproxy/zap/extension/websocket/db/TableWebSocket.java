@@ -41,6 +41,8 @@ import org.apache.logging.log4j.Logger;
 import org.hsqldb.jdbc.JDBCBlob;
 import org.hsqldb.jdbc.JDBCClob;
 import org.parosproxy.paros.db.DatabaseException;
+import org.parosproxy.paros.db.DatabaseServer;
+import org.parosproxy.paros.db.DatabaseUnsupportedException;
 import org.parosproxy.paros.db.DbUtils;
 import org.parosproxy.paros.db.paros.ParosAbstractTable;
 import org.parosproxy.paros.network.HttpMalformedHeaderException;
@@ -78,6 +80,35 @@ public class TableWebSocket extends ParosAbstractTable {
     private Queue<WebSocketMessageDTO> messagesBuffer = new LinkedList<>();
     private Queue<WebSocketChannelDTO> channelsBuffer = new LinkedList<>();
 
+    /**
+     * The lock for the writes, separate from the reads to not block the threads persisting the
+     * messages while reading.
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * The writer of the messages, started once connected to the database.
+     *
+     * @see #insertMessage(WebSocketMessageDTO)
+     */
+    private volatile WebSocketMessageWriter messageWriter;
+
+    @Override
+    public void databaseOpen(DatabaseServer server)
+            throws DatabaseException, DatabaseUnsupportedException {
+        try {
+            // Write the messages of the previous connection, if closed they are buffered.
+            flush();
+        } catch (DatabaseException e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+
+        // Do not write while the connection, statements, and channel IDs are being replaced.
+        synchronized (writeLock) {
+            super.databaseOpen(server);
+        }
+    }
+
     /** Create tables if not already available */
     @Override
     protected void reconnect(Connection conn) throws DatabaseException {
@@ -219,6 +250,11 @@ public class TableWebSocket extends ParosAbstractTable {
                     }
                 }
             }
+
+            if (messageWriter == null) {
+                messageWriter = new WebSocketMessageWriter(this::insertMessages);
+                messageWriter.start();
+            }
         } catch (SQLException e) {
             throw new DatabaseException(e);
         }
@@ -265,6 +301,9 @@ public class TableWebSocket extends ParosAbstractTable {
             WebSocketMessagesPayloadFilter payloadFilter,
             int payloadLength)
             throws DatabaseException {
+        // Count also the messages not yet written.
+        flush();
+
         if (payloadFilter != null) {
             return countMessageWithPayloadFilter(
                     criteria, opcodes, inScopeChannelIds, payloadFilter, payloadLength);
@@ -364,6 +403,8 @@ public class TableWebSocket extends ParosAbstractTable {
     public synchronized int getIndexOf(
             WebSocketMessageDTO criteria, List<Integer> opcodes, List<Integer> inScopeChannelIds)
             throws DatabaseException {
+        flush();
+
         try {
             String query =
                     "SELECT COUNT(m.message_id) "
@@ -387,7 +428,18 @@ public class TableWebSocket extends ParosAbstractTable {
         }
     }
 
-    public synchronized WebSocketMessageDTO getMessage(int messageId, int channelId)
+    public WebSocketMessageDTO getMessage(int messageId, int channelId) throws DatabaseException {
+        WebSocketMessageWriter writer = messageWriter;
+        if (writer != null) {
+            WebSocketMessageDTO message = writer.getPendingMessage(messageId, channelId);
+            if (message != null) {
+                return message;
+            }
+        }
+        return readMessage(messageId, channelId);
+    }
+
+    private synchronized WebSocketMessageDTO readMessage(int messageId, int channelId)
             throws DatabaseException {
         try {
             psSelectMessage.setInt(1, messageId);
@@ -438,6 +490,9 @@ public class TableWebSocket extends ParosAbstractTable {
             int limit,
             int payloadPreviewLength)
             throws DatabaseException {
+        // Include also the messages not yet written.
+        flush();
+
         try {
             String query =
                     "SELECT m.message_id, m.channel_id, m.timestamp, m.opcode, m.payload_length, m.is_outgoing, "
@@ -716,8 +771,17 @@ public class TableWebSocket extends ParosAbstractTable {
     }
 
     public void insertOrUpdateChannel(WebSocketChannelDTO channel) throws DatabaseException {
+        if (channel.getEndTimestamp() != null) {
+            // channel closed, write its messages
+            flush();
+        }
+
+        writeChannel(channel);
+    }
+
+    private void writeChannel(WebSocketChannelDTO channel) throws DatabaseException {
         try {
-            synchronized (this) {
+            synchronized (writeLock) {
                 if (getConnection().isClosed()) {
                     // temporarily buffer channels and insert/update later
                     channelsBuffer.offer(channel);
@@ -784,24 +848,77 @@ public class TableWebSocket extends ParosAbstractTable {
         }
     }
 
+    /**
+     * Inserts the given message.
+     *
+     * <p>The message is written asynchronously, in batches, use {@link #flush()} to ensure it was
+     * written.
+     *
+     * @param message the message to insert.
+     * @throws DatabaseException if an error occurred while inserting the message.
+     */
     public void insertMessage(WebSocketMessageDTO message) throws DatabaseException {
+        WebSocketMessageWriter writer = messageWriter;
+        if (writer != null) {
+            writer.add(message);
+        } else {
+            insertMessages(List.of(message));
+        }
+    }
+
+    /**
+     * Writes all the messages inserted so far, returning only after they were written.
+     *
+     * @throws DatabaseException if an error occurred while writing the messages.
+     */
+    public void flush() throws DatabaseException {
+        WebSocketMessageWriter writer = messageWriter;
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Stops writing the messages asynchronously, after writing the ones still pending.
+     *
+     * @throws DatabaseException if an error occurred while writing the messages.
+     */
+    public void shutdown() throws DatabaseException {
+        WebSocketMessageWriter writer = messageWriter;
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    private void insertMessages(List<WebSocketMessageDTO> messages) throws DatabaseException {
         try {
-            // synchronize on whole object to avoid race conditions with insertOrUpdateChannel()
-            synchronized (this) {
+            // synchronize to avoid race conditions with insertOrUpdateChannel()
+            synchronized (writeLock) {
                 if (getConnection().isClosed()) {
                     // temporarily buffer messages and write them the next time
-                    messagesBuffer.offer(message);
+                    messagesBuffer.addAll(messages);
                     return;
                 }
 
-                do {
+                List<WebSocketMessageDTO> batch = messages;
+                if (!messagesBuffer.isEmpty()) {
+                    batch = new ArrayList<>(messagesBuffer);
+                    batch.addAll(messages);
+                    messagesBuffer.clear();
+                }
+
+                boolean hasFuzzMessages = false;
+                List<String> errors = new ArrayList<>(0);
+                for (WebSocketMessageDTO message : batch) {
                     if (!channelIds.contains(message.getChannel().getId())) {
                         // maybe channel is buffered
                         if (channelsBuffer.size() > 0) {
-                            insertOrUpdateChannel(channelsBuffer.poll());
+                            writeChannel(channelsBuffer.poll());
+                        }
+                        if (!channelIds.contains(message.getChannel().getId())) {
+                            errors.add("channel not inserted: " + message.getChannel().getId());
+                            continue;
                         }
-                        throw new SQLException(
-                                "channel not inserted: " + message.getChannel().getId());
                     }
 
                     LOGGER.debug("insert message: {}", message);
@@ -819,13 +936,14 @@ public class TableWebSocket extends ParosAbstractTable {
                         psInsertMessage.setNull(5, Types.CLOB);
                         psInsertMessage.setBlob(6, new JDBCBlob((byte[]) message.getPayload()));
                     } else {
-                        throw new SQLException(
+                        errors.add(
                                 "Attribute 'payload' of class WebSocketMessageDTO has got wrong type!");
+                        continue;
                     }
 
                     psInsertMessage.setInt(7, message.getPayloadLength());
                     psInsertMessage.setBoolean(8, message.isOutgoing());
-                    psInsertMessage.execute();
+                    psInsertMessage.addBatch();
 
                     if (message instanceof WebSocketFuzzMessageDTO) {
                         WebSocketFuzzMessageDTO fuzzMessage = (WebSocketFuzzMessageDTO) message;
@@ -834,11 +952,34 @@ public class TableWebSocket extends ParosAbstractTable {
                         psInsertFuzz.setInt(3, fuzzMessage.getChannel().getId());
                         psInsertFuzz.setString(4, fuzzMessage.state.toString());
                         psInsertFuzz.setString(5, fuzzMessage.fuzz);
-                        psInsertFuzz.execute();
+                        psInsertFuzz.addBatch();
+                        hasFuzzMessages = true;
                     }
+                }
 
-                    message = messagesBuffer.poll();
-                } while (message != null);
+                // The batch can not be executed if empty, none of the messages were added.
+                if (errors.size() < batch.size()) {
+                    try {
+                        psInsertMessage.executeBatch();
+                        if (hasFuzzMessages) {
+                            psInsertFuzz.executeBatch();
+                        }
+                    } finally {
+                        psInsertMessage.clearBatch();
+                        psInsertFuzz.clearBatch();
+                    }
+                }
+
+                if (!errors.isEmpty()) {
+                    // The other messages of the batch were written, report the ones that were not.
+                    throw new SQLException(
+                            "Failed to insert "
+                                    + errors.size()
+                                    + " of "
+                                    + batch.size()
+                                    + " messages: "
+                                    + String.join(", ", errors));
+                }
             }
         } catch (SQLException e) {
             throw new DatabaseException(e);
@@ -929,7 +1070,13 @@ public class TableWebSocket extends ParosAbstractTable {
      * @throws SQLException
      */
     public void purgeChannel(Integer channelId) throws SQLException {
-        synchronized (this) {
+        try {
+            flush();
+        } catch (DatabaseException e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
+
+        synchronized (writeLock) {
             if (channelIds.contains(channelId)) {
                 psDeleteMessagesByChannelId.setInt(1, channelId);
                 psDeleteMessagesByChannelId.execute();
@@ -0,0 +1,221 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.websocket.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.db.DatabaseException;
+import org.zaproxy.zap.extension.websocket.WebSocketMessageDTO;
+
+/**
+ * Writes WebSocket messages to the database in batches, from a dedicated thread.
+ *
+ * <p>The messages are kept in a bounded queue until written, the threads adding the messages only
+ * block when the queue is full. The messages are also kept by ID, including the ones being written,
+ * until the write completes so that they can be obtained before being in the database.
+ */
+class WebSocketMessageWriter {
+
+    private static final Logger LOGGER = LogManager.getLogger(WebSocketMessageWriter.class);
+
+    static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    static final int DEFAULT_BATCH_SIZE = 500;
+
+    /** The destination of the messages. */
+    @FunctionalInterface
+    interface MessagesSink {
+
+        /**
+         * Writes the given messages.
+         *
+         * @param messages the messages to write.
+         * @throws DatabaseException if an error occurred while writing the messages.
+         */
+        void write(List<WebSocketMessageDTO> messages) throws DatabaseException;
+    }
+
+    private final MessagesSink sink;
+    private final int batchSize;
+    private final BlockingQueue<WebSocketMessageDTO> queue;
+    private final Map<Long, WebSocketMessageDTO> unwritten;
+    private final AtomicInteger pending;
+    private final Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Constructs a {@code WebSocketMessageWriter} with the given sink and default capacity and
+     * batch size.
+     *
+     * @param sink the destination of the messages.
+     */
+    WebSocketMessageWriter(MessagesSink sink) {
+        this(sink, DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    WebSocketMessageWriter(MessagesSink sink, int capacity, int batchSize) {
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.unwritten = new ConcurrentHashMap<>();
+        this.pending = new AtomicInteger();
+        this.thread = new Thread(this::run, "ZAP-WebSocket-Writer");
+        this.thread.setDaemon(true);
+    }
+
+    /** Starts the thread that writes the messages. */
+    void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Adds the given message to be written.
+     *
+     * <p>Blocks while the queue is full. If the writer is no longer running the message is written
+     * by the calling thread.
+     *
+     * @param message the message to write.
+     * @throws DatabaseException if an error occurred while writing the message directly.
+     */
+    void add(WebSocketMessageDTO message) throws DatabaseException {
+        if (!running) {
+            sink.write(List.of(message));
+            return;
+        }
+
+        pending.incrementAndGet();
+        Long key = createKey(message.getId(), message.getChannel().getId());
+        unwritten.put(key, message);
+        try {
+            queue.put(message);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unwritten.remove(key);
+            pending.decrementAndGet();
+            sink.write(List.of(message));
+            return;
+        }
+
+        if (!running) {
+            // Shutdown while adding, do not leave the message behind.
+            flush();
+        }
+    }
+
+    /**
+     * Gets the message with the given IDs, if not yet written, either still queued or being
+     * written.
+     *
+     * @param messageId the ID of the message.
+     * @param channelId the ID of the channel.
+     * @return the message, or {@code null} if not pending.
+     */
+    WebSocketMessageDTO getPendingMessage(int messageId, int channelId) {
+        return unwritten.get(createKey(messageId, channelId));
+    }
+
+    private static Long createKey(int messageId, int channelId) {
+        return ((long) channelId << 32) | (messageId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Writes all the messages added so far, returning only after they were written.
+     *
+     * @throws DatabaseException if an error occurred while writing the messages.
+     */
+    void flush() throws DatabaseException {
+        List<WebSocketMessageDTO> batch = new ArrayList<>();
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+
+        if (Thread.currentThread() == thread) {
+            return;
+        }
+
+        synchronized (this) {
+            while (pending.get() > 0 && thread.isAlive()) {
+                try {
+                    wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the thread and writes the messages still pending.
+     *
+     * @throws DatabaseException if an error occurred while writing the messages.
+     */
+    void shutdown() throws DatabaseException {
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void run() {
+        List<WebSocketMessageDTO> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            try {
+                write(batch);
+            } catch (DatabaseException e) {
+                LOGGER.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    private void write(List<WebSocketMessageDTO> batch) throws DatabaseException {
+        try {
+            sink.write(batch);
+        } finally {
+            // Only now, otherwise the messages would be neither pending nor in the database.
+            for (WebSocketMessageDTO message : batch) {
+                unwritten.remove(createKey(message.getId(), message.getChannel().getId()));
+            }
+            pending.addAndGet(-batch.size());
+            batch.clear();
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.zaproxy.zap.extension.websocket.utility;
 
+import java.lang.reflect.Method;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
@@ -26,9 +27,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.network.HttpMessage;
+import org.zaproxy.zap.extension.websocket.WebSocketListener;
 import org.zaproxy.zap.extension.websocket.WebSocketProtocol;
 
 public final class WebSocketUtils {
@@ -37,6 +41,25 @@ public final class WebSocketUtils {
 
     public static final String WEB_SOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
 
+    /**
+     * Creates the executor for the {@link WebSocketListener}s, which do blocking reads.
+     *
+     * <p>When running on a Java version with virtual threads each listener runs in a virtual
+     * thread, so that the connections share a small number of carrier threads, otherwise the
+     * listeners run in a cached thread pool.
+     *
+     * @return the executor, never {@code null}.
+     */
+    public static ExecutorService createListenerExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Virtual threads not available, using platform threads: {}", e.toString());
+            return Executors.newCachedThreadPool();
+        }
+    }
+
     /** Given a Sec-WebSocket-Key, Generate response key Sec-WebSocket-Accept */
     public static String encodeWebSocketKey(String key) {
         String toEncode = key + WEB_SOCKET_GUID;
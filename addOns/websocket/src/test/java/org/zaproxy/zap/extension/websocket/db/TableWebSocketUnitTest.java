@@ -0,0 +1,188 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.websocket.db;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.db.DatabaseException;
+import org.parosproxy.paros.db.DbUtils;
+import org.parosproxy.paros.db.paros.ParosDatabaseServer;
+import org.zaproxy.zap.extension.websocket.WebSocketChannelDTO;
+import org.zaproxy.zap.extension.websocket.WebSocketMessage;
+import org.zaproxy.zap.extension.websocket.WebSocketMessageDTO;
+import org.zaproxy.zap.testutils.WebSocketTestUtils;
+
+/** Unit test for {@link TableWebSocket}. */
+class TableWebSocketUnitTest extends WebSocketTestUtils {
+
+    private static final AtomicInteger DATABASE_COUNT = new AtomicInteger();
+
+    private List<Connection> connections = new ArrayList<>();
+
+    private TableWebSocket table;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        setUpZap();
+
+        table = new TableWebSocket();
+        table.databaseOpen(createDatabaseServer());
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        table.shutdown();
+        for (Connection connection : connections) {
+            DbUtils.execute(connection, "SHUTDOWN");
+        }
+    }
+
+    @Test
+    void shouldCountMessagesNotYetWritten() throws Exception {
+        // Given
+        WebSocketChannelDTO channel = insertChannel(1);
+        insertMessages(channel, 100);
+        // When
+        int count = table.getMessageCount(new WebSocketMessageDTO(), null);
+        // Then
+        assertThat(count, is(100));
+    }
+
+    @Test
+    void shouldGetMessagesNotYetWritten() throws Exception {
+        // Given
+        WebSocketChannelDTO channel = insertChannel(1);
+        insertMessages(channel, 100);
+        // When
+        List<WebSocketMessageDTO> messages =
+                table.getMessages(new WebSocketMessageDTO(), null, null, 0, 1000, 10);
+        // Then
+        assertThat(messages, hasSize(100));
+    }
+
+    @Test
+    void shouldGetIndexOfMessageNotYetWritten() throws Exception {
+        // Given
+        WebSocketChannelDTO channel = insertChannel(1);
+        insertMessages(channel, 100);
+        WebSocketMessageDTO criteria = new WebSocketMessageDTO();
+        criteria.setId(50);
+        // When
+        int index = table.getIndexOf(criteria, null, null);
+        // Then
+        assertThat(index, is(49));
+    }
+
+    @Test
+    void shouldFailToInsertMessageOfChannelNotInserted() throws Exception {
+        // Given
+        table.shutdown();
+        WebSocketChannelDTO channel = createChannel(1);
+        WebSocketMessageDTO message = createMessage(channel, 1);
+        // When
+        DatabaseException exception =
+                assertThrows(DatabaseException.class, () -> table.insertMessage(message));
+        // Then
+        assertThat(exception.getMessage(), containsString("channel not inserted: 1"));
+    }
+
+    @Test
+    void shouldFailToInsertMessageWithPayloadOfWrongType() throws Exception {
+        // Given
+        table.shutdown();
+        WebSocketChannelDTO channel = insertChannel(1);
+        WebSocketMessageDTO message = createMessage(channel, 1);
+        message.setPayload(1);
+        // When
+        DatabaseException exception =
+                assertThrows(DatabaseException.class, () -> table.insertMessage(message));
+        // Then
+        assertThat(exception.getMessage(), containsString("has got wrong type"));
+    }
+
+    @Test
+    void shouldWriteMessagesAfterReconnect() throws Exception {
+        // Given
+        insertMessages(insertChannel(1), 10);
+        table.databaseOpen(createDatabaseServer());
+        WebSocketChannelDTO channel = insertChannel(2);
+        // When
+        insertMessages(channel, 20);
+        // Then
+        assertThat(table.getMessageCount(new WebSocketMessageDTO(), null), is(20));
+    }
+
+    private ParosDatabaseServer createDatabaseServer() throws Exception {
+        String url = "jdbc:hsqldb:mem:websocket" + DATABASE_COUNT.incrementAndGet();
+        Connection connection = DriverManager.getConnection(url, "SA", "");
+        connections.add(connection);
+        DbUtils.execute(connection, "CREATE CACHED TABLE HISTORY (HISTORYID INTEGER PRIMARY KEY)");
+
+        ParosDatabaseServer server = mock(ParosDatabaseServer.class);
+        given(server.getNewConnection()).willReturn(connection);
+        return server;
+    }
+
+    private WebSocketChannelDTO insertChannel(int id) throws DatabaseException {
+        WebSocketChannelDTO channel = createChannel(id);
+        table.insertOrUpdateChannel(channel);
+        return channel;
+    }
+
+    private void insertMessages(WebSocketChannelDTO channel, int count) throws DatabaseException {
+        for (int i = 1; i <= count; i++) {
+            table.insertMessage(createMessage(channel, i));
+        }
+    }
+
+    private static WebSocketChannelDTO createChannel(int id) {
+        WebSocketChannelDTO channel = new WebSocketChannelDTO("example.com");
+        channel.setId(id);
+        channel.setPort(443);
+        channel.setUrl("wss://example.com/");
+        channel.setStartTimestamp(System.currentTimeMillis());
+        return channel;
+    }
+
+    private static WebSocketMessageDTO createMessage(WebSocketChannelDTO channel, int id) {
+        WebSocketMessageDTO message = new WebSocketMessageDTO(channel);
+        message.setId(id);
+        message.setTimestamp(System.currentTimeMillis());
+        message.setOpcode(WebSocketMessage.OPCODE_TEXT);
+        message.setPayload("Message " + id);
+        message.setPayloadLength(10);
+        message.setOutgoing(true);
+        return message;
+    }
+}
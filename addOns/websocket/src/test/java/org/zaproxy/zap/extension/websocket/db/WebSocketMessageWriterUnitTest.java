@@ -0,0 +1,212 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.websocket.db;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.zap.extension.websocket.WebSocketChannelDTO;
+import org.zaproxy.zap.extension.websocket.WebSocketMessageDTO;
+import org.zaproxy.zap.testutils.WebSocketTestUtils;
+
+/** Unit test for {@link WebSocketMessageWriter}. */
+class WebSocketMessageWriterUnitTest extends WebSocketTestUtils {
+
+    private List<WebSocketMessageDTO> written = Collections.synchronizedList(new ArrayList<>());
+    private List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    private WebSocketMessageWriter writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        setUpZap();
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    void shouldWriteDirectlyIfNotStarted() throws Exception {
+        // Given
+        writer = new WebSocketMessageWriter(this::write);
+        WebSocketMessageDTO message = createMessage(1, 1);
+        // When
+        writer.add(message);
+        // Then
+        assertThat(written, contains(message));
+    }
+
+    @Test
+    void shouldWriteAllMessagesAddedBeforeFlush() throws Exception {
+        // Given
+        writer = new WebSocketMessageWriter(this::write, 100, 10);
+        writer.start();
+        List<WebSocketMessageDTO> messages = new ArrayList<>();
+        for (int i = 1; i <= 250; i++) {
+            WebSocketMessageDTO message = createMessage(i, 1);
+            messages.add(message);
+            writer.add(message);
+        }
+        // When
+        writer.flush();
+        // Then
+        assertThat(written, hasSize(messages.size()));
+        assertThat(written, contains(messages.toArray()));
+        assertThat(batchSizes, everyItem(is(lessThanOrEqualTo(10))));
+    }
+
+    @Test
+    void shouldGetPendingMessage() throws Exception {
+        // Given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        writer =
+                new WebSocketMessageWriter(
+                        messages -> {
+                            writing.countDown();
+                            awaitUninterruptibly(release);
+                            write(messages);
+                        },
+                        10,
+                        1);
+        writer.start();
+        WebSocketMessageDTO first = createMessage(1, 1);
+        WebSocketMessageDTO second = createMessage(2, 1);
+        writer.add(first);
+        writing.await(5, TimeUnit.SECONDS);
+        writer.add(second);
+        // When
+        WebSocketMessageDTO pending = writer.getPendingMessage(2, 1);
+        WebSocketMessageDTO otherChannel = writer.getPendingMessage(2, 2);
+        // Then
+        release.countDown();
+        assertThat(pending, is(sameInstance(second)));
+        assertThat(otherChannel, is(nullValue()));
+    }
+
+    @Test
+    void shouldGetMessageBeingWritten() throws Exception {
+        // Given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        writer =
+                new WebSocketMessageWriter(
+                        messages -> {
+                            writing.countDown();
+                            awaitUninterruptibly(release);
+                            write(messages);
+                        },
+                        10,
+                        10);
+        writer.start();
+        WebSocketMessageDTO message = createMessage(1, 1);
+        writer.add(message);
+        writing.await(5, TimeUnit.SECONDS);
+        // When
+        WebSocketMessageDTO beingWritten = writer.getPendingMessage(1, 1);
+        List<WebSocketMessageDTO> writtenWhileBlocked = new ArrayList<>(written);
+        // Then
+        release.countDown();
+        assertThat(beingWritten, is(sameInstance(message)));
+        assertThat(writtenWhileBlocked, is(empty()));
+    }
+
+    @Test
+    void shouldNotGetMessageAlreadyWritten() throws Exception {
+        // Given
+        writer = new WebSocketMessageWriter(this::write, 10, 10);
+        writer.start();
+        WebSocketMessageDTO message = createMessage(1, 1);
+        writer.add(message);
+        // When
+        writer.flush();
+        // Then
+        assertThat(written, contains(message));
+        assertThat(writer.getPendingMessage(1, 1), is(nullValue()));
+    }
+
+    @Test
+    void shouldWritePendingMessagesOnShutdown() throws Exception {
+        // Given
+        writer = new WebSocketMessageWriter(this::write, 100, 5);
+        writer.start();
+        for (int i = 1; i <= 50; i++) {
+            writer.add(createMessage(i, 1));
+        }
+        // When
+        writer.shutdown();
+        // Then
+        assertThat(written, hasSize(50));
+    }
+
+    @Test
+    void shouldWriteDirectlyAfterShutdown() throws Exception {
+        // Given
+        writer = new WebSocketMessageWriter(this::write);
+        writer.start();
+        writer.shutdown();
+        assertThat(written, is(empty()));
+        WebSocketMessageDTO message = createMessage(1, 1);
+        // When
+        writer.add(message);
+        // Then
+        assertThat(written, contains(message));
+    }
+
+    private void write(List<WebSocketMessageDTO> messages) {
+        batchSizes.add(messages.size());
+        written.addAll(messages);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static WebSocketMessageDTO createMessage(int id, int channelId) {
+        WebSocketChannelDTO channel = new WebSocketChannelDTO();
+        channel.setId(channelId);
+        WebSocketMessageDTO message = new WebSocketMessageDTO(channel);
+        message.setId(id);
+        return message;
+    }
+}
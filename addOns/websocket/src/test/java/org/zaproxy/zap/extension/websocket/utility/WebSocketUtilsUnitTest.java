@@ -22,7 +22,11 @@ package org.zaproxy.zap.extension.websocket.utility;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 class WebSocketUtilsUnitTest {
@@ -46,4 +50,31 @@ class WebSocketUtilsUnitTest {
         // then
         assertThat(enc, is(equalTo("s3pPLMBiTxaQ9kYGzzhZRbK+xOo=")));
     }
+
+    @Test
+    void shouldCreateListenerExecutorThatRunsConcurrently() throws Exception {
+        // given
+        int listeners = 50;
+        CountDownLatch started = new CountDownLatch(listeners);
+        CountDownLatch release = new CountDownLatch(1);
+        // when
+        ExecutorService executor = WebSocketUtils.createListenerExecutor();
+        for (int i = 0; i < listeners; i++) {
+            executor.execute(
+                    () -> {
+                        started.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+        }
+        // then
+        assertThat(executor, is(notNullValue()));
+        assertThat(started.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), is(equalTo(true)));
+    }
 }